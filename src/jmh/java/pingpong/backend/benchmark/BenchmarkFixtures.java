@@ -0,0 +1,75 @@
+package pingpong.backend.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pingpong.backend.global.rag.indexing.dto.IndexJob;
+import pingpong.backend.global.rag.indexing.enums.IndexSourceType;
+
+/**
+ * src/jmh/resources/fixtures 아래 체크인된 JSON 픽스처 로더
+ * 외부 호출 없이 벤치마크를 돌리기 위해 모든 입력은 픽스처에서만 읽음
+ */
+public final class BenchmarkFixtures {
+
+	public static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private BenchmarkFixtures() {
+	}
+
+	/**
+	 * @param size small / medium / large
+	 */
+	public static JsonNode swaggerSpec(String size) {
+		return readJson("fixtures/swagger/" + size + ".json");
+	}
+
+	/**
+	 * 동기화에서 받는 원문 바이트 그대로 (스트리밍 파싱용)
+	 * @param size small / medium / large
+	 */
+	public static byte[] swaggerSpecBytes(String size) {
+		return readString("fixtures/swagger/" + size + ".json").getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 노션 페이지 상세 인덱싱 작업 (본문 + 하위 DB 4개)
+	 */
+	public static IndexJob notionPageDetailJob() {
+		JsonNode payload = readJson("fixtures/notion/page-detail.json");
+		String apiPath = "GET /api/v1/teams/1/notion/pages/" + payload.path("id").asText();
+		return new IndexJob(IndexSourceType.NOTION, 1L, apiPath, null, payload);
+	}
+
+	/**
+	 * 노션 primary DB 인덱싱 작업 (페이지 400개)
+	 */
+	public static IndexJob notionPrimaryDatabaseJob() {
+		JsonNode payload = readJson("fixtures/notion/primary-database.json");
+		return new IndexJob(IndexSourceType.NOTION, 1L, "GET /api/v1/teams/1/notion/databases/primary", null, payload);
+	}
+
+	public static JsonNode readJson(String path) {
+		try {
+			return MAPPER.readTree(readString(path));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public static String readString(String path) {
+		try (InputStream in = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(path)) {
+			if (in == null) {
+				throw new IllegalStateException("fixture not found: " + path);
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package pingpong.backend.domain.notion.normalizer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import pingpong.backend.benchmark.BenchmarkFixtures;
+import pingpong.backend.global.rag.indexing.config.IndexingProperties;
+import pingpong.backend.global.rag.indexing.dto.IndexJob;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노션 응답(페이지 상세 / primary DB) -> 인덱싱용 텍스트 정규화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotionResponseNormalizerBenchmark {
+
+    private NotionResponseNormalizer normalizer;
+    private IndexJob pageDetailJob;
+    private IndexJob primaryDatabaseJob;
+
+    @Setup
+    public void setUp() {
+        normalizer = new NotionResponseNormalizer(new IndexingProperties());
+        pageDetailJob = BenchmarkFixtures.notionPageDetailJob();
+        primaryDatabaseJob = BenchmarkFixtures.notionPrimaryDatabaseJob();
+    }
+
+    @Benchmark
+    public String pageDetail() {
+        return normalizer.normalize(pageDetailJob);
+    }
+
+    @Benchmark
+    public String primaryDatabase() {
+        return normalizer.normalize(primaryDatabaseJob);
+    }
+}
@@ -0,0 +1,146 @@
+package pingpong.backend.domain.swagger.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import pingpong.backend.benchmark.BenchmarkFixtures;
+import pingpong.backend.domain.swagger.Endpoint;
+import pingpong.backend.domain.swagger.SwaggerSnapshot;
+import pingpong.backend.domain.swagger.config.SwaggerSyncProperties;
+import pingpong.backend.domain.swagger.dto.EndpointAggregate;
+import pingpong.backend.domain.swagger.service.SsrfGuard;
+import pingpong.backend.domain.swagger.service.SwaggerParser;
+import pingpong.backend.domain.swagger.util.SwaggerHashUtil;
+
+/**
+ * 스냅샷 저장 비용 비교 (H2 MySQL 모드, 한 트랜잭션)
+ * - rowByRow: IDENTITY 키로 Hibernate가 보내는 방식과 같이 행마다 insert 1회 (+ endpoint는 generated key 조회)
+ * - batched: EndpointBulkWriter (테이블별 JDBC batch)
+ * 인메모리 DB라 네트워크 왕복 비용이 없으므로 실제 MySQL에서의 차이는 이보다 큼
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EndpointBulkWriterBenchmark {
+
+	@Param({"small", "medium", "large"})
+	public String spec;
+
+	private SingleConnectionDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private EndpointBulkWriter endpointBulkWriter;
+	private List<EndpointAggregate> aggregates;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:snapshot;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		dataSource = new SingleConnectionDataSource(h2.getConnection(), true);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		for (String ddl : BenchmarkFixtures.readString("schema/swagger-snapshot.sql").split(";")) {
+			String sql = ddl.lines().filter(line -> !line.startsWith("--")).reduce("", (a, b) -> a + "\n" + b).trim();
+			if (!sql.isEmpty()) {
+				jdbcTemplate.execute(sql);
+			}
+		}
+		endpointBulkWriter = new EndpointBulkWriter(jdbcTemplate);
+
+		SwaggerParser swaggerParser = new SwaggerParser(null, new SwaggerHashUtil(), BenchmarkFixtures.MAPPER,
+			new SwaggerSyncProperties(), Runnable::run, new SsrfGuard());
+		aggregates = swaggerParser.parseAll(BenchmarkFixtures.swaggerSpec(spec));
+		SwaggerSnapshot snapshot = SwaggerSnapshot.builder().id(1L).build();
+		for (EndpointAggregate aggregate : aggregates) {
+			aggregate.endpoint().markCreated(LocalDateTime.now(), null, snapshot);
+			aggregate.endpoint().applyDiff(null);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void begin() throws SQLException {
+		dataSource.getConnection().setAutoCommit(false);
+	}
+
+	@TearDown(Level.Invocation)
+	public void rollback() throws SQLException {
+		Connection connection = dataSource.getConnection();
+		connection.rollback();
+		connection.setAutoCommit(true);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		jdbcTemplate.execute("SHUTDOWN");
+		dataSource.destroy();
+	}
+
+	@Benchmark
+	public void rowByRow() throws SQLException {
+		// batched와 같은 SQL / 바인딩을 행마다 executeUpdate로 실행 (두 방식이 같은 행을 씀)
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try (PreparedStatement insertEndpoint = connection.prepareStatement(
+				EndpointBulkWriter.INSERT_ENDPOINT, Statement.RETURN_GENERATED_KEYS);
+			PreparedStatement insertParameter = connection.prepareStatement(EndpointBulkWriter.INSERT_PARAMETER);
+			PreparedStatement insertRequest = connection.prepareStatement(EndpointBulkWriter.INSERT_REQUEST);
+			PreparedStatement insertResponse = connection.prepareStatement(EndpointBulkWriter.INSERT_RESPONSE);
+			PreparedStatement insertSecurity = connection.prepareStatement(EndpointBulkWriter.INSERT_SECURITY)) {
+
+			for (EndpointAggregate aggregate : aggregates) {
+				Endpoint endpoint = aggregate.endpoint();
+				EndpointBulkWriter.bindEndpoint(insertEndpoint, endpoint);
+				insertEndpoint.executeUpdate();
+				try (ResultSet keys = insertEndpoint.getGeneratedKeys()) {
+					keys.next();
+					endpoint.assignGeneratedId(keys.getLong(1));
+				}
+
+				for (var security : aggregate.endpointSecuritys()) {
+					EndpointBulkWriter.bindSecurity(insertSecurity, security);
+					insertSecurity.executeUpdate();
+				}
+				for (var parameter : aggregate.parameters()) {
+					EndpointBulkWriter.bindParameter(insertParameter, parameter);
+					insertParameter.executeUpdate();
+				}
+				for (var request : aggregate.requests()) {
+					EndpointBulkWriter.bindRequest(insertRequest, request);
+					insertRequest.executeUpdate();
+				}
+				for (var response : aggregate.responses()) {
+					EndpointBulkWriter.bindResponse(insertResponse, response);
+					insertResponse.executeUpdate();
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void batched() {
+		List<Endpoint> endpoints = aggregates.stream().map(EndpointAggregate::endpoint).toList();
+		endpointBulkWriter.insertEndpoints(endpoints);
+		endpointBulkWriter.insertSecurities(aggregates.stream().flatMap(a -> a.endpointSecuritys().stream()).toList());
+		endpointBulkWriter.insertParameters(aggregates.stream().flatMap(a -> a.parameters().stream()).toList());
+		endpointBulkWriter.insertRequests(aggregates.stream().flatMap(a -> a.requests().stream()).toList());
+		endpointBulkWriter.insertResponses(aggregates.stream().flatMap(a -> a.responses().stream()).toList());
+	}
+}
@@ -0,0 +1,81 @@
+package pingpong.backend.domain.swagger.service;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import pingpong.backend.benchmark.BenchmarkFixtures;
+import pingpong.backend.domain.swagger.config.SwaggerSyncProperties;
+import pingpong.backend.domain.swagger.dto.EndpointAggregate;
+import pingpong.backend.domain.swagger.util.SwaggerHashUtil;
+
+/**
+ * swagger JSON -> EndpointAggregate 파싱 비용 (fetch 제외)
+ * parallelism=1은 호출 스레드에서 순차 파싱 (병렬 파싱 도입 전과 같은 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SwaggerParserBenchmark {
+
+	@Param({"small", "medium", "large"})
+	public String spec;
+
+	@Param({"1", "4"})
+	public int parallelism;
+
+	private ExecutorService parseExecutor;
+	private SwaggerParser swaggerParser;
+	private JsonNode root;
+	private byte[] rawSpec;
+
+	@Setup
+	public void setUp() {
+		SwaggerSyncProperties properties = new SwaggerSyncProperties();
+		properties.setParseParallelism(parallelism);
+		Executor executor = Runnable::run;
+		if (parallelism > 1) {
+			parseExecutor = Executors.newFixedThreadPool(parallelism);
+			executor = parseExecutor;
+		}
+		// parseAll은 RestClient를 쓰지 않음
+		swaggerParser = new SwaggerParser(null, new SwaggerHashUtil(), BenchmarkFixtures.MAPPER, properties, executor,
+			new SsrfGuard());
+		root = BenchmarkFixtures.swaggerSpec(spec);
+		rawSpec = BenchmarkFixtures.swaggerSpecBytes(spec);
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (parseExecutor != null) {
+			parseExecutor.shutdownNow();
+		}
+	}
+
+	@Benchmark
+	public List<EndpointAggregate> parseAll() {
+		return swaggerParser.parseAll(root);
+	}
+
+	/**
+	 * 동기화 경로: 원문 바이트에서 트리 없이 path item 단위로 파싱 (원문 읽기 포함)
+	 */
+	@Benchmark
+	public List<EndpointAggregate> parseAllStreaming() {
+		return swaggerParser.parseAll(swaggerParser.openSpec(rawSpec));
+	}
+}
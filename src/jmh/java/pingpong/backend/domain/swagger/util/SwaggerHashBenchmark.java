@@ -0,0 +1,81 @@
+package pingpong.backend.domain.swagger.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import pingpong.backend.benchmark.BenchmarkFixtures;
+
+/**
+ * 스펙 전체 해시 / schema 해시 비용
+ * schemaHashes는 operation에 붙은 schema를 모두 해시 (동기화 1회에서 하는 작업과 같은 입력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SwaggerHashBenchmark {
+
+	@Param({"small", "medium", "large"})
+	public String spec;
+
+	private final SwaggerHashUtil swaggerHashUtil = new SwaggerHashUtil();
+
+	private JsonNode root;
+	private byte[] rawSpec;
+	private List<JsonNode> operationSchemas;
+
+	@Setup
+	public void setUp() {
+		root = BenchmarkFixtures.swaggerSpec(spec);
+		rawSpec = BenchmarkFixtures.swaggerSpecBytes(spec);
+		operationSchemas = new ArrayList<>();
+		root.get("paths").forEach(pathItem -> pathItem.forEach(operation ->
+			operation.findParents("schema").forEach(parent -> operationSchemas.add(parent.get("schema")))));
+	}
+
+	@Benchmark
+	public String specHash() {
+		return swaggerHashUtil.generateSpecHash(root);
+	}
+
+	/**
+	 * 동기화 경로: 원문 바이트에서 paths를 path item 단위로 스트리밍하며 해시 (원문 읽기 포함)
+	 */
+	@Benchmark
+	public String specHashStreaming() {
+		return swaggerHashUtil.generateSpecHash(StreamingSwaggerSpec.open(rawSpec, BenchmarkFixtures.MAPPER));
+	}
+
+	/**
+	 * schema마다 컨텍스트를 새로 만드는 단건 API
+	 */
+	@Benchmark
+	public void schemaHashes(Blackhole bh) {
+		for (JsonNode schema : operationSchemas) {
+			bh.consume(swaggerHashUtil.generateSchemaHash(schema, root));
+		}
+	}
+
+	/**
+	 * 파서가 쓰는 방식 (동기화 1회 동안 컨텍스트 공유)
+	 */
+	@Benchmark
+	public void schemaHashesSharedContext(Blackhole bh) {
+		SchemaResolutionContext schemas = swaggerHashUtil.newResolutionContext(root);
+		for (JsonNode schema : operationSchemas) {
+			bh.consume(schemas.schemaHash(schema));
+		}
+	}
+}
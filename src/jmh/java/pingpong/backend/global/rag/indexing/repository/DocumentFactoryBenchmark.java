@@ -0,0 +1,49 @@
+package pingpong.backend.global.rag.indexing.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.ai.document.Document;
+import pingpong.backend.benchmark.BenchmarkFixtures;
+import pingpong.backend.domain.notion.normalizer.NotionResponseNormalizer;
+import pingpong.backend.global.rag.indexing.config.IndexingProperties;
+import pingpong.backend.global.rag.indexing.dto.IndexJob;
+import pingpong.backend.global.rag.indexing.text.Chunker;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청크 목록 -> Document(메타데이터 포함) 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DocumentFactoryBenchmark {
+
+    private final DocumentFactory documentFactory = new DocumentFactory();
+
+    private IndexJob job;
+    private String sourceKey;
+    private String documentPrefix;
+    private List<String> chunks;
+
+    @Setup
+    public void setUp() {
+        IndexingProperties properties = new IndexingProperties();
+        job = BenchmarkFixtures.notionPageDetailJob();
+        String text = new NotionResponseNormalizer(properties).normalize(job);
+        chunks = new Chunker(properties).chunk(text);
+        sourceKey = documentFactory.buildSourceKey(job);
+        documentPrefix = documentFactory.documentPrefix(sourceKey);
+    }
+
+    @Benchmark
+    public List<Document> toDocuments() {
+        return documentFactory.toDocuments(job, sourceKey, documentPrefix, chunks);
+    }
+}
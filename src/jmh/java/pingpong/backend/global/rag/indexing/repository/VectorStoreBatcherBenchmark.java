@@ -0,0 +1,117 @@
+package pingpong.backend.global.rag.indexing.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.vectorstore.SimpleVectorStore;
+import org.springframework.ai.vectorstore.VectorStore;
+import pingpong.backend.benchmark.BenchmarkFixtures;
+import pingpong.backend.domain.notion.normalizer.NotionResponseNormalizer;
+import pingpong.backend.global.rag.indexing.config.IndexingProperties;
+import pingpong.backend.global.rag.indexing.dto.IndexJob;
+import pingpong.backend.global.rag.indexing.text.Chunker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 인덱싱 작업 8개가 각자 청크 몇 개씩 저장할 때 처리량 (작업 1건 = 1 op)
+ * 임베딩 API는 요청 1회당 고정 지연을 주는 가짜 EmbeddingModel, 벡터 DB는 인메모리 SimpleVectorStore
+ * direct: 작업마다 vectorStore.add / batched: VectorStoreBatcher로 묶어서 전송
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class VectorStoreBatcherBenchmark {
+
+    private static final long EMBEDDING_LATENCY_MILLIS = 20;
+    private static final int CHUNKS_PER_JOB = 3;
+
+    private final DocumentFactory documentFactory = new DocumentFactory();
+
+    private VectorStore vectorStore;
+    private VectorStoreBatcher vectorStoreBatcher;
+    private IndexJob job;
+    private String sourceKey;
+    private String documentPrefix;
+    private List<String> chunks;
+
+    @Setup
+    public void setUp() {
+        IndexingProperties properties = new IndexingProperties();
+        job = BenchmarkFixtures.notionPageDetailJob();
+        String text = new NotionResponseNormalizer(properties).normalize(job);
+        List<String> all = new Chunker(properties).chunk(text);
+        chunks = new ArrayList<>(all.subList(0, Math.min(CHUNKS_PER_JOB, all.size())));
+        sourceKey = documentFactory.buildSourceKey(job);
+        documentPrefix = documentFactory.documentPrefix(sourceKey);
+
+        vectorStore = SimpleVectorStore.builder(new LatencyEmbeddingModel()).build();
+        vectorStoreBatcher = new VectorStoreBatcher(vectorStore, properties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        vectorStoreBatcher.shutdown();
+    }
+
+    @Benchmark
+    public void direct() {
+        vectorStore.add(documentFactory.toDocuments(job, sourceKey, documentPrefix, chunks));
+    }
+
+    @Benchmark
+    public void batched() {
+        vectorStoreBatcher.add(documentFactory.toDocuments(job, sourceKey, documentPrefix, chunks));
+    }
+
+    /**
+     * 요청 1회마다 EMBEDDING_LATENCY_MILLIS만큼 기다린 뒤 고정 벡터 반환
+     */
+    private static final class LatencyEmbeddingModel implements EmbeddingModel {
+
+        private static final int DIMENSIONS = 8;
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            sleep();
+            List<Embedding> embeddings = new ArrayList<>();
+            for (int i = 0; i < request.getInstructions().size(); i++) {
+                embeddings.add(new Embedding(new float[DIMENSIONS], i));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            sleep();
+            return new float[DIMENSIONS];
+        }
+
+        @Override
+        public int dimensions() {
+            return DIMENSIONS;
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(EMBEDDING_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
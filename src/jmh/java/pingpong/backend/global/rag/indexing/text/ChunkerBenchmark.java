@@ -0,0 +1,40 @@
+package pingpong.backend.global.rag.indexing.text;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import pingpong.backend.benchmark.BenchmarkFixtures;
+import pingpong.backend.domain.notion.normalizer.NotionResponseNormalizer;
+import pingpong.backend.global.rag.indexing.config.IndexingProperties;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정규화된 노션 페이지 텍스트를 청크로 나누는 비용 (기본 chunkSize / overlap)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChunkerBenchmark {
+
+    private Chunker chunker;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        IndexingProperties properties = new IndexingProperties();
+        chunker = new Chunker(properties);
+
+        text = new NotionResponseNormalizer(properties).normalize(BenchmarkFixtures.notionPageDetailJob());
+    }
+
+    @Benchmark
+    public List<String> chunk() {
+        return chunker.chunk(text);
+    }
+}
@@ -0,0 +1,60 @@
+-- EndpointBulkWriterBenchmark용 스냅샷 테이블 (Hibernate가 MySQL에 생성하는 컬럼 구성과 동일, FK 제외)
+CREATE TABLE endpoint (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    path VARCHAR(255),
+    method TINYINT,
+    summary VARCHAR(255),
+    description TEXT,
+    is_completed BOOLEAN,
+    operation_id VARCHAR(255),
+    tag VARCHAR(255),
+    structure_hash VARCHAR(255),
+    is_changed BOOLEAN,
+    change_type VARCHAR(255),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    created_by BIGINT,
+    updated_by BIGINT,
+    request_schema_hash VARCHAR(255),
+    response_schema_hash VARCHAR(255),
+    snapshot_id BIGINT
+);
+
+CREATE TABLE swagger_parameter (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255),
+    in_type VARCHAR(255),
+    required BOOLEAN,
+    schema_hash VARCHAR(255),
+    description VARCHAR(255),
+    schema_json LONGTEXT,
+    endpoint_id BIGINT
+);
+
+CREATE TABLE swagger_request (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    media_type VARCHAR(255),
+    required BOOLEAN NOT NULL,
+    schema_hash VARCHAR(255),
+    schema_json LONGTEXT,
+    endpoint_id BIGINT
+);
+
+CREATE TABLE swagger_response (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    media_type VARCHAR(255),
+    status_code VARCHAR(255),
+    description VARCHAR(255),
+    schema_hash VARCHAR(255),
+    schema_json LONGTEXT,
+    endpoint_id BIGINT
+);
+
+CREATE TABLE swagger_endpoint_security (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    type VARCHAR(255),
+    scheme VARCHAR(255),
+    header_name VARCHAR(255),
+    bearer_format VARCHAR(255),
+    endpoint_id BIGINT
+);
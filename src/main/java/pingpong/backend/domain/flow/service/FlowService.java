@@ -44,6 +44,7 @@ import pingpong.backend.domain.server.service.ServerService;
 import pingpong.backend.domain.swagger.Endpoint;
 import pingpong.backend.domain.swagger.SwaggerErrorCode;
 import pingpong.backend.domain.swagger.repository.EndpointRepository;
+import pingpong.backend.domain.swagger.repository.SnapshotEndpointRepository;
 import pingpong.backend.domain.task.repository.FlowTaskRepository;
 import pingpong.backend.domain.task.repository.TaskRepository;
 import pingpong.backend.domain.team.Team;
@@ -73,6 +74,7 @@ public class FlowService {
 	private final FlowRequestRepository flowRequestRepository;
 	private final RequestEndpointRepository requestEndpointRepository;
 	private final EndpointRepository endpointRepository;
+	private final SnapshotEndpointRepository snapshotEndpointRepository;
 	private final FlowTaskRepository flowTaskRepository;
 	private final TaskRepository taskRepository;
 	private final NotionFacade notionFacade;
@@ -331,6 +333,7 @@ public class FlowService {
 		}
 
 		List<RequestEndpoint> links = requestEndpointRepository.findByRequestIdWithEndpoint(requestId);
+		Set<Long> sharedIds = sharedEndpointIds(links);
 
 		List<FlowRequestResponse.EndpointSummary> endpointSummaries = links.stream()
 			.map(link -> new FlowRequestResponse.EndpointSummary(
@@ -339,7 +342,7 @@ public class FlowService {
 				link.getEndpoint().getPath(),
 				link.getEndpoint().getMethod(),
 				link.getEndpoint().getSummary(),
-				link.getEndpoint().getIsChanged(),
+				isChanged(link.getEndpoint(), sharedIds),
 				link.getIsLinked()
 			))
 			.toList();
@@ -365,6 +368,7 @@ public class FlowService {
 
 		return requests.stream().map(req -> {
 			List<RequestEndpoint> links = requestEndpointRepository.findByRequestIdWithEndpoint(req.getId());
+			Set<Long> sharedIds = sharedEndpointIds(links);
 
 			List<FlowRequestResponse.EndpointSummary> endpointSummaries = links.stream()
 				.map(link -> new FlowRequestResponse.EndpointSummary(
@@ -373,7 +377,7 @@ public class FlowService {
 					link.getEndpoint().getPath(),
 					link.getEndpoint().getMethod(),
 					link.getEndpoint().getSummary(),
-					link.getEndpoint().getIsChanged(),
+					isChanged(link.getEndpoint(), sharedIds),
 					link.getIsLinked()
 				))
 				.toList();
@@ -382,6 +386,25 @@ public class FlowService {
 		}).toList();
 	}
 
+	/**
+	 * 연결된 endpoint 중 이후 스냅샷에 공유된 endpoint id
+	 */
+	private Set<Long> sharedEndpointIds(List<RequestEndpoint> links) {
+		List<Long> endpointIds = links.stream().map(link -> link.getEndpoint().getId()).distinct().toList();
+		if (endpointIds.isEmpty()) {
+			return Set.of();
+		}
+		return snapshotEndpointRepository.findSharedEndpointIds(endpointIds);
+	}
+
+	/**
+	 * endpoint가 속한 가장 최근 스냅샷 기준 변경 여부
+	 * 이후 스냅샷에 공유된 endpoint는 그 스냅샷에서 변경 없음 (행의 isChanged는 행을 만든 스냅샷 기준)
+	 */
+	private boolean isChanged(Endpoint endpoint, Set<Long> sharedIds) {
+		return !sharedIds.contains(endpoint.getId()) && Boolean.TRUE.equals(endpoint.getIsChanged());
+	}
+
 	/**
 	 * endpoint의 현재 RequestEndpoint 상태를 기반으로 Notion child DB row의 Status를 동기화한다.
 	 * Notion 호출 실패는 메인 트랜잭션에 영향을 주지 않는다 (NotionFacade 내부에서 처리).
@@ -416,6 +439,7 @@ public class FlowService {
 			.orElseThrow(() -> new CustomException(FlowErrorCode.FLOW_IMAGE_NOT_FOUND));
 
 		List<RequestEndpoint> links = requestEndpointRepository.findByImageIdWithAll(imageId);
+		Set<Long> sharedIds = sharedEndpointIds(links);
 
 		// endpoint 기준으로 그룹핑
 		Map<Long, List<RequestEndpoint>> byEndpoint = links.stream()
@@ -439,7 +463,7 @@ public class FlowService {
 				ep.getPath(),
 				ep.getMethod(),
 				ep.getSummary(),
-				ep.getIsChanged(),
+				isChanged(ep, sharedIds),
 				first.getIsLinked(),
 				requestSummaries
 			);
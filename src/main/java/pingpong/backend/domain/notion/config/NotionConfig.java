@@ -14,7 +14,7 @@ import java.net.http.HttpClient;
 import java.time.Duration;
 
 @Configuration
-@EnableConfigurationProperties(NotionProperties.class)
+@EnableConfigurationProperties({NotionProperties.class, NotionWebhookProperties.class})
 public class NotionConfig {
 
     @Bean
@@ -0,0 +1,25 @@
+package pingpong.backend.domain.notion.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notion.webhook")
+public class NotionWebhookProperties {
+
+    // 팀별로 마지막 이벤트 이후 이 시간 동안 새 이벤트가 없으면 모아둔 페이지를 한 번에 재인덱싱
+    private Duration quietWindow = Duration.ofSeconds(10);
+
+    // 이벤트가 계속 들어와도 첫 이벤트 이후 이 시간이 지나면 재인덱싱 (무한 지연 방지)
+    private Duration maxDelay = Duration.ofSeconds(60);
+
+    // 재인덱싱할 팀을 확인하는 주기 (ms)
+    private long flushIntervalMillis = 1000L;
+
+    // Redis에 모아둔 대기 이벤트 보관 기한, 처리되지 않은 채 남은 묶음이 쌓이지 않도록 (maxDelay보다 충분히 길게)
+    private Duration pendingTtl = Duration.ofHours(1);
+}
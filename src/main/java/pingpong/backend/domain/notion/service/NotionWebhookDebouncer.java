@@ -0,0 +1,98 @@
+package pingpong.backend.domain.notion.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pingpong.backend.domain.notion.config.NotionWebhookProperties;
+import pingpong.backend.domain.notion.service.NotionWebhookPendingStore.PendingBatch;
+import pingpong.backend.domain.notion.service.NotionWebhookPendingStore.PendingWindow;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Notion 웹훅 페이지 이벤트를 팀 단위로 모아서 재인덱싱
+ * - 같은 페이지의 연속 이벤트는 하나로 합침 (마지막 이벤트가 삭제면 삭제, 아니면 재인덱싱)
+ * - 팀별 마지막 이벤트 이후 quietWindow 동안 조용하거나, 첫 이벤트 이후 maxDelay가 지나면 한 번에 처리
+ * - primary database는 한 번 처리할 때 한 번만 재인덱싱
+ * 대기 중인 이벤트는 Redis(NotionWebhookPendingStore)에 모이므로 여러 인스턴스가 떠 있어도 묶음 하나는 한 인스턴스만 처리하고,
+ * 종료 / 재시작 중에도 유실되지 않음 (다른 인스턴스나 재시작한 인스턴스가 이어서 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotionWebhookDebouncer {
+
+    private final NotionWebhookIndexingService notionWebhookIndexingService;
+    private final NotionWebhookPendingStore pendingStore;
+    private final NotionWebhookProperties properties;
+
+    private boolean stopped;
+
+    public void pageUpdated(Long teamId, String pageId) {
+        pendingStore.record(teamId, pageId, false, Instant.now());
+    }
+
+    public void pageDeleted(Long teamId, String pageId) {
+        pendingStore.record(teamId, pageId, true, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${notion.webhook.flush-interval-millis:1000}")
+    public void flushDue() {
+        flushDue(Instant.now());
+    }
+
+    synchronized void flushDue(Instant now) {
+        if (stopped) {
+            return;
+        }
+        for (Long teamId : pendingStore.pendingTeamIds()) {
+            try {
+                flushIfDue(teamId, now);
+            } catch (RuntimeException e) {
+                log.error("WEBHOOK_INDEX: 이벤트 묶음 처리 실패 teamId={}", teamId, e);
+            }
+        }
+    }
+
+    /**
+     * 종료가 시작되면 더 이상 묶음을 꺼내지 않음
+     * 여기서 꺼낸 묶음은 종료 중인 indexExecutor에 넘겨도 버려질 수 있으므로 Redis에 그대로 두고 다른 인스턴스 / 재시작 후에 처리
+     * synchronized라 진행 중인 flushDue가 묶음을 넘길 때까지 기다림 (executor가 멈추기 전에 발행되는 ContextClosedEvent 시점)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void stop() {
+        stopped = true;
+    }
+
+    private void flushIfDue(Long teamId, Instant now) {
+        // meta가 없으면 만료된 묶음의 흔적이므로 꺼내서 정리
+        Optional<PendingWindow> window = pendingStore.window(teamId);
+        if (window.isPresent() && !isDue(window.get(), now)) {
+            return;
+        }
+        PendingBatch batch = pendingStore.drain(teamId);
+        if (!batch.isEmpty()) {
+            dispatch(teamId, batch);
+        }
+    }
+
+    private boolean isDue(PendingWindow window, Instant now) {
+        return !window.lastEventAt().plus(properties.getQuietWindow()).isAfter(now)
+                || !window.firstEventAt().plus(properties.getMaxDelay()).isAfter(now);
+    }
+
+    private void dispatch(Long teamId, PendingBatch batch) {
+        Set<String> updated = new LinkedHashSet<>();
+        Set<String> deleted = new LinkedHashSet<>();
+        batch.pages().forEach((pageId, isDeleted) -> (isDeleted ? deleted : updated).add(pageId));
+        log.info("WEBHOOK_INDEX: 이벤트 묶음 처리 teamId={} events={} updatedPages={} deletedPages={}",
+                teamId, batch.eventCount(), updated.size(), deleted.size());
+        notionWebhookIndexingService.reindexPages(teamId, updated, deleted);
+    }
+}
@@ -19,13 +19,16 @@ import pingpong.backend.global.rag.indexing.enums.IndexSourceType;
 import pingpong.backend.global.rag.indexing.job.IndexJobPublisher;
 import pingpong.backend.global.rag.indexing.repository.VectorStoreGateway;
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Notion 웹훅 이벤트 발생 시 VectorDB를 동기화합니다.
  *
- * - 페이지 변경 이벤트(page.content_updated 등): 해당 페이지 + (child DB page이면 child DB + task page) + primary database 재인덱싱
- * - page.deleted 이벤트: 해당 페이지 청크 삭제 + primary database 재인덱싱
+ * - 페이지 변경 이벤트(page.content_updated 등): 해당 페이지 + (child DB page이면 child DB + task page) 재인덱싱
+ * - page.deleted 이벤트: 해당 페이지 청크 삭제
+ * 웹훅 이벤트는 NotionWebhookDebouncer가 팀 단위로 모아서 넘기고, primary database는 묶음마다 한 번만 재인덱싱
  */
 @Slf4j
 @Service
@@ -43,47 +46,70 @@ public class NotionWebhookIndexingService {
 
     private static final String STATUS_COMPLETED = "완료";
 
+    /**
+     * NotionWebhookDebouncer가 모아둔 팀 하나의 페이지 이벤트를 한 번에 반영
+     * 삭제 페이지 정리 → 변경 페이지 재인덱싱 (같은 child database는 한 번만) → primary database 1회 재인덱싱
+     */
     @Async("indexExecutor")
-    public void triggerPageIndexing(Long teamId, String pageId) {
-        log.info("WEBHOOK_INDEX: 페이지 재인덱싱 시작 teamId={} pageId={}", teamId, pageId);
-        PageDetailResponse pageResponse = null;
+    public void reindexPages(Long teamId, Set<String> updatedPageIds, Set<String> deletedPageIds) {
+        log.info("WEBHOOK_INDEX: 페이지 재인덱싱 시작 teamId={} updated={} deleted={}",
+                teamId, updatedPageIds.size(), deletedPageIds.size());
+        for (String pageId : deletedPageIds) {
+            deletePage(teamId, pageId);
+        }
+
+        String primaryDbId = null;
+        if (!updatedPageIds.isEmpty()) {
+            try {
+                primaryDbId = resolveCompactPrimaryDatabaseId(teamId);
+            } catch (Exception e) {
+                log.error("WEBHOOK_INDEX: primary database 조회 실패 teamId={}", teamId, e);
+            }
+        }
+        Set<String> indexedChildDatabaseIds = new HashSet<>();
+        for (String pageId : updatedPageIds) {
+            reindexPage(teamId, pageId, primaryDbId, indexedChildDatabaseIds);
+        }
+
+        try {
+            indexPrimaryDatabase(teamId);
+        } catch (Exception e) {
+            log.error("WEBHOOK_INDEX: primary database 재인덱싱 실패 teamId={}", teamId, e);
+        }
+    }
+
+    private void reindexPage(Long teamId, String pageId, String primaryDbId, Set<String> indexedChildDatabaseIds) {
+        PageDetailResponse pageResponse;
         try {
             pageResponse = indexPage(teamId, pageId);
         } catch (Exception e) {
             log.error("WEBHOOK_INDEX: 페이지 인덱싱 실패 teamId={} pageId={}", teamId, pageId, e);
+            return;
         }
-        if (pageResponse != null) {
-            try {
-                String primaryDbId = resolveCompactPrimaryDatabaseId(teamId);
-                String parentDatabaseId = pageResponse.parentDatabaseId();
-                if (parentDatabaseId != null && !parentDatabaseId.isBlank()
-                        && !parentDatabaseId.equals(primaryDbId)) {
-                    indexChildDatabaseAndTaskPage(teamId, parentDatabaseId);
-                }
-            } catch (Exception e) {
-                log.error("WEBHOOK_INDEX: child database 인덱싱 실패 teamId={} pageId={}", teamId, pageId, e);
-            }
-            try {
-                pageResponse = autoSetCompletedDateIfNeeded(teamId, pageId, pageResponse);
-            } catch (Exception e) {
-                log.error("WEBHOOK_INDEX: 완료일 자동 설정 실패 teamId={} pageId={}", teamId, pageId, e);
-            }
-            try {
-                taskSyncService.upsert(teamId, pageResponse);
-            } catch (Exception e) {
-                log.error("WEBHOOK_INDEX: Task upsert 실패 teamId={} pageId={}", teamId, pageId, e);
+        try {
+            String parentDatabaseId = pageResponse.parentDatabaseId();
+            if (primaryDbId != null && parentDatabaseId != null && !parentDatabaseId.isBlank()
+                    && !parentDatabaseId.equals(primaryDbId)
+                    && indexedChildDatabaseIds.add(parentDatabaseId)) {
+                indexChildDatabaseAndTaskPage(teamId, parentDatabaseId);
             }
+        } catch (Exception e) {
+            log.error("WEBHOOK_INDEX: child database 인덱싱 실패 teamId={} pageId={}", teamId, pageId, e);
         }
         try {
-            indexPrimaryDatabase(teamId);
+            pageResponse = autoSetCompletedDateIfNeeded(teamId, pageId, pageResponse);
         } catch (Exception e) {
-            log.error("WEBHOOK_INDEX: primary database 재인덱싱 실패 teamId={} pageId={}", teamId, pageId, e);
+            log.error("WEBHOOK_INDEX: 완료일 자동 설정 실패 teamId={} pageId={}", teamId, pageId, e);
+        }
+        try {
+            taskSyncService.upsert(teamId, pageResponse);
+        } catch (Exception e) {
+            log.error("WEBHOOK_INDEX: Task upsert 실패 teamId={} pageId={}", teamId, pageId, e);
         }
     }
 
-    @Async("indexExecutor")
-    public void triggerPageDeletion(Long teamId, String pageId) {
-        log.info("WEBHOOK_INDEX: 페이지 삭제 처리 시작 teamId={} pageId={}", teamId, pageId);
+    private void deletePage(Long teamId, String pageId) {
+        log.info("WEBHOOK_INDEX: 페이지 삭제 처리 teamId={} pageId={}", teamId, pageId);
         try {
             vectorStoreGateway.deleteByPageId(teamId, pageId);
         } catch (Exception e) {
@@ -94,11 +120,6 @@ public class NotionWebhookIndexingService {
         } catch (Exception e) {
             log.error("WEBHOOK_INDEX: Task 삭제 실패 teamId={} pageId={}", teamId, pageId, e);
         }
-        try {
-            indexPrimaryDatabase(teamId);
-        } catch (Exception e) {
-            log.error("WEBHOOK_INDEX: primary database 재인덱싱 실패 teamId={} pageId={}", teamId, pageId, e);
-        }
     }
 
     @Async("indexExecutor")
@@ -0,0 +1,129 @@
+package pingpong.backend.domain.notion.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import pingpong.backend.domain.notion.config.NotionWebhookProperties;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * NotionWebhookDebouncer가 모으는 팀별 대기 페이지 이벤트를 Redis에 보관
+ * 어느 인스턴스로 들어온 웹훅이든 같은 팀 묶음에 합쳐지고, drain은 원자적으로 꺼내면서 지우므로 묶음 하나는 한 인스턴스만 처리
+ * - pages: pageId -> 마지막 이벤트 (deleted / updated)
+ * - meta: 첫 / 마지막 이벤트 시각(epoch ms), 이벤트 수
+ * - teams: 대기 중인 묶음이 있는 teamId 집합
+ * 키는 같은 hash tag를 써서 Lua 스크립트가 한 슬롯 안에서 실행되게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class NotionWebhookPendingStore {
+
+    private static final String KEY_PREFIX = "notion:webhook:{pending}:";
+    private static final String TEAMS_KEY = KEY_PREFIX + "teams";
+    private static final String DELETED = "deleted";
+    private static final String UPDATED = "updated";
+
+    // 이벤트 1건 기록 (같은 페이지는 마지막 이벤트로 덮어씀)
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('hset', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('hsetnx', KEYS[2], 'first', ARGV[3])
+            redis.call('hset', KEYS[2], 'last', ARGV[3])
+            redis.call('hincrby', KEYS[2], 'count', 1)
+            redis.call('pexpire', KEYS[1], ARGV[4])
+            redis.call('pexpire', KEYS[2], ARGV[4])
+            redis.call('sadd', KEYS[3], ARGV[5])
+            return 1
+            """, Long.class);
+
+    // 묶음을 꺼내고 지움: {이벤트 수, pageId1, 상태1, pageId2, 상태2, ...}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local pages = redis.call('hgetall', KEYS[1])
+            local count = redis.call('hget', KEYS[2], 'count') or '0'
+            redis.call('del', KEYS[1], KEYS[2])
+            redis.call('srem', KEYS[3], ARGV[1])
+            table.insert(pages, 1, count)
+            return pages
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotionWebhookProperties properties;
+
+    public void record(Long teamId, String pageId, boolean deleted, Instant at) {
+        redisTemplate.execute(RECORD_SCRIPT, List.of(pagesKey(teamId), metaKey(teamId), TEAMS_KEY),
+                pageId,
+                deleted ? DELETED : UPDATED,
+                String.valueOf(at.toEpochMilli()),
+                String.valueOf(properties.getPendingTtl().toMillis()),
+                String.valueOf(teamId));
+    }
+
+    public Set<Long> pendingTeamIds() {
+        Set<String> members = redisTemplate.opsForSet().members(TEAMS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * @return 묶음의 첫 / 마지막 이벤트 시각 (meta가 만료됐으면 empty)
+     */
+    public Optional<PendingWindow> window(Long teamId) {
+        Map<Object, Object> meta = redisTemplate.opsForHash().entries(metaKey(teamId));
+        Object first = meta.get("first");
+        Object last = meta.get("last");
+        if (first == null || last == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new PendingWindow(
+                Instant.ofEpochMilli(Long.parseLong(first.toString())),
+                Instant.ofEpochMilli(Long.parseLong(last.toString()))));
+    }
+
+    /**
+     * 팀 묶음을 꺼내면서 지움, 다른 인스턴스가 먼저 꺼냈으면 빈 묶음
+     */
+    public PendingBatch drain(Long teamId) {
+        List<?> result = redisTemplate.execute(DRAIN_SCRIPT, List.of(pagesKey(teamId), metaKey(teamId), TEAMS_KEY),
+                String.valueOf(teamId));
+        if (result == null || result.isEmpty()) {
+            return new PendingBatch(0, Map.of());
+        }
+        Map<String, Boolean> pages = new LinkedHashMap<>();
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            pages.put(result.get(i).toString(), DELETED.equals(result.get(i + 1).toString()));
+        }
+        return new PendingBatch(Integer.parseInt(result.get(0).toString()), pages);
+    }
+
+    private static String pagesKey(Long teamId) {
+        return KEY_PREFIX + "pages:" + teamId;
+    }
+
+    private static String metaKey(Long teamId) {
+        return KEY_PREFIX + "meta:" + teamId;
+    }
+
+    public record PendingWindow(Instant firstEventAt, Instant lastEventAt) {
+    }
+
+    /**
+     * @param pages pageId -> 삭제 여부 (마지막 이벤트 기준)
+     */
+    public record PendingBatch(int eventCount, Map<String, Boolean> pages) {
+
+        public boolean isEmpty() {
+            return pages.isEmpty();
+        }
+    }
+}
@@ -19,7 +19,7 @@ import java.util.Set;
  *
  * 노션이 보내는 두 가지 요청을 처리합니다.
  * - 구독 검증: {@code { "verification_token": "..." }} 단일 필드 페이로드 → challenge 반환
- * - 일반 이벤트: page.* 이벤트 감지 → VectorDB 동기화 비동기 위임
+ * - 일반 이벤트: page.* 이벤트 감지 → 팀 단위로 모아서 VectorDB 동기화 (NotionWebhookDebouncer)
  */
 @Slf4j
 @Service
@@ -39,7 +39,7 @@ public class NotionWebhookService {
 
     private final ObjectMapper objectMapper;
     private final NotionRepository notionRepository;
-    private final NotionWebhookIndexingService notionWebhookIndexingService;
+    private final NotionWebhookDebouncer notionWebhookDebouncer;
 
     /**
      * 웹훅 요청을 분기하여 처리합니다.
@@ -103,9 +103,9 @@ public class NotionWebhookService {
         for (Notion notion : notions) {
             Long teamId = notion.getTeam().getId();
             if ("page.deleted".equals(type)) {
-                notionWebhookIndexingService.triggerPageDeletion(teamId, pageId);
+                notionWebhookDebouncer.pageDeleted(teamId, pageId);
             } else {
-                notionWebhookIndexingService.triggerPageIndexing(teamId, pageId);
+                notionWebhookDebouncer.pageUpdated(teamId, pageId);
             }
         }
     }
@@ -82,6 +82,10 @@ public class QaCase {
 	@Column
 	private LocalDateTime createdAt;
 
+	// AI 생성 시 사용한 명세 구조 + 프롬프트 버전 키 (같은 키면 LLM 호출 없이 복제해서 재사용)
+	@Column(length = 64)
+	private String generationKey;
+
 	public static QaCase create(
 		Endpoint endpoint,
 		String scenarioName,
@@ -110,6 +114,29 @@ public class QaCase {
 		qa.createdAt = LocalDateTime.now();
 		return qa;
 	}
+	/**
+	 * 구조가 같은 다른 엔드포인트의 AI 생성 케이스를 복제 (path variable만 대상 팀 기본값으로 교체)
+	 */
+	public static QaCase cloneOf(QaCase source, Endpoint endpoint, String pathVariables) {
+		QaCase qa = create(
+			endpoint,
+			source.scenarioName,
+			source.testType,
+			source.description,
+			pathVariables,
+			source.queryParams,
+			source.headers,
+			source.body == null ? null : source.body.deepCopy(),
+			source.sourceType,
+			source.expectedStatusCode);
+		qa.generationKey = source.generationKey;
+		return qa;
+	}
+
+	public void assignGenerationKey(String generationKey) {
+		this.generationKey = generationKey;
+	}
+
 	public void updateIsSuccess(boolean isSuccess) {
 		this.isSuccess = isSuccess;
 	}
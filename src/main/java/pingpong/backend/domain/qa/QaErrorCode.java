@@ -12,13 +12,19 @@ public enum QaErrorCode implements ApiErrorCode {
 
 	QA_NOT_FOUND("QA404", "해당 QA를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 	QA_JSON_PROCESSING_ERROR("QA500", "QA 데이터 직렬화 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+	RESPONSE_BODY_COMPRESSION_FAILED("QA500", "QA 응답 본문 압축/해제 중 오류가 발생했어요.", HttpStatus.INTERNAL_SERVER_ERROR),
 	AI_CALL_FAILED("QA501", "AI 서비스 호출에 실패했습니다. (외부 API 오류)", HttpStatus.BAD_GATEWAY),
 	AI_RESPONSE_PARSING_ERROR("QA502", "AI 응답 데이터의 형식이 올바르지 않아 처리에 실패했습니다.", HttpStatus.UNPROCESSABLE_ENTITY),
 	DATA_SERIALIZATION_FAILED("QA500", "분석용 데이터 변환 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
 	QA_GENERATION_IN_PROGRESS("QA500", "QA 시나리오를 아직 생성중이예요.", HttpStatus.PROCESSING),
 	QA_GENERATION_FAILED("QA500", "QA 시나리오 생성중에 실패했어요.", HttpStatus.EXPECTATION_FAILED),
 	UNKNOWN_SYNC_STATUS("QA500", "존재하지 않는 sync status입니다.", HttpStatus.INTERNAL_SERVER_ERROR),
-	SYNC_HISTORY_NOT_FOUND("QA404", "qa 동기화 이력을 찾을 수 없어요.", HttpStatus.NOT_FOUND);
+	SYNC_HISTORY_NOT_FOUND("QA404", "qa 동기화 이력을 찾을 수 없어요.", HttpStatus.NOT_FOUND),
+	LOAD_RUN_INVALID_PROFILE("QA400", "부하 테스트 설정(RPS, 동시 요청 수, 실행 시간)이 허용 범위를 벗어났어요.", HttpStatus.BAD_REQUEST),
+	LOAD_RUN_TARGET_NOT_FOUND("QA404", "부하 테스트를 실행할 QA 케이스가 없어요.", HttpStatus.NOT_FOUND),
+	LOAD_RUN_NOT_FOUND("QA404", "부하 테스트 실행 이력을 찾을 수 없어요.", HttpStatus.NOT_FOUND),
+	LOAD_RUN_IN_PROGRESS("QA409", "이미 진행 중인 부하 테스트가 있어요.", HttpStatus.CONFLICT),
+	BULK_JOB_NOT_FOUND("QA404", "일괄 실행 작업을 찾을 수 없어요. 완료 후 보관 기간이 지났을 수 있어요.", HttpStatus.NOT_FOUND);
 
 	private final String errorCode;
 	private final String message;
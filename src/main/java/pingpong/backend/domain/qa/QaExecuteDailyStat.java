@@ -0,0 +1,87 @@
+package pingpong.backend.domain.qa;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pingpong.backend.domain.qa.dto.QaRunStats;
+
+/**
+ * 보존 기간이 지난 QA 실행 결과를 케이스/일 단위로 요약한 집계
+ */
+@Getter
+@Entity
+@Table(name = "qa_execute_daily_stat", uniqueConstraints =
+	@UniqueConstraint(columnNames = {"qa_case_id", "stat_date"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QaExecuteDailyStat {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "qa_case_id", nullable = false)
+	private QaCase qaCase;
+
+	@Column(name = "stat_date", nullable = false)
+	private LocalDate statDate;
+
+	@Column(nullable = false)
+	private int runCount;
+
+	@Column(nullable = false)
+	private int successCount;
+
+	@Column(nullable = false)
+	private int failCount;
+
+	@Column
+	private Long minDurationMs;
+
+	@Column
+	private Double avgDurationMs;
+
+	@Column
+	private Long p95DurationMs;
+
+	@Column
+	private LocalDateTime updatedAt;
+
+	public static QaExecuteDailyStat create(QaCase qaCase, LocalDate statDate) {
+		QaExecuteDailyStat stat = new QaExecuteDailyStat();
+		stat.qaCase = qaCase;
+		stat.statDate = statDate;
+		return stat;
+	}
+
+	public QaRunStats toRunStats() {
+		return new QaRunStats(runCount, successCount, minDurationMs, avgDurationMs, p95DurationMs);
+	}
+
+	/**
+	 * 새로 롤업된 실행 묶음을 기존 집계에 누적
+	 */
+	public void accumulate(QaRunStats stats) {
+		QaRunStats merged = toRunStats().merge(stats);
+		this.runCount = merged.runCount();
+		this.successCount = merged.successCount();
+		this.failCount = merged.failCount();
+		this.minDurationMs = merged.minDurationMs();
+		this.avgDurationMs = merged.avgDurationMs();
+		this.p95DurationMs = merged.p95DurationMs();
+		this.updatedAt = LocalDateTime.now();
+	}
+}
@@ -9,11 +9,13 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import pingpong.backend.domain.qa.util.ResponseBodyCodec;
 
 @Getter
 @Entity
@@ -38,9 +40,25 @@ public class QaExecuteResult {
 	@Column(columnDefinition = "TEXT")
 	private String responseHeaders;
 
+	// 압축 저장 도입 이전 결과의 본문 (신규 결과는 responseBodyGzip 사용)
 	@Column(columnDefinition = "LONGTEXT")
 	private String responseBody;
 
+	@Lob
+	@Column(name = "response_body_gzip")
+	private byte[] responseBodyGzip;
+
+	// 원본 응답 본문 byte 길이
+	@Column
+	private Integer responseBodySize;
+
+	// 원본 응답 본문 SHA-256
+	@Column(length = 64)
+	private String responseBodyHash;
+
+	@Column
+	private Boolean responseBodyTruncated;
+
 	@Column(nullable = false)
 	private LocalDateTime executedAt;
 
@@ -48,13 +66,18 @@ public class QaExecuteResult {
 	private Long durationMs;
 
 	public static QaExecuteResult create(QaCase qaCase, int httpStatus, boolean isSuccess,
-		String responseHeaders, String responseBody, long durationMs) {
+		String responseHeaders, ResponseBodyCodec.StoredBody responseBody, long durationMs) {
 		QaExecuteResult result = new QaExecuteResult();
 		result.qaCase = qaCase;
 		result.httpStatus = httpStatus;
 		result.isSuccess = isSuccess;
 		result.responseHeaders = responseHeaders;
-		result.responseBody = responseBody;
+		if (responseBody != null) {
+			result.responseBodyGzip = responseBody.compressed();
+			result.responseBodySize = responseBody.originalSize();
+			result.responseBodyHash = responseBody.sha256();
+			result.responseBodyTruncated = responseBody.truncated();
+		}
 		result.executedAt = LocalDateTime.now();
 		result.durationMs = durationMs;
 		return result;
@@ -0,0 +1,147 @@
+package pingpong.backend.domain.qa;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pingpong.backend.domain.qa.enums.LoadMode;
+import pingpong.backend.domain.qa.enums.SyncStatus;
+import pingpong.backend.domain.team.Team;
+
+/**
+ * QA 케이스(또는 tag) 부하 테스트 1회 실행 요약
+ * 요청마다 QaExecuteResult를 남기지 않고 지연 시간 분포 / 에러율 / 처리량만 저장
+ */
+@Getter
+@Entity
+@Table(name = "qa_load_run")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QaLoadRun {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "team_id", nullable = false)
+	private Team team;
+
+	// 단건 실행일 때만 존재
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "qa_case_id")
+	private QaCase qaCase;
+
+	// tag 단위 실행일 때만 존재
+	@Column
+	private String tag;
+
+	@Column(nullable = false)
+	private int targetCount;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private LoadMode mode;
+
+	@Column
+	private Integer targetRps;
+
+	@Column(nullable = false)
+	private int concurrency;
+
+	@Column(nullable = false)
+	private int durationSeconds;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private SyncStatus status;
+
+	@Column
+	private Long totalRequests;
+
+	@Column
+	private Long errorCount;
+
+	@Column
+	private Double errorRate;
+
+	@Column
+	private Double throughputRps;
+
+	@Column
+	private Double meanMs;
+
+	@Column
+	private Double p50Ms;
+
+	@Column
+	private Double p90Ms;
+
+	@Column
+	private Double p99Ms;
+
+	@Column
+	private Double maxMs;
+
+	// 상태 코드별 응답 수 JSON (예: {"200": 980, "503": 20, "ERROR": 3})
+	@Column(columnDefinition = "TEXT")
+	private String statusCounts;
+
+	@Column
+	private String errorMessage;
+
+	@Column
+	private LocalDateTime startedAt;
+
+	@Column
+	private LocalDateTime completedAt;
+
+	public static QaLoadRun create(Team team, QaCase qaCase, String tag, int targetCount, LoadMode mode,
+		Integer targetRps, int concurrency, int durationSeconds) {
+		QaLoadRun run = new QaLoadRun();
+		run.team = team;
+		run.qaCase = qaCase;
+		run.tag = tag;
+		run.targetCount = targetCount;
+		run.mode = mode;
+		run.targetRps = targetRps;
+		run.concurrency = concurrency;
+		run.durationSeconds = durationSeconds;
+		run.status = SyncStatus.PROCESSING;
+		run.startedAt = LocalDateTime.now();
+		return run;
+	}
+
+	public void complete(long totalRequests, long errorCount, double throughputRps, double meanMs,
+		double p50Ms, double p90Ms, double p99Ms, double maxMs, String statusCounts) {
+		this.totalRequests = totalRequests;
+		this.errorCount = errorCount;
+		this.errorRate = totalRequests == 0 ? 0 : (double)errorCount / totalRequests;
+		this.throughputRps = throughputRps;
+		this.meanMs = meanMs;
+		this.p50Ms = p50Ms;
+		this.p90Ms = p90Ms;
+		this.p99Ms = p99Ms;
+		this.maxMs = maxMs;
+		this.statusCounts = statusCounts;
+		this.status = SyncStatus.COMPLETED;
+		this.completedAt = LocalDateTime.now();
+	}
+
+	public void fail(String message) {
+		this.status = SyncStatus.FAILED;
+		this.errorMessage = message;
+		this.completedAt = LocalDateTime.now();
+	}
+}
@@ -39,6 +39,7 @@ public class QaSyncHistory {
 	private Integer totalCount;     // 대상 엔드포인트 총 개수
 	private Integer successCount;   // 성공한 개수
 	private Integer failCount;      // 실패한 개수
+	private Integer reusedCount;    // 성공 중 LLM 호출 없이 기존 시나리오를 복제한 개수
 
 	private String errorMessage;    // 전체 실패 시 원인
 
@@ -51,6 +52,7 @@ public class QaSyncHistory {
 		this.totalCount = totalCount;
 		this.successCount = 0;
 		this.failCount = 0;
+		this.reusedCount = 0;
 		this.status = SyncStatus.PENDING;
 		this.startedAt = LocalDateTime.now();
 	}
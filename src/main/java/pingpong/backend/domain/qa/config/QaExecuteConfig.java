@@ -0,0 +1,24 @@
+package pingpong.backend.domain.qa.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties({QaExecuteProperties.class, QaRetentionProperties.class, QaLoadProperties.class})
+public class QaExecuteConfig {
+
+	/**
+	 * QA bulk 실행 전용 Executor
+	 * 대부분 외부 API 응답 대기라 virtual thread를 사용하고, 동시 실행 수는 QaExecutionLimiter에서 제한
+	 */
+	@Bean(name = "qaBulkExecutor")
+	public Executor qaBulkExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("qa-bulk-");
+		executor.setVirtualThreads(true);
+		return executor;
+	}
+}
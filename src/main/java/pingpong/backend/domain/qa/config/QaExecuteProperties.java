@@ -0,0 +1,52 @@
+package pingpong.backend.domain.qa.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "qa.execute")
+public class QaExecuteProperties {
+
+	/**
+	 * bulk 실행 전체 동시 실행 수
+	 * 케이스마다 트랜잭션(DB 커넥션)을 잡고 외부 API를 호출하므로 커넥션 풀 크기보다 작게 유지
+	 */
+	private int bulkMaxConcurrency = 8;
+
+	/**
+	 * 대상 base URL 하나당 기본 동시 실행 수
+	 */
+	private int perHostConcurrency = 4;
+
+	/**
+	 * base URL별 동시 실행 수 override (key: scheme://host[:port])
+	 */
+	private Map<String, Integer> hostConcurrency = new HashMap<>();
+
+	/**
+	 * 실행 결과 응답 본문 최대 저장 크기 (byte, 압축 전 기준), 0 이하이면 제한 없음
+	 */
+	private int responseBodyMaxBytes = 256 * 1024;
+
+	/**
+	 * 비동기 bulk 실행 작업을 완료 후 메모리 / Redis에 보관하는 시간 (SSE 재연결, 결과 조회용)
+	 */
+	private Duration bulkJobRetention = Duration.ofMinutes(30);
+
+	/**
+	 * bulk 작업 SSE 연결에 보낼 이벤트가 없을 때 heartbeat 주석을 보내는 주기 (ms)
+	 * 프록시(nginx 등) read timeout보다 짧게 유지
+	 */
+	private long bulkJobHeartbeatMillis = 15_000L;
+
+	public int concurrencyFor(String baseUrl) {
+		return Math.max(1, hostConcurrency.getOrDefault(baseUrl, perHostConcurrency));
+	}
+}
@@ -0,0 +1,33 @@
+package pingpong.backend.domain.qa.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(QaGenerationProperties.class)
+public class QaGenerationConfig {
+
+	/**
+	 * QA 시나리오 생성 전용 Executor
+	 * 스레드 수가 곧 동시 LLM 호출 수이고, 실제 호출 속도는 LlmRateLimiter에서 제한
+	 */
+	@Bean(name = "qaGenerationExecutor")
+	public Executor qaGenerationExecutor(QaGenerationProperties properties) {
+		int concurrency = Math.max(1, properties.getConcurrency());
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(concurrency);
+		executor.setMaxPoolSize(concurrency);
+		executor.setThreadNamePrefix("qa-gen-");
+
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+
+		executor.initialize();
+		return executor;
+	}
+}
@@ -0,0 +1,50 @@
+package pingpong.backend.domain.qa.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "qa.generation")
+public class QaGenerationProperties {
+
+	/**
+	 * swagger 동기화 후 QA 시나리오를 동시에 생성하는 엔드포인트 수
+	 * 생성 1건마다 DB 트랜잭션을 잡고 LLM 응답을 기다리므로 커넥션 풀 크기보다 작게 유지
+	 */
+	private int concurrency = 4;
+
+	/**
+	 * LLM 분당 요청 수 한도 (provider 계정 한도보다 약간 낮게 설정)
+	 */
+	private int requestsPerMinute = 60;
+
+	/**
+	 * LLM 분당 토큰 수 한도 (prompt + completion 기준)
+	 */
+	private int tokensPerMinute = 90_000;
+
+	/**
+	 * 요청 1건의 completion 토큰 예상치 (prompt 토큰은 글자 수로 추정)
+	 */
+	private int expectedCompletionTokens = 2_000;
+
+	/**
+	 * 429 응답 시 같은 요청을 다시 시도하는 최대 횟수
+	 */
+	private int maxRateLimitRetries = 4;
+
+	/**
+	 * 429 응답 시 첫 대기 시간, 연속 429마다 2배씩 늘어남
+	 */
+	private Duration initialBackoff = Duration.ofSeconds(2);
+
+	/**
+	 * 429 대기 시간 상한
+	 */
+	private Duration maxBackoff = Duration.ofSeconds(60);
+}
@@ -0,0 +1,40 @@
+package pingpong.backend.domain.qa.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "qa.load")
+public class QaLoadProperties {
+
+	/**
+	 * 부하 테스트 1회 최대 실행 시간 (초)
+	 */
+	private int maxDurationSeconds = 300;
+
+	/**
+	 * 최대 동시 요청 수 (RPS 모드에서는 in-flight 요청 상한)
+	 */
+	private int maxConcurrency = 200;
+
+	/**
+	 * 최대 목표 RPS
+	 */
+	private int maxRps = 1000;
+
+	/**
+	 * tag 단위 실행 시 대상 QA 케이스 최대 개수
+	 */
+	private int maxTargets = 100;
+
+	/**
+	 * 팀 부하 테스트 잠금 TTL = 실행 시간 + 이 값 (마지막 요청의 응답 대기, 결과 저장)
+	 * 실행한 인스턴스가 죽어도 이 시간이 지나면 다시 실행 가능
+	 */
+	private Duration lockTtlMargin = Duration.ofMinutes(2);
+}
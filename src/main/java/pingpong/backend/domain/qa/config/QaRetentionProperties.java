@@ -0,0 +1,36 @@
+package pingpong.backend.domain.qa.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "qa.retention")
+public class QaRetentionProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * 케이스별로 항상 남겨둘 최신 실행 결과 수
+	 */
+	private int keepLatest = 20;
+
+	/**
+	 * 이 기간(일) 안의 실행 결과는 개수와 상관없이 원본 유지
+	 */
+	private int keepDays = 14;
+
+	/**
+	 * 롤업 실행 주기 (기본: 매일 새벽 3시 30분)
+	 */
+	private String cron = "0 30 3 * * *";
+
+	/**
+	 * 여러 인스턴스 중 한 곳에서만 롤업하도록 잡는 잠금 TTL, 롤업 1회 최대 소요 시간보다 길어야 함
+	 */
+	private Duration lockTtl = Duration.ofHours(1);
+}
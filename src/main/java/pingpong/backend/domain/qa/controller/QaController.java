@@ -2,6 +2,7 @@ package pingpong.backend.domain.qa.controller;
 
 import java.util.List;
 
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,17 +12,24 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import pingpong.backend.domain.qa.dto.EndpointQaTagGroupResponse;
 import pingpong.backend.domain.qa.dto.QaBulkExecuteRequest;
 import pingpong.backend.domain.qa.dto.QaBulkExecuteResponse;
+import pingpong.backend.domain.qa.dto.QaBulkJobResponse;
 import pingpong.backend.domain.qa.dto.QaCaseDetailDto;
 import pingpong.backend.domain.qa.dto.QaCaseSummaryDto;
+import pingpong.backend.domain.qa.dto.QaExecuteDailyStatResponse;
 import pingpong.backend.domain.qa.dto.QaExecuteResultDto;
+import pingpong.backend.domain.qa.dto.QaLoadRunRequest;
+import pingpong.backend.domain.qa.dto.QaLoadRunResponse;
 import pingpong.backend.domain.qa.dto.QaPathVariableRequest;
 import pingpong.backend.domain.qa.dto.QaPathVariableResponse;
 import pingpong.backend.domain.qa.dto.QaReRunRequest;
@@ -29,9 +37,13 @@ import pingpong.backend.domain.qa.dto.QaScenarioDetail;
 import pingpong.backend.domain.qa.dto.QaScenarioRequest;
 import pingpong.backend.domain.qa.dto.QaScenarioResponse;
 import pingpong.backend.domain.qa.dto.QaTeamFailureResponse;
+import pingpong.backend.domain.qa.service.QaBulkExecuteService;
+import pingpong.backend.domain.qa.service.QaExecuteHistoryService;
+import pingpong.backend.domain.qa.service.QaLoadTestService;
 import pingpong.backend.domain.qa.service.QaService;
 import pingpong.backend.global.response.result.SuccessResponse;
 
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/qa")
@@ -39,6 +51,9 @@ import pingpong.backend.global.response.result.SuccessResponse;
 public class QaController {
 
 	private final QaService qaService;
+	private final QaBulkExecuteService qaBulkExecuteService;
+	private final QaExecuteHistoryService qaExecuteHistoryService;
+	private final QaLoadTestService qaLoadTestService;
 
 	@Hidden
 	@PostMapping("/{endpointId}/auto")
@@ -73,10 +88,26 @@ public class QaController {
 	@GetMapping("/execute-result")
 	@Operation(
 		summary = "QA 실행내역 목록 조회",
-		description = "특정 시나리오(qaId)에 대한 모든 실행 이력을 최신순으로 반환합니다."
+		description = "특정 시나리오(qaId)에 대한 실행 이력을 최신순으로 페이지 단위로 반환합니다. 보존 기간이 지난 이력은 일별 집계(/{qaId}/daily-stats)로 조회합니다."
 	)
-	public SuccessResponse<List<QaExecuteResultDto>> getQaResultList(@RequestParam Long qaId) {
-		return SuccessResponse.ok(qaService.getQaExecuteResults(qaId));
+	public SuccessResponse<List<QaExecuteResultDto>> getQaResultList(
+		@RequestParam Long qaId,
+		@RequestParam(defaultValue = "0") @Min(0) int page,
+		@RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+	) {
+		return SuccessResponse.ok(qaService.getQaExecuteResults(qaId, page, size));
+	}
+
+	@GetMapping("/{qaId}/daily-stats")
+	@Operation(
+		summary = "QA 실행 일별 추이 조회",
+		description = "최근 days일 동안의 일별 실행 횟수, 성공/실패 수, 응답 시간(min/avg/p95)을 반환합니다."
+	)
+	public SuccessResponse<List<QaExecuteDailyStatResponse>> getQaDailyStats(
+		@PathVariable Long qaId,
+		@RequestParam(defaultValue = "30") int days
+	) {
+		return SuccessResponse.ok(qaExecuteHistoryService.getDailyStats(qaId, days));
 	}
 
 	@GetMapping("/{qaId}/results")
@@ -122,13 +153,93 @@ public class QaController {
 	@PostMapping("/execute/bulk")
 	@Operation(
 		summary = "QA 케이스 일괄 실행",
-		description = "전달받은 qaId 리스트에 해당하는 모든 케이스를 순차적으로 실행합니다."
+		description = "전달받은 qaId 리스트에 해당하는 모든 케이스를 병렬로 실행합니다. 대상 서버(base URL)별 동시 실행 수는 qa.execute 설정으로 제한되며, 결과는 요청한 qaId 순서대로 반환합니다."
 	)
 	public SuccessResponse<QaBulkExecuteResponse> executeBulkQaCases(
 		@RequestBody QaBulkExecuteRequest request,
 		@RequestHeader(value = "X-Proxy-Authorization", required = false) String proxyAuthorization
 	) {
-		return SuccessResponse.ok(qaService.executeBulkQaCases(request.qaIds(), proxyAuthorization));
+		return SuccessResponse.ok(qaBulkExecuteService.executeBulkQaCases(request.qaIds(), proxyAuthorization));
+	}
+
+	@PostMapping("/execute/bulk/jobs")
+	@Operation(
+		summary = "QA 케이스 일괄 실행 작업 시작",
+		description = "일괄 실행을 백그라운드 작업으로 시작하고 jobId를 즉시 반환합니다. 반환된 jobId로 /execute/bulk/jobs/{jobId}/stream 에 연결하면 케이스별 결과와 진행률을 실시간으로 받을 수 있습니다."
+	)
+	public SuccessResponse<QaBulkJobResponse> startBulkJob(
+		@RequestBody QaBulkExecuteRequest request,
+		@RequestHeader(value = "X-Proxy-Authorization", required = false) String proxyAuthorization
+	) {
+		return SuccessResponse.ok(qaBulkExecuteService.startBulkJob(request.qaIds(), proxyAuthorization));
+	}
+
+	@GetMapping("/execute/bulk/jobs/{jobId}/stream")
+	@Operation(
+		summary = "QA 일괄 실행 진행 상황 스트리밍",
+		description = """
+			SSE를 통해 일괄 실행 진행 상황을 스트리밍 받습니다.
+			- result: 케이스 1건의 실행 결과 (끝나는 순서대로)
+			- progress: 완료/성공/실패 건수
+			- done: 최종 요약 (이후 연결 종료)
+			- 보낼 이벤트가 없을 때는 연결 유지를 위해 주석(: heartbeat)을 주기적으로 보냅니다.
+
+			결과에는 응답 헤더/본문이 포함되지 않습니다. 본문은 qaExecuteId로 실행 내역(/execute-result)에서 조회합니다.
+			연결 시점까지 이미 끝난 결과를 먼저 보내므로 중간에 다시 연결해도 됩니다.
+			```bash
+			curl -N "http://localhost:8080/api/v1/qa/execute/bulk/jobs/{jobId}/stream"
+			```
+			""")
+	public SseEmitter streamBulkJob(@PathVariable String jobId) {
+		return qaBulkExecuteService.streamBulkJob(jobId);
+	}
+
+	@GetMapping("/execute/bulk/jobs/{jobId}")
+	@Operation(
+		summary = "QA 일괄 실행 작업 조회",
+		description = "작업 진행 상태를 반환합니다. 작업이 끝나면 요청한 qaId 순서대로 정렬된 결과를 함께 반환합니다."
+	)
+	public SuccessResponse<QaBulkJobResponse> getBulkJob(@PathVariable String jobId) {
+		return SuccessResponse.ok(qaBulkExecuteService.getBulkJob(jobId));
+	}
+
+	@PostMapping("/{qaId}/load-run")
+	@Operation(
+		summary = "QA 케이스 부하 테스트 시작",
+		description = "QA 케이스를 목표 RPS(mode=RPS) 또는 고정 동시 요청 수(mode=CONCURRENCY)로 durationSeconds 동안 반복 실행합니다. 실행은 백그라운드에서 진행되며, 반환된 runId로 결과(p50/p90/p99/max, 에러율, 처리량)를 조회합니다."
+	)
+	public SuccessResponse<QaLoadRunResponse> startLoadRun(
+		@PathVariable Long qaId,
+		@RequestBody QaLoadRunRequest request,
+		@RequestHeader(value = "X-Proxy-Authorization", required = false) String proxyAuthorization
+	) {
+		return SuccessResponse.ok(qaLoadTestService.startForQaCase(qaId, request, proxyAuthorization));
+	}
+
+	@PostMapping("/load-run/tag")
+	@Operation(
+		summary = "Tag 단위 부하 테스트 시작",
+		description = "팀 최신 스냅샷에서 tag에 속한 QA 케이스들을 번갈아 가며 부하 테스트합니다. 설정 방식은 단건 부하 테스트와 같습니다."
+	)
+	public SuccessResponse<QaLoadRunResponse> startTagLoadRun(
+		@RequestParam Long teamId,
+		@RequestParam String tag,
+		@RequestBody QaLoadRunRequest request,
+		@RequestHeader(value = "X-Proxy-Authorization", required = false) String proxyAuthorization
+	) {
+		return SuccessResponse.ok(qaLoadTestService.startForTag(teamId, tag, request, proxyAuthorization));
+	}
+
+	@GetMapping("/load-runs/{runId}")
+	@Operation(summary = "부하 테스트 결과 조회", description = "부하 테스트 1회의 진행 상태와 요약 결과를 반환합니다.")
+	public SuccessResponse<QaLoadRunResponse> getLoadRun(@PathVariable Long runId) {
+		return SuccessResponse.ok(qaLoadTestService.getRun(runId));
+	}
+
+	@GetMapping("/{qaId}/load-runs")
+	@Operation(summary = "QA 케이스 부하 테스트 이력 조회", description = "QA 케이스의 최근 부하 테스트 결과 20건을 최신순으로 반환합니다.")
+	public SuccessResponse<List<QaLoadRunResponse>> getLoadRuns(@PathVariable Long qaId) {
+		return SuccessResponse.ok(qaLoadTestService.getRuns(qaId));
 	}
 
 	@GetMapping("/failures")
@@ -0,0 +1,9 @@
+package pingpong.backend.domain.qa.dto;
+
+/**
+ * bulk 실행 작업에서 케이스 1건이 끝났을 때 SSE로 전송하는 결과
+ */
+public record QaBulkCaseResult(
+	Long qaId,
+	QaExecuteResultDto result
+) {}
@@ -0,0 +1,9 @@
+package pingpong.backend.domain.qa.dto;
+
+public record QaBulkJobProgress(
+	String jobId,
+	int totalCount,
+	int completedCount,
+	int successCount,
+	int failCount
+) {}
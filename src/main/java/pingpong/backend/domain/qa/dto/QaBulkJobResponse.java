@@ -0,0 +1,22 @@
+package pingpong.backend.domain.qa.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import pingpong.backend.domain.qa.enums.SyncStatus;
+
+/**
+ * bulk 실행 작업 상태 / 최종 요약
+ * results는 작업이 끝난 뒤에만 요청한 qaId 순서대로 채워짐 (응답 헤더/본문 제외 요약)
+ */
+public record QaBulkJobResponse(
+	String jobId,
+	SyncStatus status,
+	int totalCount,
+	int completedCount,
+	int successCount,
+	int failCount,
+	LocalDateTime startedAt,
+	LocalDateTime completedAt,
+	List<QaExecuteResultDto> results
+) {}
@@ -0,0 +1,42 @@
+package pingpong.backend.domain.qa.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "QA 케이스 일별 실행 집계")
+public record QaExecuteDailyStatResponse(
+
+	@Schema(description = "집계 날짜")
+	LocalDate date,
+
+	@Schema(description = "실행 횟수")
+	int runCount,
+
+	@Schema(description = "성공 횟수")
+	int successCount,
+
+	@Schema(description = "실패 횟수")
+	int failCount,
+
+	@Schema(description = "최소 응답 시간 (ms)")
+	Long minDurationMs,
+
+	@Schema(description = "평균 응답 시간 (ms)")
+	Double avgDurationMs,
+
+	@Schema(description = "p95 응답 시간 (ms)")
+	Long p95DurationMs
+) {
+	public static QaExecuteDailyStatResponse of(LocalDate date, QaRunStats stats) {
+		return new QaExecuteDailyStatResponse(
+			date,
+			stats.runCount(),
+			stats.successCount(),
+			stats.failCount(),
+			stats.minDurationMs(),
+			stats.avgDurationMs(),
+			stats.p95DurationMs()
+		);
+	}
+}
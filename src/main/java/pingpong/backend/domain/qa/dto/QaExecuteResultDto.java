@@ -35,6 +35,17 @@ public record QaExecuteResultDto(
 	@Schema
 	int expectedStatusCode
 ) {
+	/**
+	 * 응답 헤더/본문을 뺀 요약 (메모리에 오래 보관하는 bulk 작업 결과용)
+	 */
+	public QaExecuteResultDto withoutResponseBody() {
+		if (responseHeaders == null && responseBody == null) {
+			return this;
+		}
+		return new QaExecuteResultDto(qaExecuteId, httpStatus, isSuccess, null, null, executedAt, durationMs,
+			expectedStatusCode);
+	}
+
 	// QaExecuteResultDto.java 내부에 정적 메서드로 추가
 	public static QaExecuteResultDto fromEntity(
 		QaExecuteResult result,
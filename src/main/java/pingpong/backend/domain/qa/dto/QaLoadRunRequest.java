@@ -0,0 +1,16 @@
+package pingpong.backend.domain.qa.dto;
+
+import pingpong.backend.domain.qa.enums.LoadMode;
+
+/**
+ * @param mode            RPS(목표 초당 요청 수) 또는 CONCURRENCY(고정 동시 요청 수), 비어 있으면 targetRps 유무로 결정
+ * @param targetRps       RPS 모드의 목표 초당 요청 수
+ * @param concurrency     동시 요청 수 (RPS 모드에서는 in-flight 요청 상한)
+ * @param durationSeconds 실행 시간 (초)
+ */
+public record QaLoadRunRequest(
+	LoadMode mode,
+	Integer targetRps,
+	Integer concurrency,
+	Integer durationSeconds
+) {}
@@ -0,0 +1,60 @@
+package pingpong.backend.domain.qa.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import pingpong.backend.domain.qa.QaLoadRun;
+import pingpong.backend.domain.qa.enums.LoadMode;
+import pingpong.backend.domain.qa.enums.SyncStatus;
+
+public record QaLoadRunResponse(
+	Long runId,
+	Long qaId,
+	String tag,
+	int targetCount,
+	LoadMode mode,
+	Integer targetRps,
+	int concurrency,
+	int durationSeconds,
+	SyncStatus status,
+	Long totalRequests,
+	Long errorCount,
+	Double errorRate,
+	Double throughputRps,
+	Double meanMs,
+	Double p50Ms,
+	Double p90Ms,
+	Double p99Ms,
+	Double maxMs,
+	Map<String, Long> statusCounts,
+	String errorMessage,
+	LocalDateTime startedAt,
+	LocalDateTime completedAt
+) {
+	public static QaLoadRunResponse of(QaLoadRun run, Map<String, Long> statusCounts) {
+		return new QaLoadRunResponse(
+			run.getId(),
+			run.getQaCase() != null ? run.getQaCase().getId() : null,
+			run.getTag(),
+			run.getTargetCount(),
+			run.getMode(),
+			run.getTargetRps(),
+			run.getConcurrency(),
+			run.getDurationSeconds(),
+			run.getStatus(),
+			run.getTotalRequests(),
+			run.getErrorCount(),
+			run.getErrorRate(),
+			run.getThroughputRps(),
+			run.getMeanMs(),
+			run.getP50Ms(),
+			run.getP90Ms(),
+			run.getP99Ms(),
+			run.getMaxMs(),
+			statusCounts,
+			run.getErrorMessage(),
+			run.getStartedAt(),
+			run.getCompletedAt()
+		);
+	}
+}
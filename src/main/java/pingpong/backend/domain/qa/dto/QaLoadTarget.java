@@ -0,0 +1,13 @@
+package pingpong.backend.domain.qa.dto;
+
+import pingpong.backend.domain.swagger.client.ApiExecuteClient;
+
+/**
+ * 부하 테스트에서 반복 전송할 요청 1건 (검증/URL 구성 완료 상태)
+ */
+public record QaLoadTarget(
+	Long qaId,
+	Long teamId,
+	ApiExecuteClient.PreparedRequest request,
+	int expectedStatusCode
+) {}
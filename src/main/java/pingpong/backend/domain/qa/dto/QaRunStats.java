@@ -0,0 +1,68 @@
+package pingpong.backend.domain.qa.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * QA 실행 묶음의 집계값 (실행 수, 성공 수, durationMs min/avg/p95)
+ */
+public record QaRunStats(
+	int runCount,
+	int successCount,
+	Long minDurationMs,
+	Double avgDurationMs,
+	Long p95DurationMs
+) {
+
+	public static QaRunStats of(int successCount, List<Long> durations) {
+		List<Long> sorted = durations.stream().filter(Objects::nonNull).sorted().toList();
+		if (sorted.isEmpty()) {
+			return new QaRunStats(durations.size(), successCount, null, null, null);
+		}
+		int p95Index = (int) Math.ceil(sorted.size() * 0.95) - 1;
+		double avg = sorted.stream().mapToLong(Long::longValue).average().orElse(0);
+		return new QaRunStats(durations.size(), successCount, sorted.getFirst(), avg, sorted.get(p95Index));
+	}
+
+	public int failCount() {
+		return runCount - successCount;
+	}
+
+	/**
+	 * 두 집계 병합
+	 * p95는 원본 분포 없이 정확히 합칠 수 없으므로 둘 중 큰 값(상한)을 사용
+	 */
+	public QaRunStats merge(QaRunStats other) {
+		if (other == null || other.runCount == 0) {
+			return this;
+		}
+		if (runCount == 0) {
+			return other;
+		}
+		return new QaRunStats(
+			runCount + other.runCount,
+			successCount + other.successCount,
+			minOf(minDurationMs, other.minDurationMs),
+			weightedAvg(other),
+			maxOf(p95DurationMs, other.p95DurationMs)
+		);
+	}
+
+	private Double weightedAvg(QaRunStats other) {
+		if (avgDurationMs == null) return other.avgDurationMs;
+		if (other.avgDurationMs == null) return avgDurationMs;
+		return (avgDurationMs * runCount + other.avgDurationMs * other.runCount) / (runCount + other.runCount);
+	}
+
+	private static Long minOf(Long a, Long b) {
+		if (a == null) return b;
+		if (b == null) return a;
+		return Math.min(a, b);
+	}
+
+	private static Long maxOf(Long a, Long b) {
+		if (a == null) return b;
+		if (b == null) return a;
+		return Math.max(a, b);
+	}
+}
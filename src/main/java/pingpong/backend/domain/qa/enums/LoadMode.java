@@ -0,0 +1,6 @@
+package pingpong.backend.domain.qa.enums;
+
+public enum LoadMode {
+	RPS,            // 목표 초당 요청 수로 일정하게 전송 (open model)
+	CONCURRENCY     // 고정된 동시 요청 수로 응답 즉시 다음 요청 전송 (closed model)
+}
@@ -3,12 +3,65 @@ package pingpong.backend.domain.qa.repository;
 import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import pingpong.backend.domain.qa.QaCase;
+import pingpong.backend.domain.qa.enums.SourceType;
 
 public interface QaCaseRepository extends JpaRepository<QaCase, Long> {
 
 	List<QaCase> findAllByEndpointId(Long endpointId);
 
 	List<QaCase> findAllByEndpointIdIn(Collection<Long> endpointIds);
+
+	List<QaCase> findAllByEndpointIdAndGenerationKeyAndSourceType(Long endpointId, String generationKey,
+		SourceType sourceType);
+
+	/**
+	 * 같은 generationKey로 생성된 케이스를 가진 가장 최근 엔드포인트 (자기 자신 제외)
+	 */
+	@Query("""
+		select max(qa.endpoint.id)
+		from QaCase qa
+		where qa.generationKey = :generationKey
+		and qa.sourceType = :sourceType
+		and qa.endpoint.id <> :endpointId
+	""")
+	Long findLatestEndpointIdByGenerationKey(@Param("generationKey") String generationKey,
+		@Param("sourceType") SourceType sourceType, @Param("endpointId") Long endpointId);
+
+	/**
+	 * qaId별 대상 팀의 swagger URL 조회 ([qaId, swaggerUrl])
+	 */
+	@Query("""
+		select qa.id, t.swagger
+		from QaCase qa
+		join qa.endpoint e
+		join e.snapshot s
+		join s.team t
+		where qa.id in :qaIds
+	""")
+	List<Object[]> findSwaggerUrlsByIdIn(@Param("qaIds") Collection<Long> qaIds);
+
+	/**
+	 * 팀 최신 스냅샷에서 tag에 속한 QA 케이스 id (tag가 없는 엔드포인트는 "default")
+	 */
+	@Query("""
+		select qa.id
+		from QaCase qa
+		join qa.endpoint e
+		where (
+			e.snapshot.id = (select max(s.id) from SwaggerSnapshot s where s.team.id = :teamId)
+			or e.id in (
+				select se.endpoint.id from SnapshotEndpoint se
+				where se.snapshot.id = (select max(s2.id) from SwaggerSnapshot s2 where s2.team.id = :teamId)
+			)
+		)
+		and (e.tag = :tag or (e.tag is null and :tag = 'default'))
+		order by qa.id
+	""")
+	List<Long> findIdsInLatestSnapshotByTag(@Param("teamId") Long teamId, @Param("tag") String tag, Pageable pageable);
 }
@@ -0,0 +1,16 @@
+package pingpong.backend.domain.qa.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import pingpong.backend.domain.qa.QaExecuteDailyStat;
+
+public interface QaExecuteDailyStatRepository extends JpaRepository<QaExecuteDailyStat, Long> {
+
+	List<QaExecuteDailyStat> findByQaCaseIdAndStatDateIn(Long qaCaseId, Collection<LocalDate> statDates);
+
+	List<QaExecuteDailyStat> findByQaCaseIdAndStatDateGreaterThanEqualOrderByStatDateAsc(Long qaCaseId, LocalDate from);
+}
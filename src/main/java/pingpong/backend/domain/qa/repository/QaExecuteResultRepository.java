@@ -1,8 +1,14 @@
 package pingpong.backend.domain.qa.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import pingpong.backend.domain.qa.QaCase;
 import pingpong.backend.domain.qa.QaExecuteResult;
@@ -10,5 +16,78 @@ import pingpong.backend.domain.qa.QaExecuteResult;
 public interface QaExecuteResultRepository extends JpaRepository<QaExecuteResult, Long> {
 
 	java.util.Optional<QaExecuteResult> findTopByQaCaseIdOrderByExecutedAtDesc(Long qaCaseId);
-	List<QaExecuteResult> findByQaCaseIdOrderByExecutedAtDesc(Long qaCaseId);
+	List<QaExecuteResult> findByQaCaseIdOrderByExecutedAtDesc(Long qaCaseId, Pageable pageable);
+
+	/**
+	 * 엔드포인트들에 속한 QA 케이스별 최신 실행 결과를 한 번에 조회
+	 * 실행 결과 id는 실행 순서대로 증가하므로 케이스별 max(id)를 최신 결과로 사용
+	 */
+	@Query("""
+		select r from QaExecuteResult r
+		join fetch r.qaCase qa
+		join fetch qa.endpoint
+		where r.id in (
+			select max(r2.id) from QaExecuteResult r2
+			where r2.qaCase.endpoint.id in :endpointIds
+			group by r2.qaCase.id
+		)
+		  and r.isSuccess = :isSuccess
+		order by qa.id
+	""")
+	List<QaExecuteResult> findLatestByEndpointIdInAndIsSuccess(
+		@Param("endpointIds") Collection<Long> endpointIds,
+		@Param("isSuccess") Boolean isSuccess
+	);
+
+	// ── 보존 기간 / 롤업 ─────────────────────────────────────────────────────
+
+	@Query("""
+		select distinct r.qaCase.id
+		from QaExecuteResult r
+		where r.executedAt < :cutoff
+	""")
+	List<Long> findQaCaseIdsExecutedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+	@Query("""
+		select r.id from QaExecuteResult r
+		where r.qaCase.id = :qaCaseId
+		order by r.id desc
+	""")
+	List<Long> findIdsByQaCaseIdOrderByIdDesc(@Param("qaCaseId") Long qaCaseId, Pageable pageable);
+
+	/**
+	 * 집계용 실행 요약 조회 (본문 컬럼 제외) — [id, executedAt, isSuccess, durationMs]
+	 */
+	@Query("""
+		select r.id, r.executedAt, r.isSuccess, r.durationMs
+		from QaExecuteResult r
+		where r.qaCase.id = :qaCaseId
+		  and r.executedAt >= :from
+		  and r.executedAt < :to
+	""")
+	List<Object[]> findRunSamplesBetween(
+		@Param("qaCaseId") Long qaCaseId,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
+	);
+
+	/**
+	 * 롤업 대상 실행 요약 조회 — cutoff 이전이면서 최신 N건(beforeId 이상)에 속하지 않는 결과
+	 */
+	@Query("""
+		select r.id, r.executedAt, r.isSuccess, r.durationMs
+		from QaExecuteResult r
+		where r.qaCase.id = :qaCaseId
+		  and r.executedAt < :cutoff
+		  and r.id < :beforeId
+	""")
+	List<Object[]> findRunSamplesForRollUp(
+		@Param("qaCaseId") Long qaCaseId,
+		@Param("cutoff") LocalDateTime cutoff,
+		@Param("beforeId") Long beforeId
+	);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("delete from QaExecuteResult r where r.id in :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
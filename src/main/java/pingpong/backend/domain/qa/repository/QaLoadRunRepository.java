@@ -0,0 +1,12 @@
+package pingpong.backend.domain.qa.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import pingpong.backend.domain.qa.QaLoadRun;
+
+public interface QaLoadRunRepository extends JpaRepository<QaLoadRun, Long> {
+
+	List<QaLoadRun> findTop20ByQaCaseIdOrderByIdDesc(Long qaCaseId);
+}
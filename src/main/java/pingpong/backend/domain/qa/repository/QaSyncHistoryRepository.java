@@ -3,6 +3,9 @@ package pingpong.backend.domain.qa.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import pingpong.backend.domain.qa.QaSyncHistory;
 
@@ -13,4 +16,23 @@ public interface QaSyncHistoryRepository extends JpaRepository<QaSyncHistory, Lo
 	 * findTop: 그 중 첫 번째 레코드만 반환
 	 */
 	Optional<QaSyncHistory> findTopByTeamIdOrderByIdDesc(Long teamId);
+
+	/**
+	 * 진행 카운트 증가 (병렬 생성 시 read-modify-write로 증가분이 유실되지 않도록 DB에서 직접 증가)
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update QaSyncHistory h set h.successCount = h.successCount + 1 where h.id = :id")
+	int incrementSuccessCount(@Param("id") Long id);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update QaSyncHistory h set h.failCount = h.failCount + 1 where h.id = :id")
+	int incrementFailCount(@Param("id") Long id);
+
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		update QaSyncHistory h
+		set h.successCount = h.successCount + 1, h.reusedCount = coalesce(h.reusedCount, 0) + 1
+		where h.id = :id
+	""")
+	int incrementReusedCount(@Param("id") Long id);
 }
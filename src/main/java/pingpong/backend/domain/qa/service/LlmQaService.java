@@ -6,12 +6,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import pingpong.backend.domain.qa.QaErrorCode;
+import pingpong.backend.domain.qa.config.QaGenerationProperties;
 import pingpong.backend.domain.qa.dto.QaScenarioResponse; // 이전에 정의한 DTO
 import pingpong.backend.domain.swagger.dto.EndpointAggregate;
 import pingpong.backend.global.exception.CustomException;
 
+import java.time.Duration;
 import java.util.*;
 
 @Slf4j
@@ -20,14 +26,21 @@ public class LlmQaService {
 
 	private final ChatClient qaChatClient;
 	private final ObjectMapper objectMapper;
+	private final LlmRateLimiter rateLimiter;
+	private final QaGenerationProperties generationProperties;
 
 	// 생성자 주입 (@Qualifier 확인 필수)
 	public LlmQaService(@Qualifier("qaClient") ChatClient qaChatClient,
-		ObjectMapper objectMapper) {
+		ObjectMapper objectMapper, LlmRateLimiter rateLimiter, QaGenerationProperties generationProperties) {
 		this.qaChatClient = qaChatClient;
 		this.objectMapper = objectMapper;
+		this.rateLimiter = rateLimiter;
+		this.generationProperties = generationProperties;
 	}
 
+	// 프롬프트(system/user/repair) 내용을 바꾸면 올려야 함, 버전이 같을 때만 기존 생성 결과를 재사용
+	public static final String PROMPT_VERSION = "v1";
+
 	// ── System Prompt (역할 + 지표 정의 + 출력 규칙) ─────────────────────────────
 	private static final String QA_SYSTEM_PROMPT = """
    당신은 전문 QA 엔지니어이자 테스트 자동화 전문가입니다.
@@ -141,11 +154,7 @@ public class LlmQaService {
 		String raw;
 		try {
 			// Bean에 설정된 QA_SYSTEM_PROMPT를 기본으로 사용
-			raw = qaChatClient.prompt()
-				.system(QA_SYSTEM_PROMPT)
-				.user(userPrompt)
-				.call()
-				.content();
+			raw = callLlm(QA_SYSTEM_PROMPT, userPrompt);
 		} catch (Exception e) {
 			log.error("QA-GEN: LLM 호출 실패", e);
 			return new QaOutcome(null, null);
@@ -170,11 +179,7 @@ public class LlmQaService {
 		// Step 3: 전체 재생성 1회 시도
 		log.warn("QA-GEN: repair 실패, 전체 재생성 시도 - endpointId={}", spec.endpoint().getId());
 		try {
-			String retryRaw = qaChatClient.prompt()
-				.system(QA_SYSTEM_PROMPT)
-				.user(userPrompt)
-				.call()
-				.content();
+			String retryRaw = callLlm(QA_SYSTEM_PROMPT, userPrompt);
 			result = tryParse(retryRaw);
 			if (result != null) {
 				log.info("QA-GEN: Step3 재생성 파싱 성공 - endpointId={}", spec.endpoint().getId());
@@ -188,6 +193,69 @@ public class LlmQaService {
 		return new QaOutcome(null, raw);
 	}
 
+	/**
+	 * rate limiter를 거쳐 LLM 호출, 429 응답이면 limiter가 정한 시간만큼 쉬고 다시 시도
+	 */
+	private String callLlm(String system, String user) {
+		int estimatedTokens = estimateTokens(system, user);
+
+		for (int attempt = 0; ; attempt++) {
+			try {
+				rateLimiter.acquire(estimatedTokens);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CustomException(QaErrorCode.AI_CALL_FAILED);
+			}
+
+			try {
+				ChatClient.ChatClientRequestSpec request = qaChatClient.prompt();
+				if (system != null) {
+					request = request.system(system);
+				}
+				ChatResponse response = request.user(user).call().chatResponse();
+				rateLimiter.onSuccess();
+				reconcileUsage(estimatedTokens, response);
+				return (response == null || response.getResult() == null)
+					? null
+					: response.getResult().getOutput().getText();
+			} catch (RuntimeException e) {
+				if (!isRateLimited(e) || attempt >= generationProperties.getMaxRateLimitRetries()) {
+					throw e;
+				}
+				Duration backoff = rateLimiter.onRateLimited();
+				log.warn("QA-GEN: LLM 429 응답, {}ms 후 재시도 ({}/{})",
+					backoff.toMillis(), attempt + 1, generationProperties.getMaxRateLimitRetries());
+			}
+		}
+	}
+
+	/**
+	 * 토크나이저 없이 대략 추정 (한글/JSON이 섞여 있어 2글자당 1토큰으로 보수적으로 계산)
+	 */
+	private int estimateTokens(String system, String user) {
+		int chars = (system != null ? system.length() : 0) + (user != null ? user.length() : 0);
+		return chars / 2 + generationProperties.getExpectedCompletionTokens();
+	}
+
+	private void reconcileUsage(int estimatedTokens, ChatResponse response) {
+		if (response == null || response.getMetadata() == null) return;
+		Usage usage = response.getMetadata().getUsage();
+		if (usage == null || usage.getTotalTokens() == null || usage.getTotalTokens() <= 0) return;
+		rateLimiter.reconcile(estimatedTokens, usage.getTotalTokens());
+	}
+
+	private boolean isRateLimited(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			if (t instanceof HttpClientErrorException.TooManyRequests) return true;
+			String message = t.getMessage();
+			// Spring AI는 429를 NonTransientAiException("429 - {...}")으로 감싸서 던짐
+			if (message != null && (message.startsWith("429") || message.contains("rate_limit_exceeded"))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private QaScenarioResponse tryParse(String raw) {
 		if (raw == null || raw.isBlank()) return null;
 		String json = extractJson(raw);
@@ -202,10 +270,7 @@ public class LlmQaService {
 	private String repairJson(String raw) {
 		if (raw == null) return "{}";
 		try {
-			return qaChatClient.prompt()
-				.user(REPAIR_TEMPLATE.replace("{raw}", raw))
-				.call()
-				.content();
+			return callLlm(null, REPAIR_TEMPLATE.replace("{raw}", raw));
 		} catch (Exception e) {
 			log.error("QA-GEN: Repair 호출 자체 실패", e);
 			return "{}";
@@ -0,0 +1,126 @@
+package pingpong.backend.domain.qa.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.qa.config.QaGenerationProperties;
+
+/**
+ * QA 생성용 LLM 호출 속도 제한 (분당 요청 수 + 분당 토큰 수 token bucket)
+ * 429를 받으면 전체 호출을 잠시 멈추고 충전 속도를 절반으로 줄인 뒤, 성공할 때마다 조금씩 회복
+ */
+@Slf4j
+@Component
+public class LlmRateLimiter {
+
+	private static final double MIN_RATE_FACTOR = 0.1;
+	private static final double RECOVERY_STEP = 0.05;
+	private static final long MIN_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private final QaGenerationProperties properties;
+
+	private double availableRequests;
+	private double availableTokens;
+	private long lastRefillNanos;
+	private double rateFactor = 1.0;
+	private long pausedUntilNanos;
+	private int consecutiveRateLimits;
+
+	public LlmRateLimiter(QaGenerationProperties properties) {
+		this.properties = properties;
+		this.availableRequests = requestCapacity();
+		this.availableTokens = tokenCapacity();
+		this.lastRefillNanos = System.nanoTime();
+	}
+
+	/**
+	 * 요청 1건 + 예상 토큰만큼 여유가 생길 때까지 대기 후 차감
+	 */
+	public void acquire(int estimatedTokens) throws InterruptedException {
+		// bucket 용량보다 큰 요청은 영원히 대기하지 않도록 용량으로 자름
+		double tokens = Math.min(Math.max(estimatedTokens, 0), tokenCapacity());
+
+		while (true) {
+			long waitNanos;
+			synchronized (this) {
+				long now = System.nanoTime();
+				refill(now);
+
+				if (pausedUntilNanos - now > 0) {
+					waitNanos = pausedUntilNanos - now;
+				} else if (availableRequests >= 1 && availableTokens >= tokens) {
+					availableRequests -= 1;
+					availableTokens -= tokens;
+					return;
+				} else {
+					double requestWait = Math.max(0, 1 - availableRequests) / perNano(requestCapacity());
+					double tokenWait = Math.max(0, tokens - availableTokens) / perNano(tokenCapacity());
+					waitNanos = (long)Math.ceil(Math.max(requestWait, tokenWait));
+				}
+			}
+			TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, MIN_WAIT_NANOS));
+		}
+	}
+
+	/**
+	 * 응답의 실제 토큰 사용량으로 예상치와의 차이를 보정
+	 */
+	public synchronized void reconcile(int estimatedTokens, int actualTokens) {
+		availableTokens = Math.min(tokenCapacity(), availableTokens + estimatedTokens - actualTokens);
+	}
+
+	public synchronized void onSuccess() {
+		consecutiveRateLimits = 0;
+		rateFactor = Math.min(1.0, rateFactor + RECOVERY_STEP);
+	}
+
+	/**
+	 * 429 응답 반영, 모든 호출이 공유하는 대기 시간을 반환
+	 */
+	public synchronized Duration onRateLimited() {
+		consecutiveRateLimits++;
+		rateFactor = Math.max(MIN_RATE_FACTOR, rateFactor / 2);
+
+		long initial = properties.getInitialBackoff().toMillis();
+		long max = properties.getMaxBackoff().toMillis();
+		long backoffMillis = Math.min(max, initial << Math.min(consecutiveRateLimits - 1, 20));
+
+		long now = System.nanoTime();
+		long until = now + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+		if (until - pausedUntilNanos > 0) {
+			pausedUntilNanos = until;
+		}
+		// 대기가 끝나자마자 쌓인 bucket으로 한꺼번에 몰리지 않도록 비움
+		availableRequests = Math.min(availableRequests, 0);
+		availableTokens = Math.min(availableTokens, 0);
+		lastRefillNanos = pausedUntilNanos;
+
+		log.warn("QA-GEN: LLM rate limit - backoff={}ms, rateFactor={}", backoffMillis, rateFactor);
+		return Duration.ofMillis(backoffMillis);
+	}
+
+	private void refill(long now) {
+		long elapsed = now - lastRefillNanos;
+		if (elapsed <= 0) {
+			return;
+		}
+		availableRequests = Math.min(requestCapacity(), availableRequests + elapsed * perNano(requestCapacity()));
+		availableTokens = Math.min(tokenCapacity(), availableTokens + elapsed * perNano(tokenCapacity()));
+		lastRefillNanos = now;
+	}
+
+	private double perNano(double perMinute) {
+		return perMinute * rateFactor / TimeUnit.MINUTES.toNanos(1);
+	}
+
+	private double requestCapacity() {
+		return Math.max(1, properties.getRequestsPerMinute());
+	}
+
+	private double tokenCapacity() {
+		return Math.max(1, properties.getTokensPerMinute());
+	}
+}
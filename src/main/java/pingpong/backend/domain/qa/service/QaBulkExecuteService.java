@@ -0,0 +1,289 @@
+package pingpong.backend.domain.qa.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.qa.QaErrorCode;
+import pingpong.backend.domain.qa.config.QaExecuteProperties;
+import pingpong.backend.domain.qa.dto.QaBulkExecuteResponse;
+import pingpong.backend.domain.qa.dto.QaBulkJobProgress;
+import pingpong.backend.domain.qa.dto.QaBulkJobResponse;
+import pingpong.backend.domain.qa.dto.QaExecuteResultDto;
+import pingpong.backend.domain.qa.enums.SyncStatus;
+import pingpong.backend.domain.qa.repository.QaCaseRepository;
+import pingpong.backend.domain.swagger.service.SwaggerUrlResolver;
+import pingpong.backend.global.exception.CustomException;
+
+@Service
+@Slf4j
+public class QaBulkExecuteService {
+
+	private static final String UNKNOWN_HOST = "";
+	// 다른 인스턴스에서 실행 중인 작업을 구독할 때 Redis 상태를 확인하는 주기
+	private static final long REMOTE_POLL_MILLIS = 1_000L;
+
+	private final QaService qaService;
+	private final QaCaseRepository qaCaseRepository;
+	private final SwaggerUrlResolver swaggerUrlResolver;
+	private final QaExecutionLimiter qaExecutionLimiter;
+	private final Executor qaBulkExecutor;
+	private final QaExecuteProperties properties;
+	private final QaBulkJobStore qaBulkJobStore;
+
+	// 이 인스턴스에서 실행 중이거나 보관 기간 내의 작업 (SSE 구독자 관리용)
+	// 작업 상태 요약은 QaBulkJobStore(Redis)에도 저장되어 다른 인스턴스에서도 조회 / 구독 가능
+	private final Map<String, QaBulkJob> jobs = new ConcurrentHashMap<>();
+
+	public QaBulkExecuteService(QaService qaService, QaCaseRepository qaCaseRepository,
+		SwaggerUrlResolver swaggerUrlResolver, QaExecutionLimiter qaExecutionLimiter,
+		@Qualifier("qaBulkExecutor") Executor qaBulkExecutor, QaExecuteProperties properties,
+		QaBulkJobStore qaBulkJobStore) {
+		this.qaService = qaService;
+		this.qaCaseRepository = qaCaseRepository;
+		this.swaggerUrlResolver = swaggerUrlResolver;
+		this.qaExecutionLimiter = qaExecutionLimiter;
+		this.qaBulkExecutor = qaBulkExecutor;
+		this.properties = properties;
+		this.qaBulkJobStore = qaBulkJobStore;
+	}
+
+	/**
+	 * qa를 한 번에 여러개 병렬 실행
+	 * 케이스마다 QaService 프록시를 통해 실행하므로 각자 트랜잭션/락 재시도(@Retryable)가 적용됨
+	 * @param qaIds
+	 * @param proxyAuthorization
+	 * @return 요청한 qaIds 순서대로 정렬된 실행 결과
+	 */
+	public QaBulkExecuteResponse executeBulkQaCases(List<Long> qaIds, String proxyAuthorization) {
+		List<CompletableFuture<QaExecuteResultDto>> futures = submitAll(qaIds, proxyAuthorization);
+
+		List<QaExecuteResultDto> results = futures.stream()
+			.map(CompletableFuture::join)
+			.toList();
+
+		int successCount = (int) results.stream()
+			.filter(result -> Boolean.TRUE.equals(result.isSuccess()))
+			.count();
+
+		return new QaBulkExecuteResponse(
+			qaIds.size(),
+			successCount,
+			qaIds.size() - successCount,
+			results
+		);
+	}
+
+	/**
+	 * bulk 실행을 백그라운드 작업으로 시작하고 바로 jobId를 반환
+	 * 케이스가 끝날 때마다 streamBulkJob으로 구독 중인 클라이언트에 결과/진행률을 전송
+	 * 케이스 제출 전에 실패하면 작업을 남기지 않고 예외를 그대로 던짐
+	 */
+	public QaBulkJobResponse startBulkJob(List<Long> qaIds, String proxyAuthorization) {
+		QaBulkJob job = new QaBulkJob(UUID.randomUUID().toString(), qaIds);
+		jobs.put(job.getJobId(), job);
+		qaBulkJobStore.save(job.summary());
+
+		List<CompletableFuture<QaExecuteResultDto>> futures;
+		try {
+			futures = submitAll(qaIds, proxyAuthorization);
+		} catch (RuntimeException e) {
+			// 조회 / 구독할 수는 있지만 끝나지 않는 작업이 남지 않도록 제거
+			jobs.remove(job.getJobId());
+			qaBulkJobStore.delete(job.getJobId());
+			throw e;
+		}
+		// 결과 기록까지 끝난 뒤에 done 이벤트가 나가도록 기록 단계를 기준으로 완료 처리
+		CompletableFuture<?>[] recorded = new CompletableFuture<?>[futures.size()];
+		for (int i = 0; i < futures.size(); i++) {
+			int index = i;
+			recorded[i] = futures.get(i).thenAccept(result -> {
+				job.recordResult(index, result);
+				qaBulkJobStore.save(job.summary());
+			});
+		}
+		CompletableFuture.allOf(recorded)
+			.whenComplete((ignored, e) -> {
+				job.complete();
+				qaBulkJobStore.save(job.summary());
+				log.info("QA_BULK_JOB: 완료 jobId={}, total={}", job.getJobId(), qaIds.size());
+			});
+
+		return job.summary();
+	}
+
+	/**
+	 * 이 인스턴스에서 실행 중인 작업은 케이스별 result / progress / done 이벤트를 전송
+	 * 다른 인스턴스에서 실행 중인 작업은 Redis 상태를 주기적으로 확인해서 progress / done 이벤트만 전송
+	 */
+	public SseEmitter streamBulkJob(String jobId) {
+		SseEmitter emitter = new SseEmitter(properties.getBulkJobRetention().toMillis());
+		QaBulkJob job = jobs.get(jobId);
+		if (job != null) {
+			job.subscribe(emitter);
+			return emitter;
+		}
+		QaBulkJobResponse stored = qaBulkJobStore.find(jobId)
+			.orElseThrow(() -> new CustomException(QaErrorCode.BULK_JOB_NOT_FOUND));
+		relayStoredJob(stored, emitter);
+		return emitter;
+	}
+
+	public QaBulkJobResponse getBulkJob(String jobId) {
+		QaBulkJob job = jobs.get(jobId);
+		if (job != null) {
+			return job.summary();
+		}
+		return qaBulkJobStore.find(jobId)
+			.orElseThrow(() -> new CustomException(QaErrorCode.BULK_JOB_NOT_FOUND));
+	}
+
+	/**
+	 * 진행 중인 작업의 SSE 연결 유지 (대기 중인 이벤트가 없는 연결에만 heartbeat 전송)
+	 */
+	@Scheduled(fixedDelayString = "${qa.execute.bulk-job-heartbeat-millis:15000}")
+	public void sendHeartbeats() {
+		jobs.values().forEach(QaBulkJob::heartbeat);
+	}
+
+	/**
+	 * 보관 기간이 지난 완료 작업 정리
+	 */
+	@Scheduled(fixedDelay = 60_000L)
+	public void evictExpiredJobs() {
+		LocalDateTime threshold = LocalDateTime.now().minus(properties.getBulkJobRetention());
+		jobs.values().removeIf(job -> job.isCompleted()
+			&& job.getCompletedAt() != null
+			&& job.getCompletedAt().isBefore(threshold));
+	}
+
+	/**
+	 * Redis에 저장된 작업 상태를 전용 virtual thread에서 주기적으로 읽어 SSE로 전달
+	 * 완료 상태를 읽으면 done 이벤트를 보내고 종료, 보관 기간이 지나 상태가 사라져도 종료
+	 */
+	private void relayStoredJob(QaBulkJobResponse stored, SseEmitter emitter) {
+		String jobId = stored.jobId();
+		AtomicBoolean closed = new AtomicBoolean();
+		emitter.onCompletion(() -> closed.set(true));
+		emitter.onTimeout(() -> closed.set(true));
+		emitter.onError(e -> closed.set(true));
+
+		Thread.ofVirtual().name("qa-bulk-relay-" + jobId).start(() -> {
+			QaBulkJobResponse current = stored;
+			int sentCompleted = -1;
+			long lastSentAt = System.currentTimeMillis();
+			try {
+				while (!closed.get()) {
+					if (current.completedCount() != sentCompleted) {
+						emitter.send(SseEmitter.event().name(QaBulkJob.EVENT_PROGRESS).data(progress(current)));
+						sentCompleted = current.completedCount();
+						lastSentAt = System.currentTimeMillis();
+					}
+					if (current.status() == SyncStatus.COMPLETED) {
+						emitter.send(SseEmitter.event().name(QaBulkJob.EVENT_DONE).data(current));
+						emitter.complete();
+						return;
+					}
+					if (System.currentTimeMillis() - lastSentAt >= properties.getBulkJobHeartbeatMillis()) {
+						emitter.send(SseEmitter.event().comment(QaBulkJob.HEARTBEAT_COMMENT));
+						lastSentAt = System.currentTimeMillis();
+					}
+					Thread.sleep(REMOTE_POLL_MILLIS);
+					Optional<QaBulkJobResponse> latest = qaBulkJobStore.find(jobId);
+					if (latest.isEmpty()) {
+						emitter.complete();
+						return;
+					}
+					current = latest.get();
+				}
+			} catch (IOException | IllegalStateException e) {
+				log.info("QA_BULK_JOB: SSE 전달 중단 jobId={}, reason={}", jobId, e.getMessage());
+				emitter.completeWithError(e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (RuntimeException e) {
+				// Redis 조회 실패 등, 클라이언트는 재연결하거나 조회 API로 확인
+				log.warn("QA_BULK_JOB: 작업 상태 조회 실패 jobId={}, error={}", jobId, e.getMessage());
+				emitter.completeWithError(e);
+			}
+		});
+	}
+
+	private static QaBulkJobProgress progress(QaBulkJobResponse job) {
+		return new QaBulkJobProgress(job.jobId(), job.totalCount(), job.completedCount(), job.successCount(),
+			job.failCount());
+	}
+
+	/**
+	 * 케이스별 실행을 qaBulkExecutor에 제출, 반환 순서는 qaIds 순서와 같음
+	 * executeOne은 예외를 실패 결과로 바꿔 반환하므로 future가 예외로 끝나지 않음
+	 */
+	private List<CompletableFuture<QaExecuteResultDto>> submitAll(List<Long> qaIds, String proxyAuthorization) {
+		Map<Long, String> baseUrls = resolveBaseUrls(qaIds);
+		return qaIds.stream()
+			.map(qaId -> CompletableFuture.supplyAsync(
+				() -> executeOne(qaId, baseUrls.getOrDefault(qaId, UNKNOWN_HOST), proxyAuthorization),
+				qaBulkExecutor))
+			.toList();
+	}
+
+	private QaExecuteResultDto executeOne(Long qaId, String baseUrl, String proxyAuthorization) {
+		try {
+			return qaExecutionLimiter.run(baseUrl, () -> qaService.executeQaCase(qaId, proxyAuthorization));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.error("Bulk 실행 중단 - qaId: {}", qaId);
+			return createFailedResultDto(e.getMessage());
+		} catch (Exception e) {
+			// 특정 ID 실행 중 에러가 나도 로그만 남기고 나머지 케이스는 계속 진행
+			log.error("Bulk 실행 중 오류 발생 - qaId: {}, error: {}", qaId, e.getMessage());
+			return createFailedResultDto(e.getMessage());
+		}
+	}
+
+	/**
+	 * qaId -> 대상 팀 서버 base URL (동시성 제한 단위)
+	 */
+	private Map<Long, String> resolveBaseUrls(List<Long> qaIds) {
+		Map<Long, String> baseUrls = new HashMap<>();
+		if (qaIds.isEmpty()) {
+			return baseUrls;
+		}
+		for (Object[] row : qaCaseRepository.findSwaggerUrlsByIdIn(qaIds)) {
+			Long qaId = (Long) row[0];
+			String swaggerUrl = (String) row[1];
+			baseUrls.put(qaId, toBaseUrl(swaggerUrl));
+		}
+		return baseUrls;
+	}
+
+	private String toBaseUrl(String swaggerUrl) {
+		if (swaggerUrl == null || swaggerUrl.isBlank()) {
+			return UNKNOWN_HOST;
+		}
+		try {
+			return swaggerUrlResolver.resolveBaseUrl(swaggerUrl);
+		} catch (IllegalArgumentException e) {
+			return UNKNOWN_HOST;
+		}
+	}
+
+	// 실패 시 응답을 위한 간단한 헬퍼 메서드
+	private QaExecuteResultDto createFailedResultDto(String message) {
+		return new QaExecuteResultDto(null, 500, false, null, message, LocalDateTime.now(), 0L, 0);
+	}
+}
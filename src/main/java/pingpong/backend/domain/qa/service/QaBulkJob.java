@@ -0,0 +1,248 @@
+package pingpong.backend.domain.qa.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.qa.dto.QaBulkCaseResult;
+import pingpong.backend.domain.qa.dto.QaBulkJobProgress;
+import pingpong.backend.domain.qa.dto.QaBulkJobResponse;
+import pingpong.backend.domain.qa.dto.QaExecuteResultDto;
+import pingpong.backend.domain.qa.enums.SyncStatus;
+
+/**
+ * 비동기 bulk 실행 작업 1건의 진행 상태 (메모리 보관)
+ * 케이스가 끝날 때마다 구독 중인 SSE emitter에 result / progress 이벤트를 보내고, 모두 끝나면 done 이벤트로 요약을 전송
+ * 늦게 구독한 클라이언트에게는 지금까지 끝난 결과를 먼저 다시 보내줌
+ * - 보관 기간 동안 메모리에 남으므로 결과는 응답 본문을 뺀 요약만 보관 (본문은 qaExecuteId로 실행 내역 조회)
+ * - 상태 변경과 이벤트 적재만 lock 안에서 하고, 실제 전송은 구독자별 큐를 비우는 전용 virtual thread에서 수행
+ *   (느리거나 멈춘 클라이언트가 케이스 결과 기록이나 다른 구독자를 막지 않음)
+ * 구독자별 큐에 쌓이는 이벤트는 케이스 수 * 2 + 2개를 넘지 않음 (heartbeat는 큐가 비어있을 때만 추가)
+ */
+@Slf4j
+class QaBulkJob {
+
+	static final String EVENT_RESULT = "result";
+	static final String EVENT_PROGRESS = "progress";
+	static final String EVENT_DONE = "done";
+	static final String HEARTBEAT_COMMENT = "heartbeat";
+
+	@Getter
+	private final String jobId;
+	private final List<Long> qaIds;
+	private final QaExecuteResultDto[] results;
+	private final List<QaBulkCaseResult> completedInOrder = new ArrayList<>();
+	private final List<Subscriber> subscribers = new ArrayList<>();
+	private final LocalDateTime startedAt = LocalDateTime.now();
+
+	private SyncStatus status = SyncStatus.PROCESSING;
+	private int successCount;
+	private int failCount;
+	private LocalDateTime completedAt;
+
+	QaBulkJob(String jobId, List<Long> qaIds) {
+		this.jobId = jobId;
+		this.qaIds = List.copyOf(qaIds);
+		this.results = new QaExecuteResultDto[qaIds.size()];
+	}
+
+	void recordResult(int index, QaExecuteResultDto result) {
+		QaExecuteResultDto summary = result.withoutResponseBody();
+		synchronized (this) {
+			results[index] = summary;
+			if (Boolean.TRUE.equals(summary.isSuccess())) {
+				successCount++;
+			} else {
+				failCount++;
+			}
+			QaBulkCaseResult caseResult = new QaBulkCaseResult(qaIds.get(index), summary);
+			completedInOrder.add(caseResult);
+
+			QaBulkJobProgress progress = progress();
+			for (Subscriber subscriber : subscribers) {
+				subscriber.enqueue(Event.of(EVENT_RESULT, caseResult));
+				subscriber.enqueue(Event.of(EVENT_PROGRESS, progress));
+			}
+		}
+	}
+
+	void complete() {
+		synchronized (this) {
+			status = SyncStatus.COMPLETED;
+			completedAt = LocalDateTime.now();
+			QaBulkJobResponse summary = summary();
+			for (Subscriber subscriber : subscribers) {
+				subscriber.enqueue(Event.of(EVENT_DONE, summary));
+				subscriber.enqueue(Event.COMPLETE);
+			}
+			subscribers.clear();
+		}
+	}
+
+	/**
+	 * 구독 시점까지 끝난 결과를 먼저 보낸 뒤 이후 이벤트를 이어서 전송
+	 */
+	void subscribe(SseEmitter emitter) {
+		Subscriber subscriber = new Subscriber(emitter);
+		synchronized (this) {
+			for (QaBulkCaseResult caseResult : completedInOrder) {
+				subscriber.enqueue(Event.of(EVENT_RESULT, caseResult));
+			}
+			subscriber.enqueue(Event.of(EVENT_PROGRESS, progress()));
+			if (status == SyncStatus.COMPLETED) {
+				subscriber.enqueue(Event.of(EVENT_DONE, summary()));
+				subscriber.enqueue(Event.COMPLETE);
+			} else {
+				subscribers.add(subscriber);
+			}
+		}
+		emitter.onCompletion(subscriber::close);
+		emitter.onTimeout(subscriber::close);
+		emitter.onError(e -> subscriber.close());
+		subscriber.start();
+	}
+
+	/**
+	 * 보낼 이벤트가 없는 구독자에게 SSE 주석을 보내서 프록시 read timeout으로 연결이 끊기지 않게 함
+	 */
+	void heartbeat() {
+		List<Subscriber> targets;
+		synchronized (this) {
+			targets = List.copyOf(subscribers);
+		}
+		for (Subscriber subscriber : targets) {
+			if (subscriber.isIdle()) {
+				subscriber.enqueue(Event.HEARTBEAT);
+			}
+		}
+	}
+
+	synchronized boolean isCompleted() {
+		return status == SyncStatus.COMPLETED;
+	}
+
+	synchronized LocalDateTime getCompletedAt() {
+		return completedAt;
+	}
+
+	synchronized QaBulkJobResponse summary() {
+		List<QaExecuteResultDto> orderedResults = status == SyncStatus.COMPLETED
+			? Arrays.asList(results.clone())
+			: List.of();
+		return new QaBulkJobResponse(
+			jobId,
+			status,
+			qaIds.size(),
+			successCount + failCount,
+			successCount,
+			failCount,
+			startedAt,
+			completedAt,
+			orderedResults
+		);
+	}
+
+	private QaBulkJobProgress progress() {
+		return new QaBulkJobProgress(jobId, qaIds.size(), successCount + failCount, successCount, failCount);
+	}
+
+	private synchronized void unsubscribe(Subscriber subscriber) {
+		subscribers.remove(subscriber);
+	}
+
+	/**
+	 * @param name null이면 주석(heartbeat) 또는 내부 제어용
+	 */
+	private record Event(String name, Object data) {
+
+		static final Event HEARTBEAT = new Event(null, HEARTBEAT_COMMENT);
+		// done 이후 emitter 정상 종료
+		static final Event COMPLETE = new Event(null, null);
+		// 연결이 끊기거나 timeout된 구독자의 전송 스레드 종료
+		static final Event CLOSE = new Event(null, null);
+
+		static Event of(String name, Object data) {
+			return new Event(name, data);
+		}
+	}
+
+	/**
+	 * SSE 연결 1개: 이벤트 큐 + 큐를 순서대로 비우는 전송 스레드
+	 */
+	private final class Subscriber {
+
+		private final SseEmitter emitter;
+		private final BlockingQueue<Event> queue = new LinkedBlockingQueue<>();
+		private volatile boolean closed;
+
+		Subscriber(SseEmitter emitter) {
+			this.emitter = emitter;
+		}
+
+		void start() {
+			Thread.ofVirtual().name("qa-bulk-sse-" + jobId).start(this::drain);
+		}
+
+		void enqueue(Event event) {
+			if (!closed) {
+				queue.offer(event);
+			}
+		}
+
+		boolean isIdle() {
+			return queue.isEmpty();
+		}
+
+		void close() {
+			closed = true;
+			queue.clear();
+			queue.offer(Event.CLOSE);
+			unsubscribe(this);
+		}
+
+		private void drain() {
+			try {
+				while (true) {
+					Event event = queue.take();
+					if (event == Event.CLOSE) {
+						return;
+					}
+					if (event == Event.COMPLETE) {
+						emitter.complete();
+						return;
+					}
+					if (!send(event)) {
+						close();
+						return;
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private boolean send(Event event) {
+			try {
+				if (event == Event.HEARTBEAT) {
+					emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+				} else {
+					emitter.send(SseEmitter.event().name(event.name()).data(event.data()));
+				}
+				return true;
+			} catch (IOException | IllegalStateException e) {
+				// 클라이언트가 연결을 끊은 경우, 작업은 계속 진행하고 poll 엔드포인트로 결과 조회 가능
+				log.info("QA_BULK_JOB: SSE 전송 중단 jobId={}, event={}, reason={}", jobId, event.name(), e.getMessage());
+				emitter.completeWithError(e);
+				return false;
+			}
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package pingpong.backend.domain.qa.service;
+
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.qa.config.QaExecuteProperties;
+import pingpong.backend.domain.qa.dto.QaBulkJobResponse;
+
+/**
+ * 비동기 bulk 실행 작업 상태를 Redis에 보관 (모든 인스턴스에서 조회 가능)
+ * 작업을 실행하는 인스턴스가 상태가 바뀔 때마다 요약을 덮어쓰고, 마지막 저장 후 bulkJobRetention이 지나면 만료
+ * Redis 오류는 작업 실행을 막지 않도록 로그만 남김 (실행 중인 인스턴스에서는 메모리 상태로 계속 조회 가능)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QaBulkJobStore {
+
+	private static final String JOB_PREFIX = "qa:bulk_job:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final QaExecuteProperties properties;
+
+	public void save(QaBulkJobResponse job) {
+		try {
+			redisTemplate.opsForValue().set(JOB_PREFIX + job.jobId(), objectMapper.writeValueAsString(job),
+				properties.getBulkJobRetention());
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("QA_BULK_JOB: 상태 저장 실패 jobId={}, error={}", job.jobId(), e.getMessage());
+		}
+	}
+
+	public Optional<QaBulkJobResponse> find(String jobId) {
+		String value = redisTemplate.opsForValue().get(JOB_PREFIX + jobId);
+		if (value == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(objectMapper.readValue(value, QaBulkJobResponse.class));
+		} catch (JsonProcessingException e) {
+			log.warn("QA_BULK_JOB: 상태 읽기 실패 jobId={}, error={}", jobId, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	public void delete(String jobId) {
+		try {
+			redisTemplate.delete(JOB_PREFIX + jobId);
+		} catch (RuntimeException e) {
+			log.warn("QA_BULK_JOB: 상태 삭제 실패 jobId={}, error={}", jobId, e.getMessage());
+		}
+	}
+}
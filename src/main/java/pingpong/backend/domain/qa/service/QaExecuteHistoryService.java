@@ -0,0 +1,136 @@
+package pingpong.backend.domain.qa.service;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.qa.QaErrorCode;
+import pingpong.backend.domain.qa.QaExecuteDailyStat;
+import pingpong.backend.domain.qa.config.QaRetentionProperties;
+import pingpong.backend.domain.qa.dto.QaExecuteDailyStatResponse;
+import pingpong.backend.domain.qa.dto.QaRunStats;
+import pingpong.backend.domain.qa.repository.QaCaseRepository;
+import pingpong.backend.domain.qa.repository.QaExecuteDailyStatRepository;
+import pingpong.backend.domain.qa.repository.QaExecuteResultRepository;
+import pingpong.backend.global.exception.CustomException;
+
+/**
+ * QA 실행 이력 보존/롤업 및 일별 추이 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class QaExecuteHistoryService {
+
+	private static final int DELETE_CHUNK_SIZE = 1000;
+
+	private final QaCaseRepository qaCaseRepository;
+	private final QaExecuteResultRepository qaExecuteResultRepository;
+	private final QaExecuteDailyStatRepository qaExecuteDailyStatRepository;
+	private final QaRetentionProperties properties;
+
+	/**
+	 * 이 시각 이전의 실행 결과는 최신 N건이 아니면 롤업 대상
+	 */
+	public LocalDateTime retentionCutoff() {
+		return LocalDate.now().minusDays(properties.getKeepDays()).atStartOfDay();
+	}
+
+	/**
+	 * 케이스 하나의 보존 기간이 지난 결과를 일별 집계로 합치고 원본 삭제
+	 * @return 삭제된 실행 결과 수
+	 */
+	@Transactional
+	public int rollUp(Long qaCaseId, LocalDateTime cutoff) {
+		Long beforeId = Long.MAX_VALUE;
+		if (properties.getKeepLatest() > 0) {
+			List<Long> keptIds = qaExecuteResultRepository.findIdsByQaCaseIdOrderByIdDesc(
+				qaCaseId, PageRequest.of(0, properties.getKeepLatest()));
+			if (keptIds.size() < properties.getKeepLatest()) {
+				return 0;
+			}
+			beforeId = keptIds.getLast();
+		}
+
+		List<Object[]> samples = qaExecuteResultRepository.findRunSamplesForRollUp(qaCaseId, cutoff, beforeId);
+		if (samples.isEmpty()) {
+			return 0;
+		}
+
+		Map<LocalDate, QaRunStats> statsByDate = summarizeByDate(samples);
+
+		Map<LocalDate, QaExecuteDailyStat> existing = qaExecuteDailyStatRepository
+			.findByQaCaseIdAndStatDateIn(qaCaseId, statsByDate.keySet()).stream()
+			.collect(toMap(QaExecuteDailyStat::getStatDate, Function.identity()));
+
+		List<QaExecuteDailyStat> toSave = new ArrayList<>();
+		statsByDate.forEach((date, stats) -> {
+			QaExecuteDailyStat stat = existing.computeIfAbsent(date,
+				d -> QaExecuteDailyStat.create(qaCaseRepository.getReferenceById(qaCaseId), d));
+			stat.accumulate(stats);
+			toSave.add(stat);
+		});
+		qaExecuteDailyStatRepository.saveAll(toSave);
+
+		List<Long> ids = samples.stream().map(row -> (Long) row[0]).toList();
+		int deleted = 0;
+		for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+			deleted += qaExecuteResultRepository.deleteByIdIn(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+		}
+		return deleted;
+	}
+
+	/**
+	 * 최근 days일간 일별 실행 추이 (롤업된 집계 + 아직 남아있는 원본 결과)
+	 */
+	public List<QaExecuteDailyStatResponse> getDailyStats(Long qaId, int days) {
+		if (!qaCaseRepository.existsById(qaId)) {
+			throw new CustomException(QaErrorCode.QA_NOT_FOUND);
+		}
+		LocalDate fromDate = LocalDate.now().minusDays(Math.max(days, 1) - 1L);
+
+		Map<LocalDate, QaRunStats> merged = new TreeMap<>();
+		qaExecuteDailyStatRepository.findByQaCaseIdAndStatDateGreaterThanEqualOrderByStatDateAsc(qaId, fromDate)
+			.forEach(stat -> merged.merge(stat.getStatDate(), stat.toRunStats(), QaRunStats::merge));
+
+		List<Object[]> samples = qaExecuteResultRepository.findRunSamplesBetween(
+			qaId, fromDate.atStartOfDay(), LocalDate.now().plusDays(1).atStartOfDay());
+		summarizeByDate(samples).forEach((date, stats) -> merged.merge(date, stats, QaRunStats::merge));
+
+		return merged.entrySet().stream()
+			.map(e -> QaExecuteDailyStatResponse.of(e.getKey(), e.getValue()))
+			.toList();
+	}
+
+	/**
+	 * [id, executedAt, isSuccess, durationMs] 행을 날짜별 집계로 변환
+	 */
+	private Map<LocalDate, QaRunStats> summarizeByDate(List<Object[]> samples) {
+		Map<LocalDate, List<Object[]>> byDate = new TreeMap<>();
+		for (Object[] row : samples) {
+			LocalDate date = ((LocalDateTime) row[1]).toLocalDate();
+			byDate.computeIfAbsent(date, d -> new ArrayList<>()).add(row);
+		}
+
+		Map<LocalDate, QaRunStats> result = new TreeMap<>();
+		byDate.forEach((date, rows) -> {
+			int successCount = (int) rows.stream().filter(row -> Boolean.TRUE.equals(row[2])).count();
+			List<Long> durations = rows.stream().map(row -> (Long) row[3]).toList();
+			result.put(date, QaRunStats.of(successCount, durations));
+		});
+		return result;
+	}
+}
@@ -0,0 +1,45 @@
+package pingpong.backend.domain.qa.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import pingpong.backend.domain.qa.config.QaExecuteProperties;
+
+/**
+ * QA 실행 동시성 제한
+ * base URL별 semaphore -> 전역 semaphore 순서로 획득해서 한 팀 서버에 요청이 몰리지 않도록 함
+ * 여러 bulk 실행이 동시에 들어와도 같은 base URL이면 같은 한도를 공유
+ */
+@Component
+public class QaExecutionLimiter {
+
+	private final QaExecuteProperties properties;
+	private final Semaphore globalPermits;
+	private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+	public QaExecutionLimiter(QaExecuteProperties properties) {
+		this.properties = properties;
+		this.globalPermits = new Semaphore(Math.max(1, properties.getBulkMaxConcurrency()), true);
+	}
+
+	public <T> T run(String baseUrl, Supplier<T> task) throws InterruptedException {
+		Semaphore hostSemaphore = hostPermits.computeIfAbsent(baseUrl,
+			key -> new Semaphore(properties.concurrencyFor(key), true));
+
+		hostSemaphore.acquire();
+		try {
+			globalPermits.acquire();
+			try {
+				return task.get();
+			} finally {
+				globalPermits.release();
+			}
+		} finally {
+			hostSemaphore.release();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package pingpong.backend.domain.qa.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.qa.QaSyncHistory;
+import pingpong.backend.domain.team.Team;
+
+/**
+ * swagger 동기화 후 엔드포인트별 QA 시나리오 일괄 생성
+ * qaGenerationExecutor 크기만큼 동시에 생성하고, LLM 호출 속도는 LlmRateLimiter가 제한
+ */
+@Slf4j
+@Service
+public class QaGenerationService {
+
+	private final QaService qaService;
+	private final QaSyncHistoryService qaSyncHistoryService;
+	private final Executor qaGenerationExecutor;
+
+	public QaGenerationService(QaService qaService, QaSyncHistoryService qaSyncHistoryService,
+		@Qualifier("qaGenerationExecutor") Executor qaGenerationExecutor) {
+		this.qaService = qaService;
+		this.qaSyncHistoryService = qaSyncHistoryService;
+		this.qaGenerationExecutor = qaGenerationExecutor;
+	}
+
+	/**
+	 * 진행 상황은 한 건 끝날 때마다 QaSyncHistory에 반영, 모든 생성이 끝날 때까지 대기
+	 */
+	public void generateAll(Team team, List<Long> endpointIds) {
+		QaSyncHistory history = qaSyncHistoryService.createNewHistory(team, endpointIds.size());
+		Long historyId = history.getId();
+		log.info("QA_GEN: 시나리오 생성 작업 시작 teamId={}, 대상 엔드포인트 수={}", team.getId(), endpointIds.size());
+
+		long startedAt = System.currentTimeMillis();
+		AtomicInteger reused = new AtomicInteger();
+		List<CompletableFuture<Void>> futures = endpointIds.stream()
+			.map(endpointId -> CompletableFuture.runAsync(
+				() -> generate(historyId, endpointId, reused), qaGenerationExecutor))
+			.toList();
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+		qaSyncHistoryService.completeHistory(historyId);
+		log.info("QA_GEN: 모든 프로세스 완료 teamId={}, elapsedMs={}, 재사용={}/{} (hitRate={}%)",
+			team.getId(), System.currentTimeMillis() - startedAt, reused.get(), endpointIds.size(),
+			endpointIds.isEmpty() ? 0 : reused.get() * 100 / endpointIds.size());
+	}
+
+	private void generate(Long historyId, Long endpointId, AtomicInteger reusedCount) {
+		boolean success;
+		boolean reused = false;
+		try {
+			// 구조가 그대로인 엔드포인트는 LLM 호출 없이 이전 시나리오를 복제
+			reused = qaService.reuseOrCreateQaCases(endpointId);
+			success = true;
+		} catch (Exception e) {
+			log.error("QA_GEN: QA 생성 실패 - endpointId={}, error={}", endpointId, e.getMessage());
+			success = false;
+		}
+		if (reused) {
+			reusedCount.incrementAndGet();
+		}
+
+		try {
+			qaSyncHistoryService.updateProgress(historyId, success, reused);
+		} catch (Exception e) {
+			log.warn("QA_GEN: 진행 상황 기록 실패 - historyId={}, endpointId={}", historyId, endpointId, e);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package pingpong.backend.domain.qa.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import pingpong.backend.domain.qa.dto.QaLoadTarget;
+import pingpong.backend.domain.qa.enums.LoadMode;
+import pingpong.backend.domain.qa.util.LatencyHistogram;
+import pingpong.backend.domain.swagger.client.ApiExecuteClient;
+
+/**
+ * 준비된 요청을 목표 RPS 또는 동시 요청 수로 일정 시간 동안 반복 전송하고 결과를 집계
+ * DB에 의존하지 않으므로 로컬 HTTP stub 서버를 대상으로 단독 실행 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class QaLoadRunner {
+
+	public static final String TRANSPORT_ERROR = "ERROR";
+
+	private final ApiExecuteClient apiExecuteClient;
+
+	/**
+	 * @param targetRps   RPS 모드의 목표 초당 요청 수
+	 * @param concurrency 워커 수 (RPS 모드에서는 in-flight 요청 상한)
+	 */
+	public record LoadProfile(LoadMode mode, Integer targetRps, int concurrency, Duration duration) {
+	}
+
+	public record LoadResult(
+		long totalRequests,
+		long errorCount,
+		long elapsedNanos,
+		LatencyHistogram histogram,
+		Map<String, Long> statusCounts
+	) {
+		public double throughputRps() {
+			return elapsedNanos == 0 ? 0 : totalRequests * (double)TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+		}
+	}
+
+	/**
+	 * 여러 대상이 있으면 순서대로 돌아가며 전송, 기대 상태 코드와 다르거나 전송 자체가 실패하면 에러로 집계
+	 */
+	public LoadResult run(List<QaLoadTarget> targets, LoadProfile profile) {
+		LatencyHistogram histogram = new LatencyHistogram();
+		ConcurrentMap<String, LongAdder> statusCounts = new ConcurrentHashMap<>();
+		LongAdder total = new LongAdder();
+		LongAdder errors = new LongAdder();
+		AtomicLong sequence = new AtomicLong();
+
+		long startedAt = System.nanoTime();
+		long deadline = startedAt + profile.duration().toNanos();
+		boolean paced = profile.mode() == LoadMode.RPS;
+		long intervalNanos = paced ? TimeUnit.SECONDS.toNanos(1) / profile.targetRps() : 0;
+		AtomicLong nextSendAt = new AtomicLong(startedAt);
+
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < profile.concurrency(); i++) {
+				workers.submit(() -> {
+					while (!Thread.currentThread().isInterrupted()) {
+						long scheduledAt;
+						if (paced) {
+							// 전송 예정 시각을 공유 카운터에서 받아서 목표 RPS를 유지
+							scheduledAt = nextSendAt.getAndAdd(intervalNanos);
+							if (scheduledAt - deadline >= 0) {
+								return;
+							}
+							long wait = scheduledAt - System.nanoTime();
+							if (wait > 0) {
+								LockSupport.parkNanos(wait);
+							} else if (System.nanoTime() - deadline >= 0) {
+								// 서버가 느려 밀린 전송 예정 시각이 남아 있어도 실행 시간이 지나면 종료
+								return;
+							}
+						} else {
+							scheduledAt = System.nanoTime();
+							if (scheduledAt - deadline >= 0) {
+								return;
+							}
+						}
+
+						QaLoadTarget target = targets.get((int)(sequence.getAndIncrement() % targets.size()));
+						String statusKey;
+						boolean error;
+						try {
+							ResponseEntity<String> response = apiExecuteClient.executeQuietly(target.request());
+							int status = response.getStatusCode().value();
+							statusKey = String.valueOf(status);
+							error = status != target.expectedStatusCode();
+						} catch (Exception e) {
+							statusKey = TRANSPORT_ERROR;
+							error = true;
+						}
+
+						// RPS 모드는 예정 시각 기준으로 측정 (서버가 밀려 늦게 보낸 대기 시간까지 포함, coordinated omission 보정)
+						histogram.recordNanos(System.nanoTime() - scheduledAt);
+						total.increment();
+						if (error) {
+							errors.increment();
+						}
+						statusCounts.computeIfAbsent(statusKey, key -> new LongAdder()).increment();
+					}
+				});
+			}
+		}
+
+		long elapsed = System.nanoTime() - startedAt;
+		Map<String, Long> counts = new TreeMap<>();
+		statusCounts.forEach((key, count) -> counts.put(key, count.sum()));
+		return new LoadResult(total.sum(), errors.sum(), elapsed, histogram, counts);
+	}
+}
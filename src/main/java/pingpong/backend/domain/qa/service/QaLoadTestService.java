@@ -0,0 +1,220 @@
+package pingpong.backend.domain.qa.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.qa.QaCase;
+import pingpong.backend.domain.qa.QaErrorCode;
+import pingpong.backend.domain.qa.QaLoadRun;
+import pingpong.backend.domain.qa.config.QaLoadProperties;
+import pingpong.backend.domain.qa.dto.QaLoadRunRequest;
+import pingpong.backend.domain.qa.dto.QaLoadRunResponse;
+import pingpong.backend.domain.qa.dto.QaLoadTarget;
+import pingpong.backend.domain.qa.enums.LoadMode;
+import pingpong.backend.domain.qa.repository.QaCaseRepository;
+import pingpong.backend.domain.qa.repository.QaLoadRunRepository;
+import pingpong.backend.domain.team.Team;
+import pingpong.backend.domain.team.TeamErrorCode;
+import pingpong.backend.domain.team.repository.TeamRepository;
+import pingpong.backend.global.exception.CustomException;
+import pingpong.backend.global.redis.RedisLockUtil;
+
+/**
+ * QA 케이스 / tag 부하 테스트
+ * 요청 준비(검증, URL 구성)는 QA 실행과 같은 경로를 쓰고, 실행은 백그라운드에서 QaLoadRunner가 담당
+ * 결과는 실행 1회당 QaLoadRun 1건으로 요약 저장
+ */
+@Slf4j
+@Service
+public class QaLoadTestService {
+
+	private static final int DEFAULT_CONCURRENCY = 10;
+	private static final int DEFAULT_DURATION_SECONDS = 30;
+
+	// 같은 팀 서버에 부하 테스트가 겹치지 않도록 팀당 1개만 실행 (모든 인스턴스 공통)
+	private static final String TEAM_LOCK_PREFIX = "qa:load:team:";
+
+	private final QaService qaService;
+	private final QaLoadRunner qaLoadRunner;
+	private final QaLoadRunRepository qaLoadRunRepository;
+	private final QaCaseRepository qaCaseRepository;
+	private final TeamRepository teamRepository;
+	private final QaLoadProperties properties;
+	private final ObjectMapper objectMapper;
+	private final Executor qaBulkExecutor;
+	private final RedisLockUtil redisLockUtil;
+
+	public QaLoadTestService(QaService qaService, QaLoadRunner qaLoadRunner, QaLoadRunRepository qaLoadRunRepository,
+		QaCaseRepository qaCaseRepository, TeamRepository teamRepository, QaLoadProperties properties,
+		ObjectMapper objectMapper, @Qualifier("qaBulkExecutor") Executor qaBulkExecutor,
+		RedisLockUtil redisLockUtil) {
+		this.qaService = qaService;
+		this.qaLoadRunner = qaLoadRunner;
+		this.qaLoadRunRepository = qaLoadRunRepository;
+		this.qaCaseRepository = qaCaseRepository;
+		this.teamRepository = teamRepository;
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+		this.qaBulkExecutor = qaBulkExecutor;
+		this.redisLockUtil = redisLockUtil;
+	}
+
+	public QaLoadRunResponse startForQaCase(Long qaId, QaLoadRunRequest request, String proxyAuthorization) {
+		QaLoadRunner.LoadProfile profile = toProfile(request);
+		QaLoadTarget target = qaService.prepareLoadTarget(qaId, proxyAuthorization);
+		QaCase qaCase = qaCaseRepository.findById(qaId)
+			.orElseThrow(() -> new CustomException(QaErrorCode.QA_NOT_FOUND));
+
+		return start(target.teamId(), qaCase, null, List.of(target), profile);
+	}
+
+	public QaLoadRunResponse startForTag(Long teamId, String tag, QaLoadRunRequest request, String proxyAuthorization) {
+		QaLoadRunner.LoadProfile profile = toProfile(request);
+		List<Long> qaIds = qaCaseRepository.findIdsInLatestSnapshotByTag(
+			teamId, tag, PageRequest.of(0, properties.getMaxTargets()));
+
+		List<QaLoadTarget> targets = new ArrayList<>();
+		for (Long qaId : qaIds) {
+			try {
+				targets.add(qaService.prepareLoadTarget(qaId, proxyAuthorization));
+			} catch (CustomException e) {
+				// 필수 파라미터 누락 등으로 실행할 수 없는 케이스는 제외
+				log.warn("QA_LOAD: 대상 제외 qaId={}, reason={}", qaId, e.getMessage());
+			}
+		}
+		if (targets.isEmpty()) {
+			throw new CustomException(QaErrorCode.LOAD_RUN_TARGET_NOT_FOUND);
+		}
+
+		return start(teamId, null, tag, targets, profile);
+	}
+
+	@Transactional(readOnly = true)
+	public QaLoadRunResponse getRun(Long runId) {
+		QaLoadRun run = qaLoadRunRepository.findById(runId)
+			.orElseThrow(() -> new CustomException(QaErrorCode.LOAD_RUN_NOT_FOUND));
+		return toResponse(run);
+	}
+
+	@Transactional(readOnly = true)
+	public List<QaLoadRunResponse> getRuns(Long qaId) {
+		return qaLoadRunRepository.findTop20ByQaCaseIdOrderByIdDesc(qaId).stream()
+			.map(this::toResponse)
+			.toList();
+	}
+
+	private QaLoadRunResponse start(Long teamId, QaCase qaCase, String tag, List<QaLoadTarget> targets,
+		QaLoadRunner.LoadProfile profile) {
+		Team team = teamRepository.findById(teamId)
+			.orElseThrow(() -> new CustomException(TeamErrorCode.TEAM_NOT_FOUND));
+
+		// 잠금은 실행이 끝나면 execute()에서 풀고, 실행 인스턴스가 죽으면 TTL로 만료
+		Optional<RedisLockUtil.Lock> lock = redisLockUtil.tryLock(TEAM_LOCK_PREFIX + teamId,
+			profile.duration().plus(properties.getLockTtlMargin()));
+		if (lock.isEmpty()) {
+			throw new CustomException(QaErrorCode.LOAD_RUN_IN_PROGRESS);
+		}
+
+		QaLoadRun run;
+		try {
+			run = qaLoadRunRepository.save(QaLoadRun.create(team, qaCase, tag, targets.size(), profile.mode(),
+				profile.targetRps(), profile.concurrency(), (int)profile.duration().toSeconds()));
+			Long runId = run.getId();
+			CompletableFuture.runAsync(() -> execute(runId, lock.get(), targets, profile), qaBulkExecutor);
+		} catch (RuntimeException e) {
+			unlock(lock.get());
+			throw e;
+		}
+
+		log.info("QA_LOAD: 시작 runId={}, teamId={}, targets={}, mode={}, rps={}, concurrency={}, duration={}s",
+			run.getId(), teamId, targets.size(), profile.mode(), profile.targetRps(), profile.concurrency(),
+			profile.duration().toSeconds());
+		return QaLoadRunResponse.of(run, Map.of());
+	}
+
+	private void execute(Long runId, RedisLockUtil.Lock lock, List<QaLoadTarget> targets,
+		QaLoadRunner.LoadProfile profile) {
+		try {
+			QaLoadRunner.LoadResult result = qaLoadRunner.run(targets, profile);
+
+			QaLoadRun run = qaLoadRunRepository.findById(runId)
+				.orElseThrow(() -> new CustomException(QaErrorCode.LOAD_RUN_NOT_FOUND));
+			run.complete(
+				result.totalRequests(),
+				result.errorCount(),
+				result.throughputRps(),
+				result.histogram().meanMillis(),
+				result.histogram().percentileMillis(50),
+				result.histogram().percentileMillis(90),
+				result.histogram().percentileMillis(99),
+				result.histogram().maxMillis(),
+				objectMapper.writeValueAsString(result.statusCounts()));
+			qaLoadRunRepository.save(run);
+
+			log.info("QA_LOAD: 완료 runId={}, requests={}, errors={}, rps={}, p50={}ms, p99={}ms",
+				runId, result.totalRequests(), result.errorCount(), String.format("%.1f", result.throughputRps()),
+				run.getP50Ms(), run.getP99Ms());
+		} catch (Exception e) {
+			log.error("QA_LOAD: 실패 runId={}", runId, e);
+			qaLoadRunRepository.findById(runId).ifPresent(run -> {
+				run.fail(e.getMessage());
+				qaLoadRunRepository.save(run);
+			});
+		} finally {
+			unlock(lock);
+		}
+	}
+
+	private void unlock(RedisLockUtil.Lock lock) {
+		try {
+			redisLockUtil.unlock(lock);
+		} catch (RuntimeException e) {
+			// 풀지 못한 잠금은 TTL이 지나면 만료됨
+			log.warn("QA_LOAD: 팀 잠금 해제 실패 key={}, error={}", lock.key(), e.getMessage());
+		}
+	}
+
+	private QaLoadRunner.LoadProfile toProfile(QaLoadRunRequest request) {
+		Integer targetRps = request.targetRps();
+		LoadMode mode = request.mode() != null ? request.mode() : (targetRps != null ? LoadMode.RPS : LoadMode.CONCURRENCY);
+		int concurrency = request.concurrency() != null ? request.concurrency() : DEFAULT_CONCURRENCY;
+		int durationSeconds = request.durationSeconds() != null ? request.durationSeconds() : DEFAULT_DURATION_SECONDS;
+
+		boolean invalid = concurrency < 1 || concurrency > properties.getMaxConcurrency()
+			|| durationSeconds < 1 || durationSeconds > properties.getMaxDurationSeconds()
+			|| (mode == LoadMode.RPS && (targetRps == null || targetRps < 1 || targetRps > properties.getMaxRps()));
+		if (invalid) {
+			throw new CustomException(QaErrorCode.LOAD_RUN_INVALID_PROFILE);
+		}
+
+		return new QaLoadRunner.LoadProfile(mode, mode == LoadMode.RPS ? targetRps : null, concurrency,
+			Duration.ofSeconds(durationSeconds));
+	}
+
+	private QaLoadRunResponse toResponse(QaLoadRun run) {
+		Map<String, Long> statusCounts = Map.of();
+		if (run.getStatusCounts() != null) {
+			try {
+				statusCounts = objectMapper.readValue(run.getStatusCounts(), new TypeReference<>() {});
+			} catch (JsonProcessingException e) {
+				throw new CustomException(QaErrorCode.QA_JSON_PROCESSING_ERROR);
+			}
+		}
+		return QaLoadRunResponse.of(run, statusCounts);
+	}
+}
@@ -0,0 +1,72 @@
+package pingpong.backend.domain.qa.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.qa.config.QaRetentionProperties;
+import pingpong.backend.domain.qa.repository.QaExecuteResultRepository;
+import pingpong.backend.global.redis.RedisLockUtil;
+
+/**
+ * QA 실행 결과 보존 정책 적용
+ * 케이스별 최신 keepLatest건과 최근 keepDays일 결과만 원본으로 남기고 나머지는 일별 집계로 롤업
+ * 모든 인스턴스에서 같은 시각에 실행되므로 잠금을 잡은 한 곳에서만 롤업
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QaRetentionScheduler {
+
+	private static final String LOCK_NAME = "qa:retention";
+
+	private final QaExecuteHistoryService qaExecuteHistoryService;
+	private final QaExecuteResultRepository qaExecuteResultRepository;
+	private final QaRetentionProperties properties;
+	private final RedisLockUtil redisLockUtil;
+
+	@Scheduled(cron = "${qa.retention.cron:0 30 3 * * *}")
+	public void rollUpExpiredResults() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		Optional<RedisLockUtil.Lock> lock = redisLockUtil.tryLock(LOCK_NAME, properties.getLockTtl());
+		if (lock.isEmpty()) {
+			log.info("QA_RETENTION: 다른 인스턴스에서 롤업 중이라 건너뜀");
+			return;
+		}
+		try {
+			rollUp();
+		} finally {
+			try {
+				redisLockUtil.unlock(lock.get());
+			} catch (RuntimeException e) {
+				// 풀지 못한 잠금은 TTL이 지나면 만료됨
+				log.warn("QA_RETENTION: 잠금 해제 실패 error={}", e.getMessage());
+			}
+		}
+	}
+
+	private void rollUp() {
+		LocalDateTime cutoff = qaExecuteHistoryService.retentionCutoff();
+		List<Long> qaCaseIds = qaExecuteResultRepository.findQaCaseIdsExecutedBefore(cutoff);
+
+		long startMs = System.currentTimeMillis();
+		int deleted = 0;
+		for (Long qaCaseId : qaCaseIds) {
+			try {
+				// 케이스 단위 트랜잭션: 한 케이스 실패가 전체 롤업을 되돌리지 않도록
+				deleted += qaExecuteHistoryService.rollUp(qaCaseId, cutoff);
+			} catch (Exception e) {
+				log.warn("QA_RETENTION: 롤업 실패 qaCaseId={}, error={}", qaCaseId, e.getMessage());
+			}
+		}
+		log.info("QA_RETENTION: cutoff={}, cases={}, rolledUp={}, elapsed={}ms",
+			cutoff, qaCaseIds.size(), deleted, System.currentTimeMillis() - startMs);
+	}
+}
@@ -2,10 +2,15 @@ package pingpong.backend.domain.qa.service;
 
 import static java.util.stream.Collectors.toMap;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +19,7 @@ import java.util.stream.Collectors;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
@@ -22,6 +28,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
 import lombok.extern.slf4j.Slf4j;
 import pingpong.backend.domain.qa.QaCase;
 import pingpong.backend.domain.qa.QaErrorCode;
@@ -33,10 +40,10 @@ import pingpong.backend.domain.qa.dto.EndpointQaTagGroupResponse;
 import pingpong.backend.domain.qa.dto.EndpointRequestBodyDto;
 import pingpong.backend.domain.qa.dto.EndpointResponseDto;
 import pingpong.backend.domain.qa.dto.EndpointSecurityDto;
-import pingpong.backend.domain.qa.dto.QaBulkExecuteResponse;
 import pingpong.backend.domain.qa.dto.QaCaseDetailDto;
 import pingpong.backend.domain.qa.dto.QaCaseSummaryDto;
 import pingpong.backend.domain.qa.dto.QaExecuteResultDto;
+import pingpong.backend.domain.qa.dto.QaLoadTarget;
 import pingpong.backend.domain.qa.dto.QaPathVariableRequest;
 import pingpong.backend.domain.qa.dto.QaPathVariableResponse;
 import pingpong.backend.domain.qa.dto.QaReRunRequest;
@@ -51,10 +58,13 @@ import pingpong.backend.domain.swaggerdiff.dto.EndpointParameterDto;
 import pingpong.backend.domain.qa.repository.QaCaseRepository;
 import pingpong.backend.domain.qa.repository.QaExecuteResultRepository;
 import pingpong.backend.domain.qa.repository.QaParamDefaultRepository;
+import pingpong.backend.domain.qa.util.ResponseBodyCodec;
 import pingpong.backend.domain.swagger.Endpoint;
 import pingpong.backend.domain.swagger.SwaggerErrorCode;
 import pingpong.backend.domain.swagger.SwaggerParameter;
+import pingpong.backend.domain.swagger.client.ApiExecuteClient;
 import pingpong.backend.domain.swagger.dto.EndpointAggregate;
+import pingpong.backend.domain.swagger.dto.EndpointExecutionPlan;
 import pingpong.backend.domain.swagger.dto.request.ApiExecuteRequest;
 import pingpong.backend.domain.swagger.dto.response.ApiExecuteResponse;
 import pingpong.backend.domain.swagger.repository.EndpointRepository;
@@ -64,6 +74,7 @@ import pingpong.backend.domain.swagger.repository.SwaggerRequestRepository;
 import pingpong.backend.domain.swagger.repository.SwaggerResponseRepository;
 import pingpong.backend.domain.swagger.repository.SwaggerSnapshotRepository;
 import pingpong.backend.domain.swagger.service.ApiExecuteService;
+import pingpong.backend.domain.swagger.service.EndpointExecutionPlanCache;
 import pingpong.backend.domain.team.Team;
 import pingpong.backend.domain.team.TeamErrorCode;
 import pingpong.backend.domain.team.repository.TeamRepository;
@@ -89,6 +100,8 @@ public class QaService {
 	private final QaSyncHistoryRepository qaSyncHistoryRepository;
 	private final QaParamDefaultRepository qaParamDefaultRepository;
 	private final TeamRepository teamRepository;
+	private final ResponseBodyCodec responseBodyCodec;
+	private final EndpointExecutionPlanCache executionPlanCache;
 
 
 	public QaService(QaCaseRepository qaCaseRepository,
@@ -98,7 +111,8 @@ public class QaService {
 		SwaggerParameterRepository swaggerParameterRepository, SwaggerRequestRepository swaggerRequestRepository,
 		SwaggerResponseRepository swaggerResponseRepository, LlmQaService llmQaService,
 		QaSyncHistoryRepository qaSyncHistoryRepository, QaParamDefaultRepository qaParamDefaultRepository,
-		TeamRepository teamRepository) {
+		TeamRepository teamRepository, ResponseBodyCodec responseBodyCodec,
+		EndpointExecutionPlanCache executionPlanCache) {
 		this.qaCaseRepository = qaCaseRepository;
 		this.qaExecuteResultRepository = qaExecuteResultRepository;
 		this.apiExecuteService = apiExecuteService;
@@ -113,6 +127,8 @@ public class QaService {
 		this.qaSyncHistoryRepository=qaSyncHistoryRepository;
 		this.qaParamDefaultRepository = qaParamDefaultRepository;
 		this.teamRepository = teamRepository;
+		this.responseBodyCodec = responseBodyCodec;
+		this.executionPlanCache = executionPlanCache;
 	}
 
 	public List<QaCaseSummaryDto> getQaCasesByEndpointId(Long endpointId) {
@@ -175,7 +191,7 @@ public class QaService {
 				r.getHttpStatus(),
 				r.getIsSuccess(),
 				parseJsonToMap(r.getResponseHeaders()),
-				parseJsonToNode(r.getResponseBody()),
+				readBodyNode(r),
 				r.getExecutedAt(),
 				r.getDurationMs(),
 				qaCase.getExpectedStatusCode()
@@ -207,6 +223,61 @@ public class QaService {
 		Long teamId = endpoint.getSnapshot().getTeam().getId();
 		Map<String, String> paramDefaults = loadParamDefaults(teamId);
 
+		return generateQaCases(spec, paramDefaults, generationKey(teamId, spec));
+	}
+
+	/**
+	 * swagger 동기화용 QA 생성
+	 * 요청/응답 구조와 프롬프트 버전이 같은 이전 생성 결과가 있으면 LLM 호출 없이 복제
+	 * @return 기존 시나리오를 재사용했으면 true
+	 */
+	@Transactional
+	public boolean reuseOrCreateQaCases(Long endpointId) {
+		EndpointAggregate spec = collectData(endpointId);
+		Endpoint endpoint = spec.endpoint();
+		Long teamId = endpoint.getSnapshot().getTeam().getId();
+		Map<String, String> paramDefaults = loadParamDefaults(teamId);
+		String generationKey = generationKey(teamId, spec);
+
+		Long sourceEndpointId = qaCaseRepository.findLatestEndpointIdByGenerationKey(
+			generationKey, SourceType.AI_GENERATED, endpointId);
+		List<QaCase> sources = sourceEndpointId == null
+			? List.of()
+			: qaCaseRepository.findAllByEndpointIdAndGenerationKeyAndSourceType(
+				sourceEndpointId, generationKey, SourceType.AI_GENERATED);
+
+		if (sources.isEmpty()) {
+			generateQaCases(spec, paramDefaults, generationKey);
+			return false;
+		}
+
+		Map<String, String> pathParamSchemaTypes = loadPathParamSchemaTypes(endpointId);
+		List<QaCase> clones = sources.stream()
+			.sorted(Comparator.comparing(QaCase::getId))
+			.map(source -> {
+				// 팀 기본값이 그 사이 바뀌었을 수 있으므로 path variable 후처리는 다시 적용
+				Map<String, String> storedPathVars = parseStringMap(source.getPathVariables());
+				Map<String, String> pathVars = storedPathVars != null ? new HashMap<>(storedPathVars) : new HashMap<>();
+				boolean isNotFoundTest = source.getTestType() == TestType.NEGATIVE
+					&& source.getExpectedStatusCode() == 404;
+				if (!isNotFoundTest) {
+					applyPathVariableDefaults(pathVars, paramDefaults, pathParamSchemaTypes);
+				}
+				return QaCase.cloneOf(source, endpoint, serializeSafe(pathVars));
+			})
+			.toList();
+
+		qaCaseRepository.saveAll(clones);
+		log.info("QA-GEN: 구조 변경 없음, 기존 시나리오 {}개 재사용 (endpointId={}, sourceEndpointId={})",
+			clones.size(), endpointId, sourceEndpointId);
+		return true;
+	}
+
+	private QaScenarioResponse generateQaCases(EndpointAggregate spec, Map<String, String> paramDefaults,
+		String generationKey) {
+		Long endpointId = spec.endpoint().getId();
+		Endpoint endpoint = spec.endpoint();
+
 		// 2. LlmQaService를 통해 시나리오 생성 요청 (Step 1 & Step 2 포함)
 		LlmQaService.QaOutcome outcome = llmQaService.generateScenarios(spec, paramDefaults);
 
@@ -228,7 +299,7 @@ public class QaService {
 			result.scenarios().size(), endpointId);
 
 		// 5. DB 저장 로직 실행 (POSITIVE 케이스 후처리 포함)
-		saveScenariosToDb(endpoint, result, paramDefaults);
+		saveScenariosToDb(endpoint, result, paramDefaults, generationKey);
 
 		log.info("QA-GEN: 성공! {}개의 시나리오가 DB에 저장되었습니다. (endpointId={})",
 			result.scenarios().size(), endpointId);
@@ -292,7 +363,7 @@ public class QaService {
 	 * POSITIVE 케이스의 path variable은 사용자 기본값으로 후처리
 	 */
 	private void saveScenariosToDb(Endpoint endpoint, QaScenarioResponse result,
-		Map<String, String> paramDefaults) {
+		Map<String, String> paramDefaults, String generationKey) {
 
 		// path 타입 파라미터의 스키마 타입 매핑 (후처리 fallback용)
 		Map<String, String> pathParamSchemaTypes = loadPathParamSchemaTypes(endpoint.getId());
@@ -313,7 +384,7 @@ public class QaService {
 					applyPathVariableDefaults(pathVars, paramDefaults, pathParamSchemaTypes);
 				}
 
-				return QaCase.create(
+				QaCase qaCase = QaCase.create(
 					endpoint,
 					scenario.scenarioName(),
 					scenario.testType(),
@@ -324,6 +395,8 @@ public class QaService {
 					bodyNode,
 					SourceType.AI_GENERATED,
 					expected.statusCode());
+				qaCase.assignGenerationKey(generationKey);
+				return qaCase;
 			})
 			.toList();
 
@@ -364,9 +437,7 @@ public class QaService {
 	}
 
 	private Map<String, String> loadPathParamSchemaTypes(Long endpointId) {
-		return swaggerParameterRepository.findByEndpointId(endpointId).stream()
-			.filter(p -> "path".equals(p.getInType()))
-			.collect(toMap(SwaggerParameter::getName, p -> extractSchemaType(p.getSchemaJson()), (a, b) -> a));
+		return executionPlanCache.get(endpointId).pathParamSchemaTypes();
 	}
 
 	private String extractSchemaType(String schemaJson) {
@@ -380,6 +451,42 @@ public class QaService {
 	}
 
 
+	/**
+	 * 시나리오 재사용 키
+	 * 프롬프트에 들어가는 구조 정보(request/response hash, 파라미터, 보안, 요청 스키마)와 프롬프트 버전으로 구성
+	 * summary/description만 바뀐 경우에는 키가 같게 유지됨, 팀 단위로만 재사용
+	 */
+	private String generationKey(Long teamId, EndpointAggregate spec) {
+		Endpoint endpoint = spec.endpoint();
+		StringBuilder sb = new StringBuilder()
+			.append(LlmQaService.PROMPT_VERSION).append('|')
+			.append(teamId).append('|')
+			.append(endpoint.getMethod()).append('|')
+			.append(endpoint.getPath()).append('|')
+			.append(endpoint.getRequestSchemaHash()).append('|')
+			.append(endpoint.getResponseSchemaHash());
+
+		spec.parameters().stream()
+			.map(p -> p.getInType() + ":" + p.getName() + ":" + p.getRequired() + ":" + p.getSchemaHash())
+			.sorted()
+			.forEach(p -> sb.append("|p=").append(p));
+		spec.requests().stream()
+			.map(r -> r.getMediaType() + ":" + r.getSchemaHash())
+			.sorted()
+			.forEach(r -> sb.append("|r=").append(r));
+		spec.endpointSecuritys().stream()
+			.map(s -> s.getType() + ":" + s.getHeaderName())
+			.sorted()
+			.forEach(s -> sb.append("|s=").append(s));
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	private EndpointAggregate collectData(Long endpointId) {
 		//관련 정보 수집
 		var endpoint=endpointRepository.findById(endpointId)
@@ -413,20 +520,21 @@ public class QaService {
 		return executeQaCase(qaId, proxyAuthorization);
 	}
 
-	public List<QaExecuteResultDto> getQaExecuteResults(Long qaId) {
+	public List<QaExecuteResultDto> getQaExecuteResults(Long qaId, int page, int size) {
 		// 1. 해당 QA 케이스가 존재하는지 확인 (기대 상태 코드를 가져오기 위함)
 		QaCase qaCase = qaCaseRepository.findById(qaId)
 			.orElseThrow(() -> new CustomException(QaErrorCode.QA_NOT_FOUND));
 
-		// 2. 실행 내역 조회
-		List<QaExecuteResult> results = qaExecuteResultRepository.findByQaCaseIdOrderByExecutedAtDesc(qaId);
+		// 2. 실행 내역 조회 (페이지 단위, 오래된 이력은 일별 집계로 롤업됨)
+		List<QaExecuteResult> results = qaExecuteResultRepository.findByQaCaseIdOrderByExecutedAtDesc(
+			qaId, PageRequest.of(page, size));
 
 		// 3. 엔티티 리스트를 DTO 리스트로 변환
 		return results.stream()
 			.map(result -> QaExecuteResultDto.fromEntity(
 				result,
 				parseJsonToMap(result.getResponseHeaders()), // JSON 문자열 -> Map
-				parseJsonToNode(result.getResponseBody()),   // JSON 문자열 -> JsonNode
+				readBodyNode(result),   // 압축 본문 복원 -> JsonNode
 				qaCase.getExpectedStatusCode()              // QA 케이스의 기대 코드
 			))
 			.toList();
@@ -439,25 +547,11 @@ public class QaService {
 		QaCase qa = qaCaseRepository.findById(qaId)
 			.orElseThrow(() -> new CustomException(QaErrorCode.QA_NOT_FOUND));
 
+		// 팀 기본값, path 파라미터 타입 등은 캐시된 실행 계획에서 사용
 		Long endpointId = qa.getEndpoint().getId();
-		Long teamId = qa.getEndpoint().getSnapshot().getTeam().getId();
-
-		// path variable 후처리: NEGATIVE 404 테스트만 제외하고 모든 케이스에 적용
-		Map<String, String> pathVars = parseStringMap(qa.getPathVariables());
-		boolean isNotFoundTest = qa.getTestType() == TestType.NEGATIVE && qa.getExpectedStatusCode() == 404;
-		if (pathVars != null && !isNotFoundTest) {
-			pathVars = new HashMap<>(pathVars);
-			Map<String, String> paramDefaults = loadParamDefaults(teamId);
-			Map<String, String> schemaTypes = loadPathParamSchemaTypes(endpointId);
-			applyPathVariableDefaults(pathVars, paramDefaults, schemaTypes);
-		}
-
-		ApiExecuteRequest request = new ApiExecuteRequest(
-			pathVars,
-			parseStringMap(qa.getQueryParams()),
-			qa.getHeaders(),
-			qa.getBody()
-		);
+		EndpointExecutionPlan plan = executionPlanCache.get(endpointId);
+		Long teamId = plan.teamId();
+		ApiExecuteRequest request = buildExecuteRequest(qa, plan);
 
 		long startTime = System.currentTimeMillis();
 		int actualStatus;
@@ -489,7 +583,8 @@ public class QaService {
 
 		// 4. 결과 저장
 		String bodyJson = serializeToJson(responseBody);
-		QaExecuteResult result = QaExecuteResult.create(qa, actualStatus, isSuccess, responseHeadersJson, bodyJson, durationMs);
+		QaExecuteResult result = QaExecuteResult.create(qa, actualStatus, isSuccess, responseHeadersJson,
+			responseBodyCodec.encode(bodyJson), durationMs);
 		qaExecuteResultRepository.save(result);
 
 		return new QaExecuteResultDto(
@@ -497,7 +592,7 @@ public class QaService {
 				result.getHttpStatus(),
 				result.getIsSuccess(),
 				parseJsonToMap(result.getResponseHeaders()),
-				parseJsonToNode(result.getResponseBody()),
+				parseJsonToNode(bodyJson),
 				result.getExecutedAt(),
 				result.getDurationMs(),
 				expectedStatus
@@ -506,43 +601,36 @@ public class QaService {
 	}
 
 	/**
-	 * qa를 한 번에 여러개 실행
-	 * @param qaIds
-	 * @param proxyAuthorization
-	 * @return
+	 * QA 케이스를 실행 결과 저장 없이 반복 전송할 수 있는 형태로 준비 (부하 테스트용)
 	 */
-	public QaBulkExecuteResponse executeBulkQaCases(List<Long> qaIds, String proxyAuthorization) {
-		List<QaExecuteResultDto> results = new ArrayList<>();
-		int successCount = 0;
-
-		for (Long qaId : qaIds) {
-			try {
-				// 기존 단일 실행 로직 재활용
-				QaExecuteResultDto result = executeQaCase(qaId, proxyAuthorization);
-				results.add(result);
-
-				if (result.isSuccess()) {
-					successCount++;
-				}
-			} catch (Exception e) {
-				// 특정 ID 실행 중 에러가 나도 로그만 남기고 다음 ID로 넘어감
-				log.error("Bulk 실행 중 오류 발생 - qaId: {}, error: {}", qaId, e.getMessage());
-				// 실패한 결과도 리스트에 추가 (에러 메시지 포함)
-				results.add(createFailedResultDto(qaId, e.getMessage()));
-			}
-		}
+	public QaLoadTarget prepareLoadTarget(Long qaId, String proxyAuthorization) {
+		QaCase qa = qaCaseRepository.findById(qaId)
+			.orElseThrow(() -> new CustomException(QaErrorCode.QA_NOT_FOUND));
 
-		return new QaBulkExecuteResponse(
-			qaIds.size(),
-			successCount,
-			qaIds.size() - successCount,
-			results
-		);
+		EndpointExecutionPlan plan = executionPlanCache.get(qa.getEndpoint().getId());
+		ApiExecuteClient.PreparedRequest prepared = apiExecuteService.prepare(
+			plan.endpointId(), plan.teamId(), buildExecuteRequest(qa, plan), proxyAuthorization);
+		return new QaLoadTarget(qa.getId(), plan.teamId(), prepared, qa.getExpectedStatusCode());
 	}
 
-	// 실패 시 응답을 위한 간단한 헬퍼 메서드
-	private QaExecuteResultDto createFailedResultDto(Long qaId, String message) {
-		return new QaExecuteResultDto(null, 500, false, null, message, LocalDateTime.now(), 0L, 0);
+	/**
+	 * QA 케이스 저장 값 -> 실행 요청
+	 * path variable 후처리: NEGATIVE 404 테스트만 제외하고 모든 케이스에 적용
+	 */
+	private ApiExecuteRequest buildExecuteRequest(QaCase qa, EndpointExecutionPlan plan) {
+		Map<String, String> pathVars = parseStringMap(qa.getPathVariables());
+		boolean isNotFoundTest = qa.getTestType() == TestType.NEGATIVE && qa.getExpectedStatusCode() == 404;
+		if (pathVars != null && !isNotFoundTest) {
+			pathVars = new HashMap<>(pathVars);
+			applyPathVariableDefaults(pathVars, plan.paramDefaults(), plan.pathParamSchemaTypes());
+		}
+
+		return new ApiExecuteRequest(
+			pathVars,
+			parseStringMap(qa.getQueryParams()),
+			qa.getHeaders(),
+			qa.getBody()
+		);
 	}
 
 	public List<QaTeamFailureResponse> getTeamFailures(Long teamId) {
@@ -552,35 +640,32 @@ public class QaService {
 				if (endpoints.isEmpty()) return Collections.<QaTeamFailureResponse>emptyList();
 
 				List<Long> endpointIds = endpoints.stream().map(Endpoint::getId).toList();
-				List<QaCase> allCases = qaCaseRepository.findAllByEndpointIdIn(endpointIds);
-
-				return allCases.stream()
-					.flatMap(qa -> qaExecuteResultRepository
-						.findTopByQaCaseIdOrderByExecutedAtDesc(qa.getId())
-						.filter(result -> Boolean.FALSE.equals(result.getIsSuccess()))
-						.map(result -> {
-							Endpoint ep = qa.getEndpoint();
-							return new QaTeamFailureResponse(
-								qa.getId(),
-								ep.getId(),
-								ep.getPath(),
-								ep.getMethod() != null ? ep.getMethod().name() : null,
-								ep.getTag(),
-								qa.getDescription(),
-								parseStringMap(qa.getPathVariables()),
-								parseStringMap(qa.getQueryParams()),
-								qa.getHeaders(),
-								qa.getBody(),
-								new QaTeamFailureResponse.LatestResult(
-									result.getHttpStatus(),
-									parseBody(result.getResponseBody()),
-									result.getDurationMs(),
-									result.getExecutedAt()
-								)
-							);
-						})
-						.stream()
-					)
+
+				// 케이스 수와 무관하게 최신 실행 결과를 한 번의 쿼리로 조회
+				return qaExecuteResultRepository.findLatestByEndpointIdInAndIsSuccess(endpointIds, Boolean.FALSE)
+					.stream()
+					.map(result -> {
+						QaCase qa = result.getQaCase();
+						Endpoint ep = qa.getEndpoint();
+						return new QaTeamFailureResponse(
+							qa.getId(),
+							ep.getId(),
+							ep.getPath(),
+							ep.getMethod() != null ? ep.getMethod().name() : null,
+							ep.getTag(),
+							qa.getDescription(),
+							parseStringMap(qa.getPathVariables()),
+							parseStringMap(qa.getQueryParams()),
+							qa.getHeaders(),
+							qa.getBody(),
+							new QaTeamFailureResponse.LatestResult(
+								result.getHttpStatus(),
+								parseBody(responseBodyCodec.decode(result)),
+								result.getDurationMs(),
+								result.getExecutedAt()
+							)
+						);
+					})
 					.toList();
 			})
 			.orElse(Collections.emptyList());
@@ -664,6 +749,7 @@ public class QaService {
 			}
 		}
 
+		executionPlanCache.invalidateTeam(teamId);
 		log.info("QA_PARAM_SYNC: teamId={} path variable 기본값 동기화 완료", teamId);
 	}
 
@@ -704,6 +790,7 @@ public class QaService {
 			QaParamDefault entity = qaParamDefaultRepository.findById(param.id())
 				.orElseThrow(() -> new CustomException(QaErrorCode.QA_NOT_FOUND));
 			entity.updateValue(param.value());
+			executionPlanCache.invalidateTeam(entity.getTeam().getId());
 		}
 		log.info("QA_PARAM: {}개의 path variable 기본값 수정 완료", params.size());
 	}
@@ -722,6 +809,18 @@ public class QaService {
 		}
 	}
 
+	/**
+	 * 저장된 응답 본문 복원 후 JsonNode 변환
+	 * 최대 저장 크기를 넘어 잘린 본문은 JSON으로 파싱되지 않으므로 텍스트 그대로 반환
+	 */
+	private JsonNode readBodyNode(QaExecuteResult result) {
+		String body = responseBodyCodec.decode(result);
+		if (Boolean.TRUE.equals(result.getResponseBodyTruncated())) {
+			return body != null ? TextNode.valueOf(body) : null;
+		}
+		return parseJsonToNode(body);
+	}
+
 	private com.fasterxml.jackson.databind.JsonNode parseJsonToNode(String json) {
 		if (json == null || json.isBlank()) return null;
 		try {
@@ -37,12 +37,25 @@ public class QaSyncHistoryService {
 	 */
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void updateProgress(Long historyId, boolean isSuccess) {
-		QaSyncHistory history = qaSyncHistoryRepository.findById(historyId)
-			.orElseThrow(() -> new CustomException(QaErrorCode.SYNC_HISTORY_NOT_FOUND));
-		if (isSuccess) {
-			history.incrementSuccess();
+		updateProgress(historyId, isSuccess, false);
+	}
+
+	/**
+	 * reused: LLM 호출 없이 기존 시나리오를 복제해서 성공한 경우 (성공 수와 함께 증가)
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void updateProgress(Long historyId, boolean isSuccess, boolean reused) {
+		// 여러 스레드가 동시에 반영하므로 엔티티를 읽지 않고 DB에서 바로 증가
+		int updated;
+		if (!isSuccess) {
+			updated = qaSyncHistoryRepository.incrementFailCount(historyId);
+		} else if (reused) {
+			updated = qaSyncHistoryRepository.incrementReusedCount(historyId);
 		} else {
-			history.incrementFail();
+			updated = qaSyncHistoryRepository.incrementSuccessCount(historyId);
+		}
+		if (updated == 0) {
+			throw new CustomException(QaErrorCode.SYNC_HISTORY_NOT_FOUND);
 		}
 		// 메서드 종료 시 즉시 DB에 반영됨 (유저가 API 호출 시 숫자 올라가는 게 보임)
 	}
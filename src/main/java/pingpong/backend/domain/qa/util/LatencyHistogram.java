@@ -0,0 +1,83 @@
+package pingpong.backend.domain.qa.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HdrHistogram 방식의 log-linear 지연 시간 히스토그램 (마이크로초 단위, thread-safe)
+ * 2의 거듭제곱 구간마다 64개 하위 버킷으로 나눠서 값 크기와 상관없이 상대 오차 1.6% 이내로 기록
+ * 기록은 배열 인덱스 하나를 증가시키는 것뿐이라 부하 테스트 중에도 요청마다 기록 가능
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;          // 64
+	private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;             // 128us 까지는 1us 단위
+	private static final long MAX_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+	private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_TRACKABLE_MICROS) + 1);
+	private final AtomicLong totalCount = new AtomicLong();
+	private final AtomicLong totalMicros = new AtomicLong();
+	private final AtomicLong maxMicros = new AtomicLong();
+
+	public void recordNanos(long nanos) {
+		long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), MAX_TRACKABLE_MICROS);
+		counts.incrementAndGet(indexOf(micros));
+		totalCount.incrementAndGet();
+		totalMicros.addAndGet(micros);
+		maxMicros.accumulateAndGet(micros, Math::max);
+	}
+
+	public long count() {
+		return totalCount.get();
+	}
+
+	public double meanMillis() {
+		long count = totalCount.get();
+		return count == 0 ? 0 : totalMicros.get() / 1000.0 / count;
+	}
+
+	public double maxMillis() {
+		return maxMicros.get() / 1000.0;
+	}
+
+	/**
+	 * percentile (0~100) 지연 시간, 해당 버킷의 상한값을 반환 (실제 최댓값보다 커지지 않도록 보정)
+	 */
+	public double percentileMillis(double percentile) {
+		long count = totalCount.get();
+		if (count == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long)Math.ceil(percentile / 100.0 * count));
+		long cumulative = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			cumulative += counts.get(i);
+			if (cumulative >= target) {
+				return Math.min(highestValueAt(i), maxMicros.get()) / 1000.0;
+			}
+		}
+		return maxMillis();
+	}
+
+	static int indexOf(long micros) {
+		if (micros < LINEAR_LIMIT) {
+			return (int)micros;
+		}
+		int msb = 63 - Long.numberOfLeadingZeros(micros);          // >= 7
+		int shift = msb - SUB_BUCKET_BITS;
+		int subBucket = (int)(micros >>> shift) - SUB_BUCKET_COUNT;  // 0 ~ 63
+		return LINEAR_LIMIT + (msb - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long highestValueAt(int index) {
+		if (index < LINEAR_LIMIT) {
+			return index;
+		}
+		int offset = index - LINEAR_LIMIT;
+		int shift = offset / SUB_BUCKET_COUNT + 1;
+		long lowest = (long)(SUB_BUCKET_COUNT + offset % SUB_BUCKET_COUNT) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+}
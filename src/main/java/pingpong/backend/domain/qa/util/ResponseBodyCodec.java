@@ -0,0 +1,109 @@
+package pingpong.backend.domain.qa.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import pingpong.backend.domain.qa.QaErrorCode;
+import pingpong.backend.domain.qa.QaExecuteResult;
+import pingpong.backend.domain.qa.config.QaExecuteProperties;
+import pingpong.backend.global.exception.CustomException;
+
+/**
+ * QA 실행 응답 본문 저장 포맷
+ * 원본 byte 길이와 SHA-256을 기록하고, 최대 저장 크기를 넘는 본문은 잘라서 truncation marker를 붙인 뒤 gzip으로 저장
+ */
+@Component
+public class ResponseBodyCodec {
+
+	public static final String TRUNCATED_MARKER = "\n...[truncated: original %d bytes]";
+
+	private final QaExecuteProperties properties;
+
+	public ResponseBodyCodec(QaExecuteProperties properties) {
+		this.properties = properties;
+	}
+
+	public StoredBody encode(String body) {
+		if (body == null) {
+			return null;
+		}
+		byte[] original = body.getBytes(StandardCharsets.UTF_8);
+		int maxBytes = properties.getResponseBodyMaxBytes();
+
+		boolean truncated = maxBytes > 0 && original.length > maxBytes;
+		String stored = truncated
+			? new String(original, 0, utf8Boundary(original, maxBytes), StandardCharsets.UTF_8)
+				+ TRUNCATED_MARKER.formatted(original.length)
+			: body;
+
+		return new StoredBody(gzip(stored.getBytes(StandardCharsets.UTF_8)), original.length, sha256Hex(original), truncated);
+	}
+
+	/**
+	 * maxBytes 이하에서 UTF-8 문자 경계인 위치
+	 * 자르는 위치가 멀티바이트 문자(한글 등) 중간이면 그 문자의 첫 바이트 앞까지 물러남 (U+FFFD가 남지 않도록)
+	 */
+	static int utf8Boundary(byte[] utf8, int maxBytes) {
+		int end = maxBytes;
+		// 10xxxxxx: 앞 바이트에서 시작한 문자의 continuation byte
+		while (end > 0 && (utf8[end] & 0xC0) == 0x80) {
+			end--;
+		}
+		return end;
+	}
+
+	/**
+	 * 저장된 본문 복원 (압축 저장 이전 결과는 LONGTEXT 컬럼 그대로 반환)
+	 */
+	public String decode(QaExecuteResult result) {
+		if (result.getResponseBodyGzip() == null) {
+			return result.getResponseBody();
+		}
+		return new String(gunzip(result.getResponseBodyGzip()), StandardCharsets.UTF_8);
+	}
+
+	private byte[] gzip(byte[] raw) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, raw.length / 4));
+		try (OutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(raw);
+		} catch (IOException e) {
+			throw new CustomException(QaErrorCode.RESPONSE_BODY_COMPRESSION_FAILED);
+		}
+		return out.toByteArray();
+	}
+
+	private byte[] gunzip(byte[] compressed) {
+		try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			return gzip.readAllBytes();
+		} catch (IOException e) {
+			throw new CustomException(QaErrorCode.RESPONSE_BODY_COMPRESSION_FAILED);
+		}
+	}
+
+	private String sha256Hex(byte[] raw) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(raw));
+		} catch (NoSuchAlgorithmException e) {
+			throw new CustomException(QaErrorCode.QA_JSON_PROCESSING_ERROR);
+		}
+	}
+
+	/**
+	 * @param compressed gzip 압축된 (필요 시 잘린) 본문
+	 * @param originalSize 원본 byte 길이
+	 * @param sha256 원본 전체의 SHA-256
+	 * @param truncated 최대 저장 크기 초과로 잘렸는지 여부
+	 */
+	public record StoredBody(byte[] compressed, int originalSize, String sha256, boolean truncated) {}
+}
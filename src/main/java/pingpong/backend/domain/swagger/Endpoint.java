@@ -125,6 +125,45 @@ public class Endpoint {
 		this.changeType=ChangeType.MODIFIED;
 	}
 
+	/**
+	 * 이전 snapshot의 endpoint 행을 새 snapshot에서 그대로 공유할 수 있는지 여부
+	 * structureHash(path/method/parameter/request/response/security)와 화면에 노출되는 필드가 모두 같아야 함
+	 * 삭제 표시 행은 하위 요소가 없으므로 공유하지 않음
+	 * @param prev
+	 * @return
+	 */
+	public boolean isSameVersionAs(Endpoint prev) {
+		if (prev == null || prev.getChangeType() == ChangeType.DELETED) {
+			return false;
+		}
+		return Objects.equals(this.structureHash, prev.getStructureHash())
+			&& Objects.equals(this.requestSchemaHash, prev.getRequestSchemaHash())
+			&& Objects.equals(this.responseSchemaHash, prev.getResponseSchemaHash())
+			&& Objects.equals(this.summary, prev.getSummary())
+			&& Objects.equals(this.description, prev.getDescription())
+			&& Objects.equals(this.operationId, prev.getOperationId())
+			&& Objects.equals(this.tag, prev.getTag());
+	}
+
+	/**
+	 * 주어진 스냅샷 기준 변경 여부
+	 * isChanged / changeType은 이 행을 만든 스냅샷 기준 값이고,
+	 * 이후 스냅샷에 공유(snapshot_endpoint)된 경우 그 스냅샷에서는 변경 없음
+	 * @param snapshotId
+	 * @return
+	 */
+	public boolean isChangedIn(Long snapshotId) {
+		return isOwnedBy(snapshotId) && Boolean.TRUE.equals(this.isChanged);
+	}
+
+	public ChangeType changeTypeIn(Long snapshotId) {
+		return isOwnedBy(snapshotId) ? this.changeType : null;
+	}
+
+	private boolean isOwnedBy(Long snapshotId) {
+		return this.snapshot != null && Objects.equals(this.snapshot.getId(), snapshotId);
+	}
+
 	public void assignTag(String tag) {
 		this.tag = tag;
 	}
@@ -132,4 +171,12 @@ public class Endpoint {
 	public void updateStructureHash(String structureHash) {
 		this.structureHash = structureHash;
 	}
+
+	/**
+	 * JDBC 일괄 insert 후 생성된 id 반영 (EndpointBulkWriter 전용)
+	 * @param id
+	 */
+	public void assignGeneratedId(Long id) {
+		this.id = id;
+	}
 }
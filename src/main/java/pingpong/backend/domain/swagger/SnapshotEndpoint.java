@@ -0,0 +1,46 @@
+package pingpong.backend.domain.swagger;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이전 스냅샷의 endpoint를 새 스냅샷에서 그대로 참조하는 연결 (구조적 공유)
+ * 구조가 바뀌지 않은 endpoint는 행을 복사하지 않고 여기에만 기록하므로
+ * 스냅샷에 속한 endpoint = snapshot_id가 해당 스냅샷인 endpoint + 이 테이블로 참조하는 endpoint
+ * 공유된 endpoint는 해당 스냅샷 기준으로 항상 변경 없음 (Endpoint.isChangedIn)
+ * endpoint 행의 isChanged / changeType은 행을 만든 스냅샷 기준 값으로 유지 (이전 스냅샷의 변경 이력 보존)
+ * 저장은 EndpointBulkWriter에서 JDBC batch로 수행
+ */
+@Getter
+@Entity
+@Table(
+	name = "snapshot_endpoint",
+	uniqueConstraints = @UniqueConstraint(columnNames = {"snapshot_id", "endpoint_id"}),
+	indexes = @Index(name = "idx_snapshot_endpoint_endpoint", columnList = "endpoint_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SnapshotEndpoint {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "snapshot_id", nullable = false)
+	private SwaggerSnapshot snapshot;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "endpoint_id", nullable = false)
+	private Endpoint endpoint;
+}
@@ -13,6 +13,10 @@ public enum SwaggerErrorCode implements ApiErrorCode {
 	SWAGGER_CONNECTION_ERROR("SWAGGER500", "SWAGGER 연결에 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
 	JSON_PROCESSING_EXCEPTION("SWAGGER501", "JSON 파싱에 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
 	HASHING_EXCEPTION("SWAGGER502", "해싱 함수 처리 중 오류가 발생했어요.", HttpStatus.INTERNAL_SERVER_ERROR),
+	SNAPSHOT_SAVE_FAILED("SWAGGER504", "스냅샷 엔드포인트 저장 중 오류가 발생했어요.", HttpStatus.INTERNAL_SERVER_ERROR),
+	SPEC_COMPRESSION_FAILED("SWAGGER505", "swagger 원문 압축 처리 중 오류가 발생했어요.", HttpStatus.INTERNAL_SERVER_ERROR),
+	SPEC_TOO_LARGE("SWAGGER413", "swagger 문서가 허용 크기를 초과했어요.", HttpStatus.CONTENT_TOO_LARGE),
+	SYNC_IN_PROGRESS("SWAGGER409", "이미 swagger 동기화가 진행 중이에요. 잠시 후 다시 시도해 주세요.", HttpStatus.CONFLICT),
 
 	//endpoint
 	ENDPOINT_NOT_FOUND("ENDPOINT404", "해당 엔드포인트를 찾을 수 없어요.", HttpStatus.NOT_FOUND),
@@ -0,0 +1,76 @@
+package pingpong.backend.domain.swagger;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pingpong.backend.domain.team.Team;
+
+/**
+ * 팀별 swagger JSON 마지막 fetch 정보
+ * 조건부 요청(If-None-Match / If-Modified-Since)과 원문 해시 비교로 변경 없는 동기화를 빠르게 끝내기 위해 사용
+ * 최신 스냅샷과 같은 트랜잭션에서 갱신되므로 항상 최신 스냅샷의 원문을 가리킴
+ */
+@Getter
+@Entity
+@Table(name = "swagger_fetch_state")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SwaggerFetchState {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@OneToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "team_id", nullable = false, unique = true)
+	private Team team;
+
+	// validator를 받은 swagger JSON URL (팀 swagger 주소가 바뀌면 무효)
+	@Column(length = 2048)
+	private String sourceUrl;
+
+	@Column(length = 512)
+	private String etag;
+
+	@Column
+	private String lastModified;
+
+	// 응답 원문 바이트 SHA-256
+	@Column(length = 64)
+	private String rawHash;
+
+	@Column
+	private LocalDateTime checkedAt;
+
+	public static SwaggerFetchState create(Team team) {
+		SwaggerFetchState state = new SwaggerFetchState();
+		state.team = team;
+		return state;
+	}
+
+	public boolean isFor(String url) {
+		return sourceUrl != null && sourceUrl.equals(url);
+	}
+
+	public void recordFetch(String url, String etag, String lastModified, String rawHash) {
+		this.sourceUrl = url;
+		this.etag = etag;
+		this.lastModified = lastModified;
+		this.rawHash = rawHash;
+		this.checkedAt = LocalDateTime.now();
+	}
+
+	public void markNotModified() {
+		this.checkedAt = LocalDateTime.now();
+	}
+}
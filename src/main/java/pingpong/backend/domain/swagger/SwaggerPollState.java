@@ -0,0 +1,79 @@
+package pingpong.backend.domain.swagger;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pingpong.backend.domain.swagger.enums.PollOutcome;
+import pingpong.backend.domain.team.Team;
+
+/**
+ * 팀별 swagger 주기 동기화(polling) 상태
+ * 다음 실행 시각(nextRunAt)을 팀마다 따로 두어 실행 시점을 분산하고, 마지막 실행 결과를 기록
+ */
+@Getter
+@Entity
+@Table(name = "swagger_poll_state")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SwaggerPollState {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@OneToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "team_id", nullable = false, unique = true)
+	private Team team;
+
+	@Column(nullable = false)
+	private LocalDateTime nextRunAt;
+
+	@Column
+	private LocalDateTime lastRunAt;
+
+	@Column
+	private Long lastDurationMs;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private PollOutcome lastOutcome;
+
+	@Column(length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	public static SwaggerPollState create(Team team, LocalDateTime nextRunAt) {
+		SwaggerPollState state = new SwaggerPollState();
+		state.team = team;
+		state.nextRunAt = nextRunAt;
+		return state;
+	}
+
+	public boolean isDue(LocalDateTime now) {
+		return !nextRunAt.isAfter(now);
+	}
+
+	public void recordRun(LocalDateTime startedAt, long durationMs, PollOutcome outcome, String error,
+		LocalDateTime nextRunAt) {
+		this.lastRunAt = startedAt;
+		this.lastDurationMs = durationMs;
+		this.lastOutcome = outcome;
+		this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+			? error
+			: error.substring(0, MAX_ERROR_LENGTH);
+		this.nextRunAt = nextRunAt;
+	}
+}
@@ -9,7 +9,6 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -47,11 +46,20 @@ public class SwaggerSnapshot {
 	@Column(name="spec_hash")
 	private String specHash; //SHA-256
 
+	// 원문 바이트 SHA-256, swagger_spec_blob 키 (이전 버전 스냅샷은 null)
+	@Column(name="raw_hash", length = 64)
+	private String rawHash;
+
 	@Column
 	private int endpointCount;
 
-	@Lob
-	private String rawJson;
+	// 원문 JSON은 swagger_spec_blob에 rawHash 기준으로 저장 (SwaggerSpecStore)
 
+	/**
+	 * endpoint를 나눠 저장하므로 스냅샷을 먼저 저장하고 파싱이 끝난 뒤 개수를 채움
+	 */
+	public void updateEndpointCount(int endpointCount) {
+		this.endpointCount = endpointCount;
+	}
 
 }
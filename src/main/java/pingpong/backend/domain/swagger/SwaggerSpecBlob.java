@@ -0,0 +1,42 @@
+package pingpong.backend.domain.swagger;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * swagger 원문 JSON 저장소 (원문 바이트 해시 기준 content-addressed)
+ * 바이트까지 같은 원문만 한 행을 공유하므로 다른 팀의 원문(info, servers, 설명 등)이 섞이지 않음 (SwaggerSnapshot.rawHash로 조회)
+ * 원문은 gzip으로 압축해서 저장하며 압축/해제와 저장(INSERT IGNORE)은 SwaggerSpecStore에서만 처리, 엔티티는 테이블 정의/조회용
+ */
+@Getter
+@Entity
+@Table(name = "swagger_spec_blob")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SwaggerSpecBlob {
+
+	// SwaggerHashUtil.generateRawHash (원문 바이트 SHA-256 hex)
+	// 이전 버전에서 저장한 행은 spec hash(비구조 필드를 제외한 해시)가 키라서 컬럼 이름은 그대로 둠
+	@Id
+	@Column(name = "spec_hash", length = 64)
+	private String contentHash;
+
+	@Basic(fetch = FetchType.LAZY)
+	@Column(nullable = false, columnDefinition = "LONGBLOB")
+	private byte[] compressedJson;
+
+	// 압축 전 바이트 수
+	@Column(nullable = false)
+	private int rawSize;
+
+	@Column
+	private LocalDateTime createdAt;
+}
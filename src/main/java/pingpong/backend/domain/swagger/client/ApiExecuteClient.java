@@ -26,12 +26,29 @@ public class ApiExecuteClient {
 		this.restTemplate = restTemplate;
 	}
 
+	/**
+	 * 실제 요청 직전 형태 (URL + query, 메서드, 헤더/바디)
+	 * 부하 테스트처럼 같은 요청을 반복 전송할 때 한 번만 만들어서 재사용
+	 */
+	public record PreparedRequest(HttpMethod method, String url, HttpEntity<Object> entity) {
+	}
+
 	public ResponseEntity<String> execute(
 		String baseUrl,
 		CrudMethod crudMethod,
 		Map<String, String> queryParams,
 		Map<String, String> requestHeaders,
 		Object body
+	) {
+		return execute(prepare(baseUrl, crudMethod, queryParams, requestHeaders, body));
+	}
+
+	public PreparedRequest prepare(
+		String baseUrl,
+		CrudMethod crudMethod,
+		Map<String, String> queryParams,
+		Map<String, String> requestHeaders,
+		Object body
 	) {
 		HttpMethod httpMethod = toHttpMethod(crudMethod);
 
@@ -46,12 +63,18 @@ public class ApiExecuteClient {
 			requestHeaders.forEach(headers::add);
 		}
 
-		HttpEntity<Object> entity = new HttpEntity<>(body, headers);
+		return new PreparedRequest(httpMethod, url, new HttpEntity<>(body, headers));
+	}
+
+	public ResponseEntity<String> execute(PreparedRequest request) {
+		HttpMethod httpMethod = request.method();
+		String url = request.url();
 
-		log.info("[ApiExecute] → {} {} | headers={} | body={}", httpMethod, url, requestHeaders, body);
+		log.info("[ApiExecute] → {} {} | headers={} | body={}",
+			httpMethod, url, request.entity().getHeaders().toSingleValueMap(), request.entity().getBody());
 		long startMs = System.currentTimeMillis();
 		try {
-			ResponseEntity<String> response = restTemplate.exchange(url, httpMethod, entity, String.class);
+			ResponseEntity<String> response = restTemplate.exchange(url, httpMethod, request.entity(), String.class);
 			long elapsedMs = System.currentTimeMillis() - startMs;
 			log.info("[ApiExecute] ← {} {} | status={} | elapsed={}ms | headers={} | body={}",
 				httpMethod, url,
@@ -68,6 +91,17 @@ public class ApiExecuteClient {
 		}
 	}
 
+	/**
+	 * 요청/응답 로그 없이 전송 (부하 테스트용, 요청마다 본문을 로깅하면 로그가 병목이 됨)
+	 */
+	public ResponseEntity<String> executeQuietly(PreparedRequest request) {
+		try {
+			return restTemplate.exchange(request.url(), request.method(), request.entity(), String.class);
+		} catch (Exception e) {
+			throw new CustomException(SwaggerErrorCode.API_EXECUTE_ERROR);
+		}
+	}
+
 	private HttpMethod toHttpMethod(CrudMethod crudMethod) {
 		return switch (crudMethod) {
 			case GET -> HttpMethod.GET;
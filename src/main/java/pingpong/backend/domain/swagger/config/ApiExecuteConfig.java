@@ -1,8 +1,8 @@
 package pingpong.backend.domain.swagger.config;
 
 import java.net.http.HttpClient;
-import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,16 +12,16 @@ import org.springframework.lang.NonNull;
 import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
+import pingpong.backend.global.config.HttpClientProperties;
+
 @Configuration
 public class ApiExecuteConfig {
 
 	@Bean
-	public RestTemplate apiExecuteRestTemplate(RestTemplateBuilder builder) {
-		HttpClient httpClient = HttpClient.newBuilder()
-			.connectTimeout(Duration.ofSeconds(10))
-			.build();
-		JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
-		factory.setReadTimeout(Duration.ofSeconds(30));
+	public RestTemplate apiExecuteRestTemplate(RestTemplateBuilder builder,
+		@Qualifier("pooledHttpClient") HttpClient pooledHttpClient, HttpClientProperties properties) {
+		JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(pooledHttpClient);
+		factory.setReadTimeout(properties.getApiExecuteReadTimeout());
 		return builder
 			.requestFactory(() -> factory)
 			.errorHandler(new DefaultResponseErrorHandler() {
@@ -0,0 +1,41 @@
+package pingpong.backend.domain.swagger.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swagger.polling")
+public class SwaggerPollingProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * 팀별 동기화 주기 (이전 실행이 끝난 시각 기준)
+	 */
+	private Duration interval = Duration.ofMinutes(30);
+
+	/**
+	 * 다음 실행 시각에 더하는 임의 지연의 최대값, 여러 팀이 같은 시각에 몰리지 않도록 분산
+	 */
+	private Duration jitter = Duration.ofMinutes(5);
+
+	/**
+	 * 실행할 팀을 찾는 주기 (ms)
+	 */
+	private long tickMillis = 60_000L;
+
+	/**
+	 * 전체 서버 인스턴스를 합친 동시 동기화 수 상한
+	 */
+	private int maxConcurrency = 4;
+
+	/**
+	 * 팀 / 동시 실행 슬롯 잠금 TTL, 동기화 1회 최대 소요 시간보다 길어야 함
+	 */
+	private Duration lockTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,53 @@
+package pingpong.backend.domain.swagger.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties({SwaggerSyncProperties.class, SwaggerPollingProperties.class})
+public class SwaggerSyncConfig {
+
+	/**
+	 * swagger path item 파싱 전용 Executor
+	 * CPU 작업(schema 해제 / 해시 계산)이라 여러 팀이 동시에 동기화해도 스레드 수는 parseParallelism으로 고정
+	 */
+	@Bean(name = "swaggerParseExecutor")
+	public Executor swaggerParseExecutor(SwaggerSyncProperties properties) {
+		int parallelism = Math.max(1, properties.getParseParallelism());
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(parallelism);
+		executor.setMaxPoolSize(parallelism);
+		executor.setThreadNamePrefix("swagger-parse-");
+
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * swagger 주기 동기화 전용 Executor
+	 * 인스턴스 안에서도 maxConcurrency를 넘지 않도록 같은 크기로 고정 (인스턴스 간 상한은 Redis 슬롯 잠금)
+	 */
+	@Bean(name = "swaggerPollExecutor")
+	public Executor swaggerPollExecutor(SwaggerPollingProperties properties) {
+		int concurrency = Math.max(1, properties.getMaxConcurrency());
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(concurrency);
+		executor.setMaxPoolSize(concurrency);
+		executor.setThreadNamePrefix("swagger-poll-");
+
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+
+		executor.initialize();
+		return executor;
+	}
+}
@@ -0,0 +1,28 @@
+package pingpong.backend.domain.swagger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swagger.sync")
+public class SwaggerSyncProperties {
+
+	/**
+	 * 동기화할 swagger JSON 최대 크기, 넘으면 본문을 끝까지 읽지 않고 실패 처리
+	 */
+	private DataSize maxSpecSize = DataSize.ofMegabytes(32);
+
+	/**
+	 * path item 파싱/해시 계산에 쓰는 스레드 수 (swaggerParseExecutor 크기)
+	 */
+	private int parseParallelism = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * 파싱한 endpoint를 몇 개씩 모아 저장할지 (동기화 중 메모리에 들고 있는 EndpointAggregate 수의 상한)
+	 */
+	private int saveBatchSize = 200;
+}
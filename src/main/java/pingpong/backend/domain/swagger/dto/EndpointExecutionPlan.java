@@ -0,0 +1,73 @@
+package pingpong.backend.domain.swagger.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.util.UriComponents;
+
+import pingpong.backend.domain.swagger.SwaggerErrorCode;
+import pingpong.backend.domain.swagger.dto.request.ApiExecuteRequest;
+import pingpong.backend.domain.swagger.enums.CrudMethod;
+import pingpong.backend.global.exception.CustomException;
+
+/**
+ * 엔드포인트 실행에 필요한 정보를 미리 계산해 둔 불변 객체
+ * QA 실행과 수동 API 실행이 공유하며, EndpointExecutionPlanCache에서 endpointId 단위로 캐싱
+ *
+ * @param pathTemplate         원본 path (예: /api/v1/users/{userId})
+ * @param uriTemplate          path를 미리 파싱해 둔 템플릿 (expand만 하면 됨)
+ * @param requiredParameters   required=true인 path/query/header 파라미터
+ * @param bodyRequired         required request body 존재 여부
+ * @param pathParamSchemaTypes path 파라미터 이름 -> schema type
+ * @param paramDefaults        팀의 path variable 기본값 (값이 비어 있는 항목 제외)
+ */
+public record EndpointExecutionPlan(
+	Long endpointId,
+	Long teamId,
+	CrudMethod method,
+	String baseUrl,
+	String pathTemplate,
+	UriComponents uriTemplate,
+	List<RequiredParameter> requiredParameters,
+	boolean bodyRequired,
+	Map<String, String> pathParamSchemaTypes,
+	Map<String, String> paramDefaults
+) {
+
+	public EndpointExecutionPlan {
+		requiredParameters = List.copyOf(requiredParameters);
+		pathParamSchemaTypes = Map.copyOf(pathParamSchemaTypes);
+		paramDefaults = Map.copyOf(paramDefaults);
+	}
+
+	public record RequiredParameter(String name, String inType) {
+	}
+
+	/**
+	 * required 파라미터 / request body 누락 검증
+	 */
+	public void validate(ApiExecuteRequest req) {
+		for (RequiredParameter param : requiredParameters) {
+			boolean missing = switch (param.inType()) {
+				case "path" -> req.pathVariables() == null || !req.pathVariables().containsKey(param.name());
+				case "query" -> req.queryParams() == null || !req.queryParams().containsKey(param.name());
+				case "header" -> req.headers() == null || !req.headers().containsKey(param.name());
+				default -> false;
+			};
+			if (missing) {
+				throw new CustomException(SwaggerErrorCode.MISSING_REQUIRED_PARAMETER);
+			}
+		}
+
+		if (bodyRequired && req.body() == null) {
+			throw new CustomException(SwaggerErrorCode.MISSING_REQUEST_BODY);
+		}
+	}
+
+	/**
+	 * path variable 치환 + base URL을 붙인 전체 URL
+	 */
+	public String buildUrl(Map<String, String> pathVariables) {
+		return baseUrl + uriTemplate.expand(pathVariables != null ? pathVariables : Map.of()).toUriString();
+	}
+}
@@ -0,0 +1,21 @@
+package pingpong.backend.domain.swagger.dto;
+
+/**
+ * swagger JSON 조건부 fetch 결과
+ * notModified(304)이면 rawBody는 null
+ */
+public record SwaggerFetchResult(
+	boolean notModified,
+	byte[] rawBody,
+	String etag,
+	String lastModified
+) {
+
+	public static SwaggerFetchResult notModified() {
+		return new SwaggerFetchResult(true, null, null, null);
+	}
+
+	public static SwaggerFetchResult modified(byte[] rawBody, String etag, String lastModified) {
+		return new SwaggerFetchResult(false, rawBody, etag, lastModified);
+	}
+}
@@ -33,14 +33,19 @@ public record EndpointResponse (
 
 ){
 
-	public static EndpointResponse toDto(Endpoint e){
+	/**
+	 * @param e
+	 * @param snapshotId 조회 기준 스냅샷 (공유된 endpoint는 이 스냅샷에서 변경 없음)
+	 * @return
+	 */
+	public static EndpointResponse toDto(Endpoint e, Long snapshotId){
 		return new EndpointResponse(
 			e.getId(),
 			Optional.ofNullable(e.getTag()).orElse("default"),
 			e.getPath(),
 			e.getMethod(),
 			e.getSummary(),
-			e.getIsChanged(),
-			e.getChangeType());
+			e.isChangedIn(snapshotId),
+			e.changeTypeIn(snapshotId));
 	}
 }
@@ -0,0 +1,9 @@
+package pingpong.backend.domain.swagger.enums;
+
+public enum PollOutcome {
+
+	CHANGED,
+	UNCHANGED,
+	FAILED
+
+}
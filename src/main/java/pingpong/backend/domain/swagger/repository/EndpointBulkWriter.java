@@ -0,0 +1,237 @@
+package pingpong.backend.domain.swagger.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import pingpong.backend.domain.member.Member;
+import pingpong.backend.domain.swagger.Endpoint;
+import pingpong.backend.domain.swagger.SwaggerEndpointSecurity;
+import pingpong.backend.domain.swagger.SwaggerErrorCode;
+import pingpong.backend.domain.swagger.SwaggerParameter;
+import pingpong.backend.domain.swagger.SwaggerRequest;
+import pingpong.backend.domain.swagger.SwaggerResponse;
+import pingpong.backend.domain.swagger.SwaggerSnapshot;
+import pingpong.backend.global.exception.CustomException;
+
+/**
+ * 스냅샷 1개의 endpoint / parameter / request / response / security와 공유 endpoint 연결을 JDBC batch로 저장
+ * IDENTITY 키라 Hibernate가 insert를 batch로 묶지 못하므로, 동기화처럼 대량 insert가 필요한 곳에서만 사용
+ * - endpoint는 generated key를 받아 엔티티 id에 반영 (하위 요소 endpoint_id 및 이후 로직에서 사용)
+ * - 영속성 컨텍스트를 거치지 않으므로 저장한 엔티티는 detached 상태로 남음
+ * MySQL에서 실제 multi-row insert로 보내려면 JDBC URL에 rewriteBatchedStatements=true 필요
+ * insert SQL / 바인딩은 행 단위 insert와 비교하는 벤치마크에서도 그대로 사용 (같은 행을 쓰도록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class EndpointBulkWriter {
+
+	private static final int BATCH_SIZE = 500;
+
+	static final String INSERT_ENDPOINT = """
+		INSERT INTO endpoint (path, method, summary, description, is_completed, operation_id, tag, structure_hash,
+			is_changed, change_type, created_at, updated_at, created_by, updated_by,
+			request_schema_hash, response_schema_hash, snapshot_id)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	static final String INSERT_PARAMETER = """
+		INSERT INTO swagger_parameter (name, in_type, required, schema_hash, description, schema_json, endpoint_id)
+		VALUES (?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	static final String INSERT_REQUEST = """
+		INSERT INTO swagger_request (media_type, required, schema_hash, schema_json, endpoint_id)
+		VALUES (?, ?, ?, ?, ?)
+		""";
+
+	static final String INSERT_RESPONSE = """
+		INSERT INTO swagger_response (media_type, status_code, description, schema_hash, schema_json, endpoint_id)
+		VALUES (?, ?, ?, ?, ?, ?)
+		""";
+
+	private static final String INSERT_SNAPSHOT_ENDPOINT = """
+		INSERT INTO snapshot_endpoint (snapshot_id, endpoint_id)
+		VALUES (?, ?)
+		""";
+
+	static final String INSERT_SECURITY = """
+		INSERT INTO swagger_endpoint_security (type, scheme, header_name, bearer_format, endpoint_id)
+		VALUES (?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * endpoint 일괄 insert 후 생성된 id를 각 엔티티에 반영
+	 * @param endpoints
+	 */
+	public void insertEndpoints(List<Endpoint> endpoints) {
+		for (List<Endpoint> chunk : chunks(endpoints)) {
+			KeyHolder keyHolder = new GeneratedKeyHolder();
+			jdbcTemplate.batchUpdate(
+				con -> con.prepareStatement(INSERT_ENDPOINT, Statement.RETURN_GENERATED_KEYS),
+				new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement ps, int i) throws SQLException {
+						bindEndpoint(ps, chunk.get(i));
+					}
+
+					@Override
+					public int getBatchSize() {
+						return chunk.size();
+					}
+				},
+				keyHolder
+			);
+
+			List<Map<String, Object>> keys = keyHolder.getKeyList();
+			if (keys.size() != chunk.size()) {
+				throw new CustomException(SwaggerErrorCode.SNAPSHOT_SAVE_FAILED);
+			}
+			for (int i = 0; i < chunk.size(); i++) {
+				Number id = (Number) keys.get(i).values().iterator().next();
+				chunk.get(i).assignGeneratedId(id.longValue());
+			}
+		}
+	}
+
+	public void insertParameters(List<SwaggerParameter> parameters) {
+		jdbcTemplate.batchUpdate(INSERT_PARAMETER, parameters, BATCH_SIZE, EndpointBulkWriter::bindParameter);
+	}
+
+	public void insertRequests(List<SwaggerRequest> requests) {
+		jdbcTemplate.batchUpdate(INSERT_REQUEST, requests, BATCH_SIZE, EndpointBulkWriter::bindRequest);
+	}
+
+	public void insertResponses(List<SwaggerResponse> responses) {
+		jdbcTemplate.batchUpdate(INSERT_RESPONSE, responses, BATCH_SIZE, EndpointBulkWriter::bindResponse);
+	}
+
+	public void insertSecurities(List<SwaggerEndpointSecurity> securities) {
+		jdbcTemplate.batchUpdate(INSERT_SECURITY, securities, BATCH_SIZE, EndpointBulkWriter::bindSecurity);
+	}
+
+	/**
+	 * 이전 스냅샷의 endpoint를 새 스냅샷에서 참조하도록 연결 (행 복사 없이 공유)
+	 * @param snapshot
+	 * @param sharedEndpoints
+	 */
+	public void insertSharedEndpoints(SwaggerSnapshot snapshot, List<Endpoint> sharedEndpoints) {
+		jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_ENDPOINT, sharedEndpoints, BATCH_SIZE, (ps, e) -> {
+			ps.setLong(1, snapshot.getId());
+			ps.setLong(2, endpointId(e));
+		});
+	}
+
+	static void bindEndpoint(PreparedStatement ps, Endpoint e) throws SQLException {
+		ps.setString(1, e.getPath());
+		// CrudMethod는 @Enumerated 없이 매핑되어 ordinal로 저장됨
+		if (e.getMethod() == null) {
+			ps.setNull(2, Types.TINYINT);
+		} else {
+			ps.setInt(2, e.getMethod().ordinal());
+		}
+		ps.setString(3, e.getSummary());
+		ps.setString(4, e.getDescription());
+		setBoolean(ps, 5, e.getIsCompleted());
+		ps.setString(6, e.getOperationId());
+		ps.setString(7, e.getTag());
+		ps.setString(8, e.getStructureHash());
+		setBoolean(ps, 9, e.getIsChanged());
+		ps.setString(10, e.getChangeType() == null ? null : e.getChangeType().name());
+		ps.setObject(11, e.getCreatedAt());
+		ps.setObject(12, e.getUpdatedAt());
+		setId(ps, 13, memberId(e.getCreatedBy()));
+		setId(ps, 14, memberId(e.getUpdatedBy()));
+		ps.setString(15, e.getRequestSchemaHash());
+		ps.setString(16, e.getResponseSchemaHash());
+		setId(ps, 17, snapshotId(e.getSnapshot()));
+	}
+
+	static void bindParameter(PreparedStatement ps, SwaggerParameter p) throws SQLException {
+		ps.setString(1, p.getName());
+		ps.setString(2, p.getInType());
+		setBoolean(ps, 3, p.getRequired());
+		ps.setString(4, p.getSchemaHash());
+		ps.setString(5, p.getDescription());
+		ps.setString(6, p.getSchemaJson());
+		ps.setLong(7, endpointId(p.getEndpoint()));
+	}
+
+	static void bindRequest(PreparedStatement ps, SwaggerRequest r) throws SQLException {
+		ps.setString(1, r.getMediaType());
+		ps.setBoolean(2, r.isRequired());
+		ps.setString(3, r.getSchemaHash());
+		ps.setString(4, r.getSchemaJson());
+		ps.setLong(5, endpointId(r.getEndpoint()));
+	}
+
+	static void bindResponse(PreparedStatement ps, SwaggerResponse r) throws SQLException {
+		ps.setString(1, r.getMediaType());
+		ps.setString(2, r.getStatusCode());
+		ps.setString(3, r.getDescription());
+		ps.setString(4, r.getSchemaHash());
+		ps.setString(5, r.getSchemaJson());
+		ps.setLong(6, endpointId(r.getEndpoint()));
+	}
+
+	static void bindSecurity(PreparedStatement ps, SwaggerEndpointSecurity s) throws SQLException {
+		ps.setString(1, s.getType());
+		ps.setString(2, s.getScheme());
+		ps.setString(3, s.getHeaderName());
+		ps.setString(4, s.getBearerFormat());
+		ps.setLong(5, endpointId(s.getEndpoint()));
+	}
+
+	private static long endpointId(Endpoint endpoint) {
+		if (endpoint == null || endpoint.getId() == null) {
+			// insertEndpoints로 먼저 저장해야 함
+			throw new CustomException(SwaggerErrorCode.SNAPSHOT_SAVE_FAILED);
+		}
+		return endpoint.getId();
+	}
+
+	private static Long memberId(Member member) {
+		return member == null ? null : member.getId();
+	}
+
+	private static Long snapshotId(SwaggerSnapshot snapshot) {
+		return snapshot == null ? null : snapshot.getId();
+	}
+
+	private static void setId(PreparedStatement ps, int index, Long id) throws SQLException {
+		if (id == null) {
+			ps.setNull(index, Types.BIGINT);
+		} else {
+			ps.setLong(index, id);
+		}
+	}
+
+	private static void setBoolean(PreparedStatement ps, int index, Boolean value) throws SQLException {
+		if (value == null) {
+			ps.setNull(index, Types.BOOLEAN);
+		} else {
+			ps.setBoolean(index, value);
+		}
+	}
+
+	private static <T> List<List<T>> chunks(List<T> items) {
+		List<List<T>> chunks = new ArrayList<>();
+		for (int from = 0; from < items.size(); from += BATCH_SIZE) {
+			chunks.add(items.subList(from, Math.min(from + BATCH_SIZE, items.size())));
+		}
+		return chunks;
+	}
+}
@@ -1,12 +1,15 @@
 package pingpong.backend.domain.swagger.repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import pingpong.backend.domain.swagger.Endpoint;
 import pingpong.backend.domain.swagger.SwaggerErrorCode;
@@ -14,11 +17,48 @@ import pingpong.backend.domain.swagger.enums.CrudMethod;
 import pingpong.backend.global.exception.CustomException;
 
 public interface EndpointRepository extends JpaRepository<Endpoint, Long> {
-	List<Endpoint> findBySnapshotId(Long snapshotId);
+
+	/**
+	 * 스냅샷에 속한 모든 endpoint (해당 스냅샷에서 저장된 endpoint + 이전 스냅샷에서 공유된 endpoint)
+	 */
+	default List<Endpoint> findBySnapshotId(Long snapshotId) {
+		List<Endpoint> endpoints = new ArrayList<>(findAllBySnapshotId(snapshotId));
+		endpoints.addAll(findSharedBySnapshotId(snapshotId));
+		return endpoints;
+	}
+
+	// 해당 스냅샷에서 저장된 endpoint만
+	List<Endpoint> findAllBySnapshotId(Long snapshotId);
+
+	// 이전 스냅샷에서 공유된 endpoint만
+	@Query("""
+		select e
+		from SnapshotEndpoint se
+		join se.endpoint e
+		where se.snapshot.id = :snapshotId
+	""")
+	List<Endpoint> findSharedBySnapshotId(@Param("snapshotId") Long snapshotId);
+
  	Endpoint findTopByPathAndMethodAndSnapshotCreatedAtLessThanOrderBySnapshotCreatedAtDesc(
 		 String path, CrudMethod method, LocalDateTime createdAt
 	);
 	List<Endpoint> findAllByIdIn(Collection<Long> ids);
 
-	List<Endpoint> findBySnapshotIdAndPathContainingIgnoreCase(Long snapshotId, String query);
+	default List<Endpoint> findBySnapshotIdAndPathContainingIgnoreCase(Long snapshotId, String query) {
+		List<Endpoint> endpoints = new ArrayList<>(findAllBySnapshotIdAndPathContainingIgnoreCase(snapshotId, query));
+		endpoints.addAll(findSharedBySnapshotIdAndPathContainingIgnoreCase(snapshotId, query));
+		return endpoints;
+	}
+
+	List<Endpoint> findAllBySnapshotIdAndPathContainingIgnoreCase(Long snapshotId, String query);
+
+	@Query("""
+		select e
+		from SnapshotEndpoint se
+		join se.endpoint e
+		where se.snapshot.id = :snapshotId
+		and lower(e.path) like lower(concat('%', :query, '%'))
+	""")
+	List<Endpoint> findSharedBySnapshotIdAndPathContainingIgnoreCase(@Param("snapshotId") Long snapshotId,
+		@Param("query") String query);
 }
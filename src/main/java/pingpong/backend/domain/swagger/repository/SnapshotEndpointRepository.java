@@ -0,0 +1,24 @@
+package pingpong.backend.domain.swagger.repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import pingpong.backend.domain.swagger.SnapshotEndpoint;
+
+public interface SnapshotEndpointRepository extends JpaRepository<SnapshotEndpoint, Long> {
+
+	/**
+	 * 이후 스냅샷에 공유된 적이 있는 endpoint id
+	 * 공유된 endpoint는 자신이 속한 가장 최근 스냅샷 기준으로 변경 없음
+	 */
+	@Query("""
+		select distinct se.endpoint.id
+		from SnapshotEndpoint se
+		where se.endpoint.id in :endpointIds
+	""")
+	Set<Long> findSharedEndpointIds(@Param("endpointIds") Collection<Long> endpointIds);
+}
@@ -0,0 +1,12 @@
+package pingpong.backend.domain.swagger.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import pingpong.backend.domain.swagger.SwaggerFetchState;
+
+public interface SwaggerFetchStateRepository extends JpaRepository<SwaggerFetchState, Long> {
+
+	Optional<SwaggerFetchState> findByTeamId(Long teamId);
+}
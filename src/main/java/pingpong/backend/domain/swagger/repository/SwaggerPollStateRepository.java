@@ -0,0 +1,30 @@
+package pingpong.backend.domain.swagger.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import pingpong.backend.domain.swagger.SwaggerPollState;
+
+public interface SwaggerPollStateRepository extends JpaRepository<SwaggerPollState, Long> {
+
+	Optional<SwaggerPollState> findByTeamId(Long teamId);
+
+	/**
+	 * 팀의 polling 상태가 없을 때만 생성
+	 * 여러 인스턴스가 같은 팀을 동시에 처음 보더라도 먼저 들어간 행만 남음 (team_id unique, INSERT IGNORE)
+	 * @return 생성했으면 1, 이미 있으면 0
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO swagger_poll_state (team_id, next_run_at)
+		VALUES (:teamId, :nextRunAt)
+		""", nativeQuery = true)
+	int insertIfAbsent(@Param("teamId") Long teamId, @Param("nextRunAt") LocalDateTime nextRunAt);
+}
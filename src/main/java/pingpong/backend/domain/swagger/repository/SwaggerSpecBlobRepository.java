@@ -0,0 +1,8 @@
+package pingpong.backend.domain.swagger.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import pingpong.backend.domain.swagger.SwaggerSpecBlob;
+
+public interface SwaggerSpecBlobRepository extends JpaRepository<SwaggerSpecBlob, String> {
+}
@@ -1,14 +1,12 @@
 package pingpong.backend.domain.swagger.service;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -16,18 +14,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import pingpong.backend.domain.swagger.Endpoint;
 import pingpong.backend.domain.swagger.SwaggerErrorCode;
-import pingpong.backend.domain.swagger.SwaggerParameter;
-import pingpong.backend.domain.swagger.SwaggerRequest;
 import pingpong.backend.domain.swagger.client.ApiExecuteClient;
+import pingpong.backend.domain.swagger.dto.EndpointExecutionPlan;
 import pingpong.backend.domain.swagger.dto.request.ApiExecuteRequest;
 import pingpong.backend.domain.swagger.dto.response.ApiExecuteResponse;
-import pingpong.backend.domain.swagger.repository.EndpointRepository;
-import pingpong.backend.domain.swagger.repository.SwaggerParameterRepository;
-import pingpong.backend.domain.swagger.repository.SwaggerRequestRepository;
-import pingpong.backend.domain.team.Team;
-import pingpong.backend.domain.team.service.TeamService;
 import pingpong.backend.global.exception.CustomException;
 
 @Slf4j
@@ -36,30 +27,26 @@ import pingpong.backend.global.exception.CustomException;
 @Transactional(readOnly = true, noRollbackFor = CustomException.class)
 public class ApiExecuteService {
 
-	private final EndpointRepository endpointRepository;
-	private final TeamService teamService;
-	private final SwaggerParameterRepository swaggerParameterRepository;
-	private final SwaggerRequestRepository swaggerRequestRepository;
-	private final SwaggerUrlResolver swaggerUrlResolver;
+	private final EndpointExecutionPlanCache executionPlanCache;
 	private final SsrfGuard ssrfGuard;
 	private final ApiExecuteClient apiExecuteClient;
 	private final ObjectMapper objectMapper;
 
-	public ApiExecuteResponse execute(Long endpointId, Long teamId, ApiExecuteRequest req, String proxyAuthorization) {
-		// 1. Endpoint 조회
-		Endpoint endpoint = endpointRepository.findById(endpointId)
-			.orElseThrow(() -> new CustomException(SwaggerErrorCode.ENDPOINT_NOT_FOUND));
-
-		// 2. Team 조회
-		Team team = teamService.getTeam(teamId);
-
-		// 3. 팀-엔드포인트 소속 검증
-		Long endpointTeamId = endpoint.getSnapshot().getTeam().getId();
-		if (!endpointTeamId.equals(teamId)) {
+	/**
+	 * 검증 + URL/헤더 구성까지 끝낸 전송 직전 요청
+	 * 실제 전송 없이 같은 요청을 반복해서 보내야 하는 경우(부하 테스트)에도 사용
+	 */
+	public ApiExecuteClient.PreparedRequest prepare(Long endpointId, Long teamId, ApiExecuteRequest req,
+		String proxyAuthorization) {
+		// 1. 실행 계획 조회 (endpoint, 파라미터, base URL 등은 캐시된 계획에서 사용)
+		EndpointExecutionPlan plan = executionPlanCache.get(endpointId);
+
+		// 2. 팀-엔드포인트 소속 검증
+		if (!plan.teamId().equals(teamId)) {
 			throw new CustomException(SwaggerErrorCode.ENDPOINT_TEAM_MISMATCH);
 		}
 
-		// 4. X-Proxy-Authorization를 headers에 머지 (항상 우선)
+		// 3. X-Proxy-Authorization를 headers에 머지 (항상 우선)
 		Map<String, String> mergedHeaders = new HashMap<>(req.headers() != null ? req.headers() : new HashMap<>());
 		if (proxyAuthorization != null && !proxyAuthorization.isBlank()) {
 			mergedHeaders.keySet().removeIf(k -> k.equalsIgnoreCase("authorization"));
@@ -68,33 +55,31 @@ public class ApiExecuteService {
 		}
 		ApiExecuteRequest mergedReq = new ApiExecuteRequest(req.pathVariables(), req.queryParams(), mergedHeaders, req.body());
 
-		// 5. required 파라미터 검증
-		validateParameters(endpointId, mergedReq);
+		// 4. required 파라미터 / body 검증
+		plan.validate(mergedReq);
 
-		// 6. required body 검증
-		validateRequestBody(endpointId, mergedReq);
+		// 5. SSRF 차단 (DNS 결과가 바뀔 수 있으므로 캐시하지 않고 매번 검사)
+		ssrfGuard.validate(plan.baseUrl());
 
-		// 7. base URL 추출 및 SSRF 차단
-		String baseUrl = swaggerUrlResolver.resolveBaseUrl(team.getSwagger());
-		ssrfGuard.validate(baseUrl);
+		// 6. path variable 치환 + full URL 빌드
+		String fullUrl = plan.buildUrl(mergedReq.pathVariables());
+		return apiExecuteClient.prepare(
+			fullUrl,
+			plan.method(),
+			mergedReq.queryParams(),
+			mergedReq.headers(),
+			mergedReq.body()
+		);
+	}
 
-		// 8. path variable 치환 + full URL 빌드
-		Map<String, String> pathVars = mergedReq.pathVariables() != null ? mergedReq.pathVariables() : new HashMap<>();
-		String resolvedPath = UriComponentsBuilder.fromPath(endpoint.getPath())
-			.buildAndExpand(pathVars)
-			.toUriString();
-		String fullUrl = baseUrl + resolvedPath;
+	public ApiExecuteResponse execute(Long endpointId, Long teamId, ApiExecuteRequest req, String proxyAuthorization) {
+		// 1~6. 실행 계획 기반 검증 및 요청 구성
+		ApiExecuteClient.PreparedRequest prepared = prepare(endpointId, teamId, req, proxyAuthorization);
 
-		// 9. 외부 API 요청
+		// 7. 외부 API 요청
 		ResponseEntity<String> response;
 		try {
-			response = apiExecuteClient.execute(
-				fullUrl,
-				endpoint.getMethod(),
-				mergedReq.queryParams(),
-				mergedReq.headers(),
-				mergedReq.body()
-			);
+			response = apiExecuteClient.execute(prepared);
 		} catch (HttpStatusCodeException e) {
 			//서버가 응답을 준 모든 에러를 여기서 잡음
 			Map<String, String> errorHeaders = new HashMap<>();
@@ -112,7 +97,7 @@ public class ApiExecuteService {
 			log.error("API 접속 실패:{}",e.getMessage());
 			throw new CustomException(SwaggerErrorCode.API_EXECUTE_ERROR);
 		}
-		// 10. 정상 200번대 응답 변환
+		// 8. 정상 200번대 응답 변환
 		Map<String, String> responseHeaders = new HashMap<>();
 		response.getHeaders().forEach((key, values) -> {
 			if (!values.isEmpty()) {
@@ -129,41 +114,6 @@ public class ApiExecuteService {
 		);
 	}
 
-	private void validateParameters(Long endpointId, ApiExecuteRequest req) {
-		List<SwaggerParameter> parameters = swaggerParameterRepository.findByEndpointId(endpointId);
-		for (SwaggerParameter param : parameters) {
-			if (!Boolean.TRUE.equals(param.getRequired())) {
-				continue;
-			}
-			String name = param.getName();
-			String inType = param.getInType();
-			if (inType == null || "cookie".equalsIgnoreCase(inType)) {
-				continue;
-			}
-
-			boolean missing = switch (inType.toLowerCase()) {
-				case "path" -> req.pathVariables() == null || !req.pathVariables().containsKey(name);
-				case "query" -> req.queryParams() == null || !req.queryParams().containsKey(name);
-				case "header" -> req.headers() == null || !req.headers().containsKey(name);
-				default -> false;
-			};
-
-			if (missing) {
-				log.warn("Missing required parameter: {} ({})", name, inType);
-				throw new CustomException(SwaggerErrorCode.MISSING_REQUIRED_PARAMETER);
-			}
-		}
-	}
-
-	private void validateRequestBody(Long endpointId, ApiExecuteRequest req) {
-		List<SwaggerRequest> requests = swaggerRequestRepository.findByEndpointId(endpointId);
-		for (SwaggerRequest swaggerRequest : requests) {
-			if (swaggerRequest.isRequired() && req.body() == null) {
-				throw new CustomException(SwaggerErrorCode.MISSING_REQUEST_BODY);
-			}
-		}
-	}
-
 	private Object parseBody(String rawBody) {
 		if (rawBody == null || rawBody.isBlank()) {
 			return null;
@@ -0,0 +1,175 @@
+package pingpong.backend.domain.swagger.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.qa.repository.QaParamDefaultRepository;
+import pingpong.backend.domain.swagger.Endpoint;
+import pingpong.backend.domain.swagger.SwaggerErrorCode;
+import pingpong.backend.domain.swagger.SwaggerParameter;
+import pingpong.backend.domain.swagger.SwaggerRequest;
+import pingpong.backend.domain.swagger.dto.EndpointExecutionPlan;
+import pingpong.backend.domain.swagger.repository.EndpointRepository;
+import pingpong.backend.domain.swagger.repository.SwaggerParameterRepository;
+import pingpong.backend.domain.swagger.repository.SwaggerRequestRepository;
+import pingpong.backend.domain.team.Team;
+import pingpong.backend.global.exception.CustomException;
+
+/**
+ * endpointId별 실행 계획 캐시
+ * swagger 동기화 / path variable 기본값 변경 시 해당 팀의 계획을 모두 무효화
+ * 무효화는 호출한 인스턴스에만 적용되므로, 다른 인스턴스에서 바뀐 내용은 PLAN_TTL이 지나야 반영됨
+ * 캐시한 계획은 MAX_PLANS개를 넘지 않게 만료된 것, 만료가 가까운 것 순으로 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EndpointExecutionPlanCache {
+
+	private final EndpointRepository endpointRepository;
+	private final SwaggerParameterRepository swaggerParameterRepository;
+	private final SwaggerRequestRepository swaggerRequestRepository;
+	private final QaParamDefaultRepository qaParamDefaultRepository;
+	private final SwaggerUrlResolver swaggerUrlResolver;
+	private final ObjectMapper objectMapper;
+
+	private static final long PLAN_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+	private static final int MAX_PLANS = 10_000;
+
+	private final ConcurrentMap<Long, CachedPlan> plans = new ConcurrentHashMap<>();
+
+	// 무효화될 때마다 증가, 계획을 만드는 동안 무효화가 일어났으면 결과를 캐시에 넣지 않음
+	private final AtomicLong version = new AtomicLong();
+
+	@Transactional(readOnly = true)
+	public EndpointExecutionPlan get(Long endpointId) {
+		long now = System.nanoTime();
+		CachedPlan cached = plans.get(endpointId);
+		if (cached != null && !cached.isExpired(now)) {
+			return cached.plan();
+		}
+
+		long versionAtBuild = version.get();
+		EndpointExecutionPlan plan = build(endpointId);
+		if (version.get() == versionAtBuild) {
+			if (plans.size() >= MAX_PLANS) {
+				evictForSpace(now);
+			}
+			plans.put(endpointId, new CachedPlan(plan, now + PLAN_TTL_NANOS));
+		}
+		return plan;
+	}
+
+	/**
+	 * 팀 단위 무효화
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 비워서, 커밋 전 데이터로 다시 만들어진 계획이 남지 않게 함
+	 */
+	public void invalidateTeam(Long teamId) {
+		evictTeam(teamId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictTeam(teamId);
+				}
+			});
+		}
+	}
+
+	private void evictTeam(Long teamId) {
+		version.incrementAndGet();
+		plans.values().removeIf(cached -> cached.plan().teamId().equals(teamId));
+	}
+
+	/**
+	 * 만료된 계획을 지우고, 그래도 많으면 만료가 가까운 계획부터 지워 MAX_PLANS의 90%까지 줄임
+	 * (가득 찬 상태에서 요청마다 정리하지 않도록 여유를 둠)
+	 */
+	private void evictForSpace(long now) {
+		plans.values().removeIf(cached -> cached.isExpired(now));
+		int excess = plans.size() - MAX_PLANS / 10 * 9;
+		if (excess <= 0) {
+			return;
+		}
+		plans.entrySet().stream()
+			.sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAtNanos()))
+			.limit(excess)
+			.map(Map.Entry::getKey)
+			.toList()
+			.forEach(plans::remove);
+	}
+
+	private record CachedPlan(EndpointExecutionPlan plan, long expiresAtNanos) {
+		boolean isExpired(long now) {
+			return now - expiresAtNanos >= 0;
+		}
+	}
+
+	private EndpointExecutionPlan build(Long endpointId) {
+		Endpoint endpoint = endpointRepository.findById(endpointId)
+			.orElseThrow(() -> new CustomException(SwaggerErrorCode.ENDPOINT_NOT_FOUND));
+		Team team = endpoint.getSnapshot().getTeam();
+
+		List<SwaggerParameter> parameters = swaggerParameterRepository.findByEndpointId(endpointId);
+
+		List<EndpointExecutionPlan.RequiredParameter> requiredParameters = parameters.stream()
+			.filter(p -> Boolean.TRUE.equals(p.getRequired()))
+			.filter(p -> p.getInType() != null && !"cookie".equalsIgnoreCase(p.getInType()))
+			.map(p -> new EndpointExecutionPlan.RequiredParameter(p.getName(), p.getInType().toLowerCase()))
+			.toList();
+
+		Map<String, String> pathParamSchemaTypes = new HashMap<>();
+		parameters.stream()
+			.filter(p -> "path".equals(p.getInType()))
+			.forEach(p -> pathParamSchemaTypes.putIfAbsent(p.getName(), extractSchemaType(p.getSchemaJson())));
+
+		boolean bodyRequired = swaggerRequestRepository.findByEndpointId(endpointId).stream()
+			.anyMatch(SwaggerRequest::isRequired);
+
+		Map<String, String> paramDefaults = new HashMap<>();
+		qaParamDefaultRepository.findByTeamId(team.getId()).stream()
+			.filter(d -> d.getParamValue() != null && !d.getParamValue().isBlank())
+			.forEach(d -> paramDefaults.putIfAbsent(d.getParamName(), d.getParamValue()));
+
+		log.debug("EXECUTION_PLAN: 생성 endpointId={}, teamId={}", endpointId, team.getId());
+		return new EndpointExecutionPlan(
+			endpointId,
+			team.getId(),
+			endpoint.getMethod(),
+			swaggerUrlResolver.resolveBaseUrl(team.getSwagger()),
+			endpoint.getPath(),
+			UriComponentsBuilder.fromPath(endpoint.getPath()).build(),
+			requiredParameters,
+			bodyRequired,
+			pathParamSchemaTypes,
+			paramDefaults
+		);
+	}
+
+	private String extractSchemaType(String schemaJson) {
+		if (schemaJson == null || schemaJson.isBlank()) return "";
+		try {
+			JsonNode schema = objectMapper.readTree(schemaJson);
+			return schema.has("type") ? schema.get("type").asText() : "";
+		} catch (Exception e) {
+			return "";
+		}
+	}
+}
@@ -97,7 +97,7 @@ public class EndpointService {
 
 		List<Endpoint> endpoints = endpointRepository.findBySnapshotId(snapshotId);
 		return endpoints.stream()
-			.map(EndpointResponse::toDto)
+			.map(e -> EndpointResponse.toDto(e, snapshotId))
 			.collect(Collectors.toList());
 	}
 
@@ -120,8 +120,8 @@ public class EndpointService {
 			endpointRepository.findBySnapshotId(snapshotId);
 
 		return endpoints.stream()
-			.filter(e -> Boolean.TRUE.equals(e.getIsChanged()))
-			.map(EndpointResponse::toDto)
+			.filter(e -> e.isChangedIn(snapshotId))
+			.map(e -> EndpointResponse.toDto(e, snapshotId))
 			.toList();
 	}
 
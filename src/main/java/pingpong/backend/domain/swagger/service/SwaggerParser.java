@@ -1,13 +1,26 @@
 package pingpong.backend.domain.swagger.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -15,7 +28,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import pingpong.backend.domain.swagger.Endpoint;
 import pingpong.backend.domain.swagger.SwaggerEndpointSecurity;
@@ -23,21 +35,42 @@ import pingpong.backend.domain.swagger.SwaggerErrorCode;
 import pingpong.backend.domain.swagger.SwaggerParameter;
 import pingpong.backend.domain.swagger.SwaggerRequest;
 import pingpong.backend.domain.swagger.SwaggerResponse;
+import pingpong.backend.domain.swagger.config.SwaggerSyncProperties;
 import pingpong.backend.domain.swagger.dto.EndpointAggregate;
+import pingpong.backend.domain.swagger.dto.SwaggerFetchResult;
 import pingpong.backend.domain.swagger.enums.CrudMethod;
 import pingpong.backend.domain.swagger.repository.SwaggerRequestRepository;
 import pingpong.backend.domain.swagger.repository.SwaggerResponseRepository;
+import pingpong.backend.domain.swagger.util.SchemaResolutionContext;
+import pingpong.backend.domain.swagger.util.StreamingSwaggerSpec;
 import pingpong.backend.domain.swagger.util.SwaggerHashUtil;
 import pingpong.backend.global.exception.CustomException;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SwaggerParser {
 
+	private static final int MAX_REDIRECTS=5;
+	// 파싱 스레드 1개당 동시에 들고 있는 path item 수 (결과 순서를 맞추느라 기다리는 동안 쌓이는 양의 상한)
+	private static final int IN_FLIGHT_PER_THREAD=4;
+
 	private final RestClient restClient;
 	private final SwaggerHashUtil swaggerHashUtil;
 	private final ObjectMapper objectMapper;
+	private final SwaggerSyncProperties swaggerSyncProperties;
+	private final Executor swaggerParseExecutor;
+	private final SsrfGuard ssrfGuard;
+
+	public SwaggerParser(RestClient restClient, SwaggerHashUtil swaggerHashUtil, ObjectMapper objectMapper,
+		SwaggerSyncProperties swaggerSyncProperties, @Qualifier("swaggerParseExecutor") Executor swaggerParseExecutor,
+		SsrfGuard ssrfGuard){
+		this.restClient=restClient;
+		this.swaggerHashUtil=swaggerHashUtil;
+		this.objectMapper=objectMapper;
+		this.swaggerSyncProperties=swaggerSyncProperties;
+		this.swaggerParseExecutor=swaggerParseExecutor;
+		this.ssrfGuard=ssrfGuard;
+	}
 
 	/**
 	 * swagger JSON의 전체 필드 파싱
@@ -45,35 +78,126 @@ public class SwaggerParser {
 	 * @return
 	 */
 	public List<EndpointAggregate> parseAll(JsonNode root){
-		List<EndpointAggregate> result=new ArrayList<>();
-
 		JsonNode pathsNode=root.get("paths");
 
+		List<EndpointAggregate> result=new ArrayList<>();
 		if(pathsNode==null){
 			return result;
 		}
-		pathsNode.fields().forEachRemaining(pathEntry->{
-			String path=pathEntry.getKey();
-			JsonNode pathItem=pathEntry.getValue();
-
-			JsonNode pathLevelParams=pathItem.get("parameters");
-			pathItem.fields().forEachRemaining(operationEntry->{
-				String method=operationEntry.getKey();
-				if(!isHttpMethod(method)){
-					return;
-				}
-				JsonNode operationNode=operationEntry.getValue();
-				String tag=extractTag(operationNode);
-				Endpoint endpoint=buildEndpoint(path,method,operationNode);
-				endpoint.assignTag(tag);
+		parsePathItems(root,visitor->pathsNode.fields().forEachRemaining(pathEntry->
+			visitor.visit(pathEntry.getKey(),pathEntry.getValue())),Integer.MAX_VALUE,result::addAll);
+		return result;
+	}
 
-				List<SwaggerParameter> parameters=extractParameters(pathLevelParams,operationNode,endpoint,root);
-				List<SwaggerRequest> requests=extractRequests(operationNode,endpoint,root);
-				List<SwaggerResponse> responses=extractResponses(operationNode,endpoint,root);
-				List<SwaggerEndpointSecurity> securities=extractSecurity(operationNode,endpoint,root);
+	/**
+	 * swagger JSON 원문을 스트리밍으로 읽으면서 전체 필드 파싱 (parseAll(JsonNode)와 같은 결과)
+	 * path item을 하나씩 트리로 만들고 바로 버리므로 문서 전체 트리를 만들지 않음
+	 * @param spec
+	 * @return
+	 */
+	public List<EndpointAggregate> parseAll(StreamingSwaggerSpec spec){
+		List<EndpointAggregate> result=new ArrayList<>();
+		parsePathItems(spec.root(),spec::forEachPathItem,Integer.MAX_VALUE,result::addAll);
+		return result;
+	}
 
-				result.add(new EndpointAggregate(endpoint,securities,parameters,requests,responses, LocalDateTime.now()));
-			});
+	/**
+	 * parseAll(StreamingSwaggerSpec)과 같은 결과를 swagger.sync.save-batch-size개씩 나눠 문서 순서대로 전달
+	 * 전달한 묶음은 들고 있지 않으므로 batchConsumer가 저장하고 버리면 EndpointAggregate 전체가 한꺼번에 메모리에 올라가지 않음
+	 * batchConsumer는 호출한 스레드에서 실행됨 (트랜잭션 안에서 저장 가능)
+	 * @param spec
+	 * @param batchConsumer
+	 * @return 파싱한 endpoint 수
+	 */
+	public int parseInBatches(StreamingSwaggerSpec spec, Consumer<List<EndpointAggregate>> batchConsumer){
+		int[] count={0};
+		parsePathItems(spec.root(),spec::forEachPathItem,Math.max(1,swaggerSyncProperties.getSaveBatchSize()),batch->{
+			count[0]+=batch.size();
+			batchConsumer.accept(batch);
+		});
+		return count[0];
+	}
+
+	/**
+	 * path item 단위로 swaggerParseExecutor에서 나눠 파싱하고 문서 순서대로 batchSize개씩 전달
+	 * - 결과 순서와 hash는 순차 파싱과 동일 (SchemaResolutionContext는 스레드끼리 공유)
+	 * - 앞쪽 path item이 끝날 때까지 뒤쪽 결과를 들고 있어야 하므로 동시에 파싱 중인 path item 수를 제한
+	 * @param root security / $ref 조회용 (paths가 없어도 됨)
+	 * @param pathItems 문서 순서대로 path item을 전달
+	 * @param batchSize 한 묶음의 최소 endpoint 수 (path item 단위로 끊으므로 조금 넘을 수 있음, 마지막 묶음은 더 작음)
+	 * @param sink 묶음을 받는 쪽, 호출한 스레드에서 실행
+	 */
+	private void parsePathItems(JsonNode root, Consumer<StreamingSwaggerSpec.PathItemVisitor> pathItems,
+		int batchSize, Consumer<List<EndpointAggregate>> sink){
+		// 동기화 1회 동안 component schema 해제 결과를 공유
+		SchemaResolutionContext schemas=swaggerHashUtil.newResolutionContext(root);
+
+		int maxInFlight=Math.max(1,swaggerSyncProperties.getParseParallelism())*IN_FLIGHT_PER_THREAD;
+		Deque<CompletableFuture<List<EndpointAggregate>>> inFlight=new ArrayDeque<>();
+		List<EndpointAggregate> batch=new ArrayList<>();
+		Consumer<List<EndpointAggregate>> collect=parsed->{
+			batch.addAll(parsed);
+			if(batch.size()>=batchSize){
+				sink.accept(new ArrayList<>(batch));
+				batch.clear();
+			}
+		};
+		pathItems.accept((path,pathItem)->{
+			inFlight.addLast(CompletableFuture.supplyAsync(
+				()->parsePathItem(path,pathItem,root,schemas),swaggerParseExecutor));
+			if(inFlight.size()>=maxInFlight){
+				collect.accept(await(inFlight.removeFirst()));
+			}
+		});
+		while(!inFlight.isEmpty()){
+			collect.accept(await(inFlight.removeFirst()));
+		}
+		if(!batch.isEmpty()){
+			sink.accept(batch);
+		}
+	}
+
+	private static List<EndpointAggregate> await(CompletableFuture<List<EndpointAggregate>> future){
+		try{
+			return future.join();
+		}catch(CompletionException e){
+			// 파싱 스레드에서 난 예외(CustomException 등)를 그대로 전달
+			if(e.getCause() instanceof RuntimeException cause){
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * path item 하나의 operation들을 EndpointAggregate로 변환
+	 * @param path
+	 * @param pathItem
+	 * @param root security 조회용 (paths가 없어도 됨)
+	 * @param schemas
+	 * @return
+	 */
+	private List<EndpointAggregate> parsePathItem(String path, JsonNode pathItem, JsonNode root,
+		SchemaResolutionContext schemas){
+
+		List<EndpointAggregate> result=new ArrayList<>();
+		JsonNode pathLevelParams=pathItem.get("parameters");
+		pathItem.fields().forEachRemaining(operationEntry->{
+			String method=operationEntry.getKey();
+			if(!isHttpMethod(method)){
+				return;
+			}
+			JsonNode operationNode=operationEntry.getValue();
+			String tag=extractTag(operationNode);
+			Endpoint endpoint=buildEndpoint(path,method,operationNode);
+			endpoint.assignTag(tag);
+
+			List<SwaggerParameter> parameters=extractParameters(pathLevelParams,operationNode,endpoint,schemas);
+			List<SwaggerRequest> requests=extractRequests(operationNode,endpoint,schemas);
+			List<SwaggerResponse> responses=extractResponses(operationNode,endpoint,schemas);
+			List<SwaggerEndpointSecurity> securities=extractSecurity(operationNode,endpoint,root);
+
+			result.add(new EndpointAggregate(endpoint,securities,parameters,requests,responses, LocalDateTime.now()));
 		});
 		return result;
 	}
@@ -89,18 +213,121 @@ public class SwaggerParser {
 
 	/**
 	 * swagger json 가져오고 서버오류(5xx)만 커스텀 예외로 처리
+	 * 공유 HttpClient는 리다이렉트를 따라가지 않으므로 GET 리다이렉트는 여기서 직접 따라감 (매 요청 전 SSRF 검증)
+	 * 원문이 swagger.sync.max-spec-size를 넘으면 끝까지 읽지 않고 실패
 	 * @param uri
 	 * @return
 	 */
 	public JsonNode fetchJson(String uri){
-		return restClient.get()
-			.uri(uri)
-			.retrieve()
-			.onStatus(HttpStatusCode::is5xxServerError,
-				(req,res)->{
-					throw new CustomException(SwaggerErrorCode.SWAGGER_CONNECTION_ERROR);
-				})
-			.body(JsonNode.class);
+		return fetchFollowingRedirects(uri, headers->{}, res->{
+			try{
+				return objectMapper.readTree(readLimitedBody(res));
+			}catch(JsonProcessingException e){
+				throw new CustomException(SwaggerErrorCode.JSON_PROCESSING_EXCEPTION);
+			}
+		});
+	}
+
+	/**
+	 * 이전 응답의 ETag / Last-Modified로 조건부 요청
+	 * 304면 본문 없이 notModified 반환, 그 외에는 파싱 전 원문 바이트와 새 validator 반환
+	 * 원문이 swagger.sync.max-spec-size를 넘으면 끝까지 읽지 않고 실패
+	 * @param uri
+	 * @param etag 이전 응답 ETag (없으면 null)
+	 * @param lastModified 이전 응답 Last-Modified (없으면 null)
+	 * @return
+	 */
+	public SwaggerFetchResult fetchConditional(String uri, String etag, String lastModified){
+		return fetchFollowingRedirects(uri,
+			headers->{
+				if(etag!=null){
+					headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+				}
+				if(lastModified!=null){
+					headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+				}
+			},
+			res->{
+				if(res.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)){
+					return SwaggerFetchResult.notModified();
+				}
+				HttpHeaders responseHeaders=res.getHeaders();
+				return SwaggerFetchResult.modified(
+					readLimitedBody(res),
+					responseHeaders.getETag(),
+					responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED)
+				);
+			});
+	}
+
+	/**
+	 * fetchConditional로 받은 원문을 스트리밍 파싱용으로 열기 (paths를 제외한 최상위 필드만 트리로 읽음)
+	 * @param rawBody
+	 * @return
+	 */
+	public StreamingSwaggerSpec openSpec(byte[] rawBody){
+		return StreamingSwaggerSpec.open(rawBody,objectMapper);
+	}
+
+	private byte[] readLimitedBody(ConvertibleClientHttpResponse res) throws IOException{
+		long maxBytes=swaggerSyncProperties.getMaxSpecSize().toBytes();
+		if(res.getHeaders().getContentLength()>maxBytes){
+			throw new CustomException(SwaggerErrorCode.SPEC_TOO_LARGE);
+		}
+		try(InputStream body=res.getBody()){
+			// 한도보다 1바이트 더 읽어서 초과 여부 판단 (Content-Length 없는 chunked 응답 대비)
+			byte[] bytes=body.readNBytes((int)Math.min(maxBytes+1,Integer.MAX_VALUE-8));
+			if(bytes.length>maxBytes){
+				throw new CustomException(SwaggerErrorCode.SPEC_TOO_LARGE);
+			}
+			return bytes;
+		}
+	}
+
+	private <T> T fetchFollowingRedirects(String uri, Consumer<HttpHeaders> requestHeaders, BodyReader<T> bodyReader){
+		String target=uri;
+		for(int hop=0;hop<=MAX_REDIRECTS;hop++){
+			// 리다이렉트 대상이 내부망/메타데이터 주소일 수 있으므로 첫 요청을 포함해 매 hop마다 검증
+			ssrfGuard.validate(target);
+			FetchResult<T> result=restClient.get()
+				.uri(target)
+				.headers(requestHeaders)
+				.exchange((req,res)->{
+					HttpStatusCode status=res.getStatusCode();
+					URI location=res.getHeaders().getLocation();
+					// 304는 3xx지만 리다이렉트가 아님
+					if(status.is3xxRedirection() && !status.isSameCodeAs(HttpStatus.NOT_MODIFIED) && location!=null){
+						return FetchResult.<T>redirect(req.getURI().resolve(location).toString());
+					}
+					if(status.is5xxServerError()){
+						throw new CustomException(SwaggerErrorCode.SWAGGER_CONNECTION_ERROR);
+					}
+					if(status.isError()){
+						throw res.createException();
+					}
+					return FetchResult.body(bodyReader.read(res));
+				});
+			if(result.redirectUri()==null){
+				return result.body();
+			}
+			target=result.redirectUri();
+		}
+		throw new CustomException(SwaggerErrorCode.SWAGGER_CONNECTION_ERROR);
+	}
+
+	@FunctionalInterface
+	private interface BodyReader<T>{
+		T read(ConvertibleClientHttpResponse res) throws IOException;
+	}
+
+	private record FetchResult<T>(T body, String redirectUri){
+		static <T> FetchResult<T> body(T body){
+			return new FetchResult<>(body,null);
+		}
+
+		static <T> FetchResult<T> redirect(String redirectUri){
+			return new FetchResult<>(null,redirectUri);
+		}
 	}
 
 	private boolean isHttpMethod(String method) {
@@ -289,7 +516,7 @@ public class SwaggerParser {
 	 * @return
 	 */
 	public List<SwaggerRequest> extractRequests(JsonNode operationNode,
-		Endpoint endpoint,JsonNode root){
+		Endpoint endpoint,SchemaResolutionContext schemas){
 
 		List<SwaggerRequest> result=new ArrayList<>();
 
@@ -311,8 +538,8 @@ public class SwaggerParser {
 
 			JsonNode schemaNode=mediaNode.get("schema");
 
-			String schemaHash=swaggerHashUtil.generateSchemaHash(schemaNode,root);
-			String canonical= swaggerHashUtil.generateCanonical(schemaNode,root);
+			String schemaHash=schemas.schemaHash(schemaNode);
+			String canonical=schemas.canonical(schemaNode);
 
 
 			SwaggerRequest request=SwaggerRequest.builder()
@@ -333,7 +560,7 @@ public class SwaggerParser {
 	 * @param endpoint
 	 * @return
 	 */
-	public List<SwaggerResponse> extractResponses(JsonNode operationNode, Endpoint endpoint,JsonNode root) {
+	public List<SwaggerResponse> extractResponses(JsonNode operationNode, Endpoint endpoint,SchemaResolutionContext schemas) {
 
 		List<SwaggerResponse> result = new ArrayList<>();
 
@@ -373,8 +600,8 @@ public class SwaggerParser {
 				// 5. schema 안전 처리
 				JsonNode schemaNode = mediaNode.get("schema");
 
-				String schemaHash = swaggerHashUtil.generateSchemaHash(schemaNode,root);
-				String canonical= swaggerHashUtil.generateCanonical(schemaNode,root);
+				String schemaHash = schemas.schemaHash(schemaNode);
+				String canonical = schemas.canonical(schemaNode);
 
 				SwaggerResponse response = SwaggerResponse.builder()
 					//statusCode는 String 강력 추천
@@ -404,19 +631,19 @@ public class SwaggerParser {
 		JsonNode pathLevelParams,
 		JsonNode operationNode,
 		Endpoint endpoint,
-		JsonNode root) {
+		SchemaResolutionContext schemas) {
 
 		List<SwaggerParameter> result = new ArrayList<>();
 
 		// Path-level parameters
 		if (pathLevelParams != null && pathLevelParams.isArray()) {
-			parseParameterArray(pathLevelParams, endpoint, result,root);
+			parseParameterArray(pathLevelParams, endpoint, result,schemas);
 		}
 
 		// Operation-level parameters
 		JsonNode operationParams = operationNode.get("parameters");
 		if (operationParams != null && operationParams.isArray()) {
-			parseParameterArray(operationParams, endpoint, result,root);
+			parseParameterArray(operationParams, endpoint, result,schemas);
 		}
 
 		return result;
@@ -431,7 +658,7 @@ public class SwaggerParser {
 	private void parseParameterArray(JsonNode paramArray,
 		Endpoint endpoint,
 		List<SwaggerParameter> result,
-		JsonNode root) {
+		SchemaResolutionContext schemas) {
 
 		for (JsonNode paramNode : paramArray) {
 
@@ -442,7 +669,7 @@ public class SwaggerParser {
 			JsonNode schemaNode = paramNode.get("schema");
 
 			String schemaHash =
-				swaggerHashUtil.generateSchemaHash(schemaNode,root);
+				schemas.schemaHash(schemaNode);
 
 			SwaggerParameter parameter = SwaggerParameter.builder()
 				.name(name)
@@ -0,0 +1,203 @@
+package pingpong.backend.domain.swagger.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.qa.dto.SwaggerChangedEvent;
+import pingpong.backend.domain.swagger.SwaggerPollState;
+import pingpong.backend.domain.swagger.config.SwaggerPollingProperties;
+import pingpong.backend.domain.swagger.enums.PollOutcome;
+import pingpong.backend.domain.swagger.repository.SwaggerPollStateRepository;
+import pingpong.backend.domain.team.Team;
+import pingpong.backend.domain.team.repository.TeamRepository;
+import pingpong.backend.global.redis.RedisLockUtil;
+
+/**
+ * 팀별 swagger 주기 동기화
+ * - 팀마다 nextRunAt을 두고 (interval + 임의 jitter) 실행 시점을 분산
+ * - 팀 잠금: 여러 서버 인스턴스가 같은 팀을 동시에 동기화하지 않음 (SwaggerService.syncSwagger의 수동 동기화와 같은 잠금)
+ * - 슬롯 잠금: 전체 인스턴스를 합쳐 동시에 maxConcurrency개 팀까지만 동기화
+ * 잠금이나 슬롯을 얻지 못한 팀은 nextRunAt을 바꾸지 않으므로 다음 tick에 다시 시도
+ * 처음 보는 팀의 상태 행은 INSERT IGNORE로 만들어 여러 인스턴스가 동시에 만들어도 tick이 실패하지 않음
+ * 변경이 있으면 새로고침 버튼과 같이 SwaggerChangedEvent로 변경분 QA 생성을 이어서 실행
+ */
+@Slf4j
+@Component
+public class SwaggerPollingScheduler {
+
+	private static final String SLOT_LOCK_PREFIX = "swagger:poll:slot:";
+
+	private final SwaggerService swaggerService;
+	private final TeamRepository teamRepository;
+	private final SwaggerPollStateRepository swaggerPollStateRepository;
+	private final RedisLockUtil redisLockUtil;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SwaggerPollingProperties properties;
+	private final Executor swaggerPollExecutor;
+
+	// 이 인스턴스에서 제출했지만 아직 끝나지 않은 팀 (같은 팀을 tick마다 중복 제출하지 않도록)
+	private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+	public SwaggerPollingScheduler(SwaggerService swaggerService, TeamRepository teamRepository,
+		SwaggerPollStateRepository swaggerPollStateRepository, RedisLockUtil redisLockUtil,
+		ApplicationEventPublisher eventPublisher, SwaggerPollingProperties properties,
+		@Qualifier("swaggerPollExecutor") Executor swaggerPollExecutor) {
+		this.swaggerService = swaggerService;
+		this.teamRepository = teamRepository;
+		this.swaggerPollStateRepository = swaggerPollStateRepository;
+		this.redisLockUtil = redisLockUtil;
+		this.eventPublisher = eventPublisher;
+		this.properties = properties;
+		this.swaggerPollExecutor = swaggerPollExecutor;
+	}
+
+	@Scheduled(fixedDelayString = "${swagger.polling.tick-millis:60000}")
+	public void pollDueTeams() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		Map<Long, SwaggerPollState> states = swaggerPollStateRepository.findAll().stream()
+			.collect(Collectors.toMap(state -> state.getTeam().getId(), Function.identity()));
+
+		int submitted = 0;
+		for (Team team : teamRepository.findAllBySwaggerIsNotNull()) {
+			if (team.getSwagger().isBlank()) {
+				continue;
+			}
+			SwaggerPollState state = states.get(team.getId());
+			if (state == null) {
+				// 처음 보는 팀은 바로 실행하지 않고 interval 안의 임의 시각으로 첫 실행을 분산
+				swaggerPollStateRepository.insertIfAbsent(team.getId(), now.plus(randomDelay(properties.getInterval())));
+				continue;
+			}
+			if (!state.isDue(now) || !pending.add(team.getId())) {
+				continue;
+			}
+			Long teamId = team.getId();
+			try {
+				swaggerPollExecutor.execute(() -> {
+					try {
+						pollTeam(teamId);
+					} finally {
+						pending.remove(teamId);
+					}
+				});
+				submitted++;
+			} catch (RuntimeException e) {
+				pending.remove(teamId);
+				log.warn("SWAGGER_POLL: 실행 제출 실패 teamId={}, error={}", teamId, e.getMessage());
+			}
+		}
+		if (submitted > 0) {
+			log.info("SWAGGER_POLL: 동기화 대상 팀 {}개 제출", submitted);
+		}
+	}
+
+	private void pollTeam(Long teamId) {
+		Duration lockTtl = properties.getLockTtl();
+		Optional<RedisLockUtil.Lock> slot;
+		try {
+			slot = acquireSlot(lockTtl);
+		} catch (RuntimeException e) {
+			// 잠금 없이 동기화하지 않음 (Redis 장애 시 다음 tick에 재시도)
+			log.warn("SWAGGER_POLL: 슬롯 잠금 획득 실패 teamId={}, error={}", teamId, e.getMessage());
+			return;
+		}
+		if (slot.isEmpty()) {
+			log.debug("SWAGGER_POLL: 동시 실행 슬롯이 없어 다음 tick에 재시도 teamId={}", teamId);
+			return;
+		}
+
+		try {
+			boolean locked;
+			try {
+				locked = swaggerService.withSyncLock(teamId, () -> {
+					runSync(teamId);
+					return true;
+				}).isPresent();
+			} catch (RuntimeException e) {
+				log.warn("SWAGGER_POLL: 팀 잠금 획득 또는 상태 저장 실패 teamId={}, error={}", teamId, e.getMessage());
+				return;
+			}
+			if (!locked) {
+				log.debug("SWAGGER_POLL: 다른 인스턴스 또는 수동 동기화가 진행 중 teamId={}", teamId);
+			}
+		} finally {
+			unlockQuietly(slot.get());
+		}
+	}
+
+	private void runSync(Long teamId) {
+		// 잠금을 기다리는 사이 다른 인스턴스가 이미 실행했을 수 있으므로 다시 확인
+		SwaggerPollState state = swaggerPollStateRepository.findByTeamId(teamId).orElse(null);
+		LocalDateTime startedAt = LocalDateTime.now();
+		if (state == null || !state.isDue(startedAt)) {
+			return;
+		}
+
+		long startMs = System.currentTimeMillis();
+		PollOutcome outcome;
+		String error = null;
+		try {
+			boolean changed = swaggerService.syncSwaggerLocked(teamId, null);
+			outcome = changed ? PollOutcome.CHANGED : PollOutcome.UNCHANGED;
+			if (changed) {
+				eventPublisher.publishEvent(new SwaggerChangedEvent(teamId, null));
+			}
+		} catch (Exception e) {
+			outcome = PollOutcome.FAILED;
+			error = e.getMessage();
+			log.warn("SWAGGER_POLL: 동기화 실패 teamId={}, error={}", teamId, e.getMessage());
+		}
+		long elapsedMs = System.currentTimeMillis() - startMs;
+
+		LocalDateTime nextRunAt = LocalDateTime.now()
+			.plus(properties.getInterval())
+			.plus(randomDelay(properties.getJitter()));
+		state.recordRun(startedAt, elapsedMs, outcome, error, nextRunAt);
+		swaggerPollStateRepository.save(state);
+		log.info("SWAGGER_POLL: teamId={}, outcome={}, elapsed={}ms, nextRunAt={}", teamId, outcome, elapsedMs, nextRunAt);
+	}
+
+	private Optional<RedisLockUtil.Lock> acquireSlot(Duration ttl) {
+		int slots = Math.max(1, properties.getMaxConcurrency());
+		// 시작 슬롯을 섞어서 앞쪽 슬롯 키에만 요청이 몰리지 않도록
+		int offset = ThreadLocalRandom.current().nextInt(slots);
+		for (int i = 0; i < slots; i++) {
+			Optional<RedisLockUtil.Lock> slot = redisLockUtil.tryLock(SLOT_LOCK_PREFIX + ((offset + i) % slots), ttl);
+			if (slot.isPresent()) {
+				return slot;
+			}
+		}
+		return Optional.empty();
+	}
+
+	private void unlockQuietly(RedisLockUtil.Lock lock) {
+		try {
+			redisLockUtil.unlock(lock);
+		} catch (RuntimeException e) {
+			// 풀지 못한 잠금은 TTL이 지나면 만료됨
+			log.warn("SWAGGER_POLL: 잠금 해제 실패 key={}, error={}", lock.key(), e.getMessage());
+		}
+	}
+
+	static Duration randomDelay(Duration bound) {
+		long boundMs = bound.toMillis();
+		return boundMs <= 0 ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(boundMs));
+	}
+}
@@ -3,16 +3,19 @@ package pingpong.backend.domain.swagger.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,12 +27,15 @@ import pingpong.backend.domain.member.Member;
 import pingpong.backend.domain.swagger.Endpoint;
 import pingpong.backend.domain.swagger.SwaggerEndpointSecurity;
 import pingpong.backend.domain.swagger.SwaggerErrorCode;
+import pingpong.backend.domain.swagger.SwaggerFetchState;
 import pingpong.backend.domain.swagger.SwaggerParameter;
 import pingpong.backend.domain.swagger.SwaggerRequest;
 import pingpong.backend.domain.swagger.SwaggerResponse;
 import pingpong.backend.domain.swagger.SwaggerSnapshot;
+import pingpong.backend.domain.swagger.config.SwaggerPollingProperties;
 import pingpong.backend.domain.swagger.dto.EndpointAggregate;
 import pingpong.backend.domain.swagger.dto.SnapshotSecurity;
+import pingpong.backend.domain.swagger.dto.SwaggerFetchResult;
 import pingpong.backend.domain.swagger.dto.request.SnapshotRequest;
 import pingpong.backend.domain.swagger.dto.response.EndpointDetailResponse;
 import pingpong.backend.domain.swagger.dto.response.EndpointDiffDetailResponse;
@@ -42,21 +48,28 @@ import pingpong.backend.domain.swagger.dto.response.ResponseBodyResponse;
 import pingpong.backend.domain.swagger.dto.response.SnapshotResponse;
 import pingpong.backend.domain.swagger.dto.response.SnapshotSecurityResponse;
 import pingpong.backend.domain.swagger.enums.ChangeType;
+import pingpong.backend.domain.swagger.repository.EndpointBulkWriter;
 import pingpong.backend.domain.swagger.repository.EndpointRepository;
 import pingpong.backend.domain.swagger.repository.SwaggerEndpointSecurityRepository;
+import pingpong.backend.domain.swagger.repository.SwaggerFetchStateRepository;
 import pingpong.backend.domain.swagger.repository.SwaggerParameterRepository;
 import pingpong.backend.domain.swagger.repository.SwaggerRequestRepository;
 import pingpong.backend.domain.swagger.repository.SwaggerResponseRepository;
 import pingpong.backend.domain.swagger.repository.SwaggerSnapshotRepository;
+import pingpong.backend.domain.swagger.util.StreamingSwaggerSpec;
 import pingpong.backend.domain.swagger.util.SwaggerHashUtil;
+import pingpong.backend.domain.team.Team;
 import pingpong.backend.domain.team.service.TeamService;
 import pingpong.backend.global.exception.CustomException;
+import pingpong.backend.global.redis.RedisLockUtil;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class SwaggerService {
 
+	// 수동 동기화와 주기 동기화(SwaggerPollingScheduler)가 함께 쓰는 팀 잠금
+	private static final String SYNC_LOCK_PREFIX = "swagger:poll:team:";
 
 	private final SsrfGuard ssrfGuard;
 	private final SwaggerUrlResolver swaggerUrlResolver;
@@ -72,6 +85,13 @@ public class SwaggerService {
 	private final EndpointService endpointService;
 	private final ObjectMapper objectMapper;
 	private final SwaggerEndpointSecurityRepository swaggerEndpointSecurityRepository;
+	private final EndpointExecutionPlanCache executionPlanCache;
+	private final SwaggerFetchStateRepository swaggerFetchStateRepository;
+	private final EndpointBulkWriter endpointBulkWriter;
+	private final SwaggerSpecStore swaggerSpecStore;
+	private final RedisLockUtil redisLockUtil;
+	private final SwaggerPollingProperties swaggerPollingProperties;
+	private final TransactionTemplate transactionTemplate;
 
 	/**
 	 * swagger JSON Node 형태로 읽어오기
@@ -97,6 +117,7 @@ public class SwaggerService {
 			.orElseThrow(()->new CustomException(SwaggerErrorCode.ENDPOINT_NOT_FOUND));
 
 		//이전 버전 endpoint 조회
+		//이후 스냅샷에 공유된 endpoint도 이 행을 만든 스냅샷 직전 버전과 비교
 		Endpoint prev = endpointRepository
 			.findTopByPathAndMethodAndSnapshotCreatedAtLessThanOrderBySnapshotCreatedAtDesc(
 				curr.getPath(),
@@ -222,18 +243,84 @@ public class SwaggerService {
 
 	/**
 	 * [Command] Swagger 동기화 및 저장 (변경이 있을 때만 실행)
+	 * 주기 동기화와 같은 팀 잠금을 잡고 실행하므로 같은 팀의 스냅샷을 동시에 만들지 않음
+	 * 잠금은 트랜잭션 바깥에서 잡아 커밋이 끝난 뒤에 풀림
 	 */
-	@Transactional
 	public boolean syncSwagger(Long teamId, Member member) {
-		String swagger = teamService.getTeam(teamId).getSwagger();
-		ssrfGuard.validate(swagger);
+		return withSyncLock(teamId, () -> syncSwaggerLocked(teamId, member))
+			.orElseThrow(() -> new CustomException(SwaggerErrorCode.SYNC_IN_PROGRESS));
+	}
+
+	/**
+	 * 팀 동기화 잠금을 잡은 상태에서 task 실행
+	 * @param teamId
+	 * @param task null을 반환하지 않아야 함
+	 * @return 다른 요청 / 인스턴스에서 동기화 중이라 잠금을 얻지 못하면 empty
+	 */
+	<T> Optional<T> withSyncLock(Long teamId, Supplier<T> task) {
+		Optional<RedisLockUtil.Lock> lock = redisLockUtil.tryLock(SYNC_LOCK_PREFIX + teamId,
+			swaggerPollingProperties.getLockTtl());
+		if (lock.isEmpty()) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(task.get());
+		} finally {
+			try {
+				redisLockUtil.unlock(lock.get());
+			} catch (RuntimeException e) {
+				// 풀지 못한 잠금은 TTL이 지나면 만료됨
+				log.warn("swagger 동기화 잠금 해제 실패 teamId:{}, error:{}", teamId, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * withSyncLock으로 잠금을 잡은 호출자 전용 (syncSwagger / SwaggerPollingScheduler)
+	 */
+	boolean syncSwaggerLocked(Long teamId, Member member) {
+		return Boolean.TRUE.equals(transactionTemplate.execute(status -> syncSwaggerInTransaction(teamId, member)));
+	}
 
-		String swaggerJsonUrl = swaggerUrlResolver.resolveSwaggerUrl(teamService.getTeam(teamId).getSwagger());
-		JsonNode swaggerJson = swaggerParser.fetchJson(swaggerJsonUrl);
-		String specHash = swaggerHashUtil.generateSpecHash(swaggerJson);
+	private boolean syncSwaggerInTransaction(Long teamId, Member member) {
+		Team team = teamService.getTeam(teamId);
+		String swagger = team.getSwagger();
+		ssrfGuard.validate(swagger);
 
+		String swaggerJsonUrl = swaggerUrlResolver.resolveSwaggerUrl(swagger);
 		Optional<SwaggerSnapshot> latest = swaggerSnapshotRepository.findTopByTeamIdOrderByIdDesc(teamId);
 
+		// 1. 조건부 fetch: 최신 스냅샷을 만든 응답의 validator가 있을 때만 전송
+		SwaggerFetchState fetchState = swaggerFetchStateRepository.findByTeamId(teamId)
+			.orElseGet(() -> SwaggerFetchState.create(team));
+		boolean reusable = latest.isPresent() && fetchState.isFor(swaggerJsonUrl);
+		SwaggerFetchResult fetched = swaggerParser.fetchConditional(
+			swaggerJsonUrl,
+			reusable ? fetchState.getEtag() : null,
+			reusable ? fetchState.getLastModified() : null
+		);
+
+		if (fetched.notModified()) {
+			fetchState.markNotModified();
+			log.info("swagger가 변경되지 않아(304) 동기화를 진행하지 않습니다. teamId:{}", teamId);
+			return false;
+		}
+
+		// 2. validator를 주지 않는 서버 대비: 원문 바이트 해시가 같으면 파싱/정규화 없이 종료
+		String rawHash = swaggerHashUtil.generateRawHash(fetched.rawBody());
+		if (reusable && rawHash.equals(fetchState.getRawHash())) {
+			fetchState.recordFetch(swaggerJsonUrl, fetched.etag(), fetched.lastModified(), rawHash);
+			swaggerFetchStateRepository.save(fetchState);
+			log.info("swagger 원문이 이전과 같아 동기화를 진행하지 않습니다. teamId:{}", teamId);
+			return false;
+		}
+
+		// 문서 전체 트리를 만들지 않고 paths를 path item 단위로 스트리밍하며 해시/파싱
+		StreamingSwaggerSpec swaggerSpec = swaggerParser.openSpec(fetched.rawBody());
+		String specHash = swaggerHashUtil.generateSpecHash(swaggerSpec);
+		fetchState.recordFetch(swaggerJsonUrl, fetched.etag(), fetched.lastModified(), rawHash);
+		swaggerFetchStateRepository.save(fetchState);
+
 		if(latest.isPresent()){
 			String latestHash=latest.get().getSpecHash();
 			if(specHash.equals(latestHash)){
@@ -253,34 +340,46 @@ public class SwaggerService {
 		).orElseGet(HashMap::new);
 
 		// 3. 새로운 Snapshot 생성 및 저장
-		List<EndpointAggregate> aggregates = swaggerParser.parseAll(swaggerJson);
 		SwaggerSnapshot snapshot = SwaggerSnapshot.builder()
-			.team(teamService.getTeam(teamId))
+			.team(team)
 			.specHash(specHash)
+			.rawHash(rawHash)
 			.createdAt(LocalDateTime.now())
-			.endpointCount(aggregates.size())
-			.rawJson(swaggerJson.toString())
 			.build();
 
 		swaggerSnapshotRepository.save(snapshot);
-
-		// 4. 현재 Endpoint 저장 및 변경 감지
-		List<Endpoint> endpoints = saveAggregates(aggregates, member, snapshot, prevMap);
+		// 원문은 blob으로 그대로 보관해야 하므로 원문 바이트(fetched.rawBody())만 문서 전체 크기로 메모리에 남음
+		swaggerSpecStore.save(rawHash, fetched.rawBody());
+
+		// 4. 현재 Endpoint 저장 및 변경 감지 (구조가 같은 Endpoint는 이전 행을 공유)
+		// 파싱한 EndpointAggregate는 swagger.sync.save-batch-size개씩 바로 저장하고 버림
+		// 끝까지 들고 있는 것은 삭제 감지용 path|method 키와 연동 해제용 신규 Endpoint(하위 요소 제외)뿐
+		Set<String> currentKeys = new HashSet<>();
+		List<Endpoint> createdEndpoints = new ArrayList<>();
+		int endpointCount = swaggerParser.parseInBatches(swaggerSpec, batch -> {
+			SavedEndpoints saved = saveAggregates(batch, member, snapshot, prevMap);
+			Stream.concat(saved.created().stream(), saved.shared().stream())
+				.map(e -> e.getPath() + "|" + e.getMethod())
+				.forEach(currentKeys::add);
+			createdEndpoints.addAll(saved.created());
+		});
+		snapshot.updateEndpointCount(endpointCount);
 
 		// 5. 삭제된 Endpoint 처리
-		Set<String> currentKeys = endpoints.stream()
-			.map(e -> e.getPath() + "|" + e.getMethod())
-			.collect(Collectors.toSet());
 
 		List<Endpoint> deletedEndpoints = prevMap.entrySet().stream()
 			.filter(entry -> !currentKeys.contains(entry.getKey()))
 			.map(entry -> markDeleted(entry.getValue(), member, snapshot))
-			.map(endpointRepository::save)
 			.toList();
+		endpointBulkWriter.insertEndpoints(deletedEndpoints);
 
-		// 6. 전체 Endpoint 상태 업데이트 (연관 관계 등)
-		List<Endpoint> allEndpoints = Stream.concat(endpoints.stream(), deletedEndpoints.stream()).toList();
+		// 6. 새로 저장된 Endpoint 상태 업데이트 (연관 관계 등)
+		// 공유된 Endpoint는 구조가 그대로이므로 연동 상태(RequestEndpoint)와 QA 케이스를 유지
+		List<Endpoint> allEndpoints = Stream.concat(createdEndpoints.stream(), deletedEndpoints.stream()).toList();
 		endpointService.unlinkChangedEndpoints(allEndpoints);
+
+		// 새 스냅샷 기준으로 실행 계획을 다시 만들도록 무효화
+		executionPlanCache.invalidateTeam(teamId);
 		return true;
 	}
 
@@ -301,7 +400,7 @@ public class SwaggerService {
 
 		// 3. 엔드포인트들을 DTO로 변환하고, Tag(Swagger의 그룹)별로 그룹화(Grouping)
 		Map<String, List<EndpointResponse>> groupedByTag = allEndpoints.stream()
-			.map(EndpointResponse::toDto)
+			.map(e -> EndpointResponse.toDto(e, latest.getId()))
 			.collect(Collectors.groupingBy(EndpointResponse::tag));
 
 		// 4. 그룹화된 맵을 최종 Response 형태인 List<EndpointGroupResponse>로 변환
@@ -330,19 +429,27 @@ public class SwaggerService {
 
 	/**
 	 * Swagger에서 파싱된 EndpointAggregate들을 실제 DB 엔티티로 저장하고, 이전 스냅샷과 비교(diff) 수행
+	 * 이전 스냅샷과 구조가 같은 endpoint는 새로 저장하지 않고 이전 행을 snapshot_endpoint로 참조
+	 * 나머지는 endpoint를 먼저 JDBC batch로 저장해 id를 받은 뒤, 하위 요소를 테이블별로 한 번에 저장
 	 * @param aggregates
 	 * @param member
 	 * @param snapshot
 	 * @param prevMap
 	 * @return
 	 */
-	private List<Endpoint> saveAggregates(
+	private SavedEndpoints saveAggregates(
 		List<EndpointAggregate> aggregates,
 		Member member,
 		SwaggerSnapshot snapshot,
 		Map<String,Endpoint> prevMap) {
 
 		List<Endpoint> savedEndpoints=new ArrayList<>();
+		List<Endpoint> sharedEndpoints=new ArrayList<>();
+		List<SwaggerParameter> allParameters=new ArrayList<>();
+		List<SwaggerRequest> allRequests=new ArrayList<>();
+		List<SwaggerResponse> allResponses=new ArrayList<>();
+		List<SwaggerEndpointSecurity> allSecurities=new ArrayList<>();
+
 		for(EndpointAggregate aggregate:aggregates){
 			List<SwaggerParameter> parameters=aggregate.parameters();
 			List<SwaggerRequest> requests=aggregate.requests();
@@ -358,24 +465,46 @@ public class SwaggerService {
 				securities
 			);
 			endpoint.updateStructureHash(structureHash);
-			//생성 정보 세팅
-			endpoint.markCreated(aggregate.createdAt(),member,snapshot);
 			//이전 endpoint 찾기
 			String key=endpoint.getPath()+"|"+endpoint.getMethod();
 			Endpoint prev=prevMap.get(key);
+			//변경 없음 -> 이전 행 공유 (하위 요소도 저장하지 않음)
+			if(endpoint.isSameVersionAs(prev)){
+				sharedEndpoints.add(prev);
+				continue;
+			}
+			//생성 정보 세팅
+			endpoint.markCreated(aggregate.createdAt(),member,snapshot);
 			//diff 계산
 			endpoint.applyDiff(prev);
-			//endpoint 저장
-			Endpoint saved=endpointRepository.save(endpoint);
-			savedEndpoints.add(saved);
-
-			//하위 요소 저장
-			swaggerEndpointSecurityRepository.saveAll(securities);
-			swaggerParameterRepository.saveAll(parameters);
-			swaggerRequestRepository.saveAll(requests);
-			swaggerResponseRepository.saveAll(responses);
+			savedEndpoints.add(endpoint);
+
+			allParameters.addAll(parameters);
+			allRequests.addAll(requests);
+			allResponses.addAll(responses);
+			allSecurities.addAll(securities);
 		}
-		return savedEndpoints;
+
+		//endpoint 저장 (생성된 id가 엔티티에 반영됨)
+		endpointBulkWriter.insertEndpoints(savedEndpoints);
+
+		//하위 요소 저장
+		endpointBulkWriter.insertSecurities(allSecurities);
+		endpointBulkWriter.insertParameters(allParameters);
+		endpointBulkWriter.insertRequests(allRequests);
+		endpointBulkWriter.insertResponses(allResponses);
+
+		//공유 endpoint 연결 (이 스냅샷 기준으로는 변경 없음, 공유된 행의 변경 상태는 그대로 둠)
+		endpointBulkWriter.insertSharedEndpoints(snapshot, sharedEndpoints);
+		log.info("스냅샷 endpoint 저장 완료. snapshotId:{}, 신규:{}, 공유:{}",
+			snapshot.getId(), savedEndpoints.size(), sharedEndpoints.size());
+		return new SavedEndpoints(savedEndpoints, sharedEndpoints);
+	}
+
+	/**
+	 * 스냅샷에 새로 저장된 endpoint와 이전 스냅샷에서 공유한 endpoint
+	 */
+	private record SavedEndpoints(List<Endpoint> created, List<Endpoint> shared) {
 	}
 
 
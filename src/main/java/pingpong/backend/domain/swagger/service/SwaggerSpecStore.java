@@ -0,0 +1,113 @@
+package pingpong.backend.domain.swagger.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pingpong.backend.domain.swagger.SwaggerErrorCode;
+import pingpong.backend.domain.swagger.SwaggerSnapshot;
+import pingpong.backend.domain.swagger.repository.SwaggerSpecBlobRepository;
+import pingpong.backend.global.exception.CustomException;
+
+/**
+ * 스냅샷 swagger 원문 저장/조회
+ * 원문은 원문 바이트 해시(rawHash) 기준으로 swagger_spec_blob에 한 번만 gzip 압축 저장되고, 스냅샷은 rawHash로만 참조
+ * swagger_snapshot에는 원문을 두지 않으므로 스냅샷 목록/최신 스냅샷 조회가 원문을 읽지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SwaggerSpecStore {
+
+	// 이전 버전에서 swagger_snapshot.raw_json에 저장된 원문 (blob이 없을 때만 조회)
+	private static final String SELECT_LEGACY_RAW_JSON = "SELECT raw_json FROM swagger_snapshot WHERE id = ?";
+
+	// 다른 팀 / 인스턴스의 동기화가 같은 원문을 동시에 저장해도 먼저 들어간 행만 남고 오류 없이 끝남
+	private static final String INSERT_IGNORE = """
+		INSERT IGNORE INTO swagger_spec_blob (spec_hash, compressed_json, raw_size, created_at)
+		VALUES (?, ?, ?, ?)
+		""";
+
+	private final SwaggerSpecBlobRepository swaggerSpecBlobRepository;
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 같은 원문이 없을 때만 압축해서 저장
+	 * @param rawHash SwaggerHashUtil.generateRawHash(rawJson)
+	 * @param rawJson
+	 */
+	public void save(String rawHash, byte[] rawJson) {
+		if (swaggerSpecBlobRepository.existsById(rawHash)) {
+			return;
+		}
+		byte[] compressed = compress(rawJson);
+		int inserted = jdbcTemplate.update(INSERT_IGNORE, rawHash, compressed, rawJson.length,
+			Timestamp.valueOf(LocalDateTime.now()));
+		if (inserted > 0) {
+			log.info("swagger 원문 저장 rawHash={}, raw={}B, compressed={}B", rawHash, rawJson.length, compressed.length);
+		}
+	}
+
+	/**
+	 * 스냅샷의 swagger 원문 조회 (없으면 null)
+	 * @param snapshot
+	 * @return
+	 */
+	public String loadRawJson(SwaggerSnapshot snapshot) {
+		if (snapshot == null) {
+			return null;
+		}
+		// rawHash가 없는 이전 버전 스냅샷은 spec hash 키로 저장된 blob, 그다음 swagger_snapshot.raw_json
+		String blobKey = snapshot.getRawHash() != null ? snapshot.getRawHash() : snapshot.getSpecHash();
+		if (blobKey != null) {
+			var blob = swaggerSpecBlobRepository.findById(blobKey);
+			if (blob.isPresent()) {
+				return new String(decompress(blob.get().getCompressedJson()), StandardCharsets.UTF_8);
+			}
+		}
+		return snapshot.getRawHash() != null ? null : loadLegacyRawJson(snapshot.getId());
+	}
+
+	private String loadLegacyRawJson(Long snapshotId) {
+		try {
+			List<String> rows = jdbcTemplate.queryForList(SELECT_LEGACY_RAW_JSON, String.class, snapshotId);
+			return rows.isEmpty() ? null : rows.get(0);
+		} catch (DataAccessException e) {
+			// raw_json 컬럼이 없는 (신규) 스키마
+			log.debug("legacy raw_json 조회 불가 snapshotId={}", snapshotId, e);
+			return null;
+		}
+	}
+
+	private static byte[] compress(byte[] raw) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 8));
+		try (OutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(raw);
+		} catch (IOException e) {
+			throw new CustomException(SwaggerErrorCode.SPEC_COMPRESSION_FAILED);
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] decompress(byte[] compressed) {
+		try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			return gzip.readAllBytes();
+		} catch (IOException e) {
+			throw new CustomException(SwaggerErrorCode.SPEC_COMPRESSION_FAILED);
+		}
+	}
+}
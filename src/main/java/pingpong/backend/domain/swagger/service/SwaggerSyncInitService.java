@@ -8,17 +8,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import pingpong.backend.domain.member.Member;
-import pingpong.backend.domain.qa.QaSyncHistory;
 import pingpong.backend.domain.qa.dto.SwaggerChangedEvent;
-import pingpong.backend.domain.qa.repository.QaSyncHistoryRepository;
+import pingpong.backend.domain.qa.service.QaGenerationService;
 import pingpong.backend.domain.qa.service.QaService;
-import pingpong.backend.domain.qa.service.QaSyncHistoryService;
 import pingpong.backend.domain.swagger.dto.response.EndpointGroupResponse;
+import pingpong.backend.domain.swagger.dto.response.EndpointResponse;
 import pingpong.backend.domain.swagger.event.SwaggerSyncInitEvent;
 import pingpong.backend.domain.team.Team;
 import pingpong.backend.domain.team.TeamErrorCode;
@@ -33,8 +30,7 @@ public class SwaggerSyncInitService {
     private final SwaggerService swaggerService;
     private final QaService qaService;
     private final TeamRepository teamRepository;
-    private final QaSyncHistoryRepository qaSyncHistoryRepository;
-    private final QaSyncHistoryService qaSyncHistoryService;
+    private final QaGenerationService qaGenerationService;
 
     @Async("indexExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -45,24 +41,8 @@ public class SwaggerSyncInitService {
             swaggerService.syncSwagger(teamId, event.member());
             log.info("SWAGGER_SYNC_INIT: 초기 동기화 완료 teamId={}", teamId);
 
-            List<EndpointGroupResponse> groups = swaggerService.getLatestSnapshotGrouped(teamId);
-
-            // path variable 기본값 동기화 (QA 생성 전에 실행)
-            qaService.syncPathVariableDefaults(teamId);
-
-            log.info("SWAGGER_INIT_FLOW: QA 시나리오 자동 생성 시작 (대상 그룹 수: {})", groups.size());
-
-            groups.forEach(group ->
-                group.endpoints().forEach(endpoint -> {
-                    try {
-                        qaService.createQaCases(endpoint.endpointId()); // 기존 메서드 재사용
-                    } catch (Exception e) {
-                        log.error("SWAGGER_INIT_FLOW: QA 생성 실패 - endpointId={}, error={}",
-                            endpoint.endpointId(), e.getMessage());
-                        // 특정 엔드포인트 실패가 전체 흐름을 끊지 않도록 개별 try-catch
-                    }
-                })
-            );
+            // 초기 동기화는 모든 엔드포인트가 대상
+            processQaGeneration(teamId, false);
             log.info("SWAGGER_INIT_FLOW: 모든 초기화 프로세스 완료 teamId={}", teamId);
         } catch (Exception e) {
             log.error("SWAGGER_SYNC_INIT: 초기 동기화 실패 teamId={}", teamId, e);
@@ -77,7 +57,7 @@ public class SwaggerSyncInitService {
         try {
 
             // 이미 Controller에서 syncSwagger가 완료되었으므로 바로 QA 생성 진입
-            processQaGeneration(event.teamId());
+            processQaGeneration(event.teamId(), true);
         } catch (Exception e) {
             log.error("SWAGGER_FLOW: 변경분 QA 생성 실패 teamId={}", event.teamId(), e);
         }
@@ -85,8 +65,9 @@ public class SwaggerSyncInitService {
 
     /**
      * 공통 QA 생성 로직
+     * 대상 엔드포인트를 모아 QaGenerationService에 넘기면 rate limit 안에서 병렬로 생성됨
      */
-    private void processQaGeneration(Long teamId) throws InterruptedException {
+    private void processQaGeneration(Long teamId, boolean changedOnly) {
         Team team=teamRepository.findById(teamId).orElseThrow(()->new CustomException(TeamErrorCode.TEAM_NOT_FOUND));
 
         List<EndpointGroupResponse> groups = swaggerService.getLatestSnapshotGrouped(teamId);
@@ -94,25 +75,13 @@ public class SwaggerSyncInitService {
         // path variable 기본값 동기화 (QA 생성 전에 실행)
         qaService.syncPathVariableDefaults(teamId);
 
-        QaSyncHistory history=qaSyncHistoryService.createNewHistory(team,groups.size());
-        log.info("QA_GEN: 시나리오 생성 작업 시작 (대상 그룹 수: {})", groups.size());
+        List<Long> endpointIds = groups.stream()
+            .flatMap(group -> group.endpoints().stream())
+            .filter(endpoint -> !changedOnly || Boolean.TRUE.equals(endpoint.isChanged()))
+            .map(EndpointResponse::endpointId)
+            .toList();
+        log.info("QA_GEN: 시나리오 생성 대상 (그룹 수: {}, 엔드포인트 수: {})", groups.size(), endpointIds.size());
 
-        for (EndpointGroupResponse group : groups) {
-            for (var endpoint : group.endpoints()) {
-                if(!endpoint.isChanged()){
-                    continue;
-                }
-                try {
-                    // API Rate Limit 방지를 위한 미세 지연
-                    Thread.sleep(200);
-                    qaService.createQaCases(endpoint.endpointId());
-                    qaSyncHistoryService.updateProgress(history.getId(),true);
-                } catch (Exception e) {
-                    qaSyncHistoryService.updateProgress(history.getId(),true);
-                }
-            }
-        }
-        qaSyncHistoryService.completeHistory(history.getId());
-        log.info("QA_GEN: 모든 프로세스 완료 teamId={}", teamId);
+        qaGenerationService.generateAll(team, endpointIds);
     }
 }
@@ -0,0 +1,288 @@
+package pingpong.backend.domain.swagger.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * swagger 동기화 1회 동안 사용하는 schema $ref 해제 컨텍스트
+ * - component schema는 $ref 이름 기준으로 한 번만 해제(+정규화)해서 재사용
+ * - $ref 하나로만 이루어진 schema는 canonical / hash도 $ref 이름 기준으로 캐시
+ * - 자기 자신을 다시 참조하는 schema는 {"$cycle": "<$ref>"} 마커로 대체 (기존에는 StackOverflowError)
+ *   순환이 있는 schema는 진입 경로에 따라 펼쳐진 모양이 달라지므로
+ *   ($ref, 진입 경로 중 그 $ref에서 도달 가능한 $ref 집합) 기준으로 따로 캐시 (같은 키면 항상 같은 모양이므로 순서와 무관하게 같은 해시)
+ *
+ * resolveSchema 후 normalizeNode를 적용한 결과와 같은 트리를 만들기 때문에 순환이 없는 schema의 해시는 기존과 동일
+ * 동기화 1회 = 컨텍스트 1개, 파싱 스레드끼리 공유 가능
+ * - 캐시는 동시 접근 가능한 맵이고, 진입 경로 / 순환 여부는 해제 호출마다 따로 가짐 (Walk)
+ * - 캐시에는 진입 순서와 무관한 결과만 들어가므로 스레드 실행 순서와 관계없이 같은 해시
+ */
+public class SchemaResolutionContext {
+
+	static final String CYCLE_MARKER_FIELD = "$cycle";
+
+	// resolvedRefs에서 "대상 없음(null)"을 나타내는 값 (ConcurrentHashMap은 null 값을 못 가짐)
+	private static final JsonNode MISSING = MissingNode.getInstance();
+
+	private final JsonNode root;
+
+	// $ref -> 해제+정규화된 schema (대상이 없으면 MISSING)
+	private final Map<String, JsonNode> resolvedRefs = new ConcurrentHashMap<>();
+	private final Map<String, String> canonicalByRef = new ConcurrentHashMap<>();
+	private final Map<String, String> hashByRef = new ConcurrentHashMap<>();
+	// 순환이 있는 $ref의 해제 결과 (진입 경로에 따라 다름)
+	private final Map<CyclicKey, JsonNode> resolvedCyclicRefs = new ConcurrentHashMap<>();
+	// $ref -> 그 $ref에서 도달 가능한 모든 $ref (순환이 있는 $ref만 계산)
+	private final Map<String, Set<String>> reachableRefs = new ConcurrentHashMap<>();
+
+	SchemaResolutionContext(JsonNode root) {
+		this.root = root;
+	}
+
+	/**
+	 * schema에 대한 hash값 생성 (SwaggerHashUtil.generateSchemaHash와 동일한 값)
+	 * @param schemaNode
+	 * @return
+	 */
+	public String schemaHash(JsonNode schemaNode) {
+		if (schemaNode == null || schemaNode.isNull()) {
+			return null;
+		}
+		String ref = pureRef(schemaNode);
+		if (ref == null) {
+			return SwaggerHashUtil.sha256(canonical(schemaNode));
+		}
+		String hash = hashByRef.get(ref);
+		if (hash == null) {
+			hash = SwaggerHashUtil.sha256(canonical(schemaNode));
+			hashByRef.put(ref, hash);
+		}
+		return hash;
+	}
+
+	/**
+	 * canonical 생성 (SwaggerHashUtil.generateCanonical과 동일한 값)
+	 * @param schemaNode
+	 * @return
+	 */
+	public String canonical(JsonNode schemaNode) {
+		if (schemaNode == null) {
+			return null;
+		}
+		String ref = pureRef(schemaNode);
+		if (ref == null) {
+			return SwaggerHashUtil.writeCanonical(resolveNormalized(schemaNode));
+		}
+		String canonical = canonicalByRef.get(ref);
+		if (canonical == null) {
+			canonical = SwaggerHashUtil.writeCanonical(resolveNormalized(schemaNode));
+			canonicalByRef.put(ref, canonical);
+		}
+		return canonical;
+	}
+
+	/**
+	 * $ref 해제와 정규화를 한 번에 수행
+	 * 반환된 노드는 캐시와 공유되므로 수정하면 안 됨
+	 * @param schemaNode
+	 * @return
+	 */
+	JsonNode resolveNormalized(JsonNode schemaNode) {
+		JsonNode resolved = new Walk().resolve(schemaNode);
+		return resolved == null ? NullNode.getInstance() : resolved;
+	}
+
+	//ex. "#/components/schemas/UserReponse"
+	private JsonNode lookup(String ref) {
+		String[] parts = ref.split("/");
+
+		JsonNode target = root;
+		for (int i = 1; i < parts.length && target != null; i++) {
+			target = target.get(parts[i]);
+		}
+		return target;
+	}
+
+	/**
+	 * ref에서 도달 가능한 $ref 집합 (해제와 같은 규칙으로 순회: $ref 노드는 형제 필드를 보지 않고, 무시할 필드는 건너뜀)
+	 * 순환 $ref의 해제 결과는 진입 경로 중 이 집합에 속한 $ref에만 영향을 받음
+	 */
+	private Set<String> reachable(String ref) {
+		Set<String> cached = reachableRefs.get(ref);
+		if (cached != null) {
+			return cached;
+		}
+		Set<String> seen = new HashSet<>();
+		Deque<String> pending = new ArrayDeque<>();
+		pending.push(ref);
+		while (!pending.isEmpty()) {
+			JsonNode target = lookup(pending.pop());
+			collectRefs(target, next -> {
+				if (seen.add(next)) {
+					pending.push(next);
+				}
+			});
+		}
+		Set<String> result = Set.copyOf(seen);
+		reachableRefs.putIfAbsent(ref, result);
+		return result;
+	}
+
+	private static void collectRefs(JsonNode node, Consumer<String> sink) {
+		if (node == null) {
+			return;
+		}
+		String ref = pureRef(node);
+		if (ref != null) {
+			sink.accept(ref);
+			return;
+		}
+		if (node.isObject()) {
+			node.fields().forEachRemaining(entry -> {
+				if (!SwaggerNormalizeUtil.isIgnorableField(entry.getKey())) {
+					collectRefs(entry.getValue(), sink);
+				}
+			});
+		} else if (node.isArray()) {
+			for (JsonNode element : node) {
+				collectRefs(element, sink);
+			}
+		}
+	}
+
+	private static String pureRef(JsonNode schemaNode) {
+		JsonNode refNode = schemaNode.get("$ref");
+		if (refNode == null || refNode.isNull()) {
+			return null;
+		}
+		return refNode.asText();
+	}
+
+	private static ObjectNode cycleMarker(String ref) {
+		ObjectNode marker = JsonNodeFactory.instance.objectNode();
+		marker.put(CYCLE_MARKER_FIELD, ref);
+		return marker;
+	}
+
+	/**
+	 * 해제 호출 1회의 상태 (한 스레드에서만 사용)
+	 */
+	/**
+	 * @param pathRefs 진입 경로 중 ref에서 도달 가능한 $ref (해제 중 순환 마커가 될 수 있는 것들)
+	 */
+	private record CyclicKey(String ref, Set<String> pathRefs) {
+	}
+
+	private final class Walk {
+
+		// 현재 해제 중인 $ref (진입 경로)
+		private final Set<String> resolving = new HashSet<>();
+		// 현재 해제 중인 $ref 하위에서 순환 마커를 만났는지 여부
+		private boolean cycleSeen;
+
+		private JsonNode resolve(JsonNode node) {
+			if (node == null) {
+				return null;
+			}
+
+			// $ref 존재 체크
+			JsonNode refNode = node.get("$ref");
+			if (refNode != null && !refNode.isNull()) {
+				return resolveRef(refNode.asText());
+			}
+
+			if (node.isObject()) {
+				ObjectNode sorted = JsonNodeFactory.instance.objectNode();
+
+				List<String> fieldNames = new ArrayList<>();
+				node.fieldNames().forEachRemaining(fieldNames::add);
+				Collections.sort(fieldNames);
+
+				for (String field : fieldNames) {
+					if (SwaggerNormalizeUtil.isIgnorableField(field)) {
+						continue;
+					}
+					JsonNode child = resolve(node.get(field));
+					if (child != null && !child.isNull()) {
+						sorted.set(field, child);
+					}
+				}
+				return sorted;
+			}
+
+			if (node.isArray()) {
+				ArrayNode array = JsonNodeFactory.instance.arrayNode();
+				for (JsonNode element : node) {
+					array.add(resolve(element));
+				}
+				return array;
+			}
+			return node;
+		}
+
+		private JsonNode resolveRef(String ref) {
+			JsonNode cached = resolvedRefs.get(ref);
+			if (cached != null) {
+				return cached == MISSING ? null : cached;
+			}
+
+			if (resolving.contains(ref)) {
+				cycleSeen = true;
+				return cycleMarker(ref);
+			}
+
+			// 순환이 있는 것으로 확인된 $ref는 진입 경로 중 관련 있는 부분까지 키로 써서 캐시 조회
+			CyclicKey cyclicKey = null;
+			if (reachableRefs.containsKey(ref)) {
+				cyclicKey = cyclicKey(ref);
+				JsonNode cyclic = resolvedCyclicRefs.get(cyclicKey);
+				if (cyclic != null) {
+					cycleSeen = true;
+					return cyclic;
+				}
+			}
+
+			boolean outerCycleSeen = cycleSeen;
+			cycleSeen = false;
+			resolving.add(ref);
+
+			JsonNode resolved;
+			try {
+				resolved = resolve(lookup(ref));
+			} finally {
+				resolving.remove(ref);
+			}
+
+			if (!cycleSeen) {
+				resolvedRefs.putIfAbsent(ref, resolved == null ? MISSING : resolved);
+			} else if (resolved != null) {
+				resolvedCyclicRefs.putIfAbsent(cyclicKey != null ? cyclicKey : cyclicKey(ref), resolved);
+			}
+			cycleSeen = outerCycleSeen || cycleSeen;
+			return resolved;
+		}
+
+		private CyclicKey cyclicKey(String ref) {
+			Set<String> reachable = reachable(ref);
+			Set<String> pathRefs = resolving.stream()
+				.filter(reachable::contains)
+				.collect(Collectors.toUnmodifiableSet());
+			return new CyclicKey(ref, pathRefs);
+		}
+	}
+}
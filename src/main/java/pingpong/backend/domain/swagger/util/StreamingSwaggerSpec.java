@@ -0,0 +1,126 @@
+package pingpong.backend.domain.swagger.util;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import pingpong.backend.domain.swagger.SwaggerErrorCode;
+import pingpong.backend.global.exception.CustomException;
+
+/**
+ * swagger JSON 원문을 전체 트리로 만들지 않고 읽기 위한 뷰
+ * - paths를 제외한 최상위 필드(components, security 등)만 트리로 보관 ($ref 해제 / security 조회용)
+ * - paths는 필요할 때마다 원문을 스트리밍 파서로 다시 읽어 path item 단위로만 트리를 만듦
+ * 동시에 메모리에 올라가는 트리는 paths를 제외한 문서 + path item 1개
+ * paths 하위를 가리키는 $ref("#/paths/...")는 해제되지 않음 (대상 없음으로 처리)
+ */
+public final class StreamingSwaggerSpec {
+
+	private static final String PATHS = "paths";
+
+	private final byte[] rawBody;
+	private final ObjectMapper mapper;
+	// paths를 제외한 최상위 필드 (paths가 객체가 아니면 그대로 포함)
+	private final ObjectNode root;
+	private final boolean streamedPaths;
+
+	private StreamingSwaggerSpec(byte[] rawBody, ObjectMapper mapper, ObjectNode root, boolean streamedPaths) {
+		this.rawBody = rawBody;
+		this.mapper = mapper;
+		this.root = root;
+		this.streamedPaths = streamedPaths;
+	}
+
+	/**
+	 * 원문을 한 번 훑어서 paths를 제외한 최상위 필드를 읽음
+	 * @param rawBody
+	 * @param mapper
+	 * @return
+	 */
+	public static StreamingSwaggerSpec open(byte[] rawBody, ObjectMapper mapper) {
+		ObjectNode root = mapper.createObjectNode();
+		boolean streamedPaths = false;
+		try (JsonParser parser = mapper.createParser(rawBody)) {
+			expect(parser.nextToken(), JsonToken.START_OBJECT);
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (PATHS.equals(field) && value == JsonToken.START_OBJECT) {
+					parser.skipChildren();
+					streamedPaths = true;
+					root.remove(PATHS);
+					continue;
+				}
+				root.set(field, mapper.readTree(parser));
+				if (PATHS.equals(field)) {
+					streamedPaths = false;
+				}
+			}
+		} catch (IOException e) {
+			throw new CustomException(SwaggerErrorCode.JSON_PROCESSING_EXCEPTION);
+		}
+		return new StreamingSwaggerSpec(rawBody, mapper, root, streamedPaths);
+	}
+
+	/**
+	 * paths를 제외한 최상위 필드
+	 * @return
+	 */
+	public JsonNode root() {
+		return root;
+	}
+
+	/**
+	 * paths가 객체라서 스트리밍으로 읽어야 하는지 여부
+	 * false면 paths가 없거나 객체가 아닌 값으로 root()에 들어있음
+	 * @return
+	 */
+	public boolean hasStreamedPaths() {
+		return streamedPaths;
+	}
+
+	/**
+	 * paths의 path item을 문서 순서대로 하나씩 트리로 만들어 전달
+	 * 호출할 때마다 원문을 다시 읽음
+	 * @param visitor
+	 */
+	public void forEachPathItem(PathItemVisitor visitor) {
+		if (!streamedPaths) {
+			return;
+		}
+		try (JsonParser parser = mapper.createParser(rawBody)) {
+			expect(parser.nextToken(), JsonToken.START_OBJECT);
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (!PATHS.equals(field) || value != JsonToken.START_OBJECT) {
+					parser.skipChildren();
+					continue;
+				}
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String path = parser.currentName();
+					parser.nextToken();
+					visitor.visit(path, mapper.readTree(parser));
+				}
+				return;
+			}
+		} catch (IOException e) {
+			throw new CustomException(SwaggerErrorCode.JSON_PROCESSING_EXCEPTION);
+		}
+	}
+
+	private static void expect(JsonToken actual, JsonToken expected) {
+		if (actual != expected) {
+			throw new CustomException(SwaggerErrorCode.JSON_PROCESSING_EXCEPTION);
+		}
+	}
+
+	@FunctionalInterface
+	public interface PathItemVisitor {
+		void visit(String path, JsonNode pathItem);
+	}
+}
@@ -2,19 +2,25 @@ package pingpong.backend.domain.swagger.util;
 
 import static pingpong.backend.domain.swagger.util.SwaggerNormalizeUtil.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import pingpong.backend.domain.swagger.Endpoint;
@@ -33,6 +39,15 @@ public class SwaggerHashUtil {
 		.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS,true)
 		.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
 
+	// spec hash에서 제외하는 비구조 필드 (모든 깊이의 객체에서 제외)
+	private static final Set<String> NON_STRUCTURAL_FIELDS = Set.of(
+		"description",
+		"summary",
+		"example",
+		"examples",
+		"title"
+	);
+
 	/**
 	 * swagger snapshot SHA-256 해시값 생성
 	 * @param root
@@ -40,26 +55,18 @@ public class SwaggerHashUtil {
 	 */
 
 	public String generateSpecHash(JsonNode root) {
-		try {
-			JsonNode paths = root.get("paths");
-			//공통 스키마 정의 부분
-			JsonNode components = root.get("components");
-
-			ObjectNode minimal = mapper.createObjectNode();
-
-			if (paths != null) {
-				minimal.set("paths",removeNonStructuralFields(paths));
-			}
-			if (components != null) {
-				minimal.set("components", removeNonStructuralFields(components));
-			}
-
-			String canonicalJson = mapper.writeValueAsString(minimal);
-			return sha256(canonicalJson);
+		return specHash(root.get("paths"), null, root.get("components"));
+	}
 
-		} catch (Exception e) {
-			throw new CustomException(SwaggerErrorCode.JSON_PROCESSING_EXCEPTION);
-		}
+	/**
+	 * 원문 스트리밍으로 swagger snapshot SHA-256 해시값 생성 (generateSpecHash(JsonNode)와 같은 값)
+	 * paths는 path item 하나씩 digest에 바로 기록하므로 전체 트리를 만들지 않음
+	 * @param spec
+	 * @return
+	 */
+	public String generateSpecHash(StreamingSwaggerSpec spec) {
+		JsonNode root = spec.root();
+		return specHash(root.get("paths"), spec.hasStreamedPaths() ? spec : null, root.get("components"));
 	}
 
 	public String computeStructureHash(
@@ -93,44 +100,82 @@ public class SwaggerHashUtil {
 	}
 
 	/**
-	 * 필요없는 필드들 제외하고 hash값 생성하도록 함
-	 * @param node
+	 * {"paths": ..., "components": ...}에서 비구조 필드를 뺀 compact JSON의 해시
+	 * 복사본을 만들지 않고 필드를 건너뛰며 digest에 바로 기록
+	 * @param paths 트리로 가진 paths (없으면 null)
+	 * @param streamedPaths 스트리밍으로 읽을 paths (없으면 null)
+	 * @param components
 	 * @return
 	 */
-	private JsonNode removeNonStructuralFields(JsonNode node) {
-		if(node==null){
-			return null;
+	private String specHash(JsonNode paths, StreamingSwaggerSpec streamedPaths, JsonNode components) {
+		MessageDigest digest = newDigest();
+		try (JsonGenerator generator = mapper.getFactory()
+			.createGenerator(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+
+			generator.writeStartObject();
+			if (streamedPaths != null) {
+				generator.writeFieldName("paths");
+				generator.writeStartObject();
+				streamedPaths.forEachPathItem((path, pathItem) -> {
+					try {
+						generator.writeFieldName(path);
+						writeStructural(generator, pathItem);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				generator.writeEndObject();
+			} else if (paths != null) {
+				generator.writeFieldName("paths");
+				writeStructural(generator, paths);
+			}
+			//공통 스키마 정의 부분
+			if (components != null) {
+				generator.writeFieldName("components");
+				writeStructural(generator, components);
+			}
+			generator.writeEndObject();
+		} catch (IOException | UncheckedIOException e) {
+			throw new CustomException(SwaggerErrorCode.JSON_PROCESSING_EXCEPTION);
 		}
+		return toHex(digest.digest());
+	}
 
+	/**
+	 * 필요없는 필드들 제외하고 기록
+	 * @param generator
+	 * @param node
+	 * @throws IOException
+	 */
+	private static void writeStructural(JsonGenerator generator, JsonNode node) throws IOException {
 		if (node.isObject()) {
-			ObjectNode cleaned = ((ObjectNode) node).deepCopy();
-
-			// 제거하고 싶은 필드들
-			cleaned.remove(List.of(
-				"description",
-				"summary",
-				"example",
-				"examples",
-				"title"
-			));
-
-			cleaned.fieldNames().forEachRemaining(field -> {
-				JsonNode child = cleaned.get(field);
-				cleaned.set(field, removeNonStructuralFields(child));
-			});
-
-			return cleaned;
+			generator.writeStartObject();
+			for (Map.Entry<String, JsonNode> field : node.properties()) {
+				if (NON_STRUCTURAL_FIELDS.contains(field.getKey())) {
+					continue;
+				}
+				generator.writeFieldName(field.getKey());
+				writeStructural(generator, field.getValue());
+			}
+			generator.writeEndObject();
+			return;
 		}
 
 		if (node.isArray()) {
-			ArrayNode arrayNode = (ArrayNode) node;
-			for (int i = 0; i < arrayNode.size(); i++) {
-				arrayNode.set(i, removeNonStructuralFields(arrayNode.get(i)));
+			generator.writeStartArray();
+			for (JsonNode element : node) {
+				writeStructural(generator, element);
 			}
-			return arrayNode;
+			generator.writeEndArray();
+			return;
 		}
 
-		return node;
+		if (node.isNull()) {
+			generator.writeNull();
+			return;
+		}
+		// 값 노드는 SerializerProvider를 쓰지 않음
+		node.serialize(generator, null);
 	}
 
 	/**
@@ -138,22 +183,40 @@ public class SwaggerHashUtil {
 	 * @param input
 	 * @return
 	 */
-	private static String sha256(String input) {
-		try{
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hashBytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
+	static String sha256(String input) {
+		return sha256(input.getBytes(StandardCharsets.UTF_8));
+	}
 
-			StringBuilder hexString = new StringBuilder();
-			for (byte b:hashBytes){
-				hexString.append(String.format("%02x", b));
-			}
+	private static String sha256(byte[] input) {
+		return toHex(newDigest().digest(input));
+	}
 
-			return hexString.toString();
+	private static MessageDigest newDigest() {
+		try{
+			return MessageDigest.getInstance("SHA-256");
 		}catch(Exception e){
 			throw new CustomException(SwaggerErrorCode.HASHING_EXCEPTION);
 		}
 	}
 
+	private static String toHex(byte[] hashBytes) {
+		StringBuilder hexString = new StringBuilder();
+		for (byte b:hashBytes){
+			hexString.append(String.format("%02x", b));
+		}
+		return hexString.toString();
+	}
+
+	/**
+	 * 응답 원문 바이트 해시 (정규화 없이 계산하므로 canonical 해시보다 훨씬 저렴)
+	 * 원문이 같으면 스펙도 같으므로 동기화 전 빠른 비교용으로 사용
+	 * @param rawBody
+	 * @return
+	 */
+	public String generateRawHash(byte[] rawBody) {
+		return sha256(rawBody);
+	}
+
 	/**
 	 * requestBody에 대한 해시값 생성
 	 * @param root
@@ -192,7 +255,7 @@ public class SwaggerHashUtil {
 	 * @param node
 	 * @return
 	 */
-	private String writeCanonical(JsonNode node){
+	static String writeCanonical(JsonNode node){
 		try{
 			return mapper.writeValueAsString(node);
 		}catch(Exception e){
@@ -201,76 +264,31 @@ public class SwaggerHashUtil {
 	}
 
 	/**
-	 * schema에 대한 hash값 생성
-	 * @param schemaNode
+	 * swagger 동기화 1회 동안 공유할 $ref 해제 컨텍스트 생성
+	 * 같은 스펙 안에서 여러 schema 해시를 만들 때는 이 컨텍스트를 재사용
+	 * @param root
 	 * @return
 	 */
-	public String generateSchemaHash(JsonNode schemaNode,JsonNode root){
-
-		if(schemaNode==null||schemaNode.isNull()){
-			return null;
-		}
-
-		JsonNode resolved=resolveSchema(schemaNode,root);
-		JsonNode normalized=normalizeNode(resolved);
-		String canonical=writeCanonical(normalized);
-		return sha256(canonical);
+	public SchemaResolutionContext newResolutionContext(JsonNode root) {
+		return new SchemaResolutionContext(root);
 	}
 
 	/**
-	 * canonical 생성
+	 * schema에 대한 hash값 생성
 	 * @param schemaNode
-	 * @param root
 	 * @return
 	 */
-	public String generateCanonical(JsonNode schemaNode,JsonNode root){
-		JsonNode resolved=resolveSchema(schemaNode,root);
-		JsonNode normalized=normalizeNode(resolved);
-		String canonical=writeCanonical(normalized);
-		return canonical;
+	public String generateSchemaHash(JsonNode schemaNode,JsonNode root){
+		return newResolutionContext(root).schemaHash(schemaNode);
 	}
 
 	/**
-	 * schema $ref 참조 해제
+	 * canonical 생성
 	 * @param schemaNode
 	 * @param root
 	 * @return
 	 */
-	public JsonNode resolveSchema(JsonNode schemaNode, JsonNode root) {
-		if (schemaNode == null) {
-			return schemaNode;
-		}
-
-		// $ref 존재 체크
-		JsonNode refNode=schemaNode.get("$ref");
-		if(refNode!=null && !refNode.isNull()){
-			String ref=refNode.asText();
-
-			//ex. "#/components/schemas/UserReponse"
-			String[] parts=ref.split("/");
-
-			JsonNode target=root;
-			for(int i=1;i<parts.length;i++){
-				target=target.get(parts[i]);
-			}
-			return resolveSchema(target,root);
-		}
-
-		if(schemaNode.isObject()){
-			ObjectNode copy=mapper.createObjectNode();
-			schemaNode.fieldNames().forEachRemaining(field->{
-				copy.set(field,resolveSchema(schemaNode.get(field),root));
-			});
-			return copy;
-		}
-
-		if(schemaNode.isArray()){
-			ArrayNode arr=mapper.createArrayNode();
-			for(JsonNode element:schemaNode){
-				arr.add(resolveSchema(element,root));
-			}
-			return arr;
-		}
-		return schemaNode;
+	public String generateCanonical(JsonNode schemaNode,JsonNode root){
+		return newResolutionContext(root).canonical(schemaNode);
 	}
 }
@@ -72,7 +72,7 @@ public class SwaggerNormalizeUtil {
 		return node;
 	}
 
-	private static boolean isIgnorableField(String field) {
+	static boolean isIgnorableField(String field) {
 		return field.equals("description")
 			|| field.equals("example")
 			|| field.equals("externalDocs")
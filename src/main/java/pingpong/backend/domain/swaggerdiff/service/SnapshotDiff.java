@@ -0,0 +1,92 @@
+package pingpong.backend.domain.swaggerdiff.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openapitools.openapidiff.core.model.ChangedOpenApi;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import pingpong.backend.domain.swaggerdiff.dto.EndpointDiffDetailDto;
+import pingpong.backend.domain.swaggerdiff.dto.EndpointDiffListResponse;
+
+/**
+ * (이전 스냅샷, 현재 스냅샷) 한 쌍의 비교 결과
+ * 스냅샷 원문은 바뀌지 않으므로 한 번 만든 비교 결과와 매핑 결과는 계속 재사용 가능
+ * - diff / 파싱된 OpenAPI: 생성 시 한 번만 계산 (OpenApiCompare 1회 + OpenAPIV3Parser 최대 2회)
+ * - diff 리스트 / 엔드포인트 단건 상세: 처음 요청될 때 매핑해서 보관
+ * 이전 스냅샷이 없거나 원문이 없으면 diff / prevApi는 null (전체 ADDED)
+ * weight: 비교에 쓴 원문 길이 합, 파싱된 모델과 diff 크기가 원문에 비례하므로 캐시 크기 제한에 사용
+ */
+@SuppressWarnings("rawtypes")
+final class SnapshotDiff {
+
+	private final ChangedOpenApi diff;
+	private final OpenAPI prevApi;
+	private final OpenAPI currApi;
+	private final Map<String, Schema> prevSchemas;
+	private final Map<String, Schema> currSchemas;
+	private final long weight;
+
+	private volatile EndpointDiffListResponse diffList;
+	private final ConcurrentMap<Long, EndpointDiffDetailDto> details = new ConcurrentHashMap<>();
+
+	SnapshotDiff(ChangedOpenApi diff, OpenAPI prevApi, Map<String, Schema> prevSchemas,
+		OpenAPI currApi, Map<String, Schema> currSchemas, long weight) {
+		this.diff = diff;
+		this.prevApi = prevApi;
+		this.prevSchemas = prevSchemas;
+		this.currApi = currApi;
+		this.currSchemas = currSchemas;
+		this.weight = weight;
+	}
+
+	long weight() {
+		return weight;
+	}
+
+	boolean hasPrevious() {
+		return diff != null;
+	}
+
+	ChangedOpenApi diff() {
+		return diff;
+	}
+
+	OpenAPI prevApi() {
+		return prevApi;
+	}
+
+	OpenAPI currApi() {
+		return currApi;
+	}
+
+	Map<String, Schema> prevSchemas() {
+		return prevSchemas;
+	}
+
+	Map<String, Schema> currSchemas() {
+		return currSchemas;
+	}
+
+	EndpointDiffListResponse diffList(Supplier<EndpointDiffListResponse> mapper) {
+		EndpointDiffListResponse cached = diffList;
+		if (cached == null) {
+			synchronized (this) {
+				cached = diffList;
+				if (cached == null) {
+					cached = mapper.get();
+					diffList = cached;
+				}
+			}
+		}
+		return cached;
+	}
+
+	EndpointDiffDetailDto detail(Long endpointId, Function<Long, EndpointDiffDetailDto> mapper) {
+		return details.computeIfAbsent(endpointId, mapper);
+	}
+}
@@ -0,0 +1,107 @@
+package pingpong.backend.domain.swaggerdiff.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스냅샷 쌍별 SnapshotDiff 캐시
+ * - 같은 쌍에 대한 동시 첫 요청은 한 요청만 계산하고 나머지는 그 결과를 기다림 (single-flight)
+ * - 계산에 실패하면 캐시에 남기지 않음 (다음 요청에서 다시 계산)
+ * - 파싱된 OpenAPI 모델과 diff를 들고 있으므로 개수(MAX_ENTRIES)와 무게(MAX_WEIGHT, 원문 길이 합) 둘 다 넘지 않게
+ *   오래 사용하지 않은 쌍부터 제거 (계산 중인 쌍은 제외, 혼자 MAX_WEIGHT를 넘는 쌍은 캐시하지 않음)
+ * 스냅샷 원문은 바뀌지 않으므로 별도 무효화는 없음
+ */
+@Slf4j
+@Component
+public class SnapshotDiffCache {
+
+	private static final int MAX_ENTRIES = 16;
+	// 캐시한 비교 결과의 원문 길이 합 상한 (문자 수), 파싱된 모델은 원문보다 몇 배 크므로 여유 있게 잡지 않음
+	private static final long MAX_WEIGHT = 8L * 1024 * 1024;
+
+	// 접근 순서 (가장 오래 사용하지 않은 쌍이 앞)
+	private final Map<Key, CompletableFuture<SnapshotDiff>> entries = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true);
+	// 완료된 항목의 weight 합, entries와 함께 lock(entries) 안에서만 변경
+	private long totalWeight;
+
+	/**
+	 * @param prevSnapshotId 이전 스냅샷이 없으면 null
+	 * @param currSnapshotId
+	 * @param loader 캐시에 없을 때 호출 스레드에서 실행
+	 * @return
+	 */
+	SnapshotDiff get(Long prevSnapshotId, Long currSnapshotId, Supplier<SnapshotDiff> loader) {
+		Key key = new Key(prevSnapshotId, currSnapshotId);
+		CompletableFuture<SnapshotDiff> existing;
+		CompletableFuture<SnapshotDiff> created = null;
+		synchronized (entries) {
+			existing = entries.get(key);
+			if (existing == null) {
+				created = new CompletableFuture<>();
+				entries.put(key, created);
+			}
+		}
+
+		if (created == null) {
+			return await(existing);
+		}
+
+		try {
+			long start = System.currentTimeMillis();
+			SnapshotDiff diff = loader.get();
+			synchronized (entries) {
+				// 완료와 weight 반영을 함께 해야 evict()가 완료된 항목의 weight를 빼먹지 않음
+				created.complete(diff);
+				if (entries.get(key) == created) {
+					totalWeight += diff.weight();
+					evict();
+				}
+			}
+			log.info("SWAGGER_DIFF: 스냅샷 비교 결과 생성 prev={}, curr={}, {}ms",
+				prevSnapshotId, currSnapshotId, System.currentTimeMillis() - start);
+			return diff;
+		} catch (RuntimeException | Error e) {
+			synchronized (entries) {
+				entries.remove(key, created);
+			}
+			created.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	// lock(entries) 안에서 호출
+	private void evict() {
+		Iterator<CompletableFuture<SnapshotDiff>> eldest = entries.values().iterator();
+		while ((entries.size() > MAX_ENTRIES || totalWeight > MAX_WEIGHT) && eldest.hasNext()) {
+			CompletableFuture<SnapshotDiff> entry = eldest.next();
+			if (!entry.isDone()) {
+				continue;
+			}
+			totalWeight -= entry.join().weight();
+			eldest.remove();
+		}
+	}
+
+	private static SnapshotDiff await(CompletableFuture<SnapshotDiff> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			// 계산한 요청과 같은 예외(CustomException 등)를 그대로 전달
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private record Key(Long prevSnapshotId, Long currSnapshotId) {
+	}
+}
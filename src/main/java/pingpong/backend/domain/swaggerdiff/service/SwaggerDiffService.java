@@ -27,6 +27,7 @@ import pingpong.backend.domain.swagger.SwaggerSnapshot;
 import pingpong.backend.domain.swagger.enums.CrudMethod;
 import pingpong.backend.domain.swagger.repository.EndpointRepository;
 import pingpong.backend.domain.swagger.repository.SwaggerSnapshotRepository;
+import pingpong.backend.domain.swagger.service.SwaggerSpecStore;
 import pingpong.backend.domain.swaggerdiff.dto.*;
 import pingpong.backend.domain.swaggerdiff.mapper.OpenApiDiffMapper;
 import pingpong.backend.global.exception.CustomException;
@@ -38,6 +39,8 @@ public class SwaggerDiffService {
 
 	private final EndpointRepository endpointRepository;
 	private final SwaggerSnapshotRepository swaggerSnapshotRepository;
+	private final SwaggerSpecStore swaggerSpecStore;
+	private final SnapshotDiffCache snapshotDiffCache;
 	private final OpenApiDiffMapper openApiDiffMapper;
 
 	// diff 리스트 (added / removed / modified / unchanged)
@@ -46,27 +49,34 @@ public class SwaggerDiffService {
 			.findTopByTeamIdOrderByIdDesc(teamId)
 			.orElseThrow(() -> new CustomException(SwaggerErrorCode.ENDPOINT_NOT_FOUND));
 
-		List<Endpoint> allEndpoints = endpointRepository.findBySnapshotId(currSnapshot.getId());
-
 		Optional<SwaggerSnapshot> prevSnapshotOpt = swaggerSnapshotRepository
 			.findTopByTeamIdAndIdLessThanOrderByIdDesc(teamId, currSnapshot.getId());
 
-		if (prevSnapshotOpt.isEmpty() || prevSnapshotOpt.get().getRawJson() == null) {
-			List<EndpointDiffListResponse.TagGroupDto> addedGroups = allEndpoints.stream()
-				.map(EndpointSummaryDto::from)
-				.collect(Collectors.groupingBy(
-					dto -> Optional.ofNullable(dto.tag()).orElse("default"),
-					LinkedHashMap::new,
-					Collectors.toList()
-				))
-				.entrySet().stream()
-				.map(e -> new EndpointDiffListResponse.TagGroupDto(e.getKey(), e.getValue()))
-				.toList();
-			return new EndpointDiffListResponse(addedGroups, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+		if (prevSnapshotOpt.isEmpty()) {
+			return toAllAddedList(endpointRepository.findBySnapshotId(currSnapshot.getId()));
 		}
 
-		ChangedOpenApi diff = compareSafely(prevSnapshotOpt.get().getRawJson(), currSnapshot.getRawJson());
-		return openApiDiffMapper.toDiffList(diff, allEndpoints);
+		SnapshotDiff snapshotDiff = loadSnapshotDiff(prevSnapshotOpt.get(), currSnapshot);
+		return snapshotDiff.diffList(() -> {
+			List<Endpoint> allEndpoints = endpointRepository.findBySnapshotId(currSnapshot.getId());
+			return snapshotDiff.hasPrevious()
+				? openApiDiffMapper.toDiffList(snapshotDiff.diff(), allEndpoints)
+				: toAllAddedList(allEndpoints);
+		});
+	}
+
+	private EndpointDiffListResponse toAllAddedList(List<Endpoint> allEndpoints) {
+		List<EndpointDiffListResponse.TagGroupDto> addedGroups = allEndpoints.stream()
+			.map(EndpointSummaryDto::from)
+			.collect(Collectors.groupingBy(
+				dto -> Optional.ofNullable(dto.tag()).orElse("default"),
+				LinkedHashMap::new,
+				Collectors.toList()
+			))
+			.entrySet().stream()
+			.map(e -> new EndpointDiffListResponse.TagGroupDto(e.getKey(), e.getValue()))
+			.toList();
+		return new EndpointDiffListResponse(addedGroups, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
 	}
 
 	// 엔드포인트 단건 조회 (diff 포함)
@@ -74,33 +84,65 @@ public class SwaggerDiffService {
 		Endpoint curr = endpointRepository.findById(endpointId)
 			.orElseThrow(() -> new CustomException(SwaggerErrorCode.ENDPOINT_NOT_FOUND));
 
+		// 이후 스냅샷에 공유된 endpoint도 이 행을 만든 스냅샷과 그 직전 스냅샷을 비교
 		SwaggerSnapshot currSnapshot = curr.getSnapshot();
-		if (currSnapshot == null || currSnapshot.getRawJson() == null) {
+		if (currSnapshot == null) {
 			throw new CustomException(SwaggerErrorCode.JSON_PROCESSING_EXCEPTION);
 		}
 
+		SwaggerSnapshot prevSnapshot = swaggerSnapshotRepository
+			.findTopByTeamIdAndIdLessThanOrderByIdDesc(
+				currSnapshot.getTeam().getId(), currSnapshot.getId()
+			)
+			.orElse(null);
+
+		SnapshotDiff snapshotDiff = loadSnapshotDiff(prevSnapshot, currSnapshot);
+		return snapshotDiff.detail(endpointId, id -> toEndpointDiffDetail(snapshotDiff, curr));
+	}
+
+	/**
+	 * 스냅샷 쌍의 비교 결과 (캐시에 없을 때만 원문 조회 + 비교 + 파싱)
+	 * @param prevSnapshot 없으면 null
+	 * @param currSnapshot
+	 * @return
+	 */
+	private SnapshotDiff loadSnapshotDiff(SwaggerSnapshot prevSnapshot, SwaggerSnapshot currSnapshot) {
+		Long prevSnapshotId = prevSnapshot != null ? prevSnapshot.getId() : null;
+		return snapshotDiffCache.get(prevSnapshotId, currSnapshot.getId(), () -> {
+			String currRawJson = swaggerSpecStore.loadRawJson(currSnapshot);
+			if (currRawJson == null) {
+				throw new CustomException(SwaggerErrorCode.JSON_PROCESSING_EXCEPTION);
+			}
+			OpenAPI currApi = parseOpenApi(currRawJson);
+
+			String prevRawJson = swaggerSpecStore.loadRawJson(prevSnapshot);
+			if (prevRawJson == null) {
+				return new SnapshotDiff(null, null, Collections.emptyMap(), currApi, safeSchemas(currApi),
+					currRawJson.length());
+			}
+			ChangedOpenApi diff = compareSafely(prevRawJson, currRawJson);
+			OpenAPI prevApi = parseOpenApi(prevRawJson);
+			return new SnapshotDiff(diff, prevApi, safeSchemas(prevApi), currApi, safeSchemas(currApi),
+				(long)prevRawJson.length() + currRawJson.length());
+		});
+	}
+
+	private EndpointDiffDetailDto toEndpointDiffDetail(SnapshotDiff snapshotDiff, Endpoint curr) {
 		String path = curr.getPath();
 		CrudMethod method = curr.getMethod();
 
-		OpenAPI currApi = parseOpenApi(currSnapshot.getRawJson());
-		Operation currOperation = findOperation(currApi, path, method);
-		Map<String, Schema> currSchemas = safeSchemas(currApi);
-
-		Optional<SwaggerSnapshot> prevSnapshotOpt = swaggerSnapshotRepository
-			.findTopByTeamIdAndIdLessThanOrderByIdDesc(
-				currSnapshot.getTeam().getId(), currSnapshot.getId()
-			);
+		Operation currOperation = findOperation(snapshotDiff.currApi(), path, method);
+		Map<String, Schema> currSchemas = snapshotDiff.currSchemas();
 
 		// 이전 스냅샷 없음 → 전체 ADDED
-		if (prevSnapshotOpt.isEmpty() || prevSnapshotOpt.get().getRawJson() == null) {
+		if (!snapshotDiff.hasPrevious()) {
 			if (currOperation == null) {
 				throw new CustomException(SwaggerErrorCode.ENDPOINT_NOT_FOUND);
 			}
 			return openApiDiffMapper.toAllAdded(curr, currOperation, currSchemas);
 		}
 
-		SwaggerSnapshot prevSnapshot = prevSnapshotOpt.get();
-		ChangedOpenApi diff = compareSafely(prevSnapshot.getRawJson(), currSnapshot.getRawJson());
+		ChangedOpenApi diff = snapshotDiff.diff();
 
 		// newEndpoints → ADDED
 		for (org.openapitools.openapidiff.core.model.Endpoint ep :
@@ -117,21 +159,19 @@ public class SwaggerDiffService {
 		for (org.openapitools.openapidiff.core.model.Endpoint ep :
 				nullSafe(diff.getMissingEndpoints())) {
 			if (matchesEndpoint(ep, path, method)) {
-				OpenAPI prevApi = parseOpenApi(prevSnapshot.getRawJson());
-				Operation prevOperation = findOperation(prevApi, path, method);
+				Operation prevOperation = findOperation(snapshotDiff.prevApi(), path, method);
 				if (prevOperation == null) {
 					throw new CustomException(SwaggerErrorCode.ENDPOINT_NOT_FOUND);
 				}
-				return openApiDiffMapper.toAllRemoved(curr, prevOperation, safeSchemas(prevApi));
+				return openApiDiffMapper.toAllRemoved(curr, prevOperation, snapshotDiff.prevSchemas());
 			}
 		}
 
 		// changedOperations → MODIFIED
 		for (ChangedOperation changedOp : nullSafe(diff.getChangedOperations())) {
 			if (matchesChangedOperation(changedOp, path, method)) {
-				OpenAPI prevApi = parseOpenApi(prevSnapshot.getRawJson());
 				return openApiDiffMapper.fromChangedOperation(
-					curr, changedOp, safeSchemas(prevApi), currSchemas
+					curr, changedOp, snapshotDiff.prevSchemas(), currSchemas
 				);
 			}
 		}
@@ -1,7 +1,11 @@
 package pingpong.backend.domain.team.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import pingpong.backend.domain.team.Team;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    List<Team> findAllBySwaggerIsNotNull();
 }
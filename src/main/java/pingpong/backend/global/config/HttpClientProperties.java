@@ -0,0 +1,31 @@
+package pingpong.backend.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http.client")
+public class HttpClientProperties {
+
+	private Duration connectTimeout = Duration.ofSeconds(5);
+
+	/**
+	 * 서버가 지원하면 ALPN으로 HTTP/2 사용, 아니면 HTTP/1.1 keep-alive
+	 */
+	private boolean http2Enabled = true;
+
+	/**
+	 * QA 실행 / API 실행 응답 timeout
+	 */
+	private Duration apiExecuteReadTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * swagger JSON 조회 응답 timeout
+	 */
+	private Duration swaggerFetchReadTimeout = Duration.ofSeconds(5);
+}
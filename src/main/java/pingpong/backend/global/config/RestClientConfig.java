@@ -1,22 +1,49 @@
 package pingpong.backend.global.config;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestTemplate;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class RestClientConfig {
 
+	/**
+	 * 팀 서버 호출(API 실행, swagger 조회)이 공유하는 커넥션 풀
+	 * 같은 팀 서버로 가는 요청은 keep-alive / HTTP/2 커넥션을 재사용해서 TCP, TLS 핸드셰이크를 생략
+	 * 리다이렉트는 따라가지 않음 (호출하는 쪽에서 hop마다 SSRF 검증 후 직접 따라감)
+	 * 풀 크기 / idle 유지 시간은 JDK system property로만 지정 가능하고 HttpClient 클래스 초기화 시 한 번 읽히므로
+	 * 여기서 바꾸지 않고 JVM 옵션으로 지정 (Dockerfile, bootRun 참고)
+	 *   -Djdk.httpclient.keepalive.timeout=120 -Djdk.httpclient.connectionPoolSize=0
+	 */
+	@Bean(name = "pooledHttpClient")
+	public HttpClient pooledHttpClient(HttpClientProperties properties) {
+		log.info("[HttpClient] keepalive={}s, connectionPoolSize={}, http2={}",
+			System.getProperty("jdk.httpclient.keepalive.timeout", "default"),
+			System.getProperty("jdk.httpclient.connectionPoolSize", "default"),
+			properties.isHttp2Enabled());
+		return HttpClient.newBuilder()
+			.version(properties.isHttp2Enabled() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+			.connectTimeout(properties.getConnectTimeout())
+			.followRedirects(HttpClient.Redirect.NEVER)
+			.build();
+	}
+
 	@Bean
-	public RestClient restClient() {
-		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-		requestFactory.setConnectTimeout(3000); //연결 timeout 3초
-		requestFactory.setReadTimeout(5000); //응답 timeout 5초
+	public RestClient restClient(@Qualifier("pooledHttpClient") HttpClient pooledHttpClient, HttpClientProperties properties) {
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(pooledHttpClient);
+		requestFactory.setReadTimeout(properties.getSwaggerFetchReadTimeout());
 		return RestClient.builder()
 			.requestFactory(requestFactory)
 			.build();
@@ -0,0 +1,50 @@
+package pingpong.backend.global.rag.indexing;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 청크 텍스트 임베딩 캐시 (임베딩 모델 + 텍스트 SHA-256 기준)
+ * 같은 텍스트는 어느 페이지/DB에서 나왔든 한 번만 임베딩 API를 호출
+ * 읽기/쓰기는 EmbeddingCacheRepository(JdbcTemplate)에서만 수행, 엔티티는 테이블 정의용
+ */
+@Entity
+@Table(
+        name = "embedding_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_embedding_cache_model_hash", columnNames = {"model", "text_hash"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmbeddingCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "embedding_cache_id")
+    private Long id;
+
+    // 임베딩 모델 id (차원 수를 지정했으면 "모델:차원")
+    @Column(name = "model", nullable = false, length = 100)
+    private String model;
+
+    @Column(name = "text_hash", nullable = false, length = 64)
+    private String textHash;
+
+    @Column(name = "dimensions", nullable = false)
+    private int dimensions;
+
+    // float 배열 (little-endian 4바이트씩)
+    @Column(name = "embedding", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] embedding;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
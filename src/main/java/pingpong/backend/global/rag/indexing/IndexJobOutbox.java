@@ -0,0 +1,94 @@
+package pingpong.backend.global.rag.indexing;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pingpong.backend.global.rag.indexing.enums.IndexJobStatus;
+import pingpong.backend.global.rag.indexing.enums.IndexSourceType;
+
+import java.time.Instant;
+
+/**
+ * 인덱싱 대기 작업 (MySQL outbox)
+ * source key당 한 행만 유지: 처리 전에 같은 source key가 다시 들어오면 payload만 최신으로 교체
+ * 처리에 성공하면 행을 삭제하고, 재시도 한도를 넘기면 DEAD로 남김
+ * 읽기/쓰기는 IndexJobQueue(JdbcTemplate)에서만 수행, 엔티티는 테이블 정의용
+ */
+@Entity
+@Table(
+        name = "index_job_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_index_job_outbox_source_key", columnNames = "source_key"),
+        indexes = @Index(name = "idx_index_job_outbox_status_next", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IndexJobOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "index_job_outbox_id")
+    private Long id;
+
+    @Column(name = "source_key", nullable = false, length = 512)
+    private String sourceKey;
+
+    @Column(name = "source_type", nullable = false, length = 64)
+    @Enumerated(EnumType.STRING)
+    private IndexSourceType sourceType;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "api_path", nullable = false, length = 300)
+    private String apiPath;
+
+    @Column(name = "resource_id", length = 120)
+    private String resourceId;
+
+    @Column(name = "payload", columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Column(name = "status", nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private IndexJobStatus status;
+
+    // 연속 실패 횟수 (새 payload가 들어오면 0부터 다시)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // enqueue마다 증가, 처리 중에 새 payload가 들어왔는지 판단
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    @Column(name = "claimed_revision")
+    private Long claimedRevision;
+
+    // claim마다 새로 발급, complete / fail은 이 값이 같은 인스턴스만 반영 (lease가 끝나 다시 가져간 작업 보호)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    // RUNNING 상태의 처리 기한, 지나면 처리하던 인스턴스가 죽은 것으로 보고 다시 가져감
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -1,6 +1,7 @@
 package pingpong.backend.global.rag.indexing;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -12,9 +13,11 @@ import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import pingpong.backend.domain.qa.converter.MapStringConverter;
 import pingpong.backend.global.rag.indexing.enums.IndexSourceType;
 
 import java.time.Instant;
+import java.util.Map;
 
 @Entity
 @Table(
@@ -56,6 +59,18 @@ public class IndexingState {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    // 청크 id -> 청크 해시 (텍스트 + 문서 단위 메타데이터), 없으면 청크 id가 documentPrefix-순번이던 이전 방식
+    @Convert(converter = MapStringConverter.class)
+    @Column(name = "chunk_hashes", columnDefinition = "LONGTEXT")
+    private Map<String, String> chunkHashes;
+
+    // 마지막 upsert에서 해시가 같아 임베딩을 건너뛴 청크 수 / 새로 임베딩한 청크 수
+    @Column(name = "last_reused_chunks")
+    private Integer lastReusedChunks;
+
+    @Column(name = "last_embedded_chunks")
+    private Integer lastEmbeddedChunks;
+
     private IndexingState(IndexSourceType sourceType,
                                Long teamId,
                                String apiPath,
@@ -101,4 +116,10 @@ public class IndexingState {
         this.chunkCount = chunkCount;
         this.updatedAt = updatedAt;
     }
+
+    public void recordChunks(Map<String, String> chunkHashes, int reusedChunks, int embeddedChunks) {
+        this.chunkHashes = chunkHashes;
+        this.lastReusedChunks = reusedChunks;
+        this.lastEmbeddedChunks = embeddedChunks;
+    }
 }
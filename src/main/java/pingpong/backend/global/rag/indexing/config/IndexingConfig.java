@@ -1,10 +1,17 @@
 package pingpong.backend.global.rag.indexing.config;
 
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.openai.OpenAiEmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import pingpong.backend.global.rag.indexing.embedding.CachingEmbeddingModel;
+import pingpong.backend.global.rag.indexing.repository.DocumentFactory;
+import pingpong.backend.global.rag.indexing.repository.EmbeddingCacheRepository;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -30,4 +37,63 @@ public class IndexingConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * index_job_outbox 작업 처리 전용 Executor
+     * IndexJobDispatcher가 빈 자리 수만큼만 가져와서 제출하므로 대기 큐에 쌓이지 않음
+     */
+    @Bean(name = "indexWorkerExecutor")
+    public Executor indexWorkerExecutor(IndexingProperties properties) {
+        int concurrency = Math.max(1, properties.getWorkerConcurrency());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("index-worker-");
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * VectorStoreBatcher의 지연 배치 전송 전용 Executor
+     * indexExecutor는 오래 걸리는 인덱싱 작업이 스레드와 대기 큐를 차지하면 전송이 밀려 add()가 기다리는 작업이 모두 멈추므로 분리
+     * 대기 중인 지연 전송은 한 번에 하나뿐이라 대기 큐가 커지지 않음
+     */
+    @Bean(name = "vectorFlushExecutor")
+    public Executor vectorFlushExecutor(IndexingProperties properties) {
+        int threads = Math.max(1, properties.getVectorFlushThreads());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("vector-flush-");
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * VectorStore 등 EmbeddingModel을 주입받는 곳은 모두 캐시를 거친 모델을 사용
+     * 캐시 키의 모델 id는 OpenAI 임베딩 모델 설정값 (차원 수를 지정했으면 함께 포함)
+     */
+    @Bean
+    @Primary
+    public CachingEmbeddingModel cachingEmbeddingModel(
+            OpenAiEmbeddingModel openAiEmbeddingModel,
+            EmbeddingCacheRepository embeddingCacheRepository,
+            DocumentFactory documentFactory,
+            IndexingProperties properties,
+            @Value("${spring.ai.openai.embedding.options.model:text-embedding-ada-002}") String model,
+            @Value("${spring.ai.openai.embedding.options.dimensions:}") String dimensions) {
+        String modelId = dimensions.isBlank() ? model : model + ":" + dimensions;
+        return new CachingEmbeddingModel(openAiEmbeddingModel, embeddingCacheRepository, documentFactory,
+                properties, modelId);
+    }
 }
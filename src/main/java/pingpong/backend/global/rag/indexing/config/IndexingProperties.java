@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "rag.indexing")
@@ -22,4 +24,36 @@ public class IndexingProperties {
     private int executorMaxPoolSize = 20;
 
     private int executorQueueCapacity =50;
+
+    // index_job_outbox 작업을 동시에 처리하는 수 (인스턴스당)
+    private int workerConcurrency = 4;
+
+    // 대기 작업 확인 주기 (ms)
+    private long queuePollIntervalMillis = 1000L;
+
+    // 이 횟수만큼 연속 실패하면 DEAD로 남기고 더 이상 재시도하지 않음
+    private int maxAttempts = 5;
+
+    // 첫 재시도 대기 시간, 실패할 때마다 2배 (maxBackoff까지)
+    private Duration initialBackoff = Duration.ofSeconds(10);
+
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+    // 작업 1건 처리 기한, 넘기면 다른 인스턴스가 다시 가져감
+    private Duration leaseTimeout = Duration.ofMinutes(10);
+
+    // 여러 작업의 청크를 모아 한 번에 임베딩/upsert하는 최대 문서 수
+    private int vectorBatchMaxDocuments = 100;
+
+    // 첫 문서가 들어온 뒤 배치를 보내기까지 기다리는 최대 시간 (ms)
+    private long vectorBatchMaxDelayMillis = 200L;
+
+    // add()가 자기 배치 저장을 기다리는 최대 시간, 넘기면 작업 실패로 처리 (leaseTimeout보다 짧게)
+    private Duration vectorBatchAwaitTimeout = Duration.ofMinutes(2);
+
+    // 지연 배치 전송 전용 스레드 수 (vectorFlushExecutor)
+    private int vectorFlushThreads = 2;
+
+    // 청크 텍스트 임베딩 캐시 (embedding_cache) 사용 여부
+    private boolean embeddingCacheEnabled = true;
 }
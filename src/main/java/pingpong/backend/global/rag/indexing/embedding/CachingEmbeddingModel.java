@@ -0,0 +1,187 @@
+package pingpong.backend.global.rag.indexing.embedding;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.BatchingStrategy;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.dao.DataAccessException;
+import pingpong.backend.global.rag.indexing.config.IndexingProperties;
+import pingpong.backend.global.rag.indexing.repository.DocumentFactory;
+import pingpong.backend.global.rag.indexing.repository.EmbeddingCacheRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문서 임베딩 앞단의 캐시 (embedding_cache, 키: 모델 id + 청크 텍스트 SHA-256)
+ * - vectorStore.add()가 호출하는 embed(List<Document>, ...)만 캐시를 거침: 캐시에 없는 텍스트만 임베딩 API로 보냄
+ *   한 요청 안에서 같은 텍스트가 반복되면 한 번만 보냄, 전부 캐시에 있으면 API를 호출하지 않음
+ * - 질문 임베딩(call / embed(String))은 캐시 없이 그대로 위임
+ * - 캐시 조회/저장 실패는 임베딩을 막지 않음 (경고 로그 후 API 호출로 대체)
+ * 임베딩 입력은 Document 텍스트(정규화된 청크)이므로 캐시 키와 실제 임베딩 입력이 같음
+ * 적중/미적중 수와 적중률은 MeterBinder로 등록 (embedding.cache.hits / misses / hit.rate, 태그 model)
+ */
+@Slf4j
+public class CachingEmbeddingModel implements EmbeddingModel, MeterBinder {
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingCacheRepository embeddingCacheRepository;
+    private final DocumentFactory documentFactory;
+    private final IndexingProperties properties;
+    private final String model;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingEmbeddingModel(EmbeddingModel delegate,
+                                 EmbeddingCacheRepository embeddingCacheRepository,
+                                 DocumentFactory documentFactory,
+                                 IndexingProperties properties,
+                                 String model) {
+        this.delegate = delegate;
+        this.embeddingCacheRepository = embeddingCacheRepository;
+        this.documentFactory = documentFactory;
+        this.properties = properties;
+        this.model = model;
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        return delegate.call(request);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        if (!properties.isEmbeddingCacheEnabled()) {
+            return delegate.embed(document);
+        }
+        String textHash = documentFactory.sha256Hex(document.getText());
+        float[] cached = lookup(List.of(textHash)).get(textHash);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        float[] embedding = delegate.embed(document);
+        misses.increment();
+        store(Map.of(textHash, embedding));
+        return embedding;
+    }
+
+    @Override
+    public List<float[]> embed(List<Document> documents, EmbeddingOptions options, BatchingStrategy batchingStrategy) {
+        if (!properties.isEmbeddingCacheEnabled() || documents.isEmpty()) {
+            return delegate.embed(documents, options, batchingStrategy);
+        }
+
+        List<String> textHashes = new ArrayList<>(documents.size());
+        // 텍스트 해시 -> 처음 등장한 문서 (같은 텍스트는 한 번만 조회/임베딩)
+        Map<String, Document> unique = new LinkedHashMap<>();
+        for (Document document : documents) {
+            String textHash = documentFactory.sha256Hex(document.getText());
+            textHashes.add(textHash);
+            unique.putIfAbsent(textHash, document);
+        }
+
+        Map<String, float[]> embeddings = new HashMap<>(lookup(new ArrayList<>(unique.keySet())));
+        int cachedTexts = embeddings.size();
+
+        List<String> missingHashes = new ArrayList<>();
+        List<Document> missingDocuments = new ArrayList<>();
+        unique.forEach((textHash, document) -> {
+            if (!embeddings.containsKey(textHash)) {
+                missingHashes.add(textHash);
+                missingDocuments.add(document);
+            }
+        });
+
+        if (!missingDocuments.isEmpty()) {
+            List<float[]> computed = delegate.embed(missingDocuments, options, batchingStrategy);
+            Map<String, float[]> created = new HashMap<>();
+            for (int i = 0; i < missingHashes.size(); i++) {
+                created.put(missingHashes.get(i), computed.get(i));
+            }
+            embeddings.putAll(created);
+            store(created);
+        }
+
+        List<float[]> result = new ArrayList<>(documents.size());
+        for (String textHash : textHashes) {
+            result.add(embeddings.get(textHash));
+        }
+
+        int documentHits = documents.size() - missingDocuments.size();
+        hits.add(documentHits);
+        misses.add(missingDocuments.size());
+        Stats stats = stats();
+        log.info("EMBED-CACHE: documents={} hits={} embedded={} (cachedTexts={}) totalHitRate={}%",
+                documents.size(), documentHits, missingDocuments.size(), cachedTexts,
+                String.format("%.1f", stats.hitRate() * 100));
+        return result;
+    }
+
+    @Override
+    public int dimensions() {
+        return delegate.dimensions();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("embedding.cache.hits", hits, LongAdder::sum)
+                .description("문서 임베딩 캐시 적중 수")
+                .tag("model", model)
+                .register(registry);
+        FunctionCounter.builder("embedding.cache.misses", misses, LongAdder::sum)
+                .description("문서 임베딩 캐시 미적중 수 (임베딩 API로 보낸 문서)")
+                .tag("model", model)
+                .register(registry);
+        Gauge.builder("embedding.cache.hit.rate", this, cache -> cache.stats().hitRate())
+                .description("서버 시작 이후 누적 문서 임베딩 캐시 적중률 (0~1)")
+                .tag("model", model)
+                .register(registry);
+    }
+
+    /**
+     * 서버 시작 이후 누적 문서 임베딩 캐시 적중/미적중 수
+     * (한 요청 안에서 반복된 텍스트는 적중으로 계산)
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum());
+    }
+
+    private Map<String, float[]> lookup(List<String> textHashes) {
+        try {
+            return embeddingCacheRepository.findAll(model, textHashes);
+        } catch (DataAccessException e) {
+            log.warn("EMBED-CACHE: 캐시 조회 실패, 전부 임베딩 API로 처리 hashes={} error='{}'",
+                    textHashes.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void store(Map<String, float[]> embeddings) {
+        try {
+            embeddingCacheRepository.saveAll(model, embeddings);
+        } catch (DataAccessException e) {
+            log.warn("EMBED-CACHE: 캐시 저장 실패 embeddings={} error='{}'", embeddings.size(), e.getMessage());
+        }
+    }
+
+    public record Stats(long hits, long misses) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
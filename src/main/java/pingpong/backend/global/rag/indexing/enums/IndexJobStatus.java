@@ -0,0 +1,7 @@
+package pingpong.backend.global.rag.indexing.enums;
+
+public enum IndexJobStatus {
+    PENDING,
+    RUNNING,
+    DEAD
+}
@@ -0,0 +1,108 @@
+package pingpong.backend.global.rag.indexing.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pingpong.backend.global.rag.indexing.config.IndexingProperties;
+import pingpong.backend.global.rag.indexing.repository.IndexJobQueue;
+import pingpong.backend.global.rag.indexing.repository.IndexJobQueue.ClaimedIndexJob;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * index_job_outbox에서 대기 작업을 가져와 IndexJobHandler로 처리
+ * - 인스턴스당 동시 처리 수는 workerConcurrency (빈 자리만큼만 가져옴)
+ * - 실패 시 initialBackoff부터 2배씩 늘려 재시도, maxAttempts번 연속 실패하면 DEAD
+ */
+@Component
+@Slf4j
+public class IndexJobDispatcher {
+
+    private final IndexJobQueue indexJobQueue;
+    private final IndexJobHandler indexJobHandler;
+    private final IndexingProperties properties;
+    private final Executor indexWorkerExecutor;
+    private final Semaphore slots;
+
+    public IndexJobDispatcher(IndexJobQueue indexJobQueue,
+                              IndexJobHandler indexJobHandler,
+                              IndexingProperties properties,
+                              @Qualifier("indexWorkerExecutor") Executor indexWorkerExecutor) {
+        this.indexJobQueue = indexJobQueue;
+        this.indexJobHandler = indexJobHandler;
+        this.properties = properties;
+        this.indexWorkerExecutor = indexWorkerExecutor;
+        this.slots = new Semaphore(Math.max(1, properties.getWorkerConcurrency()));
+    }
+
+    @Scheduled(fixedDelayString = "${rag.indexing.queue-poll-interval-millis:1000}")
+    public void dispatch() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int available = slots.drainPermits();
+        if (available == 0) {
+            return;
+        }
+        List<ClaimedIndexJob> claimed;
+        try {
+            claimed = indexJobQueue.claim(available, properties.getLeaseTimeout());
+        } catch (Exception e) {
+            slots.release(available);
+            log.error("VECTORIZE: 대기 작업 조회 실패 message='{}'", e.getMessage(), e);
+            return;
+        }
+        // 가져온 수만큼만 자리를 쓰고 나머지는 반납
+        slots.release(available - claimed.size());
+
+        for (ClaimedIndexJob job : claimed) {
+            try {
+                indexWorkerExecutor.execute(() -> {
+                    try {
+                        process(job);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 제출 실패한 작업은 lease가 끝나면 다시 가져감
+                slots.release();
+                log.error("VECTORIZE: 작업 제출 실패 id={} message='{}'", job.id(), e.getMessage());
+            }
+        }
+    }
+
+    private void process(ClaimedIndexJob claimed) {
+        try {
+            indexJobHandler.handle(claimed.job());
+            indexJobQueue.complete(claimed);
+        } catch (Exception e) {
+            Duration retryDelay = claimed.attempts() >= properties.getMaxAttempts() ? null : backoff(claimed.attempts());
+            try {
+                indexJobQueue.fail(claimed, e.getClass().getSimpleName() + ": " + e.getMessage(), retryDelay);
+            } catch (Exception failError) {
+                log.error("VECTORIZE: 실패 기록 실패 id={} message='{}'", claimed.id(), failError.getMessage());
+            }
+            if (retryDelay == null) {
+                log.error("VECTORIZE: 재시도 한도 초과로 DEAD 처리 id={} attempts={} sourceType={} teamId={} apiPath={} resourceId={}",
+                        claimed.id(), claimed.attempts(), claimed.job().sourceType(), claimed.job().teamId(),
+                        claimed.job().apiPath(), claimed.job().resourceId());
+            } else {
+                log.warn("VECTORIZE: 재시도 예정 id={} attempts={} retryIn={}s", claimed.id(), claimed.attempts(), retryDelay.toSeconds());
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration max = properties.getMaxBackoff();
+        Duration delay = properties.getInitialBackoff();
+        for (int i = 1; i < attempts && delay.compareTo(max) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+}
@@ -3,14 +3,21 @@ package pingpong.backend.global.rag.indexing.job;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import pingpong.backend.global.rag.indexing.dto.IndexJob;
+import pingpong.backend.global.rag.indexing.repository.DocumentFactory;
+import pingpong.backend.global.rag.indexing.repository.IndexJobQueue;
 
+/**
+ * 인덱싱 작업을 index_job_outbox에 저장만 하고 바로 반환 (처리는 IndexJobDispatcher)
+ * 같은 source key의 작업이 아직 처리 전이면 최신 payload로 합쳐짐
+ */
 @Component
 @RequiredArgsConstructor
 public class IndexJobPublisher {
 
-    private final IndexJobHandler indexJobHandler;
+    private final IndexJobQueue indexJobQueue;
+    private final DocumentFactory documentFactory;
 
     public void publish(IndexJob job) {
-        indexJobHandler.handle(job);
+        indexJobQueue.enqueue(documentFactory.buildSourceKey(job), job);
     }
 }
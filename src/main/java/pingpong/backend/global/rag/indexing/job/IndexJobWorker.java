@@ -1,7 +1,6 @@
 package pingpong.backend.global.rag.indexing.job;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import pingpong.backend.global.exception.CustomException;
 import pingpong.backend.global.rag.indexing.enums.IndexSourceType;
@@ -33,7 +32,9 @@ public class IndexJobWorker implements IndexJobHandler {
         this.pineconeVectorStoreGateway = pineconeVectorStoreGateway;
     }
 
-    @Async("indexExecutor")
+    /**
+     * IndexJobDispatcher의 작업 스레드에서 호출, 실패하면 예외를 그대로 던져 재시도 대상으로 남김
+     */
     @Override
     public void handle(IndexJob job) {
         log.info("VECTORIZE: job received — sourceType={} teamId={} apiPath={} resourceId={}",
@@ -64,10 +65,12 @@ public class IndexJobWorker implements IndexJobHandler {
             log.error("VECTORIZE: CustomException — {} sourceType={} teamId={} apiPath={} resourceId={}",
                     e.getErrorCode().getMessage(),
                     job.sourceType(), job.teamId(), job.apiPath(), job.resourceId(), e);
+            throw e;
         } catch (Exception e) {
             log.error("VECTORIZE: unexpected error — errorType={} sourceType={} teamId={} apiPath={} resourceId={} message='{}'",
                     e.getClass().getSimpleName(),
                     job.sourceType(), job.teamId(), job.apiPath(), job.resourceId(), e.getMessage(), e);
+            throw e;
         }
     }
 
@@ -11,20 +11,58 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Component
 public class DocumentFactory {
 
     private static final int HASH_PREFIX_LENGTH = 32;
+    private static final int CHUNK_ID_HASH_LENGTH = 16;
+
+    // 청크 위치/시각 메타데이터: 청크 해시에서 제외 (앞쪽 청크가 늘거나 줄어도 뒤쪽 청크를 다시 임베딩하지 않도록)
+    // 다시 임베딩하지 않은 청크에는 마지막으로 임베딩했을 때의 값이 남으므로 검색/정렬에 쓰지 않고 벡터 DB에서 청크를 확인할 때만 참고
+    // 청크 순번/개수(chunkIndex, chunkCount)는 읽는 곳이 없고 앞쪽이 바뀌면 모든 청크에서 값이 달라져 저장하지 않음 (문서 단위 개수는 IndexingState.chunkCount)
+    private static final Set<String> POSITIONAL_METADATA = Set.of("position", "updatedAt");
+
+    /**
+     * 청크 id = documentPrefix + 청크 텍스트 해시 (같은 텍스트가 반복되면 등장 순번을 덧붙임)
+     * 위치가 아니라 내용으로 정해지므로 앞쪽 청크가 바뀌어도 뒤쪽 청크 id는 그대로
+     */
+    public List<String> chunkIds(String documentPrefix, List<String> chunks) {
+        List<String> ids = new ArrayList<>(chunks.size());
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (String chunk : chunks) {
+            String textHash = sha256Hex(chunk).substring(0, CHUNK_ID_HASH_LENGTH);
+            int occurrence = occurrences.merge(textHash, 1, Integer::sum) - 1;
+            ids.add(documentPrefix + "-" + textHash + (occurrence == 0 ? "" : "-" + occurrence));
+        }
+        return ids;
+    }
+
+    /**
+     * 청크 변경 판단용 해시: 텍스트 + 위치와 무관한 메타데이터 (title, status 등이 바뀌면 다시 임베딩)
+     */
+    public String chunkHash(Document document) {
+        StringBuilder input = new StringBuilder(document.getText());
+        new TreeMap<>(document.getMetadata()).forEach((key, value) -> {
+            if (!POSITIONAL_METADATA.contains(key)) {
+                input.append('\n').append(key).append('=').append(value);
+            }
+        });
+        return sha256Hex(input.toString());
+    }
 
     public List<Document> toDocuments(IndexJob job,
                                       String sourceKey,
                                       String documentPrefix,
                                       List<String> chunks) {
         List<Document> documents = new ArrayList<>(chunks.size());
+        List<String> ids = chunkIds(documentPrefix, chunks);
         Instant now = Instant.now();
 
         JsonNode payload = job.payload();
@@ -61,8 +99,6 @@ public class DocumentFactory {
             metadata.put("lastEditedTime", defaultString(lastEditedTime));
             metadata.put("position", i);
             metadata.put("depth", inferDepth(chunk));
-            metadata.put("chunkIndex", i);
-            metadata.put("chunkCount", chunks.size());
             metadata.put("updatedAt", now.toString());
             if (isPageDoc) {
                 metadata.put("status", defaultString(status));
@@ -76,7 +112,7 @@ public class DocumentFactory {
             }
 
             Document document = Document.builder()
-                    .id(documentPrefix + "-" + i)
+                    .id(ids.get(i))
                     .text(chunk)
                     .metadata(metadata)
                     .build();
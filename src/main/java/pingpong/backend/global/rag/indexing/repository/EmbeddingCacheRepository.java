@@ -0,0 +1,81 @@
+package pingpong.backend.global.rag.indexing.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * embedding_cache 조회/저장
+ * 같은 (model, text_hash)를 여러 인스턴스가 동시에 저장해도 먼저 들어간 행만 남음 (INSERT IGNORE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmbeddingCacheRepository {
+
+    // IN 절 한 번에 넣는 해시 수
+    private static final int LOOKUP_BATCH_SIZE = 500;
+
+    private static final String SELECT_BY_HASHES = """
+            SELECT text_hash, embedding FROM embedding_cache
+            WHERE model = :model AND text_hash IN (:hashes)
+            """;
+
+    private static final String INSERT_IGNORE = """
+            INSERT IGNORE INTO embedding_cache (model, text_hash, dimensions, embedding, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * @return 텍스트 해시 -> 임베딩 (캐시에 있는 것만)
+     */
+    public Map<String, float[]> findAll(String model, List<String> textHashes) {
+        Map<String, float[]> found = new HashMap<>();
+        for (int from = 0; from < textHashes.size(); from += LOOKUP_BATCH_SIZE) {
+            List<String> hashes = textHashes.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, textHashes.size()));
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("model", model)
+                    .addValue("hashes", hashes);
+            namedParameterJdbcTemplate.query(SELECT_BY_HASHES, params, rs -> {
+                found.put(rs.getString("text_hash"), toFloats(rs.getBytes("embedding")));
+            });
+        }
+        return found;
+    }
+
+    public void saveAll(String model, Map<String, float[]> embeddings) {
+        if (embeddings.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(embeddings.size());
+        embeddings.forEach((textHash, embedding) ->
+                rows.add(new Object[]{model, textHash, embedding.length, toBytes(embedding), now}));
+        jdbcTemplate.batchUpdate(INSERT_IGNORE, rows);
+    }
+
+    private static byte[] toBytes(float[] embedding) {
+        ByteBuffer buffer = ByteBuffer.allocate(embedding.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(embedding);
+        return buffer.array();
+    }
+
+    private static float[] toFloats(byte[] bytes) {
+        float[] embedding = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(embedding);
+        return embedding;
+    }
+}
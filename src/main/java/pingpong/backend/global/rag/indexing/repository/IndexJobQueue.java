@@ -0,0 +1,221 @@
+package pingpong.backend.global.rag.indexing.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pingpong.backend.global.exception.CustomException;
+import pingpong.backend.global.rag.indexing.IndexingErrorCode;
+import pingpong.backend.global.rag.indexing.dto.IndexJob;
+import pingpong.backend.global.rag.indexing.enums.IndexSourceType;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * index_job_outbox 기반 인덱싱 작업 큐 (여러 서버 인스턴스가 같은 테이블을 공유)
+ * - enqueue: source key 기준 upsert, 대기 중인 같은 source key 작업은 payload만 최신으로 교체 (중복 제거)
+ * - claim: SELECT ... FOR UPDATE SKIP LOCKED로 인스턴스끼리 같은 행을 가져가지 않음 (MySQL 8 이상)
+ * - 처리 중에 같은 source key가 다시 들어오면 revision만 올라가고, 처리가 끝난 뒤 최신 payload로 한 번 더 처리
+ * - claim마다 새 claim token을 발급하고 complete / fail은 token이 같을 때만 반영
+ *   (lease가 끝나 다른 인스턴스가 다시 가져간 작업을 늦게 끝난 이전 처리가 지우거나 되돌리지 못함)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IndexJobQueue {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    // ON DUPLICATE KEY UPDATE는 왼쪽부터 적용되므로 status 변경을 마지막에 둠
+    // (IF 대신 CASE를 써서 테스트용 H2 MySQL 모드에서도 같은 SQL로 실행)
+    private static final String ENQUEUE = """
+            INSERT INTO index_job_outbox (source_key, source_type, team_id, api_path, resource_id, payload,
+                status, attempts, revision, next_attempt_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, 'PENDING', 0, 1, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                source_type = VALUES(source_type),
+                api_path = VALUES(api_path),
+                resource_id = VALUES(resource_id),
+                payload = VALUES(payload),
+                revision = revision + 1,
+                attempts = CASE WHEN status = 'RUNNING' THEN attempts ELSE 0 END,
+                next_attempt_at = CASE WHEN status = 'RUNNING' THEN next_attempt_at ELSE VALUES(next_attempt_at) END,
+                last_error = CASE WHEN status = 'RUNNING' THEN last_error ELSE NULL END,
+                updated_at = VALUES(updated_at),
+                status = CASE WHEN status = 'RUNNING' THEN 'RUNNING' ELSE 'PENDING' END
+            """;
+
+    private static final String SELECT_CLAIMABLE = """
+            SELECT index_job_outbox_id FROM index_job_outbox
+            WHERE (status = 'PENDING' AND next_attempt_at <= ?)
+                OR (status = 'RUNNING' AND lease_until < ?)
+            ORDER BY next_attempt_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String MARK_RUNNING = """
+            UPDATE index_job_outbox
+            SET status = 'RUNNING', claimed_revision = revision, claim_token = :claimToken, attempts = attempts + 1,
+                lease_until = :leaseUntil, updated_at = :now
+            WHERE index_job_outbox_id IN (:ids)
+            """;
+
+    private static final String SELECT_CLAIMED = """
+            SELECT index_job_outbox_id, source_type, team_id, api_path, resource_id, payload, attempts
+            FROM index_job_outbox
+            WHERE index_job_outbox_id IN (:ids)
+            ORDER BY next_attempt_at
+            """;
+
+    private static final String DELETE_COMPLETED = """
+            DELETE FROM index_job_outbox
+            WHERE index_job_outbox_id = ? AND claim_token = ? AND status = 'RUNNING' AND revision = claimed_revision
+            """;
+
+    // 처리 중에 새 payload가 들어온 작업은 실패 여부와 상관없이 바로 다시 처리
+    private static final String REQUEUE_NEWER = """
+            UPDATE index_job_outbox
+            SET status = 'PENDING', attempts = 0, next_attempt_at = ?, lease_until = NULL, claim_token = NULL,
+                last_error = ?, updated_at = ?
+            WHERE index_job_outbox_id = ? AND claim_token = ? AND status = 'RUNNING' AND revision <> claimed_revision
+            """;
+
+    private static final String RETRY_LATER = """
+            UPDATE index_job_outbox
+            SET status = 'PENDING', next_attempt_at = ?, lease_until = NULL, claim_token = NULL, last_error = ?, updated_at = ?
+            WHERE index_job_outbox_id = ? AND claim_token = ? AND status = 'RUNNING'
+            """;
+
+    private static final String MARK_DEAD = """
+            UPDATE index_job_outbox
+            SET status = 'DEAD', lease_until = NULL, claim_token = NULL, last_error = ?, updated_at = ?
+            WHERE index_job_outbox_id = ? AND claim_token = ? AND status = 'RUNNING'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void enqueue(String sourceKey, IndexJob job) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(ENQUEUE,
+                sourceKey,
+                job.sourceType().name(),
+                job.teamId(),
+                job.apiPath(),
+                job.resourceId(),
+                writePayload(job.payload()),
+                now, now, now);
+    }
+
+    /**
+     * 처리할 수 있는 작업을 최대 limit개 가져와서 RUNNING으로 표시
+     * @param limit
+     * @param lease 이 시간 안에 complete / fail이 없으면 다른 인스턴스가 다시 가져감
+     * @return
+     */
+    @Transactional
+    public List<ClaimedIndexJob> claim(int limit, Duration lease) {
+        Instant now = Instant.now();
+        Timestamp nowTs = Timestamp.from(now);
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_CLAIMABLE, Long.class, nowTs, nowTs, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String claimToken = UUID.randomUUID().toString();
+        namedParameterJdbcTemplate.update(MARK_RUNNING, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("claimToken", claimToken)
+                .addValue("leaseUntil", Timestamp.from(now.plus(lease)))
+                .addValue("now", nowTs));
+        return namedParameterJdbcTemplate.query(SELECT_CLAIMED, new MapSqlParameterSource("ids", ids),
+                (rs, rowNum) -> new ClaimedIndexJob(
+                        rs.getLong("index_job_outbox_id"),
+                        claimToken,
+                        rs.getInt("attempts"),
+                        new IndexJob(
+                                IndexSourceType.valueOf(rs.getString("source_type")),
+                                rs.getLong("team_id"),
+                                rs.getString("api_path"),
+                                rs.getString("resource_id"),
+                                readPayload(rs.getString("payload")))));
+    }
+
+    /**
+     * 처리 완료, 처리 중에 새 payload가 들어왔으면 삭제하지 않고 다시 대기 상태로
+     * lease가 끝나 다른 인스턴스가 다시 가져간 작업이면 아무것도 바꾸지 않음
+     * @param claimed
+     */
+    public void complete(ClaimedIndexJob claimed) {
+        if (jdbcTemplate.update(DELETE_COMPLETED, claimed.id(), claimed.claimToken()) == 0) {
+            Timestamp now = Timestamp.from(Instant.now());
+            jdbcTemplate.update(REQUEUE_NEWER, now, null, now, claimed.id(), claimed.claimToken());
+        }
+    }
+
+    /**
+     * 처리 실패, retryDelay가 null이면 재시도하지 않고 DEAD로 표시
+     * lease가 끝나 다른 인스턴스가 다시 가져간 작업이면 아무것도 바꾸지 않음
+     * @param claimed
+     * @param error
+     * @param retryDelay
+     */
+    public void fail(ClaimedIndexJob claimed, String error, Duration retryDelay) {
+        Instant now = Instant.now();
+        Timestamp nowTs = Timestamp.from(now);
+        String message = truncate(error);
+        if (jdbcTemplate.update(REQUEUE_NEWER, nowTs, message, nowTs, claimed.id(), claimed.claimToken()) > 0) {
+            return;
+        }
+        if (retryDelay == null) {
+            jdbcTemplate.update(MARK_DEAD, message, nowTs, claimed.id(), claimed.claimToken());
+            return;
+        }
+        jdbcTemplate.update(RETRY_LATER, Timestamp.from(now.plus(retryDelay)), message, nowTs,
+                claimed.id(), claimed.claimToken());
+    }
+
+    private String writePayload(JsonNode payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(IndexingErrorCode.INDEXING_QUEUE_FAILED);
+        }
+    }
+
+    private JsonNode readPayload(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(IndexingErrorCode.INDEXING_QUEUE_FAILED);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * @param claimToken 이 claim에서 발급한 token, complete / fail에 그대로 넘김
+     */
+    public record ClaimedIndexJob(long id, String claimToken, int attempts, IndexJob job) {
+    }
+}
@@ -0,0 +1,200 @@
+package pingpong.backend.global.rag.indexing.repository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import pingpong.backend.global.exception.CustomException;
+import pingpong.backend.global.rag.indexing.IndexingErrorCode;
+import pingpong.backend.global.rag.indexing.config.IndexingProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동시에 처리 중인 인덱싱 작업들의 vectorStore.add()를 모아서 한 번에 보냄 (임베딩 요청 + upsert 1회)
+ * - vectorBatchMaxDocuments만큼 모이면 마지막으로 넣은 작업 스레드에서 바로 전송
+ * - 그 전이라도 첫 문서가 들어온 뒤 vectorBatchMaxDelayMillis가 지나면 vectorFlushExecutor에서 전송
+ * add()는 자기 문서가 포함된 배치가 저장될 때까지 (최대 vectorBatchAwaitTimeout) 기다리고, 자기 문서 저장이 실패한 경우에만 예외를 던짐
+ * (묶음 전송이 실패하면 작업별로 나눠 다시 보내서 실패한 작업만 가려냄)
+ */
+@Component
+@Slf4j
+public class VectorStoreBatcher {
+
+    private final VectorStore vectorStore;
+    private final IndexingProperties properties;
+    private final Executor flushExecutor;
+    // 지연 전송 시각만 재는 타이머, 전송 자체는 flushExecutor에서 실행
+    private final ScheduledExecutorService flushTimer;
+
+    private final Object lock = new Object();
+    private List<PendingAdd> pending = new ArrayList<>();
+    private int pendingDocuments;
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * flushExecutor는 add()에서 기다리는 작업 스레드(indexWorkerExecutor)나 다른 작업과 공유하지 않는 전용 풀이어야 함
+     * 공유하면 모든 스레드가 기다리거나 다른 작업에 잡혀 있는 동안 전송이 실행되지 못함
+     */
+    public VectorStoreBatcher(VectorStore vectorStore,
+                              IndexingProperties properties,
+                              @Qualifier("vectorFlushExecutor") Executor flushExecutor) {
+        this.vectorStore = vectorStore;
+        this.properties = properties;
+        this.flushExecutor = flushExecutor;
+        this.flushTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "vector-batch-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void add(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        PendingAdd request = new PendingAdd(documents, new CompletableFuture<>());
+        List<PendingAdd> batch = null;
+        synchronized (lock) {
+            pending.add(request);
+            pendingDocuments += documents.size();
+            if (pendingDocuments >= Math.max(1, properties.getVectorBatchMaxDocuments())) {
+                batch = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = flushTimer.schedule(this::dispatchPending,
+                        properties.getVectorBatchMaxDelayMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (batch != null) {
+            flush(batch);
+        }
+        await(request);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushTimer.shutdownNow();
+        flushPending();
+    }
+
+    private void dispatchPending() {
+        try {
+            flushExecutor.execute(this::flushPending);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 등으로 실행기가 받지 않으면 타이머 스레드에서 직접 전송
+            flushPending();
+        }
+    }
+
+    private void flushPending() {
+        List<PendingAdd> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    // lock 안에서 호출
+    private List<PendingAdd> drain() {
+        List<PendingAdd> batch = pending;
+        pending = new ArrayList<>();
+        pendingDocuments = 0;
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingAdd> batch) {
+        try {
+            send(batch);
+        } catch (Throwable e) {
+            // Error 등 예상 밖의 실패로 빠져나와도 기다리는 작업이 남지 않도록 (이미 끝난 작업은 그대로)
+            batch.forEach(request -> request.result().completeExceptionally(e));
+            throw e;
+        }
+    }
+
+    private void send(List<PendingAdd> batch) {
+        List<Document> combined = new ArrayList<>();
+        for (PendingAdd request : batch) {
+            combined.addAll(request.documents());
+        }
+        try {
+            vectorStore.add(combined);
+            log.info("INDEX-BATCH: vectorStore.add() jobs={} documents={}", batch.size(), combined.size());
+            batch.forEach(request -> request.result().complete(null));
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            log.warn("INDEX-BATCH: 묶음 전송 실패, 작업별로 다시 전송 jobs={} documents={} error='{}'",
+                    batch.size(), combined.size(), e.getMessage());
+        }
+        for (PendingAdd request : batch) {
+            try {
+                vectorStore.add(request.documents());
+                request.result().complete(null);
+            } catch (RuntimeException e) {
+                request.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void await(PendingAdd request) {
+        try {
+            request.result().get(properties.getVectorBatchAwaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 작업 스레드에는 vectorStore가 던진 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new CustomException(IndexingErrorCode.INDEXING_VECTORIZE_FAILED);
+        } catch (TimeoutException e) {
+            // 아직 보내지 않았으면 큐에서 빼서 재시도 때 중복 전송되지 않도록
+            withdraw(request);
+            log.error("INDEX-BATCH: 배치 저장 대기 시간 초과 documents={} timeout={}",
+                    request.documents().size(), properties.getVectorBatchAwaitTimeout());
+            throw new CustomException(IndexingErrorCode.INDEXING_VECTORIZE_FAILED);
+        } catch (InterruptedException e) {
+            withdraw(request);
+            Thread.currentThread().interrupt();
+            throw new CustomException(IndexingErrorCode.INDEXING_VECTORIZE_FAILED);
+        }
+    }
+
+    private void withdraw(PendingAdd request) {
+        synchronized (lock) {
+            if (pending.remove(request)) {
+                pendingDocuments -= request.documents().size();
+            }
+            if (pending.isEmpty() && scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+        }
+    }
+
+    private record PendingAdd(List<Document> documents, CompletableFuture<Void> result) {
+    }
+}
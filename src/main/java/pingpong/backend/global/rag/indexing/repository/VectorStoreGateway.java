@@ -14,7 +14,9 @@ import pingpong.backend.global.rag.indexing.enums.IndexSourceType;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -23,11 +25,13 @@ import java.util.Optional;
 public class VectorStoreGateway {
 
     private final VectorStore vectorStore;
+    private final VectorStoreBatcher vectorStoreBatcher;
     private final IndexingStateRepository stateRepository;
     private final DocumentFactory documentFactory;
 
     /**
      * 벡터 DB에 문서를 upsert합니다.
+     * 청크별 해시를 이전 인덱싱 결과와 비교해서 새로 생기거나 바뀐 청크만 임베딩/upsert하고, 사라진 청크 id만 삭제합니다.
      * vectorStore.add()는 벡터 DB 연산으로 JPA 트랜잭션 범위 밖에 있으며,
      * {@literal @}Transactional은 stateRepository.save()의 일관성을 보장하기 위해 유지합니다.
      */
@@ -49,18 +53,40 @@ public class VectorStoreGateway {
 
         IndexingState state = stateOptional.orElse(null);
 
-        deleteStaleChunks(state, documentPrefix, chunks.size());
+        List<Document> documents = documentFactory.toDocuments(job, sourceKey, documentPrefix, chunks);
+        Map<String, String> previousHashes = state == null || state.getChunkHashes() == null
+                ? Map.of() : state.getChunkHashes();
+        Map<String, String> chunkHashes = new LinkedHashMap<>();
+        List<Document> changed = new ArrayList<>();
+        for (Document document : documents) {
+            String chunkHash = documentFactory.chunkHash(document);
+            chunkHashes.put(document.getId(), chunkHash);
+            if (!chunkHash.equals(previousHashes.get(document.getId()))) {
+                changed.add(document);
+            }
+        }
+        int reused = documents.size() - changed.size();
 
-        try {
-            log.info("INDEX-UPSERT: calling vectorStore.add() with {} chunks for sourceKey={}", chunks.size(), sourceKey);
-            vectorStore.add(documentFactory.toDocuments(job, sourceKey, documentPrefix, chunks));
-            log.info("INDEX-UPSERT: vectorStore.add() succeeded for sourceKey={}", sourceKey);
-        } catch (Exception e) {
-            log.error("INDEX-UPSERT: vectorStore.add() FAILED — sourceType={} teamId={} apiPath={} resourceId={} sourceKey={} error='{}'",
-                    job.sourceType(), job.teamId(), job.apiPath(), job.resourceId(), sourceKey, e.getMessage(), e);
-            throw e;
+        if (!changed.isEmpty()) {
+            try {
+                log.info("INDEX-UPSERT: calling vectorStore.add() with {} of {} chunks for sourceKey={}",
+                        changed.size(), documents.size(), sourceKey);
+                // 동시에 처리 중인 다른 작업의 청크와 묶어서 임베딩/upsert (저장될 때까지 대기)
+                vectorStoreBatcher.add(changed);
+                log.info("INDEX-UPSERT: vectorStore.add() succeeded for sourceKey={}", sourceKey);
+            } catch (Exception e) {
+                log.error("INDEX-UPSERT: vectorStore.add() FAILED — sourceType={} teamId={} apiPath={} resourceId={} sourceKey={} error='{}'",
+                        job.sourceType(), job.teamId(), job.apiPath(), job.resourceId(), sourceKey, e.getMessage(), e);
+                throw e;
+            }
         }
 
+        // 새 청크를 먼저 넣고 나서 지워서 검색 결과가 비는 구간이 없도록
+        List<String> staleIds = chunkIdsOf(state).stream()
+                .filter(id -> !chunkHashes.containsKey(id))
+                .toList();
+        deleteStaleChunks(staleIds);
+
         Instant now = Instant.now();
         if (state == null) {
             state = IndexingState.create(
@@ -77,10 +103,12 @@ public class VectorStoreGateway {
         } else {
             state.refresh(job.sourceType(), job.apiPath(), job.resourceId(), contentHash, chunks.size(), now);
         }
+        state.recordChunks(chunkHashes, reused, changed.size());
 
         stateRepository.save(state);
-        log.info("INDEX-UPSERT: complete — sourceType={} teamId={} apiPath={} resourceId={} chunks={}",
-                job.sourceType(), job.teamId(), job.apiPath(), job.resourceId(), chunks.size());
+        log.info("INDEX-UPSERT: complete — sourceType={} teamId={} apiPath={} resourceId={} chunks={} reused={} embedded={} deleted={}",
+                job.sourceType(), job.teamId(), job.apiPath(), job.resourceId(), chunks.size(),
+                reused, changed.size(), staleIds.size());
     }
 
     /**
@@ -90,10 +118,7 @@ public class VectorStoreGateway {
     public void deleteByPageId(Long teamId, String pageId) {
         stateRepository.findBySourceTypeAndTeamIdAndResourceId(IndexSourceType.NOTION, teamId, pageId)
                 .ifPresent(state -> {
-                    List<String> ids = new ArrayList<>();
-                    for (int i = 0; i < state.getChunkCount(); i++) {
-                        ids.add(state.getDocumentPrefix() + "-" + i);
-                    }
+                    List<String> ids = chunkIdsOf(state);
                     if (!ids.isEmpty()) {
                         vectorStore.delete(ids);
                     }
@@ -177,36 +202,35 @@ public class VectorStoreGateway {
         return String.join(" && ", filters);
     }
 
-    private void deleteStaleChunks(IndexingState state, String currentDocumentPrefix, int newChunkCount) {
-        if (state == null || state.getChunkCount() <= 0) {
-            return;
+    /**
+     * 벡터 DB에 저장되어 있는 청크 id
+     * 청크 해시가 없는 이전 인덱싱 결과는 documentPrefix-순번 형식
+     */
+    private List<String> chunkIdsOf(IndexingState state) {
+        if (state == null) {
+            return List.of();
         }
-
-        List<String> staleIds = new ArrayList<>();
-        if (!state.getDocumentPrefix().equals(currentDocumentPrefix)) {
-            log.info("INDEX-STALE: documentPrefix changed (old={}, new={}) — deleting all {} old chunks",
-                    state.getDocumentPrefix(), currentDocumentPrefix, state.getChunkCount());
-            for (int i = 0; i < state.getChunkCount(); i++) {
-                staleIds.add(state.getDocumentPrefix() + "-" + i);
-            }
-        } else if (state.getChunkCount() > newChunkCount) {
-            int staleCount = state.getChunkCount() - newChunkCount;
-            log.info("INDEX-STALE: chunk count reduced ({} → {}) — deleting {} trailing chunks for prefix={}",
-                    state.getChunkCount(), newChunkCount, staleCount, currentDocumentPrefix);
-            for (int i = newChunkCount; i < state.getChunkCount(); i++) {
-                staleIds.add(currentDocumentPrefix + "-" + i);
-            }
+        if (state.getChunkHashes() != null) {
+            return new ArrayList<>(state.getChunkHashes().keySet());
         }
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < state.getChunkCount(); i++) {
+            ids.add(state.getDocumentPrefix() + "-" + i);
+        }
+        return ids;
+    }
 
-        if (!staleIds.isEmpty()) {
-            try {
-                vectorStore.delete(staleIds);
-                log.info("INDEX-STALE: deleted {} stale chunk(s) from vectorStore", staleIds.size());
-            } catch (Exception e) {
-                log.error("INDEX-STALE: vectorStore.delete() FAILED for {} chunk(s) error='{}'",
-                        staleIds.size(), e.getMessage(), e);
-                throw e;
-            }
+    private void deleteStaleChunks(List<String> staleIds) {
+        if (staleIds.isEmpty()) {
+            return;
+        }
+        try {
+            vectorStore.delete(staleIds);
+            log.info("INDEX-STALE: deleted {} stale chunk(s) from vectorStore", staleIds.size());
+        } catch (Exception e) {
+            log.error("INDEX-STALE: vectorStore.delete() FAILED for {} chunk(s) error='{}'",
+                    staleIds.size(), e.getMessage(), e);
+            throw e;
         }
     }
 }
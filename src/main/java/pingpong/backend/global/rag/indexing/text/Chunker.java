@@ -7,12 +7,25 @@ import pingpong.backend.global.rag.indexing.config.IndexingProperties;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 정규화된 텍스트를 청크로 분할
+ * 청크 경계를 글자 위치가 아니라 줄 내용으로 정해서 (content-defined chunking) 앞쪽이 수정돼도 뒤쪽 경계가 그대로 유지됨
+ * - 줄 단위로 이어붙이다가 청크가 1/4 이상 찼을 때 기준 줄을 만나면 끊음
+ *   기준 줄: 바로 앞 줄의 내용 해시가 기준을 만족하는 빈 줄(문단 끝) 또는 내용 해시가 기준을 만족하는 줄
+ *   빈 줄마다 끊으면 경계가 문단 개수에만 의존해서 문단 하나가 추가/삭제되면 뒤쪽 경계가 모두 밀리므로 내용으로 고름
+ * - 청크 본문은 chunkSize - chunkOverlap을 넘지 않고, 앞 청크 끝부분(chunkOverlap 이내, 줄 단위)을 앞에 붙임
+ * - 청크보다 긴 줄은 그 줄 안에서만 나눔
+ * 수정된 줄이 속한 청크(와 그 끝부분을 이어받는 다음 청크)만 바뀌고, 경계는 다음 기준 줄에서 다시 맞춰짐
+ */
 @Component
 @RequiredArgsConstructor
 public class Chunker {
 
     private static final int MIN_CHUNK_SIZE = 200;
     private static final int CHUNK_BOUNDARY_WINDOW = 120;
+    // 문단 4개 중 1개, 일반 줄 8개 중 1개 꼴로 기준 줄이 됨
+    private static final int PARAGRAPH_ANCHOR_DIVISOR = 4;
+    private static final int LINE_ANCHOR_DIVISOR = 8;
 
     private final IndexingProperties properties;
 
@@ -22,36 +35,100 @@ public class Chunker {
         }
 
         int chunkSize = Math.max(MIN_CHUNK_SIZE, properties.getChunkSize());
-        int overlap = Math.max(0, Math.min(properties.getChunkOverlap(), chunkSize - 1));
+        int overlap = Math.max(0, Math.min(properties.getChunkOverlap(), chunkSize / 2));
+        int bodyMax = chunkSize - overlap;
+        // 최소 길이가 길수록 앞쪽 변경에 경계가 끌려가므로 짧게 둠
+        int minCut = bodyMax / 4;
 
         List<String> chunks = new ArrayList<>();
-        int length = text.length();
-        int start = 0;
+        StringBuilder body = new StringBuilder();
+        String carry = "";
+        String previousLine = "";
 
-        while (start < length) {
-            int hardEnd = Math.min(start + chunkSize, length);
-            int end = findBoundary(text, start, hardEnd);
-            if (end <= start) {
-                end = hardEnd;
+        for (String segment : segments(text, bodyMax)) {
+            if (body.length() > 0 && body.length() + segment.length() > bodyMax) {
+                carry = emit(chunks, carry, body, overlap);
             }
-
-            String chunk = text.substring(start, end).trim();
-            if (!chunk.isBlank()) {
-                chunks.add(chunk);
+            body.append(segment);
+            if (body.length() >= minCut && isAnchor(segment, previousLine)) {
+                carry = emit(chunks, carry, body, overlap);
+            }
+            if (!segment.isBlank()) {
+                previousLine = segment;
             }
+        }
+        if (body.length() > 0) {
+            emit(chunks, carry, body, overlap);
+        }
 
-            if (end >= length) {
-                break;
+        return chunks;
+    }
+
+    /**
+     * 줄 단위(줄바꿈 포함)로 나누고, maxLength보다 긴 줄은 줄 시작 기준으로 다시 나눔
+     */
+    private List<String> segments(String text, int maxLength) {
+        List<String> segments = new ArrayList<>();
+        int length = text.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int newline = text.indexOf('\n', lineStart);
+            int lineEnd = newline < 0 ? length : newline + 1;
+
+            int start = lineStart;
+            while (lineEnd - start > maxLength) {
+                int end = findBoundary(text, start, start + maxLength);
+                segments.add(text.substring(start, end));
+                start = end;
             }
+            segments.add(text.substring(start, lineEnd));
+            lineStart = lineEnd;
+        }
+        return segments;
+    }
 
-            int nextStart = end - overlap;
-            if (nextStart <= start) {
-                nextStart = end;
+    private String emit(List<String> chunks, String carry, StringBuilder body, int overlap) {
+        String bodyText = body.toString();
+        body.setLength(0);
+        if (bodyText.isBlank()) {
+            return carry;
+        }
+        String chunk = (carry + bodyText).trim();
+        if (!chunk.isBlank()) {
+            chunks.add(chunk);
+        }
+        return tail(bodyText, overlap);
+    }
+
+    /**
+     * 다음 청크 앞에 붙일 끝부분: overlap 이내에서 줄(없으면 단어) 시작부터
+     */
+    private String tail(String bodyText, int overlap) {
+        if (overlap == 0) {
+            return "";
+        }
+        if (bodyText.length() <= overlap) {
+            return bodyText;
+        }
+        int from = bodyText.length() - overlap;
+        int newline = bodyText.indexOf('\n', from);
+        if (newline >= 0 && newline + 1 < bodyText.length()) {
+            return bodyText.substring(newline + 1);
+        }
+        for (int i = from; i < bodyText.length(); i++) {
+            if (Character.isWhitespace(bodyText.charAt(i))) {
+                return bodyText.substring(i + 1);
             }
-            start = nextStart;
         }
+        return bodyText.substring(from);
+    }
 
-        return chunks;
+    private boolean isAnchor(String segment, String previousLine) {
+        String line = segment.trim();
+        if (line.isEmpty()) {
+            return Math.floorMod(previousLine.trim().hashCode(), PARAGRAPH_ANCHOR_DIVISOR) == 0;
+        }
+        return Math.floorMod(line.hashCode(), LINE_ANCHOR_DIVISOR) == 0;
     }
 
     private int findBoundary(String text, int start, int hardEnd) {
@@ -0,0 +1,44 @@
+package pingpong.backend.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 여러 서버 인스턴스 사이의 단순 잠금 (SET NX + TTL)
+ * 잠금을 잡은 인스턴스가 죽어도 TTL이 지나면 풀리므로 TTL은 작업 최대 시간보다 길게 잡아야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLockUtil {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String LOCK_PREFIX = "lock:";
+
+    // 내가 잡은 잠금일 때만 삭제 (TTL 만료 후 다른 인스턴스가 다시 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    public Optional<Lock> tryLock(String name, Duration ttl) {
+        String key = LOCK_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(new Lock(key, token)) : Optional.empty();
+    }
+
+    public void unlock(Lock lock) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(lock.key()), lock.token());
+    }
+
+    public record Lock(String key, String token) {
+    }
+}
@@ -0,0 +1,129 @@
+package pingpong.backend.domain.notion.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import pingpong.backend.domain.notion.config.NotionWebhookProperties;
+import pingpong.backend.domain.notion.service.NotionWebhookPendingStore.PendingBatch;
+import pingpong.backend.domain.notion.service.NotionWebhookPendingStore.PendingWindow;
+
+class NotionWebhookDebouncerTest {
+
+    private static final Long TEAM_ID = 1L;
+    private static final Instant NOW = Instant.parse("2026-01-01T00:10:00Z");
+
+    private final NotionWebhookProperties properties = new NotionWebhookProperties();
+    private NotionWebhookIndexingService indexingService;
+    private NotionWebhookPendingStore pendingStore;
+    private NotionWebhookDebouncer debouncer;
+
+    @BeforeEach
+    void setUp() {
+        properties.setQuietWindow(Duration.ofSeconds(10));
+        properties.setMaxDelay(Duration.ofSeconds(60));
+        indexingService = mock(NotionWebhookIndexingService.class);
+        pendingStore = mock(NotionWebhookPendingStore.class);
+        debouncer = new NotionWebhookDebouncer(indexingService, pendingStore, properties);
+        when(pendingStore.pendingTeamIds()).thenReturn(Set.of(TEAM_ID));
+    }
+
+    @Test
+    @DisplayName("마지막 이벤트 이후 quietWindow가 지나지 않았으면 묶음을 꺼내지 않는다")
+    void keepsBatchWithinQuietWindow() {
+        pending(NOW.minusSeconds(5), NOW.minusSeconds(5));
+
+        debouncer.flushDue(NOW);
+
+        verify(pendingStore, never()).drain(anyLong());
+        verify(indexingService, never()).reindexPages(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("마지막 이벤트 이후 quietWindow 동안 조용하면 모은 페이지를 한 번에 재인덱싱한다")
+    void flushesAfterQuietWindow() {
+        pending(NOW.minusSeconds(30), NOW.minusSeconds(10));
+        Map<String, Boolean> pages = new LinkedHashMap<>();
+        pages.put("page-a", false);
+        pages.put("page-b", true);
+        pages.put("page-c", false);
+        when(pendingStore.drain(TEAM_ID)).thenReturn(new PendingBatch(5, pages));
+
+        debouncer.flushDue(NOW);
+
+        verify(indexingService).reindexPages(TEAM_ID, Set.of("page-a", "page-c"), Set.of("page-b"));
+    }
+
+    @Test
+    @DisplayName("이벤트가 계속 들어와도 첫 이벤트 이후 maxDelay가 지나면 재인덱싱한다")
+    void flushesAfterMaxDelayEvenWhenBusy() {
+        pending(NOW.minusSeconds(60), NOW.minusSeconds(1));
+        when(pendingStore.drain(TEAM_ID)).thenReturn(new PendingBatch(30, Map.of("page-a", false)));
+
+        debouncer.flushDue(NOW);
+
+        verify(indexingService).reindexPages(TEAM_ID, Set.of("page-a"), Set.of());
+    }
+
+    @Test
+    @DisplayName("maxDelay 직전이고 이벤트가 계속 들어오면 아직 기다린다")
+    void waitsJustBeforeMaxDelay() {
+        pending(NOW.minusSeconds(59), NOW.minusSeconds(1));
+
+        debouncer.flushDue(NOW);
+
+        verify(pendingStore, never()).drain(anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 묶음을 꺼냈으면 재인덱싱하지 않는다")
+    void skipsBatchDrainedByAnotherInstance() {
+        pending(NOW.minusSeconds(30), NOW.minusSeconds(20));
+        when(pendingStore.drain(TEAM_ID)).thenReturn(new PendingBatch(0, Map.of()));
+
+        debouncer.flushDue(NOW);
+
+        verify(indexingService, never()).reindexPages(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("meta가 만료된 팀은 꺼내서 정리한다")
+    void drainsTeamWithoutWindow() {
+        when(pendingStore.window(TEAM_ID)).thenReturn(Optional.empty());
+        when(pendingStore.drain(TEAM_ID)).thenReturn(new PendingBatch(0, Map.of()));
+
+        debouncer.flushDue(NOW);
+
+        verify(pendingStore).drain(TEAM_ID);
+    }
+
+    @Test
+    @DisplayName("종료가 시작되면 묶음을 꺼내지 않고 Redis에 남겨둔다")
+    void leavesBatchesInStoreAfterStop() {
+        pending(NOW.minusSeconds(120), NOW.minusSeconds(60));
+
+        debouncer.stop();
+        debouncer.flushDue(NOW);
+
+        verify(pendingStore, never()).drain(anyLong());
+        verify(indexingService, never()).reindexPages(any(), any(), any());
+    }
+
+    private void pending(Instant firstEventAt, Instant lastEventAt) {
+        when(pendingStore.window(TEAM_ID)).thenReturn(Optional.of(new PendingWindow(firstEventAt, lastEventAt)));
+    }
+}
@@ -0,0 +1,94 @@
+package pingpong.backend.domain.qa.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import pingpong.backend.domain.qa.QaErrorCode;
+import pingpong.backend.domain.qa.config.QaExecuteProperties;
+import pingpong.backend.domain.qa.dto.QaBulkJobResponse;
+import pingpong.backend.domain.qa.dto.QaExecuteResultDto;
+import pingpong.backend.domain.qa.enums.SyncStatus;
+import pingpong.backend.domain.qa.repository.QaCaseRepository;
+import pingpong.backend.domain.swagger.service.SwaggerUrlResolver;
+import pingpong.backend.global.exception.CustomException;
+
+class QaBulkExecuteServiceTest {
+
+	private QaService qaService;
+	private QaCaseRepository qaCaseRepository;
+	private QaBulkJobStore qaBulkJobStore;
+	private QaBulkExecuteService qaBulkExecuteService;
+
+	@BeforeEach
+	void setUp() {
+		qaService = mock(QaService.class);
+		qaCaseRepository = mock(QaCaseRepository.class);
+		qaBulkJobStore = mock(QaBulkJobStore.class);
+		QaExecuteProperties properties = new QaExecuteProperties();
+
+		// 케이스 실행을 호출 스레드에서 바로 수행
+		qaBulkExecuteService = new QaBulkExecuteService(qaService, qaCaseRepository, mock(SwaggerUrlResolver.class),
+			new QaExecutionLimiter(properties), Runnable::run, properties, qaBulkJobStore);
+	}
+
+	@Test
+	@DisplayName("케이스 제출 전에 실패하면 작업을 메모리와 Redis에서 모두 지우고 예외를 그대로 던짐")
+	void removesJobWhenStartFails() {
+		when(qaCaseRepository.findSwaggerUrlsByIdIn(anyList())).thenThrow(new IllegalStateException("db down"));
+
+		assertThatThrownBy(() -> qaBulkExecuteService.startBulkJob(List.of(1L, 2L), null))
+			.isInstanceOf(IllegalStateException.class);
+
+		ArgumentCaptor<QaBulkJobResponse> saved = ArgumentCaptor.forClass(QaBulkJobResponse.class);
+		verify(qaBulkJobStore).save(saved.capture());
+		String jobId = saved.getValue().jobId();
+		verify(qaBulkJobStore).delete(jobId);
+		assertThatThrownBy(() -> qaBulkExecuteService.getBulkJob(jobId))
+			.isInstanceOf(CustomException.class)
+			.extracting(e -> ((CustomException)e).getErrorCode())
+			.isEqualTo(QaErrorCode.BULK_JOB_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("작업이 끝나면 결과가 담긴 완료 상태를 Redis에 저장")
+	void savesCompletedJobToStore() {
+		when(qaCaseRepository.findSwaggerUrlsByIdIn(anyList())).thenReturn(List.of());
+		when(qaService.executeQaCase(any(), any())).thenReturn(
+			new QaExecuteResultDto(10L, 200, true, null, null, LocalDateTime.now(), 5L, 200));
+
+		QaBulkJobResponse started = qaBulkExecuteService.startBulkJob(List.of(1L, 2L), null);
+
+		ArgumentCaptor<QaBulkJobResponse> saved = ArgumentCaptor.forClass(QaBulkJobResponse.class);
+		verify(qaBulkJobStore, atLeastOnce()).save(saved.capture());
+		QaBulkJobResponse last = saved.getValue();
+		assertThat(last.jobId()).isEqualTo(started.jobId());
+		assertThat(last.status()).isEqualTo(SyncStatus.COMPLETED);
+		assertThat(last.successCount()).isEqualTo(2);
+		assertThat(last.results()).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스에서 실행한 작업은 Redis에 저장된 상태로 조회")
+	void readsJobFromStoreWhenNotLocal() {
+		QaBulkJobResponse stored = new QaBulkJobResponse("remote-job", SyncStatus.PROCESSING, 3, 1, 1, 0,
+			LocalDateTime.now(), null, List.of());
+		when(qaBulkJobStore.find("remote-job")).thenReturn(Optional.of(stored));
+
+		assertThat(qaBulkExecuteService.getBulkJob("remote-job")).isEqualTo(stored);
+	}
+}
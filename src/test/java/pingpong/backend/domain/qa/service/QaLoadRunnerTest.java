@@ -0,0 +1,201 @@
+package pingpong.backend.domain.qa.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import pingpong.backend.domain.qa.dto.QaLoadTarget;
+import pingpong.backend.domain.qa.enums.LoadMode;
+import pingpong.backend.domain.swagger.client.ApiExecuteClient;
+import pingpong.backend.domain.swagger.enums.CrudMethod;
+
+/**
+ * 로컬 stub 서버(JDK HttpServer)를 대상으로 QaLoadRunner 실행
+ * /fast는 바로, /slow는 SLOW_MILLIS 뒤에 200 응답
+ */
+class QaLoadRunnerTest {
+
+	private static final long SLOW_MILLIS = 100;
+
+	private HttpServer server;
+	private ExecutorService serverExecutor;
+	private final AtomicInteger received = new AtomicInteger();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	private ApiExecuteClient apiExecuteClient;
+	private QaLoadRunner qaLoadRunner;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		server.setExecutor(serverExecutor);
+		server.createContext("/", this::handle);
+		server.start();
+
+		// 운영 설정(ApiExecuteConfig)과 같이 4xx/5xx도 예외 없이 응답으로 받음
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
+			@Override
+			public boolean hasError(ClientHttpResponse response) {
+				return false;
+			}
+		});
+		apiExecuteClient = new ApiExecuteClient(restTemplate);
+		qaLoadRunner = new QaLoadRunner(apiExecuteClient);
+
+		// 첫 요청의 클래스 로딩/커넥션 수립 시간이 지연 시간 분포에 섞이지 않도록 미리 한 번 호출
+		apiExecuteClient.executeQuietly(target("/fast", 200).request());
+		received.set(0);
+		maxInFlight.set(0);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("동시 요청 수 모드: 보낸 요청 수가 서버가 받은 수와 같고 동시 요청 수를 넘지 않음")
+	void concurrencyModeRespectsCap() {
+		QaLoadRunner.LoadResult result = qaLoadRunner.run(
+			List.of(target("/slow", 200)),
+			new QaLoadRunner.LoadProfile(LoadMode.CONCURRENCY, null, 4, Duration.ofMillis(600)));
+
+		assertThat(result.totalRequests()).isPositive().isEqualTo(received.get());
+		assertThat(maxInFlight.get()).isBetween(2, 4);
+		assertThat(result.errorCount()).isZero();
+		assertThat(result.statusCounts()).isEqualTo(Map.of("200", result.totalRequests()));
+		assertThat(result.histogram().count()).isEqualTo(result.totalRequests());
+		// 워커 4개가 100ms짜리 요청을 600ms 동안 보내면 워커당 최대 6건 + 마감 직전 시작한 1건
+		assertThat(result.totalRequests()).isLessThanOrEqualTo(4 * 7);
+		assertThat(result.histogram().percentileMillis(50)).isGreaterThanOrEqualTo(SLOW_MILLIS);
+	}
+
+	@Test
+	@DisplayName("RPS 모드: 실행 시간 동안 목표 RPS만큼만 전송")
+	void rpsModeSendsScheduledRequests() {
+		QaLoadRunner.LoadResult result = qaLoadRunner.run(
+			List.of(target("/fast", 200)),
+			new QaLoadRunner.LoadProfile(LoadMode.RPS, 50, 8, Duration.ofSeconds(1)));
+
+		// 전송 예정 시각 0ms, 20ms, ... 980ms -> 정확히 50건
+		assertThat(result.totalRequests()).isEqualTo(50);
+		assertThat(received.get()).isEqualTo(50);
+		assertThat(result.elapsedNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(980));
+		assertThat(result.throughputRps()).isBetween(40.0, 52.0);
+	}
+
+	@Test
+	@DisplayName("RPS 모드: 서버가 목표 RPS를 따라가지 못해도 실행 시간이 지나면 종료")
+	void rpsModeStopsAtDeadlineWhenServerIsSlow() {
+		// 워커 1개, 100ms 응답 -> 초당 10건이 한계인데 목표는 50 RPS (남는 전송 예정 시각을 다 쓰면 2.5초)
+		QaLoadRunner.LoadResult result = qaLoadRunner.run(
+			List.of(target("/slow", 200)),
+			new QaLoadRunner.LoadProfile(LoadMode.RPS, 50, 1, Duration.ofMillis(500)));
+
+		assertThat(result.elapsedNanos()).isLessThan(TimeUnit.MILLISECONDS.toNanos(500 + 2 * SLOW_MILLIS));
+		assertThat(result.totalRequests()).isLessThanOrEqualTo(6);
+	}
+
+	@Test
+	@DisplayName("지연 시간 분포: 빠른 요청과 느린 요청을 번갈아 보내면 p50은 빠른 쪽, p99/max는 느린 쪽")
+	void recordsLatencyPercentiles() {
+		QaLoadRunner.LoadResult result = qaLoadRunner.run(
+			List.of(target("/fast", 200), target("/slow", 200)),
+			new QaLoadRunner.LoadProfile(LoadMode.CONCURRENCY, null, 2, Duration.ofMillis(800)));
+
+		// 대상은 순서대로 번갈아 사용되므로 빠른 요청이 절반 이상
+		assertThat(result.totalRequests()).isGreaterThanOrEqualTo(4);
+		assertThat(result.histogram().percentileMillis(50)).isLessThan(SLOW_MILLIS);
+		assertThat(result.histogram().percentileMillis(99)).isGreaterThanOrEqualTo(SLOW_MILLIS);
+		assertThat(result.histogram().maxMillis())
+			.isGreaterThanOrEqualTo(result.histogram().percentileMillis(99));
+		assertThat(result.histogram().meanMillis())
+			.isBetween(result.histogram().percentileMillis(50), result.histogram().maxMillis());
+	}
+
+	@Test
+	@DisplayName("기대 상태 코드와 다른 응답은 에러로 집계")
+	void countsUnexpectedStatusAsError() {
+		QaLoadRunner.LoadResult result = qaLoadRunner.run(
+			List.of(target("/fast", 201)),
+			new QaLoadRunner.LoadProfile(LoadMode.RPS, 20, 2, Duration.ofMillis(500)));
+
+		assertThat(result.totalRequests()).isEqualTo(10);
+		assertThat(result.errorCount()).isEqualTo(10);
+		assertThat(result.statusCounts()).isEqualTo(Map.of("200", 10L));
+	}
+
+	@Test
+	@DisplayName("전송 자체가 실패하면 ERROR 상태로 집계")
+	void countsTransportFailureAsError() throws IOException {
+		int closedPort;
+		try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			closedPort = socket.getLocalPort();
+		}
+		String url = "http://127.0.0.1:" + closedPort + "/fast";
+		QaLoadTarget unreachable = new QaLoadTarget(1L, 1L,
+			apiExecuteClient.prepare(url, CrudMethod.GET, null, null, null), 200);
+
+		QaLoadRunner.LoadResult result = qaLoadRunner.run(
+			List.of(unreachable),
+			new QaLoadRunner.LoadProfile(LoadMode.RPS, 20, 2, Duration.ofMillis(500)));
+
+		assertThat(result.totalRequests()).isEqualTo(10);
+		assertThat(result.errorCount()).isEqualTo(10);
+		assertThat(result.statusCounts()).isEqualTo(Map.of(QaLoadRunner.TRANSPORT_ERROR, 10L));
+	}
+
+	private QaLoadTarget target(String path, int expectedStatusCode) {
+		String url = "http://127.0.0.1:" + server.getAddress().getPort() + path;
+		return new QaLoadTarget(1L, 1L, apiExecuteClient.prepare(url, CrudMethod.GET, null, null, null),
+			expectedStatusCode);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		received.incrementAndGet();
+		int current = inFlight.incrementAndGet();
+		maxInFlight.accumulateAndGet(current, Math::max);
+		try {
+			if (exchange.getRequestURI().getPath().startsWith("/slow")) {
+				Thread.sleep(SLOW_MILLIS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			// 응답을 보내기 전에 감소시켜야 클라이언트의 다음 요청과 겹쳐 세지지 않음
+			inFlight.decrementAndGet();
+		}
+		byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
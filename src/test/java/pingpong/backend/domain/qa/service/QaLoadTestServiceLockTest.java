@@ -0,0 +1,106 @@
+package pingpong.backend.domain.qa.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pingpong.backend.domain.qa.QaErrorCode;
+import pingpong.backend.domain.qa.QaLoadRun;
+import pingpong.backend.domain.qa.config.QaLoadProperties;
+import pingpong.backend.domain.qa.dto.QaLoadRunRequest;
+import pingpong.backend.domain.qa.dto.QaLoadTarget;
+import pingpong.backend.domain.qa.enums.LoadMode;
+import pingpong.backend.domain.qa.repository.QaCaseRepository;
+import pingpong.backend.domain.qa.repository.QaLoadRunRepository;
+import pingpong.backend.domain.qa.util.LatencyHistogram;
+import pingpong.backend.domain.team.Team;
+import pingpong.backend.domain.team.repository.TeamRepository;
+import pingpong.backend.global.exception.CustomException;
+import pingpong.backend.global.redis.RedisLockUtil;
+
+class QaLoadTestServiceLockTest {
+
+	private static final Long TEAM_ID = 7L;
+	private static final String LOCK_NAME = "qa:load:team:" + TEAM_ID;
+	private static final QaLoadRunRequest REQUEST = new QaLoadRunRequest(LoadMode.CONCURRENCY, null, 2, 10);
+
+	private final QaLoadProperties properties = new QaLoadProperties();
+	private QaLoadRunner qaLoadRunner;
+	private QaLoadRunRepository qaLoadRunRepository;
+	private RedisLockUtil redisLockUtil;
+	private QaLoadTestService qaLoadTestService;
+
+	@BeforeEach
+	void setUp() {
+		QaService qaService = mock(QaService.class);
+		QaCaseRepository qaCaseRepository = mock(QaCaseRepository.class);
+		qaLoadRunRepository = mock(QaLoadRunRepository.class);
+		TeamRepository teamRepository = mock(TeamRepository.class);
+		qaLoadRunner = mock(QaLoadRunner.class);
+		redisLockUtil = mock(RedisLockUtil.class);
+
+		when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(Team.builder().id(TEAM_ID).name("team").build()));
+		when(qaCaseRepository.findIdsInLatestSnapshotByTag(eq(TEAM_ID), eq("user"), any())).thenReturn(List.of(1L));
+		when(qaService.prepareLoadTarget(1L, null)).thenReturn(new QaLoadTarget(1L, TEAM_ID, null, 200));
+		when(qaLoadRunRepository.save(any(QaLoadRun.class))).thenAnswer(inv -> inv.getArgument(0));
+		when(qaLoadRunner.run(any(), any())).thenReturn(
+			new QaLoadRunner.LoadResult(0, 0, 1, new LatencyHistogram(), Map.of()));
+
+		// 백그라운드 실행을 호출 스레드에서 바로 수행
+		qaLoadTestService = new QaLoadTestService(qaService, qaLoadRunner, qaLoadRunRepository, qaCaseRepository,
+			teamRepository, properties, new ObjectMapper(), Runnable::run, redisLockUtil);
+	}
+
+	@Test
+	@DisplayName("실행 시간 + 여유 TTL로 팀 잠금을 잡고, 실행이 끝나면 잠금을 풂")
+	void runsUnderTeamLock() {
+		RedisLockUtil.Lock lock = new RedisLockUtil.Lock("lock:" + LOCK_NAME, "token");
+		Duration ttl = Duration.ofSeconds(10).plus(properties.getLockTtlMargin());
+		when(redisLockUtil.tryLock(LOCK_NAME, ttl)).thenReturn(Optional.of(lock));
+
+		qaLoadTestService.startForTag(TEAM_ID, "user", REQUEST, null);
+
+		verify(qaLoadRunner).run(any(), any());
+		verify(redisLockUtil).unlock(lock);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스에서 같은 팀 부하 테스트가 실행 중이면 LOAD_RUN_IN_PROGRESS")
+	void rejectsWhenTeamLockHeld() {
+		when(redisLockUtil.tryLock(eq(LOCK_NAME), any())).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> qaLoadTestService.startForTag(TEAM_ID, "user", REQUEST, null))
+			.isInstanceOf(CustomException.class)
+			.extracting(e -> ((CustomException)e).getErrorCode())
+			.isEqualTo(QaErrorCode.LOAD_RUN_IN_PROGRESS);
+		verify(qaLoadRunner, never()).run(any(), any());
+	}
+
+	@Test
+	@DisplayName("실행 기록 저장에 실패하면 바로 잠금을 풂")
+	void releasesLockWhenStartFails() {
+		RedisLockUtil.Lock lock = new RedisLockUtil.Lock("lock:" + LOCK_NAME, "token");
+		when(redisLockUtil.tryLock(eq(LOCK_NAME), any())).thenReturn(Optional.of(lock));
+		when(qaLoadRunRepository.save(any(QaLoadRun.class))).thenThrow(new IllegalStateException("db down"));
+
+		assertThatThrownBy(() -> qaLoadTestService.startForTag(TEAM_ID, "user", REQUEST, null))
+			.isInstanceOf(IllegalStateException.class);
+		verify(redisLockUtil).unlock(lock);
+		verify(qaLoadRunner, never()).run(any(), any());
+	}
+}
@@ -0,0 +1,69 @@
+package pingpong.backend.domain.qa.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import pingpong.backend.domain.qa.config.QaRetentionProperties;
+import pingpong.backend.domain.qa.repository.QaExecuteResultRepository;
+import pingpong.backend.global.redis.RedisLockUtil;
+
+class QaRetentionSchedulerTest {
+
+	private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	private final QaRetentionProperties properties = new QaRetentionProperties();
+	private QaExecuteHistoryService qaExecuteHistoryService;
+	private QaExecuteResultRepository qaExecuteResultRepository;
+	private RedisLockUtil redisLockUtil;
+	private QaRetentionScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		qaExecuteHistoryService = mock(QaExecuteHistoryService.class);
+		qaExecuteResultRepository = mock(QaExecuteResultRepository.class);
+		redisLockUtil = mock(RedisLockUtil.class);
+
+		when(qaExecuteHistoryService.retentionCutoff()).thenReturn(CUTOFF);
+		when(qaExecuteResultRepository.findQaCaseIdsExecutedBefore(CUTOFF)).thenReturn(List.of(1L, 2L));
+
+		scheduler = new QaRetentionScheduler(qaExecuteHistoryService, qaExecuteResultRepository, properties,
+			redisLockUtil);
+	}
+
+	@Test
+	@DisplayName("잠금을 잡은 인스턴스만 롤업하고 끝나면 잠금을 풂")
+	void rollsUpUnderLock() {
+		RedisLockUtil.Lock lock = new RedisLockUtil.Lock("lock:qa:retention", "token");
+		when(redisLockUtil.tryLock("qa:retention", properties.getLockTtl())).thenReturn(Optional.of(lock));
+		when(qaExecuteHistoryService.rollUp(1L, CUTOFF)).thenThrow(new IllegalStateException("db down"));
+
+		scheduler.rollUpExpiredResults();
+
+		// 한 케이스가 실패해도 나머지 케이스는 롤업
+		verify(qaExecuteHistoryService).rollUp(2L, CUTOFF);
+		verify(redisLockUtil).unlock(lock);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 잠금을 잡고 있으면 롤업하지 않음")
+	void skipsWhenLockHeld() {
+		when(redisLockUtil.tryLock(eq("qa:retention"), any())).thenReturn(Optional.empty());
+
+		scheduler.rollUpExpiredResults();
+
+		verify(qaExecuteResultRepository, never()).findQaCaseIdsExecutedBefore(any());
+		verify(qaExecuteHistoryService, never()).rollUp(any(), any());
+	}
+}
@@ -0,0 +1,89 @@
+package pingpong.backend.domain.qa.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import pingpong.backend.domain.qa.QaCase;
+import pingpong.backend.domain.qa.QaExecuteResult;
+import pingpong.backend.domain.qa.config.QaExecuteProperties;
+import pingpong.backend.domain.qa.enums.SourceType;
+import pingpong.backend.domain.qa.enums.TestType;
+import pingpong.backend.domain.swagger.Endpoint;
+import pingpong.backend.domain.swagger.enums.CrudMethod;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ResponseBodyCodecTest {
+
+	@Autowired
+	private TestEntityManager em;
+
+	private final QaExecuteProperties properties = new QaExecuteProperties();
+	private final ResponseBodyCodec codec = new ResponseBodyCodec(properties);
+
+	@Test
+	@DisplayName("gzip으로 저장한 본문을 DB에서 다시 읽으면 원문 그대로 복원")
+	void roundTripsCompressedBody() {
+		String body = "{\"message\":\"성공했습니다\",\"items\":[1,2,3]}".repeat(50);
+
+		QaExecuteResult loaded = saveAndReload(codec.encode(body));
+
+		assertThat(loaded.getResponseBody()).isNull();
+		assertThat(loaded.getResponseBodyGzip()).isNotEmpty();
+		assertThat(loaded.getResponseBodyGzip().length).isLessThan(body.getBytes(StandardCharsets.UTF_8).length);
+		assertThat(loaded.getResponseBodySize()).isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+		assertThat(loaded.getResponseBodyTruncated()).isFalse();
+		assertThat(codec.decode(loaded)).isEqualTo(body);
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘는 한글 본문은 문자 경계에서 자르고 marker를 붙임")
+	void truncatesAtCodePointBoundary() {
+		properties.setResponseBodyMaxBytes(10);
+		// 한글 1자 = 3바이트, 10바이트 위치는 4번째 글자 중간
+		String body = "가나다라마바사";
+		ResponseBodyCodec.StoredBody stored = codec.encode(body);
+		ResponseBodyCodec.StoredBody whole = new ResponseBodyCodec(new QaExecuteProperties()).encode(body);
+
+		QaExecuteResult loaded = saveAndReload(stored);
+
+		String decoded = codec.decode(loaded);
+		assertThat(decoded).isEqualTo("가나다" + ResponseBodyCodec.TRUNCATED_MARKER.formatted(21));
+		assertThat(decoded).doesNotContain("�");
+		assertThat(loaded.getResponseBodyTruncated()).isTrue();
+		assertThat(loaded.getResponseBodySize()).isEqualTo(21);
+		// 해시는 잘리기 전 원문 기준
+		assertThat(loaded.getResponseBodyHash()).isEqualTo(whole.sha256());
+	}
+
+	@Test
+	@DisplayName("자르는 위치가 문자 경계면 그대로, 멀티바이트 문자 중간이면 그 문자 앞으로 물러남")
+	void utf8Boundary() {
+		byte[] utf8 = "ab가😀".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(ResponseBodyCodec.utf8Boundary(utf8, 2)).isEqualTo(2);
+		assertThat(ResponseBodyCodec.utf8Boundary(utf8, 3)).isEqualTo(2);
+		assertThat(ResponseBodyCodec.utf8Boundary(utf8, 4)).isEqualTo(2);
+		assertThat(ResponseBodyCodec.utf8Boundary(utf8, 5)).isEqualTo(5);
+		assertThat(ResponseBodyCodec.utf8Boundary(utf8, 8)).isEqualTo(5);
+	}
+
+	private QaExecuteResult saveAndReload(ResponseBodyCodec.StoredBody stored) {
+		Endpoint endpoint = em.persist(Endpoint.builder().path("/users").method(CrudMethod.GET).build());
+		QaCase qaCase = em.persist(QaCase.create(endpoint, "조회", TestType.POSITIVE, "사용자 조회",
+			null, null, null, null, SourceType.MANUAL, 200));
+		Long id = em.persistAndGetId(QaExecuteResult.create(qaCase, 200, true, "{}", stored, 12L), Long.class);
+		em.flush();
+		em.clear();
+		return em.find(QaExecuteResult.class, id);
+	}
+}
@@ -0,0 +1,208 @@
+package pingpong.backend.domain.swagger.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import pingpong.backend.domain.member.Member;
+import pingpong.backend.domain.swagger.Endpoint;
+import pingpong.backend.domain.swagger.SwaggerEndpointSecurity;
+import pingpong.backend.domain.swagger.SwaggerParameter;
+import pingpong.backend.domain.swagger.SwaggerRequest;
+import pingpong.backend.domain.swagger.SwaggerResponse;
+import pingpong.backend.domain.swagger.SwaggerSnapshot;
+import pingpong.backend.domain.swagger.enums.ChangeType;
+import pingpong.backend.domain.swagger.enums.CrudMethod;
+
+@DataJpaTest
+@Import(EndpointBulkWriter.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class EndpointBulkWriterTest {
+
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+	private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 3, 4, 5, 6);
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EndpointBulkWriter endpointBulkWriter;
+
+	@Autowired
+	private EndpointRepository endpointRepository;
+
+	@Autowired
+	private SwaggerParameterRepository swaggerParameterRepository;
+
+	@Autowired
+	private SwaggerRequestRepository swaggerRequestRepository;
+
+	@Autowired
+	private SwaggerResponseRepository swaggerResponseRepository;
+
+	@Autowired
+	private SwaggerEndpointSecurityRepository swaggerEndpointSecurityRepository;
+
+	@Test
+	@DisplayName("JDBC batch로 저장한 endpoint와 하위 요소를 JPA로 다시 읽으면 모든 컬럼이 그대로 매핑됨")
+	void writesRowsReadableThroughJpa() {
+		Member creator = em.persist(Member.builder().email("creator@pingpong.dev").password("pw").build());
+		Member updater = em.persist(Member.builder().email("updater@pingpong.dev").password("pw").build());
+		SwaggerSnapshot snapshot = em.persist(SwaggerSnapshot.builder().createdAt(CREATED_AT).build());
+
+		Endpoint endpoint = Endpoint.builder()
+			.path("/users/{id}")
+			.method(CrudMethod.PATCH)
+			.summary("사용자 수정")
+			.description("사용자 정보를 수정해요.")
+			.isCompleted(false)
+			.operationId("updateUser")
+			.tag("user")
+			.structureHash("structure")
+			.isChanged(true)
+			.changeType(ChangeType.MODIFIED)
+			.createdAt(CREATED_AT)
+			.updatedAt(UPDATED_AT)
+			.createdBy(creator)
+			.updatedBy(updater)
+			.requestSchemaHash("request")
+			.responseSchemaHash("response")
+			.snapshot(snapshot)
+			.build();
+		SwaggerParameter parameter = SwaggerParameter.builder()
+			.name("id")
+			.inType("path")
+			.required(true)
+			.schemaHash("param-hash")
+			.description("사용자 id")
+			.schemaJson("{\"type\":\"integer\"}")
+			.endpoint(endpoint)
+			.build();
+		SwaggerRequest request = SwaggerRequest.builder()
+			.mediaType("application/json")
+			.required(true)
+			.schemaHash("request-hash")
+			.schemaJson("{\"type\":\"object\"}")
+			.endpoint(endpoint)
+			.build();
+		SwaggerResponse response = SwaggerResponse.builder()
+			.mediaType("application/json")
+			.statusCode("200")
+			.description("OK")
+			.schemaHash("response-hash")
+			.schemaJson("{\"type\":\"string\"}")
+			.endpoint(endpoint)
+			.build();
+		SwaggerEndpointSecurity security = SwaggerEndpointSecurity.builder()
+			.type("http")
+			.scheme("bearer")
+			.headerName("Authorization")
+			.bearerFormat("JWT")
+			.endpoint(endpoint)
+			.build();
+
+		endpointBulkWriter.insertEndpoints(List.of(endpoint));
+		endpointBulkWriter.insertParameters(List.of(parameter));
+		endpointBulkWriter.insertRequests(List.of(request));
+		endpointBulkWriter.insertResponses(List.of(response));
+		endpointBulkWriter.insertSecurities(List.of(security));
+		em.clear();
+
+		assertThat(endpoint.getId()).isNotNull();
+		Endpoint loaded = endpointRepository.findById(endpoint.getId()).orElseThrow();
+		assertThat(loaded.getPath()).isEqualTo("/users/{id}");
+		assertThat(loaded.getMethod()).isEqualTo(CrudMethod.PATCH);
+		assertThat(loaded.getSummary()).isEqualTo("사용자 수정");
+		assertThat(loaded.getDescription()).isEqualTo("사용자 정보를 수정해요.");
+		assertThat(loaded.getIsCompleted()).isFalse();
+		assertThat(loaded.getOperationId()).isEqualTo("updateUser");
+		assertThat(loaded.getTag()).isEqualTo("user");
+		assertThat(loaded.getStructureHash()).isEqualTo("structure");
+		assertThat(loaded.getIsChanged()).isTrue();
+		assertThat(loaded.getChangeType()).isEqualTo(ChangeType.MODIFIED);
+		assertThat(loaded.getCreatedAt()).isEqualTo(CREATED_AT);
+		assertThat(loaded.getUpdatedAt()).isEqualTo(UPDATED_AT);
+		assertThat(loaded.getCreatedBy().getId()).isEqualTo(creator.getId());
+		assertThat(loaded.getUpdatedBy().getId()).isEqualTo(updater.getId());
+		assertThat(loaded.getRequestSchemaHash()).isEqualTo("request");
+		assertThat(loaded.getResponseSchemaHash()).isEqualTo("response");
+		assertThat(loaded.getSnapshot().getId()).isEqualTo(snapshot.getId());
+
+		List<SwaggerParameter> parameters = swaggerParameterRepository.findByEndpointId(endpoint.getId());
+		assertThat(parameters).singleElement().satisfies(p -> {
+			assertThat(p.getName()).isEqualTo("id");
+			assertThat(p.getInType()).isEqualTo("path");
+			assertThat(p.getRequired()).isTrue();
+			assertThat(p.getSchemaHash()).isEqualTo("param-hash");
+			assertThat(p.getDescription()).isEqualTo("사용자 id");
+			assertThat(p.getSchemaJson()).isEqualTo("{\"type\":\"integer\"}");
+		});
+
+		List<SwaggerRequest> requests = swaggerRequestRepository.findByEndpointId(endpoint.getId());
+		assertThat(requests).singleElement().satisfies(r -> {
+			assertThat(r.getMediaType()).isEqualTo("application/json");
+			assertThat(r.isRequired()).isTrue();
+			assertThat(r.getSchemaHash()).isEqualTo("request-hash");
+			assertThat(r.getSchemaJson()).isEqualTo("{\"type\":\"object\"}");
+		});
+
+		List<SwaggerResponse> responses = swaggerResponseRepository.findByEndpointId(endpoint.getId());
+		assertThat(responses).singleElement().satisfies(r -> {
+			assertThat(r.getMediaType()).isEqualTo("application/json");
+			assertThat(r.getStatusCode()).isEqualTo("200");
+			assertThat(r.getDescription()).isEqualTo("OK");
+			assertThat(r.getSchemaHash()).isEqualTo("response-hash");
+			assertThat(r.getSchemaJson()).isEqualTo("{\"type\":\"string\"}");
+		});
+
+		List<SwaggerEndpointSecurity> securities = swaggerEndpointSecurityRepository.findByEndpointId(endpoint.getId());
+		assertThat(securities).singleElement().satisfies(s -> {
+			assertThat(s.getType()).isEqualTo("http");
+			assertThat(s.getScheme()).isEqualTo("bearer");
+			assertThat(s.getHeaderName()).isEqualTo("Authorization");
+			assertThat(s.getBearerFormat()).isEqualTo("JWT");
+		});
+	}
+
+	@Test
+	@DisplayName("이전 스냅샷 endpoint를 공유 연결하면 새 스냅샷 조회 결과에 포함됨")
+	void linksSharedEndpointsToSnapshot() {
+		SwaggerSnapshot previous = em.persist(SwaggerSnapshot.builder().createdAt(CREATED_AT).build());
+		SwaggerSnapshot current = em.persist(SwaggerSnapshot.builder().createdAt(UPDATED_AT).build());
+		Endpoint unchanged = endpoint("/users", CrudMethod.GET, previous);
+		Endpoint created = endpoint("/orders", CrudMethod.POST, current);
+
+		endpointBulkWriter.insertEndpoints(List.of(unchanged));
+		endpointBulkWriter.insertEndpoints(List.of(created));
+		endpointBulkWriter.insertSharedEndpoints(current, List.of(unchanged));
+		em.clear();
+
+		assertThat(endpointRepository.findBySnapshotId(current.getId()))
+			.extracting(Endpoint::getId)
+			.containsExactlyInAnyOrder(unchanged.getId(), created.getId());
+		assertThat(endpointRepository.findBySnapshotId(previous.getId()))
+			.extracting(Endpoint::getId)
+			.containsExactly(unchanged.getId());
+	}
+
+	private Endpoint endpoint(String path, CrudMethod method, SwaggerSnapshot snapshot) {
+		Endpoint endpoint = Endpoint.builder()
+			.path(path)
+			.method(method)
+			.structureHash(path)
+			.build();
+		endpoint.markCreated(CREATED_AT, null, snapshot);
+		endpoint.applyDiff(null);
+		return endpoint;
+	}
+}
@@ -0,0 +1,41 @@
+package pingpong.backend.domain.swagger.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import pingpong.backend.domain.swagger.SwaggerPollState;
+import pingpong.backend.domain.team.Team;
+
+@DataJpaTest
+class SwaggerPollStateRepositoryTest {
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private SwaggerPollStateRepository swaggerPollStateRepository;
+
+	@Test
+	@DisplayName("같은 팀의 상태를 두 번 만들면 두 번째는 무시되고 처음 값이 남음")
+	void insertIfAbsentKeepsFirstRow() {
+		Team team = em.persist(Team.create("pingpong", null, null, "https://api.example.com/swagger-ui/index.html", null));
+		LocalDateTime first = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+		int inserted = swaggerPollStateRepository.insertIfAbsent(team.getId(), first);
+		int ignored = swaggerPollStateRepository.insertIfAbsent(team.getId(), first.plusMinutes(10));
+		em.clear();
+
+		assertThat(inserted).isEqualTo(1);
+		assertThat(ignored).isZero();
+		SwaggerPollState state = swaggerPollStateRepository.findByTeamId(team.getId()).orElseThrow();
+		assertThat(state.getNextRunAt()).isEqualTo(first);
+		assertThat(swaggerPollStateRepository.count()).isEqualTo(1);
+	}
+}
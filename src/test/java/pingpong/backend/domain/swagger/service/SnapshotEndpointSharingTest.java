@@ -0,0 +1,209 @@
+package pingpong.backend.domain.swagger.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import pingpong.backend.domain.swagger.Endpoint;
+import pingpong.backend.domain.swagger.SwaggerParameter;
+import pingpong.backend.domain.swagger.SwaggerSnapshot;
+import pingpong.backend.domain.swagger.config.SwaggerPollingProperties;
+import pingpong.backend.domain.swagger.dto.response.EndpointDiffDetailResponse;
+import pingpong.backend.domain.swagger.dto.response.ParameterResponse;
+import pingpong.backend.domain.swagger.enums.ChangeType;
+import pingpong.backend.domain.swagger.enums.CrudMethod;
+import pingpong.backend.domain.swagger.enums.DiffType;
+import pingpong.backend.domain.swagger.repository.EndpointBulkWriter;
+import pingpong.backend.domain.swagger.repository.EndpointRepository;
+import pingpong.backend.domain.swagger.repository.SnapshotEndpointRepository;
+import pingpong.backend.domain.swagger.util.SwaggerHashUtil;
+import pingpong.backend.domain.team.service.TeamService;
+import pingpong.backend.global.redis.RedisLockUtil;
+
+/**
+ * 구조가 같은 endpoint를 다음 스냅샷에서 공유(snapshot_endpoint)할 때의 변경 상태 / diff
+ * S1: /users(생성), /orders(생성)
+ * S2: /users(수정, 새 행), /orders(공유)
+ * S3: /users, /orders 모두 공유
+ */
+@DataJpaTest
+@Import({SwaggerService.class, DiffService.class, EndpointBulkWriter.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class SnapshotEndpointSharingTest {
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EndpointBulkWriter endpointBulkWriter;
+
+	@Autowired
+	private EndpointRepository endpointRepository;
+
+	@Autowired
+	private SnapshotEndpointRepository snapshotEndpointRepository;
+
+	@Autowired
+	private SwaggerService swaggerService;
+
+	@MockitoBean
+	private SsrfGuard ssrfGuard;
+
+	@MockitoBean
+	private SwaggerUrlResolver swaggerUrlResolver;
+
+	@MockitoBean
+	private SwaggerParser swaggerParser;
+
+	@MockitoBean
+	private SwaggerHashUtil swaggerHashUtil;
+
+	@MockitoBean
+	private TeamService teamService;
+
+	@MockitoBean
+	private EndpointService endpointService;
+
+	@MockitoBean
+	private EndpointExecutionPlanCache executionPlanCache;
+
+	@MockitoBean
+	private SwaggerSpecStore swaggerSpecStore;
+
+	@MockitoBean
+	private RedisLockUtil redisLockUtil;
+
+	@MockitoBean
+	private SwaggerPollingProperties swaggerPollingProperties;
+
+	private SwaggerSnapshot s1;
+	private SwaggerSnapshot s2;
+	private SwaggerSnapshot s3;
+	private Endpoint users1;
+	private Endpoint users2;
+	private Endpoint orders1;
+
+	@BeforeEach
+	void setUp() {
+		LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+		s1 = em.persist(SwaggerSnapshot.builder().createdAt(now).build());
+		s2 = em.persist(SwaggerSnapshot.builder().createdAt(now.plusHours(1)).build());
+		s3 = em.persist(SwaggerSnapshot.builder().createdAt(now.plusHours(2)).build());
+
+		users1 = endpoint("/users", "users-v1", s1, null);
+		orders1 = endpoint("/orders", "orders-v1", s1, null);
+		endpointBulkWriter.insertEndpoints(List.of(users1, orders1));
+		endpointBulkWriter.insertParameters(List.of(parameter(users1, "id", "int")));
+
+		users2 = endpoint("/users", "users-v2", s2, users1);
+		endpointBulkWriter.insertEndpoints(List.of(users2));
+		endpointBulkWriter.insertParameters(List.of(parameter(users2, "id", "string")));
+		endpointBulkWriter.insertSharedEndpoints(s2, List.of(orders1));
+
+		endpointBulkWriter.insertSharedEndpoints(s3, List.of(users2, orders1));
+		em.clear();
+	}
+
+	@Test
+	@DisplayName("공유된 endpoint는 공유한 스냅샷 기준으로 변경 없음")
+	void sharedEndpointsAreUnchangedInLaterSnapshots() {
+		Map<Long, Endpoint> inS3 = byId(endpointRepository.findBySnapshotId(s3.getId()));
+
+		assertThat(inS3).containsOnlyKeys(users2.getId(), orders1.getId());
+		assertThat(inS3.values()).allSatisfy(e -> {
+			assertThat(e.isChangedIn(s3.getId())).isFalse();
+			assertThat(e.changeTypeIn(s3.getId())).isNull();
+		});
+	}
+
+	@Test
+	@DisplayName("다음 스냅샷에 공유해도 이전 스냅샷의 변경 상태는 그대로 유지")
+	void sharingKeepsHistoricalChangeState() {
+		Map<Long, Endpoint> inS1 = byId(endpointRepository.findBySnapshotId(s1.getId()));
+		Map<Long, Endpoint> inS2 = byId(endpointRepository.findBySnapshotId(s2.getId()));
+
+		assertThat(inS1.get(orders1.getId()).isChangedIn(s1.getId())).isTrue();
+		assertThat(inS1.get(orders1.getId()).changeTypeIn(s1.getId())).isEqualTo(ChangeType.CREATED);
+		assertThat(inS1.get(users1.getId()).changeTypeIn(s1.getId())).isEqualTo(ChangeType.CREATED);
+
+		assertThat(inS2).containsOnlyKeys(users2.getId(), orders1.getId());
+		assertThat(inS2.get(users2.getId()).isChangedIn(s2.getId())).isTrue();
+		assertThat(inS2.get(users2.getId()).changeTypeIn(s2.getId())).isEqualTo(ChangeType.MODIFIED);
+		assertThat(inS2.get(orders1.getId()).isChangedIn(s2.getId())).isFalse();
+
+		// 행 자체의 값은 만든 스냅샷 기준
+		Endpoint orders = endpointRepository.findById(orders1.getId()).orElseThrow();
+		assertThat(orders.getIsChanged()).isTrue();
+		assertThat(orders.getChangeType()).isEqualTo(ChangeType.CREATED);
+	}
+
+	@Test
+	@DisplayName("이후 스냅샷에 공유된 endpoint id만 조회")
+	void findsSharedEndpointIds() {
+		assertThat(snapshotEndpointRepository.findSharedEndpointIds(
+			List.of(users1.getId(), users2.getId(), orders1.getId())))
+			.containsExactlyInAnyOrder(users2.getId(), orders1.getId());
+	}
+
+	@Test
+	@DisplayName("최신 스냅샷에 공유된 endpoint도 만든 스냅샷 직전 버전과 비교한 diff를 반환")
+	void diffOfSharedEndpointComparesWithPreviousVersion() {
+		EndpointDiffDetailResponse detail = swaggerService.getEndpointDiffDetails(users2.getId());
+
+		assertThat(detail.path()).isEqualTo("/users");
+		assertThat(detail.parameters()).singleElement().satisfies(p -> {
+			assertThat(p.diffType()).isEqualTo(DiffType.MODIFIED);
+			assertThat(p.before()).isNotNull();
+			assertThat(p.after()).isNotNull();
+		});
+	}
+
+	@Test
+	@DisplayName("이전 버전이 없는 endpoint는 하위 요소가 모두 추가로 표시")
+	void diffOfFirstVersionIsAllAdded() {
+		EndpointDiffDetailResponse detail = swaggerService.getEndpointDiffDetails(users1.getId());
+
+		assertThat(detail.parameters()).extracting(ParameterResponse::diffType).containsExactly(DiffType.ADDED);
+	}
+
+	private Endpoint endpoint(String path, String structureHash, SwaggerSnapshot snapshot, Endpoint prev) {
+		Endpoint endpoint = Endpoint.builder()
+			.path(path)
+			.method(CrudMethod.GET)
+			.structureHash(structureHash)
+			.build();
+		endpoint.markCreated(snapshot.getCreatedAt(), null, snapshot);
+		endpoint.applyDiff(prev);
+		return endpoint;
+	}
+
+	private SwaggerParameter parameter(Endpoint endpoint, String name, String type) {
+		return SwaggerParameter.builder()
+			.name(name)
+			.inType("query")
+			.required(true)
+			.schemaHash(type)
+			.schemaJson("{\"type\":\"" + type + "\"}")
+			.endpoint(endpoint)
+			.build();
+	}
+
+	private Map<Long, Endpoint> byId(List<Endpoint> endpoints) {
+		return endpoints.stream().collect(Collectors.toMap(Endpoint::getId, Function.identity()));
+	}
+}
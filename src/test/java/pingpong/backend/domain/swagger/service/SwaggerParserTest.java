@@ -0,0 +1,156 @@
+package pingpong.backend.domain.swagger.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pingpong.backend.domain.swagger.Endpoint;
+import pingpong.backend.domain.swagger.config.SwaggerSyncProperties;
+import pingpong.backend.domain.swagger.dto.EndpointAggregate;
+import pingpong.backend.domain.swagger.util.StreamingSwaggerSpec;
+import pingpong.backend.domain.swagger.util.SwaggerHashUtil;
+
+class SwaggerParserTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SwaggerSyncProperties properties = new SwaggerSyncProperties();
+	private final SwaggerHashUtil swaggerHashUtil = new SwaggerHashUtil();
+
+	@Test
+	@DisplayName("나눠 받은 묶음을 이어 붙이면 한 번에 파싱한 결과와 같고, 묶음 크기는 설정값을 크게 넘지 않음")
+	void parseInBatchesMatchesParseAll() {
+		properties.setSaveBatchSize(3);
+		SwaggerParser swaggerParser = parser();
+		StreamingSwaggerSpec spec = spec(10);
+
+		List<List<EndpointAggregate>> batches = new ArrayList<>();
+		int count = swaggerParser.parseInBatches(spec, batches::add);
+
+		List<EndpointAggregate> all = swaggerParser.parseAll(spec);
+		assertThat(count).isEqualTo(all.size()).isEqualTo(20);
+		assertThat(batches).hasSize(5);
+		// path item 하나(operation 2개) 단위로 끊으므로 묶음 크기 + 1까지 허용
+		assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeBetween(1, 4));
+		assertThat(keys(batches.stream().flatMap(List::stream).toList())).containsExactlyElementsOf(keys(all));
+	}
+
+	@Test
+	@DisplayName("여러 스레드로 파싱해도 endpoint 순서와 structure / schema hash가 한 스레드로 파싱한 결과와 같음")
+	void parallelParseMatchesSequentialParse() {
+		properties.setParseParallelism(1);
+		List<String> sequential = fingerprints(parser().parseAll(richSpec(40)));
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			SwaggerSyncProperties parallelProperties = new SwaggerSyncProperties();
+			parallelProperties.setParseParallelism(4);
+			parallelProperties.setSaveBatchSize(7);
+			SwaggerParser parallelParser = new SwaggerParser(null, swaggerHashUtil, objectMapper, parallelProperties,
+				executor, null);
+
+			List<String> parallel = fingerprints(parallelParser.parseAll(richSpec(40)));
+			List<EndpointAggregate> batched = new ArrayList<>();
+			parallelParser.parseInBatches(richSpec(40), batched::addAll);
+
+			assertThat(sequential).hasSize(80);
+			assertThat(parallel).containsExactlyElementsOf(sequential);
+			assertThat(fingerprints(batched)).containsExactlyElementsOf(sequential);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private SwaggerParser parser() {
+		return new SwaggerParser(null, swaggerHashUtil, objectMapper, properties, Runnable::run, null);
+	}
+
+	/**
+	 * endpoint 하나를 순서 / hash 비교용 문자열로 (SwaggerService와 같은 방식으로 structure hash 계산)
+	 */
+	private List<String> fingerprints(List<EndpointAggregate> aggregates) {
+		return aggregates.stream()
+			.map(aggregate -> {
+				Endpoint endpoint = aggregate.endpoint();
+				String structureHash = swaggerHashUtil.computeStructureHash(endpoint, aggregate.parameters(),
+					aggregate.requests(), aggregate.responses(), aggregate.endpointSecuritys());
+				return String.join("|",
+					endpoint.getMethod() + " " + endpoint.getPath(),
+					structureHash,
+					endpoint.getRequestSchemaHash(),
+					endpoint.getResponseSchemaHash(),
+					aggregate.parameters().stream().map(p -> p.getName() + ":" + p.getSchemaHash()).toList().toString(),
+					aggregate.requests().stream().map(r -> r.getMediaType() + ":" + r.getSchemaHash() + ":" + r.getSchemaJson())
+						.toList().toString(),
+					aggregate.responses().stream().map(r -> r.getStatusCode() + ":" + r.getSchemaHash() + ":" + r.getSchemaJson())
+						.toList().toString(),
+					aggregate.endpointSecuritys().stream().map(s -> s.getType() + ":" + s.getScheme()).toList().toString());
+			})
+			.toList();
+	}
+
+	/**
+	 * 공유 / 순환 $ref, path-level parameter, security를 가진 path item pathCount개짜리 문서
+	 */
+	private StreamingSwaggerSpec richSpec(int pathCount) {
+		StringBuilder paths = new StringBuilder();
+		for (int i = 0; i < pathCount; i++) {
+			if (i > 0) {
+				paths.append(',');
+			}
+			String item = i % 2 == 0 ? "Item" : "Category";
+			paths.append("""
+				"/items%1$d/{id}":{"parameters":[{"name":"id","in":"path","required":true,"schema":{"type":"string"}}],
+				  "get":{"tags":["item%1$d"],"parameters":[{"name":"filter","in":"query","schema":{"$ref":"#/components/schemas/Filter"}}],
+				    "responses":{"200":{"description":"OK","content":{"application/json":{"schema":{"$ref":"#/components/schemas/%2$s"}}}},
+				      "404":{"description":"Not Found","content":{"application/json":{"schema":{"$ref":"#/components/schemas/Error"}}}}}},
+				  "post":{"security":[{"bearerAuth":[]}],"requestBody":{"required":true,"content":{"application/json":{"schema":{"type":"object",
+				      "properties":{"item":{"$ref":"#/components/schemas/%2$s"},"index":{"type":"integer","minimum":%1$d}}}}}},
+				    "responses":{"201":{"description":"Created","content":{"application/json":{"schema":{"$ref":"#/components/schemas/Item"}}}}}}}
+				""".formatted(i, item));
+		}
+		String json = """
+			{"openapi":"3.0.1","paths":{%s},
+			"components":{
+			  "securitySchemes":{"bearerAuth":{"type":"http","scheme":"bearer","bearerFormat":"JWT"}},
+			  "schemas":{
+			    "Item":{"type":"object","properties":{"id":{"type":"string"},"owner":{"$ref":"#/components/schemas/Owner"},
+			      "category":{"$ref":"#/components/schemas/Category"}}},
+			    "Owner":{"type":"object","properties":{"name":{"type":"string","example":"홍길동"}}},
+			    "Category":{"type":"object","properties":{"name":{"type":"string"},
+			      "children":{"type":"array","items":{"$ref":"#/components/schemas/Category"}},"featured":{"$ref":"#/components/schemas/Item"}}},
+			    "Filter":{"type":"object","properties":{"owner":{"$ref":"#/components/schemas/Owner"}}},
+			    "Error":{"type":"object","properties":{"code":{"type":"string"}}}
+			  }}}
+			""".formatted(paths);
+		return StreamingSwaggerSpec.open(json.getBytes(StandardCharsets.UTF_8), objectMapper);
+	}
+
+	private StreamingSwaggerSpec spec(int pathCount) {
+		StringBuilder paths = new StringBuilder();
+		for (int i = 0; i < pathCount; i++) {
+			if (i > 0) {
+				paths.append(',');
+			}
+			paths.append("""
+				"/items%d":{"get":{"responses":{"200":{"description":"OK"}}},"delete":{"responses":{"204":{"description":"No Content"}}}}
+				""".formatted(i));
+		}
+		String json = "{\"openapi\":\"3.0.1\",\"paths\":{" + paths + "}}";
+		return StreamingSwaggerSpec.open(json.getBytes(StandardCharsets.UTF_8), objectMapper);
+	}
+
+	private static List<String> keys(List<EndpointAggregate> aggregates) {
+		return aggregates.stream()
+			.map(aggregate -> aggregate.endpoint().getMethod() + " " + aggregate.endpoint().getPath())
+			.toList();
+	}
+}
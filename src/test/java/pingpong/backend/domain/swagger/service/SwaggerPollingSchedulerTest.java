@@ -0,0 +1,152 @@
+package pingpong.backend.domain.swagger.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import pingpong.backend.domain.qa.dto.SwaggerChangedEvent;
+import pingpong.backend.domain.swagger.SwaggerPollState;
+import pingpong.backend.domain.swagger.config.SwaggerPollingProperties;
+import pingpong.backend.domain.swagger.enums.PollOutcome;
+import pingpong.backend.domain.swagger.repository.SwaggerPollStateRepository;
+import pingpong.backend.domain.team.Team;
+import pingpong.backend.domain.team.repository.TeamRepository;
+import pingpong.backend.global.redis.RedisLockUtil;
+
+class SwaggerPollingSchedulerTest {
+
+	private static final long DUE = 1L;
+	private static final long NOT_DUE = 2L;
+	private static final long FIRST_SEEN = 3L;
+	private static final long BLANK = 4L;
+
+	private final SwaggerPollingProperties properties = new SwaggerPollingProperties();
+	private SwaggerService swaggerService;
+	private SwaggerPollStateRepository swaggerPollStateRepository;
+	private ApplicationEventPublisher eventPublisher;
+	private SwaggerPollingScheduler scheduler;
+
+	private SwaggerPollState dueState;
+	private SwaggerPollState notDueState;
+
+	@BeforeEach
+	void setUp() {
+		swaggerService = mock(SwaggerService.class);
+		swaggerPollStateRepository = mock(SwaggerPollStateRepository.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		TeamRepository teamRepository = mock(TeamRepository.class);
+		RedisLockUtil redisLockUtil = mock(RedisLockUtil.class);
+
+		Team due = team(DUE, "https://due.example.com/swagger-ui/index.html");
+		Team notDue = team(NOT_DUE, "https://not-due.example.com/swagger-ui/index.html");
+		Team firstSeen = team(FIRST_SEEN, "https://new.example.com/swagger-ui/index.html");
+		Team blank = team(BLANK, " ");
+		when(teamRepository.findAllBySwaggerIsNotNull()).thenReturn(List.of(due, notDue, firstSeen, blank));
+
+		LocalDateTime now = LocalDateTime.now();
+		dueState = SwaggerPollState.create(due, now.minusMinutes(1));
+		notDueState = SwaggerPollState.create(notDue, now.plusMinutes(10));
+		when(swaggerPollStateRepository.findAll()).thenReturn(List.of(dueState, notDueState));
+		when(swaggerPollStateRepository.findByTeamId(DUE)).thenReturn(Optional.of(dueState));
+		when(swaggerPollStateRepository.findByTeamId(NOT_DUE)).thenReturn(Optional.of(notDueState));
+
+		when(redisLockUtil.tryLock(anyString(), any())).thenAnswer(inv -> Optional.of(new RedisLockUtil.Lock(inv.getArgument(0), "token")));
+		when(swaggerService.withSyncLock(anyLong(), any()))
+			.thenAnswer(inv -> Optional.of(inv.<Supplier<?>>getArgument(1).get()));
+		when(swaggerService.syncSwaggerLocked(DUE, null)).thenReturn(true);
+
+		scheduler = new SwaggerPollingScheduler(swaggerService, teamRepository, swaggerPollStateRepository,
+			redisLockUtil, eventPublisher, properties, Runnable::run);
+	}
+
+	@Test
+	@DisplayName("nextRunAt이 지난 팀만 동기화하고, 처음 보는 팀은 상태만 만들고 건너뜀")
+	void pollsOnlyDueTeams() {
+		LocalDateTime before = LocalDateTime.now();
+		scheduler.pollDueTeams();
+		LocalDateTime after = LocalDateTime.now();
+
+		verify(swaggerService).syncSwaggerLocked(DUE, null);
+		verify(swaggerService, never()).syncSwaggerLocked(eq(NOT_DUE), any());
+		verify(swaggerService, never()).syncSwaggerLocked(eq(FIRST_SEEN), any());
+		verify(swaggerService, never()).syncSwaggerLocked(eq(BLANK), any());
+		verify(eventPublisher).publishEvent(any(SwaggerChangedEvent.class));
+
+		// 처음 보는 팀의 첫 실행은 interval 안의 임의 시각
+		ArgumentCaptor<LocalDateTime> firstRun = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(swaggerPollStateRepository).insertIfAbsent(eq(FIRST_SEEN), firstRun.capture());
+		assertThat(firstRun.getValue()).isAfterOrEqualTo(before).isBefore(after.plus(properties.getInterval()));
+		verify(swaggerPollStateRepository, never()).insertIfAbsent(eq(DUE), any());
+		verify(swaggerPollStateRepository, never()).insertIfAbsent(eq(BLANK), any());
+	}
+
+	@Test
+	@DisplayName("실행 후 다음 실행 시각은 interval에 jitter 범위의 임의 지연을 더한 값")
+	void reschedulesWithJitter() {
+		LocalDateTime before = LocalDateTime.now();
+		scheduler.pollDueTeams();
+		LocalDateTime after = LocalDateTime.now();
+
+		verify(swaggerPollStateRepository).save(dueState);
+		assertThat(dueState.getLastOutcome()).isEqualTo(PollOutcome.CHANGED);
+		assertThat(dueState.getNextRunAt())
+			.isAfterOrEqualTo(before.plus(properties.getInterval()))
+			.isBefore(after.plus(properties.getInterval()).plus(properties.getJitter()));
+	}
+
+	@Test
+	@DisplayName("잠금을 잡은 뒤 다시 확인해서 다른 인스턴스가 이미 실행했으면 동기화하지 않음")
+	void skipsWhenAlreadyRunElsewhere() {
+		SwaggerPollState rescheduled = SwaggerPollState.create(dueState.getTeam(), LocalDateTime.now().plusMinutes(30));
+		when(swaggerPollStateRepository.findByTeamId(DUE)).thenReturn(Optional.of(rescheduled));
+
+		scheduler.pollDueTeams();
+
+		verify(swaggerService, never()).syncSwaggerLocked(anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("수동 동기화 등으로 팀 잠금이 잡혀 있으면 nextRunAt을 바꾸지 않고 다음 tick에 재시도")
+	void keepsScheduleWhenTeamLockHeld() {
+		when(swaggerService.withSyncLock(anyLong(), any())).thenReturn(Optional.empty());
+		LocalDateTime nextRunAt = dueState.getNextRunAt();
+
+		scheduler.pollDueTeams();
+
+		verify(swaggerService, never()).syncSwaggerLocked(anyLong(), any());
+		verify(swaggerPollStateRepository, never()).save(any());
+		assertThat(dueState.getNextRunAt()).isEqualTo(nextRunAt);
+	}
+
+	@Test
+	@DisplayName("임의 지연은 0 이상 bound 미만, bound가 0이면 지연 없음")
+	void randomDelayStaysWithinBound() {
+		Duration bound = Duration.ofMinutes(5);
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(SwaggerPollingScheduler.randomDelay(bound)).isNotNegative().isLessThan(bound);
+		}
+		assertThat(SwaggerPollingScheduler.randomDelay(Duration.ZERO)).isEqualTo(Duration.ZERO);
+	}
+
+	private Team team(long id, String swagger) {
+		return Team.builder().id(id).name("team-" + id).swagger(swagger).build();
+	}
+}
@@ -0,0 +1,88 @@
+package pingpong.backend.domain.swagger.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import pingpong.backend.domain.swagger.SwaggerErrorCode;
+import pingpong.backend.domain.swagger.config.SwaggerPollingProperties;
+import pingpong.backend.domain.team.service.TeamService;
+import pingpong.backend.global.exception.CustomException;
+import pingpong.backend.global.redis.RedisLockUtil;
+
+@ExtendWith(MockitoExtension.class)
+class SwaggerServiceSyncLockTest {
+
+	private static final Long TEAM_ID = 7L;
+	private static final String LOCK_NAME = "swagger:poll:team:" + TEAM_ID;
+
+	@Mock
+	private RedisLockUtil redisLockUtil;
+
+	@Mock
+	private SwaggerPollingProperties swaggerPollingProperties;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private TeamService teamService;
+
+	@InjectMocks
+	private SwaggerService swaggerService;
+
+	@Test
+	@DisplayName("수동 동기화는 주기 동기화와 같은 팀 잠금을 잡고 트랜잭션 안에서 실행한 뒤 잠금을 풂")
+	void syncRunsUnderTeamLock() {
+		RedisLockUtil.Lock lock = new RedisLockUtil.Lock("lock:" + LOCK_NAME, "token");
+		when(swaggerPollingProperties.getLockTtl()).thenReturn(Duration.ofMinutes(10));
+		when(redisLockUtil.tryLock(LOCK_NAME, Duration.ofMinutes(10))).thenReturn(Optional.of(lock));
+		when(transactionTemplate.execute(any())).thenReturn(true);
+
+		assertThat(swaggerService.syncSwagger(TEAM_ID, null)).isTrue();
+
+		verify(transactionTemplate).execute(any());
+		verify(redisLockUtil).unlock(lock);
+	}
+
+	@Test
+	@DisplayName("같은 팀을 다른 곳에서 동기화 중이면 SYNC_IN_PROGRESS로 실패하고 스펙을 가져오지 않음")
+	void syncFailsWhenTeamLockHeld() {
+		when(swaggerPollingProperties.getLockTtl()).thenReturn(Duration.ofMinutes(10));
+		when(redisLockUtil.tryLock(LOCK_NAME, Duration.ofMinutes(10))).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> swaggerService.syncSwagger(TEAM_ID, null))
+			.isInstanceOf(CustomException.class)
+			.extracting(e -> ((CustomException) e).getErrorCode())
+			.isEqualTo(SwaggerErrorCode.SYNC_IN_PROGRESS);
+		verify(transactionTemplate, never()).execute(any());
+		verify(teamService, never()).getTeam(any());
+	}
+
+	@Test
+	@DisplayName("동기화가 실패해도 잠금은 풂")
+	void releasesLockOnFailure() {
+		RedisLockUtil.Lock lock = new RedisLockUtil.Lock("lock:" + LOCK_NAME, "token");
+		when(swaggerPollingProperties.getLockTtl()).thenReturn(Duration.ofMinutes(10));
+		when(redisLockUtil.tryLock(LOCK_NAME, Duration.ofMinutes(10))).thenReturn(Optional.of(lock));
+		when(transactionTemplate.execute(any())).thenThrow(new CustomException(SwaggerErrorCode.SWAGGER_CONNECTION_ERROR));
+
+		assertThatThrownBy(() -> swaggerService.syncSwagger(TEAM_ID, null)).isInstanceOf(CustomException.class);
+
+		verify(redisLockUtil).unlock(lock);
+	}
+}
@@ -0,0 +1,88 @@
+package pingpong.backend.domain.swagger.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pingpong.backend.domain.swagger.SwaggerSnapshot;
+import pingpong.backend.domain.swagger.repository.SwaggerSpecBlobRepository;
+import pingpong.backend.domain.swagger.util.SwaggerHashUtil;
+
+@DataJpaTest
+@Import({SwaggerSpecStore.class, SwaggerHashUtil.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class SwaggerSpecStoreTest {
+
+	// 구조(paths / components)는 같고 info / servers / 설명만 다른 두 팀의 원문
+	private static final String TEAM_A_SPEC = """
+		{"openapi":"3.0.1","info":{"title":"A 서비스"},"servers":[{"url":"https://a.example.com"}],
+		"paths":{"/users":{"get":{"summary":"A 사용자 목록","responses":{"200":{"description":"OK"}}}}}}
+		""";
+	private static final String TEAM_B_SPEC = """
+		{"openapi":"3.0.1","info":{"title":"B 서비스"},"servers":[{"url":"https://b.example.com"}],
+		"paths":{"/users":{"get":{"summary":"B 사용자 목록","responses":{"200":{"description":"OK"}}}}}}
+		""";
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private SwaggerSpecStore swaggerSpecStore;
+
+	@Autowired
+	private SwaggerSpecBlobRepository swaggerSpecBlobRepository;
+
+	@Autowired
+	private SwaggerHashUtil swaggerHashUtil;
+
+	@Test
+	@DisplayName("구조가 같아도 원문이 다르면 팀마다 자기 원문을 그대로 돌려줌")
+	void keepsEachTeamsRawSpec() throws Exception {
+		SwaggerSnapshot a = saveSnapshot(TEAM_A_SPEC);
+		SwaggerSnapshot b = saveSnapshot(TEAM_B_SPEC);
+
+		assertThat(a.getSpecHash()).isEqualTo(b.getSpecHash());
+		assertThat(swaggerSpecStore.loadRawJson(a)).isEqualTo(TEAM_A_SPEC);
+		assertThat(swaggerSpecStore.loadRawJson(b)).isEqualTo(TEAM_B_SPEC);
+	}
+
+	@Test
+	@DisplayName("같은 원문을 여러 번 저장해도 한 행만 남고 오류가 나지 않음")
+	void savesSameRawSpecOnce() {
+		byte[] raw = TEAM_A_SPEC.getBytes(StandardCharsets.UTF_8);
+		String rawHash = swaggerHashUtil.generateRawHash(raw);
+
+		swaggerSpecStore.save(rawHash, raw);
+		swaggerSpecStore.save(rawHash, raw);
+		em.flush();
+		em.clear();
+
+		assertThat(swaggerSpecBlobRepository.count()).isEqualTo(1);
+		assertThat(swaggerSpecBlobRepository.findById(rawHash)).get()
+			.satisfies(blob -> assertThat(blob.getRawSize()).isEqualTo(raw.length));
+	}
+
+	private SwaggerSnapshot saveSnapshot(String rawJson) throws Exception {
+		byte[] raw = rawJson.getBytes(StandardCharsets.UTF_8);
+		String rawHash = swaggerHashUtil.generateRawHash(raw);
+		SwaggerSnapshot snapshot = em.persist(SwaggerSnapshot.builder()
+			.specHash(swaggerHashUtil.generateSpecHash(new ObjectMapper().readTree(rawJson)))
+			.rawHash(rawHash)
+			.createdAt(LocalDateTime.now())
+			.build());
+		swaggerSpecStore.save(rawHash, raw);
+		return snapshot;
+	}
+}
@@ -0,0 +1,214 @@
+package pingpong.backend.domain.swagger.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class SchemaResolutionContextTest {
+
+	// 공유 / 연쇄 $ref, allOf / oneOf, 무시할 필드, path-level parameter를 포함한 순환 없는 문서
+	private static final String ACYCLIC_SPEC = """
+		{"openapi":"3.0.1",
+		"paths":{
+		  "/users":{
+		    "get":{"parameters":[{"name":"page","in":"query","schema":{"type":"integer","description":"페이지"}},
+		        {"name":"filter","in":"query","schema":{"$ref":"#/components/schemas/UserFilter"}}],
+		      "responses":{"200":{"description":"OK","content":{"application/json":{"schema":{"$ref":"#/components/schemas/UserPage"}}}}}},
+		    "post":{"requestBody":{"required":true,"content":{
+		        "application/json":{"schema":{"$ref":"#/components/schemas/User"}},
+		        "application/xml":{"schema":{"type":"object","properties":{"user":{"$ref":"#/components/schemas/User"}}}}}},
+		      "responses":{"201":{"description":"Created","content":{"application/json":{"schema":{"$ref":"#/components/schemas/User"}}}},
+		        "400":{"description":"Bad Request","content":{"application/json":{"schema":{"$ref":"#/components/schemas/Error"}}}}}}},
+		  "/users/{id}":{"parameters":[{"name":"id","in":"path","required":true,"schema":{"type":"string","example":"u-1"}}],
+		    "get":{"responses":{"200":{"description":"OK","content":{"application/json":{"schema":{"$ref":"#/components/schemas/User"}}}}}},
+		    "put":{"requestBody":{"content":{"application/json":{"schema":{"allOf":[{"$ref":"#/components/schemas/User"},
+		        {"type":"object","properties":{"version":{"type":"integer"}}}]}}}},
+		      "responses":{"204":{"description":"No Content"}}}},
+		  "/pets":{"get":{"responses":{"200":{"description":"OK","content":{"application/json":{"schema":{"type":"array",
+		      "items":{"$ref":"#/components/schemas/Pet"}}}}}}}}
+		},
+		"components":{"schemas":{
+		  "User":{"type":"object","description":"사용자","required":["id"],"properties":{"id":{"type":"string"},
+		    "name":{"type":"string","example":"홍길동"},"address":{"$ref":"#/components/schemas/Address"}}},
+		  "Address":{"type":"object","externalDocs":{"url":"https://example.com"},"properties":{"city":{"type":"string"},
+		    "geo":{"$ref":"#/components/schemas/Geo"}}},
+		  "Geo":{"type":"object","properties":{"lat":{"type":"number"},"lng":{"type":"number"}}},
+		  "UserPage":{"type":"object","properties":{"items":{"type":"array","items":{"$ref":"#/components/schemas/User"}},
+		    "total":{"type":"integer"}}},
+		  "UserFilter":{"type":"object","properties":{"city":{"$ref":"#/components/schemas/Address/properties/city"}}},
+		  "Pet":{"oneOf":[{"$ref":"#/components/schemas/Cat"},{"$ref":"#/components/schemas/Dog"}],
+		    "discriminator":{"propertyName":"kind"}},
+		  "Cat":{"type":"object","properties":{"kind":{"type":"string"},"owner":{"$ref":"#/components/schemas/User"}}},
+		  "Dog":{"type":"object","properties":{"kind":{"type":"string"},"tags":{"type":"array","items":{"type":"string"}}}},
+		  "Error":{"type":"object","summary":"오류","properties":{"code":{"type":"string"}}}
+		}}}
+		""";
+
+	// 자기 참조, 상호 참조, 순환 schema를 공유하는 schema를 포함한 문서
+	private static final String CYCLIC_SPEC = """
+		{"openapi":"3.0.1",
+		"paths":{
+		  "/a":{"get":{"responses":{"200":{"description":"OK","content":{"application/json":{"schema":{"$ref":"#/components/schemas/A"}}}}}}},
+		  "/b":{"get":{"responses":{"200":{"description":"OK","content":{"application/json":{"schema":{"$ref":"#/components/schemas/B"}}}}}}},
+		  "/tree":{"get":{"responses":{"200":{"description":"OK","content":{"application/json":{"schema":{"$ref":"#/components/schemas/Tree"}}}}}},
+		    "post":{"requestBody":{"content":{"application/json":{"schema":{"type":"object","properties":{
+		        "left":{"$ref":"#/components/schemas/Tree"},"right":{"$ref":"#/components/schemas/Node"}}}}}},
+		      "responses":{"204":{"description":"No Content"}}}},
+		  "/node":{"get":{"responses":{"200":{"description":"OK","content":{"application/json":{"schema":{"$ref":"#/components/schemas/Node"}}}}}}}
+		},
+		"components":{"schemas":{
+		  "A":{"type":"object","properties":{"b":{"$ref":"#/components/schemas/B"},"tree":{"$ref":"#/components/schemas/Tree"}}},
+		  "B":{"type":"object","properties":{"a":{"$ref":"#/components/schemas/A"},"name":{"type":"string"}}},
+		  "Tree":{"type":"object","properties":{"root":{"$ref":"#/components/schemas/Node"},"a":{"$ref":"#/components/schemas/A"}}},
+		  "Node":{"type":"object","properties":{"children":{"type":"array","items":{"$ref":"#/components/schemas/Node"}},
+		    "parent":{"$ref":"#/components/schemas/Node"},"b":{"$ref":"#/components/schemas/B"}}}
+		}}}
+		""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("순환이 없는 문서의 endpoint별 schema hash / canonical은 기존 resolveSchema + normalizeNode 결과와 같음")
+	void matchesBaselineResolveSchemaPerEndpoint() throws Exception {
+		JsonNode root = objectMapper.readTree(ACYCLIC_SPEC);
+
+		Map<String, List<String>> baseline = new LinkedHashMap<>();
+		Map<String, List<String>> baselineCanonical = new LinkedHashMap<>();
+		schemasByEndpoint(root).forEach((endpoint, schemas) -> {
+			List<String> hashes = new ArrayList<>();
+			List<String> canonicals = new ArrayList<>();
+			for (JsonNode schema : schemas) {
+				String canonical = SwaggerHashUtil.writeCanonical(SwaggerNormalizeUtil.normalizeNode(baselineResolve(schema, root)));
+				canonicals.add(canonical);
+				hashes.add(SwaggerHashUtil.sha256(canonical));
+			}
+			baseline.put(endpoint, hashes);
+			baselineCanonical.put(endpoint, canonicals);
+		});
+
+		// 동기화 1회처럼 컨텍스트 하나를 모든 endpoint가 공유
+		SchemaResolutionContext context = new SchemaResolutionContext(root);
+		Map<String, List<String>> hashes = hashes(root, context);
+		Map<String, List<String>> canonicals = new LinkedHashMap<>();
+		schemasByEndpoint(root).forEach((endpoint, schemas) ->
+			canonicals.put(endpoint, schemas.stream().map(context::canonical).toList()));
+
+		assertThat(baseline).hasSize(5);
+		assertThat(hashes).isEqualTo(baseline);
+		assertThat(canonicals).isEqualTo(baselineCanonical);
+	}
+
+	@Test
+	@DisplayName("순환 schema는 공유 컨텍스트 캐시를 거쳐도 endpoint마다 새 컨텍스트로 만든 hash와 같고, 처리 순서와 무관함")
+	void cyclicSchemaHashesIndependentOfCacheAndOrder() throws Exception {
+		JsonNode root = objectMapper.readTree(CYCLIC_SPEC);
+
+		Map<String, List<String>> fresh = new LinkedHashMap<>();
+		schemasByEndpoint(root).forEach((endpoint, schemas) -> fresh.put(endpoint,
+			schemas.stream().map(schema -> new SchemaResolutionContext(root).schemaHash(schema)).toList()));
+
+		Map<String, List<String>> shared = hashes(root, new SchemaResolutionContext(root));
+
+		SchemaResolutionContext reversedContext = new SchemaResolutionContext(root);
+		List<Map.Entry<String, List<JsonNode>>> reversed = new ArrayList<>(schemasByEndpoint(root).entrySet());
+		Collections.reverse(reversed);
+		Map<String, List<String>> reversedHashes = new LinkedHashMap<>();
+		reversed.forEach(entry -> reversedHashes.put(entry.getKey(),
+			entry.getValue().stream().map(reversedContext::schemaHash).toList()));
+
+		assertThat(fresh).hasSize(5);
+		assertThat(shared).isEqualTo(fresh);
+		assertThat(reversedHashes).isEqualTo(fresh);
+	}
+
+	@Test
+	@DisplayName("자기 자신을 다시 참조하면 $cycle 마커로 대체됨")
+	void replacesBackReferenceWithCycleMarker() throws Exception {
+		JsonNode root = objectMapper.readTree(CYCLIC_SPEC);
+		SchemaResolutionContext context = new SchemaResolutionContext(root);
+
+		JsonNode node = context.resolveNormalized(objectMapper.readTree("{\"$ref\":\"#/components/schemas/Node\"}"));
+
+		assertThat(node.at("/properties/parent/" + SchemaResolutionContext.CYCLE_MARKER_FIELD).asText())
+			.isEqualTo("#/components/schemas/Node");
+		assertThat(node.at("/properties/b/properties/a/properties/b/" + SchemaResolutionContext.CYCLE_MARKER_FIELD).asText())
+			.isEqualTo("#/components/schemas/B");
+	}
+
+	private Map<String, List<String>> hashes(JsonNode root, SchemaResolutionContext context) {
+		Map<String, List<String>> result = new LinkedHashMap<>();
+		schemasByEndpoint(root).forEach((endpoint, schemas) ->
+			result.put(endpoint, schemas.stream().map(context::schemaHash).toList()));
+		return result;
+	}
+
+	/**
+	 * endpoint("METHOD path") -> SwaggerParser가 hash를 만드는 schema 노드 (parameter, requestBody, response 순)
+	 */
+	private static Map<String, List<JsonNode>> schemasByEndpoint(JsonNode root) {
+		Map<String, List<JsonNode>> result = new LinkedHashMap<>();
+		root.get("paths").fields().forEachRemaining(path -> {
+			JsonNode pathItem = path.getValue();
+			path.getValue().fields().forEachRemaining(operation -> {
+				if (operation.getKey().equals("parameters")) {
+					return;
+				}
+				List<JsonNode> schemas = new ArrayList<>();
+				pathItem.path("parameters").forEach(parameter -> schemas.add(parameter.get("schema")));
+				operation.getValue().path("parameters").forEach(parameter -> schemas.add(parameter.get("schema")));
+				operation.getValue().path("requestBody").path("content")
+					.forEach(media -> schemas.add(media.get("schema")));
+				operation.getValue().path("responses")
+					.forEach(response -> response.path("content").forEach(media -> schemas.add(media.get("schema"))));
+				result.put(operation.getKey().toUpperCase() + " " + path.getKey(), schemas);
+			});
+		});
+		return result;
+	}
+
+	/**
+	 * 기존 SwaggerHashUtil.resolveSchema (순환 schema에서는 StackOverflowError)
+	 */
+	private JsonNode baselineResolve(JsonNode schemaNode, JsonNode root) {
+		if (schemaNode == null) {
+			return schemaNode;
+		}
+
+		JsonNode refNode = schemaNode.get("$ref");
+		if (refNode != null && !refNode.isNull()) {
+			String[] parts = refNode.asText().split("/");
+			JsonNode target = root;
+			for (int i = 1; i < parts.length; i++) {
+				target = target.get(parts[i]);
+			}
+			return baselineResolve(target, root);
+		}
+
+		if (schemaNode.isObject()) {
+			ObjectNode copy = objectMapper.createObjectNode();
+			schemaNode.fieldNames().forEachRemaining(field -> copy.set(field, baselineResolve(schemaNode.get(field), root)));
+			return copy;
+		}
+
+		if (schemaNode.isArray()) {
+			ArrayNode array = objectMapper.createArrayNode();
+			for (JsonNode element : schemaNode) {
+				array.add(baselineResolve(element, root));
+			}
+			return array;
+		}
+		return schemaNode;
+	}
+}
@@ -0,0 +1,64 @@
+package pingpong.backend.domain.swagger.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class SwaggerHashUtilTest {
+
+	// components가 paths 뒤에 오고, $ref / 자기 참조 schema를 포함한 문서
+	private static final String SPEC = """
+		{"openapi":"3.0.1","info":{"title":"샘플"},
+		"paths":{
+		  "/users":{"get":{"tags":["user"],"parameters":[{"name":"page","in":"query","schema":{"type":"integer"}}],
+		    "responses":{"200":{"description":"OK","content":{"application/json":{"schema":{"$ref":"#/components/schemas/User"}}}}}}},
+		  "/users/{id}":{"parameters":[{"name":"id","in":"path","required":true,"schema":{"type":"string"}}],
+		    "put":{"requestBody":{"required":true,"content":{"application/json":{"schema":{"$ref":"#/components/schemas/User"}}}},
+		      "responses":{"204":{"description":"No Content"}}}},
+		  "/categories":{"get":{"responses":{"200":{"description":"OK","content":{"application/json":{"schema":{"$ref":"#/components/schemas/Category"}}}}}}}
+		},
+		"components":{"schemas":{
+		  "User":{"type":"object","properties":{"id":{"type":"string"},"name":{"type":"string"}}},
+		  "Category":{"type":"object","properties":{"name":{"type":"string"},"children":{"type":"array","items":{"$ref":"#/components/schemas/Category"}}}}
+		}}}
+		""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SwaggerHashUtil swaggerHashUtil = new SwaggerHashUtil();
+
+	@Test
+	@DisplayName("스트리밍으로 읽은 문서의 spec hash는 전체 트리로 읽은 문서와 같음")
+	void streamingSpecHashMatchesTreeSpecHash() throws Exception {
+		assertSameSpecHash(SPEC);
+	}
+
+	@Test
+	@DisplayName("paths가 없는 문서도 두 방식의 spec hash가 같음")
+	void streamingSpecHashMatchesWithoutPaths() throws Exception {
+		assertSameSpecHash("""
+			{"openapi":"3.0.1","components":{"schemas":{"User":{"type":"object"}}}}
+			""");
+	}
+
+	@Test
+	@DisplayName("path 내용이 바뀌면 스트리밍 spec hash도 바뀜")
+	void streamingSpecHashChangesWithPaths() {
+		String changed = SPEC.replace("\"page\"", "\"size\"");
+
+		assertThat(streamingHash(changed)).isNotEqualTo(streamingHash(SPEC));
+	}
+
+	private void assertSameSpecHash(String json) throws Exception {
+		assertThat(streamingHash(json)).isEqualTo(swaggerHashUtil.generateSpecHash(objectMapper.readTree(json)));
+	}
+
+	private String streamingHash(String json) {
+		byte[] raw = json.getBytes(StandardCharsets.UTF_8);
+		return swaggerHashUtil.generateSpecHash(StreamingSwaggerSpec.open(raw, objectMapper));
+	}
+}
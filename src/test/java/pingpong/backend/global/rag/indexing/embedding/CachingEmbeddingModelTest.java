@@ -0,0 +1,152 @@
+package pingpong.backend.global.rag.indexing.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.BatchingStrategy;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import pingpong.backend.global.rag.indexing.config.IndexingProperties;
+import pingpong.backend.global.rag.indexing.repository.DocumentFactory;
+import pingpong.backend.global.rag.indexing.repository.EmbeddingCacheRepository;
+
+@DataJpaTest
+@Import(EmbeddingCacheRepository.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class CachingEmbeddingModelTest {
+
+    private static final String MODEL = "text-embedding-test";
+
+    @Autowired
+    private EmbeddingCacheRepository embeddingCacheRepository;
+
+    private CountingEmbeddingModel delegate;
+    private CachingEmbeddingModel cachingEmbeddingModel;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingEmbeddingModel();
+        cachingEmbeddingModel = new CachingEmbeddingModel(delegate, embeddingCacheRepository, new DocumentFactory(),
+                new IndexingProperties(), MODEL);
+    }
+
+    @Test
+    @DisplayName("같은 문서를 다시 임베딩하면 캐시에서 읽고 임베딩 API를 호출하지 않음")
+    void secondPassIsServedFromCache() {
+        List<Document> documents = documents("첫 번째 청크", "두 번째 청크", "세 번째 청크");
+
+        List<float[]> first = embed(documents);
+        assertThat(delegate.calls).isEqualTo(1);
+
+        List<float[]> second = embed(documents);
+
+        // 두 번째는 임베딩 API 호출 0회
+        assertThat(delegate.calls).isEqualTo(1);
+        assertThat(second).containsExactlyElementsOf(first);
+        assertThat(cachingEmbeddingModel.stats()).isEqualTo(new CachingEmbeddingModel.Stats(3, 3));
+    }
+
+    @Test
+    @DisplayName("한 요청 안에서 반복된 텍스트는 한 번만 임베딩하고 모든 위치에 같은 결과를 돌려줌")
+    void embedsDuplicateTextsOnce() {
+        List<float[]> embeddings = embed(documents("반복 청크", "다른 청크", "반복 청크"));
+
+        assertThat(delegate.embeddedTexts).containsExactly("반복 청크", "다른 청크");
+        assertThat(embeddings).containsExactly(vector("반복 청크"), vector("다른 청크"), vector("반복 청크"));
+    }
+
+    @Test
+    @DisplayName("일부만 캐시에 있어도 결과는 요청한 문서 순서 그대로")
+    void preservesOrderWithPartialHits() {
+        embed(documents("두 번째 청크"));
+        delegate.embeddedTexts.clear();
+
+        List<float[]> embeddings = embed(documents("첫 번째 청크", "두 번째 청크", "세 번째 청크"));
+
+        assertThat(delegate.embeddedTexts).containsExactly("첫 번째 청크", "세 번째 청크");
+        assertThat(embeddings).containsExactly(vector("첫 번째 청크"), vector("두 번째 청크"), vector("세 번째 청크"));
+    }
+
+    @Test
+    @DisplayName("적중/미적중 수와 적중률을 메트릭으로 노출")
+    void exposesHitAndMissMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cachingEmbeddingModel.bindTo(registry);
+
+        List<Document> documents = documents("첫 번째 청크", "두 번째 청크");
+        embed(documents);
+        embed(documents);
+        embed(documents);
+
+        assertThat(registry.get("embedding.cache.hits").tag("model", MODEL).functionCounter().count()).isEqualTo(4.0);
+        assertThat(registry.get("embedding.cache.misses").tag("model", MODEL).functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("embedding.cache.hit.rate").tag("model", MODEL).gauge().value())
+                .isCloseTo(4.0 / 6.0, within(1e-9));
+    }
+
+    private List<float[]> embed(List<Document> documents) {
+        return cachingEmbeddingModel.embed(documents, null, null);
+    }
+
+    private static List<Document> documents(String... texts) {
+        return Arrays.stream(texts).map(text -> Document.builder().text(text).build()).toList();
+    }
+
+    private static float[] vector(String text) {
+        return new float[]{text.length(), text.hashCode()};
+    }
+
+    /**
+     * 임베딩 API 대신 텍스트로 정해지는 벡터를 돌려주고 호출 수와 보낸 텍스트를 기록
+     */
+    private static class CountingEmbeddingModel implements EmbeddingModel {
+
+        private int calls;
+        private final List<String> embeddedTexts = new ArrayList<>();
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            calls++;
+            embeddedTexts.add(document.getText());
+            return vector(document.getText());
+        }
+
+        @Override
+        public List<float[]> embed(List<Document> documents, EmbeddingOptions options, BatchingStrategy batchingStrategy) {
+            calls++;
+            List<float[]> embeddings = new ArrayList<>(documents.size());
+            for (Document document : documents) {
+                embeddedTexts.add(document.getText());
+                embeddings.add(vector(document.getText()));
+            }
+            return embeddings;
+        }
+
+        @Override
+        public int dimensions() {
+            return 2;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package pingpong.backend.global.rag.indexing.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import pingpong.backend.global.rag.indexing.dto.IndexJob;
+import pingpong.backend.global.rag.indexing.enums.IndexSourceType;
+import pingpong.backend.global.rag.indexing.repository.IndexJobQueue.ClaimedIndexJob;
+
+@DataJpaTest
+@Import(IndexJobQueue.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class IndexJobQueueTest {
+
+    private static final String SOURCE_KEY = "NOTION:1:/pages:page-1";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private IndexJobQueue indexJobQueue;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("대기 중인 같은 source key는 한 행으로 합쳐지고 최신 payload로 처리됨")
+    void enqueueDeduplicatesPendingSourceKey() {
+        indexJobQueue.enqueue(SOURCE_KEY, job("v1"));
+        indexJobQueue.enqueue(SOURCE_KEY, job("v2"));
+        indexJobQueue.enqueue("NOTION:1:/pages:page-2", job("other"));
+
+        assertThat(count()).isEqualTo(2);
+        assertThat(row(SOURCE_KEY)).containsEntry("revision", 2L).containsEntry("status", "PENDING");
+
+        List<ClaimedIndexJob> claimed = indexJobQueue.claim(10, LEASE);
+        assertThat(claimed).hasSize(2);
+        assertThat(claimed).extracting(job -> job.job().payload().path("version").asText())
+                .containsExactlyInAnyOrder("v2", "other");
+    }
+
+    @Test
+    @DisplayName("처리 중에 같은 source key가 다시 들어오면 완료 후 삭제하지 않고 최신 payload로 한 번 더 처리")
+    void reEnqueueWhileRunningRunsAgain() {
+        indexJobQueue.enqueue(SOURCE_KEY, job("v1"));
+        ClaimedIndexJob first = claimOne();
+
+        indexJobQueue.enqueue(SOURCE_KEY, job("v2"));
+        assertThat(row(SOURCE_KEY)).containsEntry("status", "RUNNING");
+        indexJobQueue.complete(first);
+
+        assertThat(row(SOURCE_KEY)).containsEntry("status", "PENDING").containsEntry("attempts", 0);
+        ClaimedIndexJob second = claimOne();
+        assertThat(second.job().payload().path("version").asText()).isEqualTo("v2");
+
+        indexJobQueue.complete(second);
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리 중에 새 payload가 들어온 작업은 실패해도 backoff 없이 바로 다시 처리")
+    void failAfterReEnqueueRunsAgainImmediately() {
+        indexJobQueue.enqueue(SOURCE_KEY, job("v1"));
+        ClaimedIndexJob first = claimOne();
+        indexJobQueue.enqueue(SOURCE_KEY, job("v2"));
+
+        indexJobQueue.fail(first, "boom", Duration.ofMinutes(10));
+
+        ClaimedIndexJob second = claimOne();
+        assertThat(second.attempts()).isEqualTo(1);
+        assertThat(second.job().payload().path("version").asText()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("실패하면 retryDelay 뒤로 미뤄지고, 그 전에는 다시 가져가지 않음")
+    void failSchedulesRetryAfterBackoff() {
+        indexJobQueue.enqueue(SOURCE_KEY, job("v1"));
+        ClaimedIndexJob first = claimOne();
+        Instant failedAt = Instant.now();
+
+        indexJobQueue.fail(first, "boom", Duration.ofMinutes(1));
+
+        Map<String, Object> row = row(SOURCE_KEY);
+        assertThat(row).containsEntry("status", "PENDING").containsEntry("last_error", "boom");
+        assertThat(nextAttemptAt(SOURCE_KEY)).isAfterOrEqualTo(failedAt.plus(Duration.ofMinutes(1)).minusSeconds(1));
+        assertThat(indexJobQueue.claim(10, LEASE)).isEmpty();
+
+        // backoff가 지나면 다시 가져가고 연속 실패 횟수는 이어짐
+        jdbcTemplate.update("UPDATE index_job_outbox SET next_attempt_at = ? WHERE source_key = ?",
+                Timestamp.from(Instant.now().minusSeconds(1)), SOURCE_KEY);
+        assertThat(claimOne().attempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("retryDelay 없이 실패하면 DEAD로 남고 다시 가져가지 않음")
+    void failWithoutRetryMarksDead() {
+        indexJobQueue.enqueue(SOURCE_KEY, job("v1"));
+
+        indexJobQueue.fail(claimOne(), "boom", null);
+
+        assertThat(row(SOURCE_KEY)).containsEntry("status", "DEAD").containsEntry("last_error", "boom");
+        assertThat(indexJobQueue.claim(10, LEASE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DEAD 작업도 같은 source key가 다시 들어오면 실패 기록을 지우고 처음부터 처리")
+    void enqueueRevivesDeadJob() {
+        indexJobQueue.enqueue(SOURCE_KEY, job("v1"));
+        indexJobQueue.fail(claimOne(), "boom", null);
+
+        indexJobQueue.enqueue(SOURCE_KEY, job("v2"));
+
+        Map<String, Object> row = row(SOURCE_KEY);
+        assertThat(row).containsEntry("status", "PENDING").containsEntry("attempts", 0);
+        assertThat(row.get("last_error")).isNull();
+        ClaimedIndexJob revived = claimOne();
+        assertThat(revived.attempts()).isEqualTo(1);
+        assertThat(revived.job().payload().path("version").asText()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("lease가 끝나 다른 인스턴스가 다시 가져간 작업은 이전 처리의 complete / fail로 바뀌지 않음")
+    void staleClaimCannotCompleteOrFailReclaimedJob() {
+        indexJobQueue.enqueue(SOURCE_KEY, job("v1"));
+        ClaimedIndexJob stale = indexJobQueue.claim(1, Duration.ofSeconds(-1)).get(0);
+        ClaimedIndexJob current = claimOne();
+        assertThat(current.id()).isEqualTo(stale.id());
+        assertThat(current.claimToken()).isNotEqualTo(stale.claimToken());
+
+        indexJobQueue.complete(stale);
+        indexJobQueue.fail(stale, "late failure", null);
+
+        assertThat(row(SOURCE_KEY)).containsEntry("status", "RUNNING").containsEntry("claim_token", current.claimToken());
+        assertThat(row(SOURCE_KEY).get("last_error")).isNull();
+
+        indexJobQueue.complete(current);
+        assertThat(count()).isZero();
+    }
+
+    private ClaimedIndexJob claimOne() {
+        List<ClaimedIndexJob> claimed = indexJobQueue.claim(1, LEASE);
+        assertThat(claimed).hasSize(1);
+        return claimed.get(0);
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM index_job_outbox", Long.class);
+    }
+
+    private Map<String, Object> row(String sourceKey) {
+        return jdbcTemplate.queryForMap("""
+                SELECT status, attempts, revision, last_error, claim_token
+                FROM index_job_outbox WHERE source_key = ?
+                """, sourceKey);
+    }
+
+    private Instant nextAttemptAt(String sourceKey) {
+        return jdbcTemplate.queryForObject("SELECT next_attempt_at FROM index_job_outbox WHERE source_key = ?",
+                Timestamp.class, sourceKey).toInstant();
+    }
+
+    private static IndexJob job(String version) {
+        return new IndexJob(IndexSourceType.NOTION, 1L, "/pages", "page-1",
+                JsonNodeFactory.instance.objectNode().put("version", version));
+    }
+}
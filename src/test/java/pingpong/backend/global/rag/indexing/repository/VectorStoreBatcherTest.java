@@ -0,0 +1,184 @@
+package pingpong.backend.global.rag.indexing.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import pingpong.backend.global.exception.CustomException;
+import pingpong.backend.global.rag.indexing.IndexingErrorCode;
+import pingpong.backend.global.rag.indexing.config.IndexingProperties;
+
+class VectorStoreBatcherTest {
+
+    private static final String FLUSH_THREAD = "index-flush-test";
+    private static final String FAILING = "실패하는 청크";
+    private static final String FATAL = "복구할 수 없는 청크";
+
+    private final IndexingProperties properties = new IndexingProperties();
+    // 벡터 DB 대신 add() 호출만 기록하는 fake: FAILING이 섞인 묶음은 예외, FATAL이 섞인 묶음은 Error
+    private final List<List<String>> addCalls = new CopyOnWriteArrayList<>();
+    private final List<String> addThreads = new CopyOnWriteArrayList<>();
+    private VectorStore vectorStore;
+    private ExecutorService flushExecutor;
+    private VectorStoreBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        vectorStore = mock(VectorStore.class);
+        doAnswer(invocation -> {
+            List<String> texts = invocation.<List<Document>>getArgument(0).stream().map(Document::getText).toList();
+            addCalls.add(texts);
+            addThreads.add(Thread.currentThread().getName());
+            if (texts.contains(FATAL)) {
+                throw new Error("fatal");
+            }
+            if (texts.contains(FAILING)) {
+                throw new IllegalStateException("vector store rejected");
+            }
+            return null;
+        }).when(vectorStore).add(anyList());
+
+        flushExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, FLUSH_THREAD));
+        properties.setVectorBatchMaxDocuments(3);
+        properties.setVectorBatchMaxDelayMillis(TimeUnit.SECONDS.toMillis(10));
+        properties.setVectorBatchAwaitTimeout(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+        flushExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("최대 문서 수만큼 모이면 마지막 작업 스레드에서 한 번에 보내고 모든 작업이 끝남")
+    void flushesWhenBatchIsFull() throws Exception {
+        batcher = new VectorStoreBatcher(vectorStore, properties, flushExecutor);
+
+        CompletableFuture<Void> first = addInBackground("a1");
+        batcher.add(documents("b1", "b2"));
+
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(addCalls).containsExactly(List.of("a1", "b1", "b2"));
+        assertThat(addThreads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간이 지나면 타이머가 아니라 전송 전용 실행기에서 보냄")
+    void flushesAfterDelayOnFlushExecutor() throws Exception {
+        properties.setVectorBatchMaxDelayMillis(50);
+        batcher = new VectorStoreBatcher(vectorStore, properties, flushExecutor);
+
+        CompletableFuture<Void> first = addInBackground("a1");
+        CompletableFuture<Void> second = addInBackground("b1");
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(addCalls.stream().flatMap(List::stream).toList()).containsExactlyInAnyOrder("a1", "b1");
+        assertThat(addThreads).isNotEmpty().containsOnly(FLUSH_THREAD);
+    }
+
+    @Test
+    @DisplayName("묶음 전송이 실패하면 작업별로 다시 보내서 실패한 작업에만 예외를 전달")
+    void isolatesFailingJobAfterCombinedFailure() throws Exception {
+        batcher = new VectorStoreBatcher(vectorStore, properties, flushExecutor);
+
+        CompletableFuture<Void> ok = addInBackground("a1");
+        CompletableFuture<Void> failing = addInBackground(FAILING);
+        batcher.add(documents("c1"));
+
+        ok.get(5, TimeUnit.SECONDS);
+        assertThat(catchThrowable(() -> failing.join()))
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("vector store rejected");
+        assertThat(addCalls).containsExactly(
+                List.of("a1", FAILING, "c1"),
+                List.of("a1"),
+                List.of(FAILING),
+                List.of("c1"));
+    }
+
+    @Test
+    @DisplayName("Error로 전송이 중단돼도 기다리던 작업은 모두 실패로 끝남")
+    void completesWaitersWhenFlushThrowsError() {
+        batcher = new VectorStoreBatcher(vectorStore, properties, flushExecutor);
+
+        CompletableFuture<Void> waiting = addInBackground("a1");
+        assertThatThrownBy(() -> batcher.add(documents(FATAL, "b2"))).isInstanceOf(Error.class);
+
+        assertThat(catchThrowable(() -> waiting.get(5, TimeUnit.SECONDS)))
+                .cause()
+                .isInstanceOf(Error.class)
+                .hasMessage("fatal");
+    }
+
+    @Test
+    @DisplayName("배치 저장을 기다리다 시간이 지나면 실패하고, 보내지 않은 문서는 큐에서 빠짐")
+    void failsAfterAwaitTimeout() {
+        properties.setVectorBatchMaxDelayMillis(10);
+        properties.setVectorBatchAwaitTimeout(Duration.ofMillis(100));
+        // 지연 전송을 실행하지 않는 실행기
+        batcher = new VectorStoreBatcher(vectorStore, properties, task -> {
+        });
+
+        assertThatThrownBy(() -> batcher.add(documents("a1")))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(IndexingErrorCode.INDEXING_VECTORIZE_FAILED);
+
+        batcher.shutdown();
+        assertThat(addCalls).isEmpty();
+    }
+
+    /**
+     * 다른 스레드에서 add()를 호출하고, 문서를 큐에 넣은 뒤 대기 상태가 될 때까지 기다림
+     */
+    private CompletableFuture<Void> addInBackground(String text) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                batcher.add(documents(text));
+                done.complete(null);
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            }
+        });
+        thread.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING && !done.isDone()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+        return done;
+    }
+
+    private static List<Document> documents(String... texts) {
+        return Arrays.stream(texts)
+                .map(text -> Document.builder().id(text).text(text).build())
+                .toList();
+    }
+}
@@ -0,0 +1,132 @@
+package pingpong.backend.global.rag.indexing.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import pingpong.backend.global.rag.indexing.IndexingState;
+import pingpong.backend.global.rag.indexing.dto.IndexJob;
+import pingpong.backend.global.rag.indexing.enums.IndexSourceType;
+
+class VectorStoreGatewayTest {
+
+    private static final IndexJob JOB =
+            new IndexJob(IndexSourceType.NOTION, 1L, "/api/v1/notion/pages/page-1", "page-1", null);
+
+    private final DocumentFactory documentFactory = new DocumentFactory();
+    private VectorStore vectorStore;
+    private VectorStoreBatcher vectorStoreBatcher;
+    private IndexingStateRepository stateRepository;
+    private VectorStoreGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        vectorStore = mock(VectorStore.class);
+        vectorStoreBatcher = mock(VectorStoreBatcher.class);
+        stateRepository = mock(IndexingStateRepository.class);
+        when(stateRepository.findBySourceKey(any())).thenReturn(Optional.empty());
+        gateway = new VectorStoreGateway(vectorStore, vectorStoreBatcher, stateRepository, documentFactory);
+    }
+
+    @Test
+    @DisplayName("처음 인덱싱하면 모든 청크를 넣고 청크 해시를 저장")
+    void firstUpsertAddsAllChunks() {
+        List<String> chunks = List.of("첫 번째 청크", "두 번째 청크", "세 번째 청크");
+
+        IndexingState state = upsert(chunks);
+
+        assertThat(addedTexts(1).get(0)).containsExactlyElementsOf(chunks);
+        assertThat(state.getChunkHashes()).containsOnlyKeys(chunkIds(chunks));
+        assertThat(state.getLastReusedChunks()).isZero();
+        assertThat(state.getLastEmbeddedChunks()).isEqualTo(3);
+        verify(vectorStore, never()).delete(anyList());
+    }
+
+    @Test
+    @DisplayName("저장된 청크 해시가 있으면 바뀐 청크만 넣고 사라진 청크 id만 삭제")
+    void upsertSendsOnlyChangedChunks() {
+        List<String> before = List.of("첫 번째 청크", "두 번째 청크", "세 번째 청크");
+        List<String> after = List.of("첫 번째 청크", "두 번째 청크 (수정)", "세 번째 청크", "네 번째 청크");
+        IndexingState stored = upsert(before);
+        when(stateRepository.findBySourceKey(stored.getSourceKey())).thenReturn(Optional.of(stored));
+
+        IndexingState state = upsert(after);
+
+        assertThat(addedTexts(2).get(1)).containsExactly("두 번째 청크 (수정)", "네 번째 청크");
+        ArgumentCaptor<List<String>> deleted = listCaptor();
+        verify(vectorStore).delete(deleted.capture());
+        assertThat(deleted.getValue()).containsExactly(chunkIds(before).get(1));
+        assertThat(state.getChunkHashes()).containsOnlyKeys(chunkIds(after));
+        assertThat(state.getLastReusedChunks()).isEqualTo(2);
+        assertThat(state.getLastEmbeddedChunks()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("청크를 지우기만 하면 임베딩 없이 사라진 청크 id만 삭제")
+    void upsertOnlyDeletesVanishedChunks() {
+        List<String> before = List.of("첫 번째 청크", "두 번째 청크", "세 번째 청크");
+        IndexingState stored = upsert(before);
+        when(stateRepository.findBySourceKey(stored.getSourceKey())).thenReturn(Optional.of(stored));
+
+        upsert(List.of("첫 번째 청크", "세 번째 청크"));
+
+        verify(vectorStoreBatcher, times(1)).add(anyList());
+        ArgumentCaptor<List<String>> deleted = listCaptor();
+        verify(vectorStore).delete(deleted.capture());
+        assertThat(deleted.getValue()).containsExactly(chunkIds(before).get(1));
+    }
+
+    @Test
+    @DisplayName("본문 해시가 같으면 벡터 DB와 상태를 건드리지 않음")
+    void skipsUnchangedContent() {
+        List<String> chunks = List.of("첫 번째 청크", "두 번째 청크");
+        IndexingState stored = upsert(chunks);
+        when(stateRepository.findBySourceKey(stored.getSourceKey())).thenReturn(Optional.of(stored));
+
+        gateway.upsert(JOB, chunks, String.join("\n", chunks));
+
+        verify(vectorStoreBatcher, times(1)).add(anyList());
+        verify(stateRepository, times(1)).save(any());
+        verify(vectorStore, never()).delete(anyList());
+    }
+
+    private IndexingState upsert(List<String> chunks) {
+        gateway.upsert(JOB, chunks, String.join("\n", chunks));
+        ArgumentCaptor<IndexingState> saved = ArgumentCaptor.forClass(IndexingState.class);
+        verify(stateRepository, atLeastOnce()).save(saved.capture());
+        return saved.getValue();
+    }
+
+    private List<List<String>> addedTexts(int calls) {
+        ArgumentCaptor<List<Document>> added = listCaptor();
+        verify(vectorStoreBatcher, times(calls)).add(added.capture());
+        return added.getAllValues().stream()
+                .map(documents -> documents.stream().map(Document::getText).toList())
+                .toList();
+    }
+
+    private List<String> chunkIds(List<String> chunks) {
+        return documentFactory.chunkIds(documentFactory.documentPrefix(documentFactory.buildSourceKey(JOB)), chunks);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> ArgumentCaptor<List<T>> listCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,101 @@
+package pingpong.backend.global.rag.indexing.text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import pingpong.backend.global.rag.indexing.config.IndexingProperties;
+import pingpong.backend.global.rag.indexing.repository.DocumentFactory;
+
+class ChunkerTest {
+
+    private static final int PARAGRAPHS = 40;
+    private static final String DOCUMENT_PREFIX = "doc";
+
+    private final IndexingProperties properties = new IndexingProperties();
+    private final Chunker chunker = new Chunker(properties);
+    private final DocumentFactory documentFactory = new DocumentFactory();
+
+    @Test
+    @DisplayName("가운데 문단을 추가해도 앞뒤 청크의 경계와 id는 그대로")
+    void insertingParagraphKeepsUnaffectedChunks() {
+        List<Integer> paragraphs = paragraphs();
+        List<String> before = chunker.chunk(document(paragraphs));
+
+        paragraphs.add(PARAGRAPHS / 2, 1000);
+        List<String> after = chunker.chunk(document(paragraphs));
+
+        assertUnaffectedChunksKept(before, after);
+    }
+
+    @Test
+    @DisplayName("가운데 문단을 삭제해도 앞뒤 청크의 경계와 id는 그대로")
+    void removingParagraphKeepsUnaffectedChunks() {
+        List<Integer> paragraphs = paragraphs();
+        List<String> before = chunker.chunk(document(paragraphs));
+
+        paragraphs.remove(PARAGRAPHS / 2);
+        List<String> after = chunker.chunk(document(paragraphs));
+
+        assertUnaffectedChunksKept(before, after);
+    }
+
+    @Test
+    @DisplayName("청크는 chunkSize를 넘지 않음")
+    void chunksStayWithinChunkSize() {
+        assertThat(chunker.chunk(document(paragraphs())))
+                .hasSizeGreaterThan(1)
+                .allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(properties.getChunkSize()));
+    }
+
+    /**
+     * 바뀐 문단이 들어간 청크와 그 끝부분(overlap)을 이어받는 다음 청크까지만 달라지고
+     * 나머지 청크는 앞쪽 / 뒤쪽 모두 텍스트와 id가 같아야 함
+     */
+    private void assertUnaffectedChunksKept(List<String> before, List<String> after) {
+        int prefix = 0;
+        while (prefix < Math.min(before.size(), after.size()) && before.get(prefix).equals(after.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < Math.min(before.size(), after.size()) - prefix
+                && before.get(before.size() - 1 - suffix).equals(after.get(after.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        assertThat(prefix).isPositive();
+        assertThat(suffix).isPositive();
+        assertThat(before.size() - prefix - suffix).isLessThanOrEqualTo(2);
+
+        List<String> beforeIds = documentFactory.chunkIds(DOCUMENT_PREFIX, before);
+        List<String> afterIds = documentFactory.chunkIds(DOCUMENT_PREFIX, after);
+        assertThat(afterIds.subList(0, prefix)).isEqualTo(beforeIds.subList(0, prefix));
+        assertThat(afterIds.subList(afterIds.size() - suffix, afterIds.size()))
+                .isEqualTo(beforeIds.subList(beforeIds.size() - suffix, beforeIds.size()));
+    }
+
+    private List<Integer> paragraphs() {
+        List<Integer> paragraphs = new ArrayList<>();
+        for (int i = 0; i < PARAGRAPHS; i++) {
+            paragraphs.add(i);
+        }
+        return paragraphs;
+    }
+
+    private String document(List<Integer> paragraphs) {
+        StringBuilder document = new StringBuilder();
+        for (int i : paragraphs) {
+            document.append("## 섹션 ").append(i).append('\n');
+            for (int j = 0; j < 3; j++) {
+                document.append("- 항목 ").append(i).append('-').append(j)
+                        .append(": 요구사항 ").append(i * 7 + j).append("번에 대한 설명과 처리 규칙을 정리한 문장입니다.\n");
+            }
+            document.append('\n');
+        }
+        return document.toString();
+    }
+}